@@ -0,0 +1,240 @@
+package com.contactoprofesionales.benchmark;
+
+import com.contactoprofesionales.dao.profesional.ProfesionalDAO;
+import com.contactoprofesionales.dto.BusquedaCriteriosDTO;
+import com.contactoprofesionales.dto.ProfesionalBusquedaDTO;
+import com.contactoprofesionales.dto.ProfesionalIndiceDTO;
+import com.contactoprofesionales.dto.ResultadoBusquedaDTO;
+import com.contactoprofesionales.dto.ResultadoPaginadoDTO;
+import com.contactoprofesionales.model.Profesional;
+import com.contactoprofesionales.service.profesional.BusquedaProfesionalesService;
+import com.contactoprofesionales.service.profesional.IndiceBusquedaProfesionales;
+import com.contactoprofesionales.util.CursorPaginacion;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Búsqueda de profesionales sobre un conjunto sintético de 10 mil a 1 millón de profesionales.
+ *
+ * El DAO es un proxy en memoria: listarParaIndice() alimenta el índice invertido y
+ * buscarTarjetasPorIds()/buscarPaginado() arman la página sin BD, así que se mide el
+ * servicio (índice, filtros, paginación y conversión a DTO) y no PostgreSQL.
+ * Los datos se generan con semilla fija para que las corridas sean comparables.
+ *
+ * Uso: mvn -Pbenchmark test-compile exec:exec -Djmh.args="BusquedaProfesionales -prof gc"
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class BusquedaProfesionalesBenchmark {
+
+    private static final int ELEMENTOS_POR_PAGINA = 20;
+
+    private static final String[] ESPECIALIDADES = {
+        "Gasfitería", "Electricidad", "Carpintería", "Pintura", "Albañilería", "Cerrajería",
+        "Jardinería", "Soldadura", "Tapicería", "Refrigeración", "Computación", "Mecánica"
+    };
+    private static final String[] HABILIDADES = {
+        "instalación", "reparación", "mantenimiento", "emergencias", "tableros", "tuberías",
+        "termas", "muebles", "drywall", "cerraduras", "riego", "redes", "aire acondicionado"
+    };
+    private static final String[] DISTRITOS = {
+        "Miraflores", "San Isidro", "Surco", "La Molina", "San Borja", "Lince", "Barranco"
+    };
+
+    @Param({"10000", "100000", "1000000"})
+    private int totalProfesionales;
+
+    private ProfesionalIndiceDTO[] datos;
+    private List<Profesional> paginaCategoria;
+    private BusquedaProfesionalesService service;
+    private CursorPaginacion cursorIntermedio;
+
+    @Setup
+    public void setUp() throws Exception {
+        Random random = new Random(42);
+        datos = new ProfesionalIndiceDTO[totalProfesionales];
+        for (int i = 0; i < totalProfesionales; i++) {
+            datos[i] = crearDatoIndice(i + 1, random);
+        }
+
+        paginaCategoria = new ArrayList<>(ELEMENTOS_POR_PAGINA);
+        for (int i = 0; i < ELEMENTOS_POR_PAGINA; i++) {
+            paginaCategoria.add(crearProfesional(datos[i]));
+        }
+
+        ProfesionalDAO dao = crearDAOEnMemoria();
+        IndiceBusquedaProfesionales indice = new IndiceBusquedaProfesionales(dao);
+        indice.construir();
+
+        // Cercanía y facetas (consultas SQL) no se ejercitan: los criterios no las piden
+        service = new BusquedaProfesionalesService(dao, indice, null, null);
+
+        // Cursor a mitad de los resultados de "gasfitería", para la página siguiente
+        BusquedaCriteriosDTO criterios = criterios("gasfitería");
+        criterios.setPagina(Math.max(1, indice.buscar("gasfitería", null, null, false).size()
+                                        / ELEMENTOS_POR_PAGINA / 2));
+        ResultadoBusquedaDTO mitad = service.buscar(criterios);
+        ProfesionalBusquedaDTO ultimo = mitad.getProfesionales().get(mitad.getProfesionales().size() - 1);
+        cursorIntermedio = CursorPaginacion.despuesDe(ultimo.getCalificacionPromedio(),
+                                                      ultimo.getTotalResenas(), ultimo.getId());
+    }
+
+    /**
+     * Texto de un término, primera página con total.
+     */
+    @Benchmark
+    public ResultadoBusquedaDTO textoPrimeraPagina() throws Exception {
+        return service.buscar(criterios("gasfitería"));
+    }
+
+    /**
+     * Texto de dos términos (intersección por prefijo) con categoría, tarifa y disponibilidad.
+     */
+    @Benchmark
+    public ResultadoBusquedaDTO textoConFiltros() throws Exception {
+        BusquedaCriteriosDTO criterios = criterios("electricidad tab");
+        criterios.setCategoriaId(2);
+        criterios.setTarifaMaxima(60.0);
+        criterios.setDisponible(true);
+        return service.buscar(criterios);
+    }
+
+    /**
+     * Página profunda con OFFSET: el índice ordena todos los resultados para tomar 20.
+     */
+    @Benchmark
+    public ResultadoBusquedaDTO textoPaginaProfunda() throws Exception {
+        BusquedaCriteriosDTO criterios = criterios("gasfitería");
+        criterios.setPagina(20);
+        return service.buscar(criterios);
+    }
+
+    /**
+     * Misma búsqueda con paginación por cursor desde la mitad de los resultados.
+     */
+    @Benchmark
+    public ResultadoBusquedaDTO textoConCursor() throws Exception {
+        BusquedaCriteriosDTO criterios = criterios("gasfitería");
+        criterios.setPaginacionCursor(true);
+        criterios.setCursor(cursorIntermedio);
+        return service.buscar(criterios);
+    }
+
+    /**
+     * Solo categoría: página de la BD (simulada) y conversión Profesional → DTO de búsqueda.
+     */
+    @Benchmark
+    public ResultadoBusquedaDTO categoriaConversionDTO() throws Exception {
+        BusquedaCriteriosDTO criterios = new BusquedaCriteriosDTO();
+        criterios.setCategoriaId(3);
+        criterios.setElementosPorPagina(ELEMENTOS_POR_PAGINA);
+        criterios.setIncluirFacetas(false);
+        return service.buscar(criterios);
+    }
+
+    private static BusquedaCriteriosDTO criterios(String texto) {
+        BusquedaCriteriosDTO criterios = new BusquedaCriteriosDTO();
+        criterios.setEspecialidadTexto(texto);
+        criterios.setElementosPorPagina(ELEMENTOS_POR_PAGINA);
+        criterios.setIncluirFacetas(false);
+        return criterios;
+    }
+
+    /**
+     * DAO en memoria: solo implementa los métodos que usa la búsqueda.
+     */
+    private ProfesionalDAO crearDAOEnMemoria() {
+        return (ProfesionalDAO) Proxy.newProxyInstance(
+            ProfesionalDAO.class.getClassLoader(),
+            new Class<?>[] {ProfesionalDAO.class},
+            (proxy, metodo, args) -> {
+                switch (metodo.getName()) {
+                    case "listarParaIndice":
+                        return new ArrayList<>(Arrays.asList(datos));
+                    case "buscarTarjetasPorIds":
+                        return crearTarjetas(castIds(args[0]));
+                    case "buscarPaginado":
+                        return new ResultadoPaginadoDTO<>(paginaCategoria, totalProfesionales / ESPECIALIDADES.length);
+                    case "toString":
+                        return "ProfesionalDAO en memoria";
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    case "equals":
+                        return proxy == args[0];
+                    default:
+                        throw new UnsupportedOperationException(metodo.getName());
+                }
+            });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Integer> castIds(Object ids) {
+        return (List<Integer>) ids;
+    }
+
+    /**
+     * Equivale al mapeo de filas de buscarTarjetasPorIds(): una tarjeta por ID, en el mismo orden.
+     */
+    private List<ProfesionalBusquedaDTO> crearTarjetas(List<Integer> ids) {
+        List<ProfesionalBusquedaDTO> tarjetas = new ArrayList<>(ids.size());
+        for (Integer id : ids) {
+            ProfesionalIndiceDTO dato = datos[id - 1];
+            ProfesionalBusquedaDTO tarjeta = new ProfesionalBusquedaDTO();
+            tarjeta.setId(dato.getId());
+            tarjeta.setNombreCompleto("Profesional " + dato.getId());
+            tarjeta.setEspecialidadId(dato.getCategoriaIds().get(0));
+            tarjeta.setEspecialidad(dato.getTextos().get(0));
+            tarjeta.setTarifaHora(dato.getTarifaHora());
+            tarjeta.setCalificacionPromedio(dato.getCalificacionPromedio());
+            tarjeta.setTotalResenas(dato.getTotalResenas());
+            tarjeta.setDisponible(dato.isDisponible());
+            tarjetas.add(tarjeta);
+        }
+        return tarjetas;
+    }
+
+    private static ProfesionalIndiceDTO crearDatoIndice(int id, Random random) {
+        int especialidad = random.nextInt(ESPECIALIDADES.length);
+
+        ProfesionalIndiceDTO dato = new ProfesionalIndiceDTO();
+        dato.setId(id);
+        dato.setCalificacionPromedio(Math.round((3.0 + random.nextDouble() * 2.0) * 10) / 10.0);
+        dato.setTotalResenas(random.nextInt(300));
+        dato.setTarifaHora(30.0 + random.nextInt(90));
+        dato.setDisponible(random.nextInt(4) != 0);
+        dato.setCategoriaIds(new ArrayList<>(Arrays.asList(especialidad + 1)));
+        dato.agregarTexto(ESPECIALIDADES[especialidad]);
+        dato.agregarTexto(HABILIDADES[random.nextInt(HABILIDADES.length)] + " "
+                          + HABILIDADES[random.nextInt(HABILIDADES.length)]);
+        dato.agregarTexto(DISTRITOS[random.nextInt(DISTRITOS.length)]);
+        return dato;
+    }
+
+    private static Profesional crearProfesional(ProfesionalIndiceDTO dato) {
+        Profesional profesional = new Profesional();
+        profesional.setId(dato.getId());
+        profesional.setNombreCompleto("Profesional " + dato.getId());
+        profesional.setEspecialidadId(dato.getCategoriaIds().get(0));
+        profesional.setEspecialidad(dato.getTextos().get(0));
+        profesional.setBiografiaProfesional("Más de diez años de experiencia en " + dato.getTextos().get(1)
+                                            + ", con atención en " + dato.getTextos().get(2)
+                                            + " y distritos cercanos. Trabajos garantizados y presupuesto sin costo.");
+        profesional.setHabilidades(Arrays.asList(dato.getTextos().get(1).split(" ")));
+        profesional.setTarifaHora(dato.getTarifaHora());
+        profesional.setCalificacionPromedio(dato.getCalificacionPromedio());
+        profesional.setTotalResenas(dato.getTotalResenas());
+        profesional.setDistrito(dato.getTextos().get(2));
+        profesional.setDisponible(dato.isDisponible());
+        return profesional;
+    }
+}
@@ -0,0 +1,49 @@
+package com.contactoprofesionales.benchmark;
+
+import com.contactoprofesionales.util.JWTUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generación y lectura de tokens JWT (HMAC-SHA).
+ *
+ * extraerEmail y validar corresponden a lo que hace cada petición autenticada;
+ * generar, a cada login.
+ *
+ * Uso: mvn -Pbenchmark test-compile exec:exec -Djmh.args="JWTUtil -prof gc"
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class JWTUtilBenchmark {
+
+    private static final String EMAIL = "ana.torres@correo.pe";
+
+    private JWTUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JWTUtil();
+        token = jwtUtil.generateToken(1024, EMAIL, "Ana Torres");
+    }
+
+    @Benchmark
+    public String generar() {
+        return jwtUtil.generateToken(1024, EMAIL, "Ana Torres");
+    }
+
+    @Benchmark
+    public String extraerEmail() {
+        return jwtUtil.extractEmail(token);
+    }
+
+    @Benchmark
+    public Boolean validar() {
+        return jwtUtil.validateToken(token, EMAIL);
+    }
+}
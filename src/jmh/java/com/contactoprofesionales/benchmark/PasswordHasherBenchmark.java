@@ -0,0 +1,49 @@
+package com.contactoprofesionales.benchmark;
+
+import com.contactoprofesionales.util.PasswordHasher;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hash y verificación de contraseñas (PBKDF2, 64K iteraciones).
+ *
+ * Cada login ejecuta verify() una vez; este costo por operación es el que limita
+ * los logins por segundo de cada núcleo. Si se cambia ITERATIONS, comparar aquí.
+ *
+ * Uso: mvn -Pbenchmark test-compile exec:exec -Djmh.args="PasswordHasher -prof gc"
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+@State(Scope.Thread)
+public class PasswordHasherBenchmark {
+
+    private static final String PASSWORD = "Clave$Segura2025";
+
+    private PasswordHasher hasher;
+    private String hashGuardado;
+
+    @Setup
+    public void setUp() {
+        hasher = new PasswordHasher();
+        hashGuardado = hasher.hash(PASSWORD);
+    }
+
+    @Benchmark
+    public String hash() {
+        return hasher.hash(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean verifyCorrecta() {
+        return hasher.verify(PASSWORD, hashGuardado);
+    }
+
+    @Benchmark
+    public boolean verifyIncorrecta() {
+        return hasher.verify("ClaveEquivocada1", hashGuardado);
+    }
+}
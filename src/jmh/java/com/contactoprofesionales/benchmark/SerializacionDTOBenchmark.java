@@ -0,0 +1,183 @@
+package com.contactoprofesionales.benchmark;
+
+import com.contactoprofesionales.dto.ProfesionalBusquedaDTO;
+import com.contactoprofesionales.dto.SolicitudDetalleDTO;
+import com.contactoprofesionales.util.GsonUtil;
+import com.contactoprofesionales.util.JsonResponse;
+import com.google.gson.Gson;
+import com.google.gson.stream.JsonWriter;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialización de una página de resultados: TypeAdapters escritos a mano
+ * (GsonUtil.createGson()) contra el adaptador reflexivo de Gson. Incluye también una
+ * respuesta armada con Map, como la de varios servlets, que siempre va por reflexión/MapTypeAdapter.
+ *
+ * Se escribe a un Writer que solo cuenta caracteres, para medir la serialización y no
+ * la construcción del String. Con -prof gc se obtiene gc.alloc.rate.norm (bytes por página).
+ *
+ * Uso: mvn -Pbenchmark test-compile exec:exec -Djmh.args="SerializacionDTO -prof gc"
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class SerializacionDTOBenchmark {
+
+    @Param({"20", "100"})
+    private int tamanioPagina;
+
+    private Gson gsonAdaptadores;
+    private Gson gsonReflexivo;
+    private JsonResponse paginaBusqueda;
+    private JsonResponse paginaSolicitudes;
+    private JsonResponse paginaMapas;
+
+    @Setup
+    public void setUp() {
+        gsonAdaptadores = GsonUtil.createGson();
+        gsonReflexivo = GsonUtil.createGsonReflexivo();
+
+        List<ProfesionalBusquedaDTO> profesionales = new ArrayList<>(tamanioPagina);
+        List<SolicitudDetalleDTO> solicitudes = new ArrayList<>(tamanioPagina);
+        List<Map<String, Object>> mapas = new ArrayList<>(tamanioPagina);
+        for (int i = 0; i < tamanioPagina; i++) {
+            profesionales.add(crearProfesional(i));
+            solicitudes.add(crearSolicitud(i));
+            mapas.add(crearMapa(i));
+        }
+        paginaBusqueda = JsonResponse.success("Búsqueda realizada", profesionales);
+        paginaSolicitudes = JsonResponse.success("Solicitudes obtenidas", solicitudes);
+        paginaMapas = JsonResponse.success("Servicios obtenidos", mapas);
+    }
+
+    @Benchmark
+    public long busquedaAdaptadores() throws IOException {
+        return serializar(gsonAdaptadores, paginaBusqueda);
+    }
+
+    @Benchmark
+    public long busquedaReflexivo() throws IOException {
+        return serializar(gsonReflexivo, paginaBusqueda);
+    }
+
+    @Benchmark
+    public long solicitudesAdaptadores() throws IOException {
+        return serializar(gsonAdaptadores, paginaSolicitudes);
+    }
+
+    @Benchmark
+    public long solicitudesReflexivo() throws IOException {
+        return serializar(gsonReflexivo, paginaSolicitudes);
+    }
+
+    @Benchmark
+    public long mapasGson() throws IOException {
+        return serializar(gsonAdaptadores, paginaMapas);
+    }
+
+    private static long serializar(Gson gson, Object cuerpo) throws IOException {
+        ContadorWriter salida = new ContadorWriter();
+        JsonWriter jsonWriter = gson.newJsonWriter(salida);
+        gson.toJson(cuerpo, cuerpo.getClass(), jsonWriter);
+        jsonWriter.flush();
+        return salida.caracteres;
+    }
+
+    private static ProfesionalBusquedaDTO crearProfesional(int i) {
+        ProfesionalBusquedaDTO dto = new ProfesionalBusquedaDTO();
+        dto.setId(1000 + i);
+        dto.setNombreCompleto("Profesional Número " + i);
+        dto.setEspecialidadId(i % 40);
+        dto.setEspecialidad("Gasfitería");
+        dto.setDescripcionCorta("Instalación y reparación de redes de agua y desagüe, con más de diez años de experiencia");
+        dto.setExperiencia(i % 20 + " años");
+        dto.setHabilidadesDestacadas(Arrays.asList("Tuberías", "Termas", "Detección de fugas"));
+        dto.setFotoPerfil("/uploads/perfil/" + i + ".jpg");
+        dto.setTarifaHora(35.0 + i % 50);
+        dto.setCalificacionPromedio(3.0 + (i % 20) / 10.0);
+        dto.setTotalResenas(i % 300);
+        dto.setDistrito("Miraflores");
+        dto.setDisponible(i % 3 != 0);
+        dto.setVerificado(i % 2 == 0);
+        dto.setTelefono("9" + (10000000 + i));
+        return dto;
+    }
+
+    private static SolicitudDetalleDTO crearSolicitud(int i) {
+        LocalDateTime base = LocalDateTime.of(2025, 11, 16, 9, 30);
+        SolicitudDetalleDTO dto = new SolicitudDetalleDTO();
+        dto.setId(5000 + i);
+        dto.setClienteId(200 + i);
+        dto.setProfesionalId(1000 + i);
+        dto.setDescripcion("Fuga en el baño principal, se necesita revisión urgente de la tubería");
+        dto.setPresupuestoEstimado(150.0 + i);
+        dto.setDireccion("Av. Larco " + (100 + i));
+        dto.setFechaServicio(base.plusDays(i % 10));
+        dto.setUrgencia("ALTA");
+        dto.setEstado("PENDIENTE");
+        dto.setFechaSolicitud(base.minusHours(i));
+        dto.setFechaActualizacion(base);
+        dto.setActivo(true);
+        dto.setClienteNombreCompleto("Cliente " + i);
+        dto.setClienteEmail("cliente" + i + "@correo.pe");
+        dto.setDistritoNombre("Miraflores");
+        dto.setTipoPrestacion("PRESENCIAL");
+        dto.setFotosUrls(Arrays.asList("/uploads/solicitudes/" + i + "-1.jpg"));
+        return dto;
+    }
+
+    private static Map<String, Object> crearMapa(int i) {
+        Map<String, Object> mapa = new LinkedHashMap<>();
+        mapa.put("id", 300 + i);
+        mapa.put("nombre", "Instalación de terma " + i);
+        mapa.put("descripcion", "Incluye revisión de conexiones de agua y gas");
+        mapa.put("precio", 120.0 + i);
+        mapa.put("duracionHoras", i % 8 + 1);
+        mapa.put("activo", true);
+        mapa.put("fechaCreacion", LocalDateTime.of(2025, 11, 16, 9, 30).minusDays(i));
+        return mapa;
+    }
+
+    /**
+     * Writer que descarta la salida y solo cuenta caracteres.
+     */
+    private static final class ContadorWriter extends Writer {
+        private long caracteres;
+
+        @Override
+        public void write(char[] cbuf, int off, int len) {
+            caracteres += len;
+        }
+
+        @Override
+        public void write(String str, int off, int len) {
+            caracteres += len;
+        }
+
+        @Override
+        public void write(int c) {
+            caracteres++;
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
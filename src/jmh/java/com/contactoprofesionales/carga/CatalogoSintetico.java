@@ -0,0 +1,43 @@
+package com.contactoprofesionales.carga;
+
+/**
+ * Vocabulario de los datos sintéticos.
+ *
+ * El generador usa estos servicios y habilidades al crear las especialidades, y la
+ * prueba de carga los usa como texto de búsqueda, así las búsquedas tienen resultados.
+ */
+final class CatalogoSintetico {
+
+    static final String EMAIL_PREFIJO = "carga";
+    static final String EMAIL_DOMINIO = "@contactoprofesionales.test";
+    static final String PASSWORD = "Carga$2025";
+
+    static final String[] SERVICIOS = {
+        "Gasfitería", "Electricidad", "Carpintería", "Pintura", "Albañilería", "Cerrajería",
+        "Jardinería", "Soldadura", "Tapicería", "Refrigeración", "Computación", "Mecánica",
+        "Limpieza", "Mudanzas", "Fumigación", "Vidriería"
+    };
+
+    static final String[] HABILIDADES = {
+        "instalación", "reparación", "mantenimiento", "emergencias", "tableros", "tuberías",
+        "termas", "muebles", "drywall", "cerraduras", "riego", "redes", "aire acondicionado",
+        "pisos", "techos", "ventanas"
+    };
+
+    static final String[] NOMBRES = {
+        "Ana", "Luis", "María", "José", "Carmen", "Jorge", "Rosa", "Carlos", "Lucía", "Miguel",
+        "Elena", "Pedro", "Sofía", "Raúl", "Patricia", "Víctor"
+    };
+
+    static final String[] APELLIDOS = {
+        "Quispe", "Flores", "Sánchez", "Rodríguez", "García", "Torres", "Ramírez", "Mendoza",
+        "Huamán", "Chávez", "Vargas", "Rojas", "Castillo", "Díaz", "Mamani", "Gutiérrez"
+    };
+
+    private CatalogoSintetico() {
+    }
+
+    static String email(int usuarioId) {
+        return EMAIL_PREFIJO + usuarioId + EMAIL_DOMINIO;
+    }
+}
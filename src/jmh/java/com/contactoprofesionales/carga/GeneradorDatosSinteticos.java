@@ -0,0 +1,477 @@
+package com.contactoprofesionales.carga;
+
+import com.contactoprofesionales.util.PasswordHasher;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.Random;
+
+/**
+ * Carga datos sintéticos con volúmenes de producción en una PostgreSQL local
+ * (la de docker-compose.yml, con las migraciones ya aplicadas).
+ *
+ * Genera usuarios (con su cuenta en users), profesionales, especialidades_profesional,
+ * solicitudes_servicio, proyectos_portafolio e imagenes_proyecto. Cada tabla se carga
+ * con COPY FROM STDIN en una sola transacción: si algo falla no queda una carga a medias.
+ *
+ * - Los IDs de usuarios, profesionales y proyectos se asignan aquí (a partir del máximo
+ *   actual) para poder referenciarlos sin RETURNING; al final se ajustan las secuencias.
+ * - Los triggers de usuario (tarjetas de búsqueda y límites de portafolio) se desactivan
+ *   durante la carga y las tarjetas se recalculan una vez al final: con triggers por fila,
+ *   COPY perdería la mayor parte de su ventaja.
+ * - Todas las cuentas usan la misma contraseña ({@link CatalogoSintetico#PASSWORD}) y el
+ *   mismo hash: PBKDF2 por usuario tardaría horas.
+ * - Los rangos de IDs se guardan en target/carga/datos-generados.properties para
+ *   PruebaCargaHttp.
+ *
+ * El índice de búsqueda en memoria se construye al iniciar la aplicación: reiniciarla
+ * después de cargar los datos.
+ *
+ * Uso:
+ *   mvn -Pbenchmark test-compile exec:exec@generar-datos -Dcarga.args="usuarios=300000 solicitudes=800000"
+ *
+ * Opciones (clave=valor): url, usuario, clave, usuarios (200000), profesionales (0.25 del total),
+ * solicitudes (500000), semilla (42), datos (archivo de rangos).
+ */
+public class GeneradorDatosSinteticos {
+
+    private static final String[] ESTADOS = {"pendiente", "aceptada", "completada", "rechazada", "cancelada"};
+    private static final int[] PESOS_ESTADOS = {30, 25, 35, 5, 5};
+    private static final String[] TIPOS_COSTO = {"hora", "dia", "mes"};
+    private static final String[] TIPOS_IMAGEN = {"antes", "despues", "proceso", "general"};
+
+    /** Tablas con triggers de usuario que se desactivan durante la carga. */
+    private static final String[] TABLAS_CON_TRIGGERS = {
+        "profesionales", "especialidades_profesional", "proyectos_portafolio", "imagenes_proyecto"
+    };
+
+    private final Random random;
+    private final LocalDateTime ahora = LocalDateTime.now().withNano(0);
+
+    private List<Integer> categorias;
+    private List<int[]> distritos; // {distrito_id, provincia_id, departamento_id}
+
+    public GeneradorDatosSinteticos(long semilla) {
+        this.random = new Random(semilla);
+    }
+
+    public static void main(String[] args) throws Exception {
+        OpcionesCarga opciones = new OpcionesCarga(args);
+        int totalUsuarios = opciones.entero("usuarios", 200_000);
+        int totalProfesionales = (int) (totalUsuarios * opciones.decimal("profesionales", 0.25));
+        int totalSolicitudes = opciones.entero("solicitudes", 500_000);
+
+        String url = opciones.texto("url", "jdbc:postgresql://localhost:5432/contacto_profesionales_db");
+        try (Connection conn = DriverManager.getConnection(url,
+                opciones.texto("usuario", "postgres"), opciones.texto("clave", "postgres"))) {
+
+            Properties rangos = new GeneradorDatosSinteticos(opciones.entero("semilla", 42))
+                    .generar(conn, totalUsuarios, totalProfesionales, totalSolicitudes);
+
+            String archivo = opciones.texto("datos", OpcionesCarga.ARCHIVO_DATOS_POR_DEFECTO);
+            OpcionesCarga.escribirDatosGenerados(archivo, rangos);
+            System.out.println("✓ Rangos de IDs guardados en " + archivo);
+        }
+    }
+
+    /**
+     * Genera y carga todos los datos en una transacción.
+     *
+     * @return Rangos de IDs generados (para la prueba de carga)
+     */
+    public Properties generar(Connection conn, int totalUsuarios, int totalProfesionales, int totalSolicitudes)
+            throws SQLException {
+
+        if (totalProfesionales < 1 || totalProfesionales >= totalUsuarios) {
+            throw new IllegalArgumentException("Debe haber al menos un profesional y un cliente");
+        }
+
+        conn.setAutoCommit(false);
+        try (Statement stmt = conn.createStatement()) {
+            cargarCatalogos(stmt);
+
+            int primerUsuario = siguienteId(stmt, "usuarios");
+            int primerProfesional = siguienteId(stmt, "profesionales");
+            int primerProyecto = siguienteId(stmt, "proyectos_portafolio");
+
+            // Los primeros usuarios son los profesionales; el resto, clientes
+            int ultimoUsuarioProfesional = primerUsuario + totalProfesionales - 1;
+            int ultimoUsuario = primerUsuario + totalUsuarios - 1;
+            int ultimoProfesional = primerProfesional + totalProfesionales - 1;
+
+            for (String tabla : TABLAS_CON_TRIGGERS) {
+                stmt.execute("ALTER TABLE " + tabla + " DISABLE TRIGGER USER");
+            }
+
+            PGConnection pg = conn.unwrap(PGConnection.class);
+            long inicio = System.currentTimeMillis();
+
+            cargarUsuarios(pg, primerUsuario, ultimoUsuarioProfesional, ultimoUsuario);
+            cargarCuentas(pg, primerUsuario, ultimoUsuario);
+            cargarProfesionales(pg, primerProfesional, primerUsuario, totalProfesionales);
+            cargarEspecialidades(pg, primerProfesional, ultimoProfesional);
+            int ultimoProyecto = cargarProyectos(pg, primerProyecto, primerProfesional, ultimoProfesional);
+            cargarImagenes(pg, primerProyecto, ultimoProyecto);
+            cargarSolicitudes(pg, totalSolicitudes, ultimoUsuarioProfesional + 1, ultimoUsuario,
+                              primerProfesional, totalProfesionales);
+
+            for (String tabla : TABLAS_CON_TRIGGERS) {
+                stmt.execute("ALTER TABLE " + tabla + " ENABLE TRIGGER USER");
+            }
+
+            ajustarSecuencia(stmt, "usuarios");
+            ajustarSecuencia(stmt, "profesionales");
+            ajustarSecuencia(stmt, "proyectos_portafolio");
+
+            System.out.println("Recalculando tarjetas de búsqueda...");
+            stmt.execute("SELECT refrescar_tarjeta_profesional(id) FROM profesionales WHERE id >= " + primerProfesional);
+
+            // COPY no pasa por SolicitudServicioDAOImpl: mismos totales que la carga inicial de V016
+            System.out.println("Recalculando contadores de solicitudes...");
+            stmt.execute("INSERT INTO solicitud_contadores (profesional_id, estado, total) " +
+                         "SELECT profesional_id, estado, COUNT(*) FROM solicitudes_servicio " +
+                         "WHERE profesional_id >= " + primerProfesional + " " +
+                         "GROUP BY profesional_id, estado " +
+                         "ON CONFLICT (profesional_id, estado) DO UPDATE " +
+                         "SET total = EXCLUDED.total, fecha_actualizacion = CURRENT_TIMESTAMP");
+
+            conn.commit();
+            System.out.println("✓ Carga completada en " + (System.currentTimeMillis() - inicio) / 1000 + " s");
+
+            // Estadísticas actualizadas para que el planificador vea los nuevos volúmenes
+            conn.setAutoCommit(true);
+            stmt.execute("ANALYZE");
+
+            Properties rangos = new Properties();
+            rangos.setProperty("usuarios.profesionales.desde", String.valueOf(primerUsuario));
+            rangos.setProperty("usuarios.profesionales.hasta", String.valueOf(ultimoUsuarioProfesional));
+            rangos.setProperty("usuarios.clientes.desde", String.valueOf(ultimoUsuarioProfesional + 1));
+            rangos.setProperty("usuarios.clientes.hasta", String.valueOf(ultimoUsuario));
+            rangos.setProperty("profesionales.desde", String.valueOf(primerProfesional));
+            rangos.setProperty("profesionales.hasta", String.valueOf(ultimoProfesional));
+            return rangos;
+
+        } catch (SQLException | RuntimeException e) {
+            conn.rollback();
+            throw e;
+        }
+    }
+
+    private void cargarCatalogos(Statement stmt) throws SQLException {
+        categorias = new ArrayList<>();
+        try (ResultSet rs = stmt.executeQuery("SELECT id FROM categorias_servicio ORDER BY id")) {
+            while (rs.next()) {
+                categorias.add(rs.getInt(1));
+            }
+        }
+
+        distritos = new ArrayList<>();
+        try (ResultSet rs = stmt.executeQuery(
+                "SELECT d.id, d.provincia_id, p.departamento_id FROM distritos d " +
+                "INNER JOIN provincias p ON p.id = d.provincia_id WHERE d.activo = TRUE")) {
+            while (rs.next()) {
+                distritos.add(new int[] {rs.getInt(1), rs.getInt(2), rs.getInt(3)});
+            }
+        }
+
+        if (categorias.isEmpty() || distritos.isEmpty()) {
+            throw new IllegalStateException("Faltan categorías o distritos: aplicar antes las migraciones con catálogos");
+        }
+    }
+
+    private void cargarUsuarios(PGConnection pg, int desde, int ultimoProfesional, int hasta) throws SQLException {
+        try (Copia copia = new Copia(pg, "usuarios",
+                "id, nombre_completo, tipo_documento, numero_documento, fecha_nacimiento, genero, telefono, " +
+                "departamento_id, provincia_id, distrito_id, direccion, tipo_rol, es_cliente, es_profesional, " +
+                "fecha_creacion, fecha_actualizacion, activo")) {
+
+            for (int id = desde; id <= hasta; id++) {
+                boolean profesional = id <= ultimoProfesional;
+                int[] distrito = elegir(distritos);
+                LocalDateTime creacion = ahora.minusMinutes(random.nextInt(3 * 365 * 24 * 60));
+                copia.fila(id, nombreCompleto(), "DNI", String.format("%08d", 40_000_000 + id),
+                           LocalDate.of(1960 + random.nextInt(45), 1 + random.nextInt(12), 1 + random.nextInt(28)),
+                           random.nextBoolean() ? "MASCULINO" : "FEMENINO",
+                           "9" + (10_000_000 + random.nextInt(89_999_999)),
+                           distrito[2], distrito[1], distrito[0],
+                           "Av. " + elegir(CatalogoSintetico.APELLIDOS) + " " + (100 + random.nextInt(2900)),
+                           profesional ? "PROFESIONAL" : "CLIENTE", !profesional, profesional,
+                           creacion, creacion, true);
+            }
+        }
+    }
+
+    private void cargarCuentas(PGConnection pg, int desde, int hasta) throws SQLException {
+        String hash = new PasswordHasher().hash(CatalogoSintetico.PASSWORD);
+
+        try (Copia copia = new Copia(pg, "users", "email, password_hash, usuario_id, username, rol_sistema, activo")) {
+            for (int id = desde; id <= hasta; id++) {
+                copia.fila(CatalogoSintetico.email(id), hash, id, CatalogoSintetico.EMAIL_PREFIJO + id, "USER", true);
+            }
+        }
+    }
+
+    private void cargarProfesionales(PGConnection pg, int desde, int primerUsuario, int total) throws SQLException {
+        try (Copia copia = new Copia(pg, "profesionales",
+                "id, usuario_id, descripcion, biografia_profesional, experiencia, habilidades, tarifa_hora, " +
+                "calificacion_promedio, total_resenas, disponible, verificado, activo")) {
+
+            for (int i = 0; i < total; i++) {
+                String servicio = elegir(CatalogoSintetico.SERVICIOS);
+                int anios = 1 + random.nextInt(30);
+                copia.fila(desde + i, primerUsuario + i,
+                           "Servicios de " + servicio.toLowerCase() + " a domicilio",
+                           "Profesional en " + servicio.toLowerCase() + " con " + anios + " años de experiencia en "
+                               + elegir(CatalogoSintetico.HABILIDADES) + " y " + elegir(CatalogoSintetico.HABILIDADES)
+                               + ". Presupuesto sin costo y trabajos garantizados.",
+                           anios + " años",
+                           new String[] {elegir(CatalogoSintetico.HABILIDADES), elegir(CatalogoSintetico.HABILIDADES),
+                                         elegir(CatalogoSintetico.HABILIDADES)},
+                           30 + random.nextInt(120),
+                           Math.round((2.5 + random.nextDouble() * 2.5) * 10) / 10.0,
+                           random.nextInt(400),
+                           random.nextInt(5) != 0,
+                           random.nextInt(3) == 0,
+                           true);
+            }
+        }
+    }
+
+    private void cargarEspecialidades(PGConnection pg, int desde, int hasta) throws SQLException {
+        try (Copia copia = new Copia(pg, "especialidades_profesional",
+                "profesional_id, categoria_id, servicio_profesional, descripcion, incluye_materiales, costo, " +
+                "tipo_costo, es_principal, orden, fecha_creacion, fecha_actualizacion, activo")) {
+
+            for (int profesionalId = desde; profesionalId <= hasta; profesionalId++) {
+                int cantidad = 1 + random.nextInt(3);
+                for (int orden = 1; orden <= cantidad; orden++) {
+                    String servicio = elegir(CatalogoSintetico.SERVICIOS);
+                    copia.fila(profesionalId, elegir(categorias), servicio,
+                               servicio + ": " + elegir(CatalogoSintetico.HABILIDADES) + " y "
+                                   + elegir(CatalogoSintetico.HABILIDADES),
+                               random.nextBoolean(), 40 + random.nextInt(400), elegir(TIPOS_COSTO),
+                               orden == 1, orden, ahora, ahora, true);
+                }
+            }
+        }
+    }
+
+    /**
+     * De 0 a 4 proyectos por profesional (el límite de la aplicación es 20).
+     *
+     * @return ID del último proyecto generado
+     */
+    private int cargarProyectos(PGConnection pg, int primerProyecto, int desde, int hasta) throws SQLException {
+        int id = primerProyecto - 1;
+        try (Copia copia = new Copia(pg, "proyectos_portafolio",
+                "id, profesional_id, nombre_proyecto, fecha_realizacion, descripcion, orden, activo, " +
+                "fecha_creacion, fecha_actualizacion")) {
+
+            for (int profesionalId = desde; profesionalId <= hasta; profesionalId++) {
+                int cantidad = random.nextInt(5);
+                for (int orden = 1; orden <= cantidad; orden++) {
+                    String habilidad = elegir(CatalogoSintetico.HABILIDADES);
+                    copia.fila(++id, profesionalId, "Proyecto de " + habilidad + " " + orden,
+                               ahora.toLocalDate().minusDays(random.nextInt(1000)),
+                               "Trabajo de " + habilidad + " en " + elegir(CatalogoSintetico.APELLIDOS).toLowerCase()
+                                   + ", terminado en el plazo acordado con el cliente.",
+                               orden, true, ahora, ahora);
+                }
+            }
+        }
+        return id;
+    }
+
+    /**
+     * De 1 a 3 imágenes por proyecto (el límite de la aplicación es 5).
+     */
+    private void cargarImagenes(PGConnection pg, int desde, int hasta) throws SQLException {
+        try (Copia copia = new Copia(pg, "imagenes_proyecto",
+                "proyecto_id, url_imagen, tipo_imagen, descripcion, orden, fecha_subida")) {
+
+            for (int proyectoId = desde; proyectoId <= hasta; proyectoId++) {
+                int cantidad = 1 + random.nextInt(3);
+                for (int orden = 1; orden <= cantidad; orden++) {
+                    copia.fila(proyectoId, "/uploads/portafolio/" + proyectoId + "-" + orden + ".jpg",
+                               elegir(TIPOS_IMAGEN), "Imagen " + orden, orden, ahora);
+                }
+            }
+        }
+    }
+
+    /**
+     * Las solicitudes se concentran en pocos profesionales (como en producción):
+     * el índice se elige con una distribución sesgada hacia los primeros.
+     */
+    private void cargarSolicitudes(PGConnection pg, int total, int primerCliente, int ultimoCliente,
+                                   int primerProfesional, int totalProfesionales) throws SQLException {
+        try (Copia copia = new Copia(pg, "solicitudes_servicio",
+                "cliente_id, profesional_id, descripcion, presupuesto_estimado, direccion, fecha_servicio, " +
+                "urgencia, estado, fecha_solicitud, fecha_actualizacion, activo, " +
+                "departamento_id, provincia_id, distrito_id, tipo_prestacion")) {
+
+            int totalClientes = ultimoCliente - primerCliente + 1;
+            for (int i = 0; i < total; i++) {
+                int profesionalId = primerProfesional + (int) (totalProfesionales * Math.pow(random.nextDouble(), 3));
+                int[] distrito = elegir(distritos);
+                String estado = elegirPonderado(ESTADOS, PESOS_ESTADOS);
+                LocalDateTime solicitud = ahora.minusMinutes(random.nextInt(365 * 24 * 60));
+                LocalDateTime actualizacion = "pendiente".equals(estado)
+                        ? solicitud
+                        : solicitud.plusHours(1 + random.nextInt(72));
+
+                copia.fila(primerCliente + random.nextInt(totalClientes), profesionalId,
+                           "Se necesita " + elegir(CatalogoSintetico.HABILIDADES) + " de "
+                               + elegir(CatalogoSintetico.SERVICIOS).toLowerCase() + " en el domicilio",
+                           50 + random.nextInt(950),
+                           "Jr. " + elegir(CatalogoSintetico.APELLIDOS) + " " + (100 + random.nextInt(900)),
+                           solicitud.plusDays(1 + random.nextInt(14)),
+                           random.nextInt(5) == 0 ? "urgent" : "normal",
+                           estado, solicitud, actualizacion, !"cancelada".equals(estado),
+                           distrito[2], distrito[1], distrito[0],
+                           random.nextInt(10) == 0 ? "REMOTO" : "PRESENCIAL");
+            }
+        }
+    }
+
+    private static int siguienteId(Statement stmt, String tabla) throws SQLException {
+        try (ResultSet rs = stmt.executeQuery("SELECT COALESCE(MAX(id), 0) + 1 FROM " + tabla)) {
+            rs.next();
+            return rs.getInt(1);
+        }
+    }
+
+    private static void ajustarSecuencia(Statement stmt, String tabla) throws SQLException {
+        stmt.execute("SELECT setval(pg_get_serial_sequence('" + tabla + "', 'id'), (SELECT MAX(id) FROM " + tabla + "))");
+    }
+
+    private String nombreCompleto() {
+        return elegir(CatalogoSintetico.NOMBRES) + " " + elegir(CatalogoSintetico.APELLIDOS) + " "
+               + elegir(CatalogoSintetico.APELLIDOS);
+    }
+
+    private <T> T elegir(List<T> valores) {
+        return valores.get(random.nextInt(valores.size()));
+    }
+
+    private String elegir(String[] valores) {
+        return valores[random.nextInt(valores.length)];
+    }
+
+    private String elegirPonderado(String[] valores, int[] pesos) {
+        int total = 0;
+        for (int peso : pesos) {
+            total += peso;
+        }
+        int r = random.nextInt(total);
+        for (int i = 0; i < valores.length; i++) {
+            r -= pesos[i];
+            if (r < 0) {
+                return valores[i];
+            }
+        }
+        return valores[valores.length - 1];
+    }
+
+    /**
+     * COPY ... FROM STDIN en formato texto. Las filas se acumulan en un buffer y se
+     * envían por bloques, así la memoria no depende del número de filas.
+     */
+    private static final class Copia implements AutoCloseable {
+
+        private static final int TAMANIO_BLOQUE = 256 * 1024;
+
+        private final String tabla;
+        private final CopyIn copyIn;
+        private final StringBuilder buffer = new StringBuilder(TAMANIO_BLOQUE + 4096);
+        private long filas;
+
+        Copia(PGConnection pg, String tabla, String columnas) throws SQLException {
+            this.tabla = tabla;
+            this.copyIn = pg.getCopyAPI().copyIn("COPY " + tabla + " (" + columnas + ") FROM STDIN");
+        }
+
+        void fila(Object... valores) throws SQLException {
+            for (int i = 0; i < valores.length; i++) {
+                if (i > 0) {
+                    buffer.append('\t');
+                }
+                escribirValor(valores[i]);
+            }
+            buffer.append('\n');
+            filas++;
+
+            if (buffer.length() >= TAMANIO_BLOQUE) {
+                enviar();
+            }
+        }
+
+        private void escribirValor(Object valor) {
+            if (valor == null) {
+                buffer.append("\\N");
+            } else if (valor instanceof Boolean) {
+                buffer.append((Boolean) valor ? 't' : 'f');
+            } else if (valor instanceof String[]) {
+                // Literal de arreglo: {"a","b"} (comillas y barras escapadas dentro del literal)
+                buffer.append('{');
+                String[] elementos = (String[]) valor;
+                for (int i = 0; i < elementos.length; i++) {
+                    if (i > 0) {
+                        buffer.append(',');
+                    }
+                    escaparTexto('"' + elementos[i].replace("\\", "\\\\").replace("\"", "\\\"") + '"');
+                }
+                buffer.append('}');
+            } else if (valor instanceof LocalDateTime) {
+                buffer.append(((LocalDateTime) valor).toString().replace('T', ' '));
+            } else {
+                escaparTexto(valor.toString());
+            }
+        }
+
+        private void escaparTexto(String texto) {
+            for (int i = 0; i < texto.length(); i++) {
+                char c = texto.charAt(i);
+                switch (c) {
+                    case '\\': buffer.append("\\\\"); break;
+                    case '\t': buffer.append("\\t"); break;
+                    case '\n': buffer.append("\\n"); break;
+                    case '\r': buffer.append("\\r"); break;
+                    default: buffer.append(c);
+                }
+            }
+        }
+
+        private void enviar() throws SQLException {
+            byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+            copyIn.writeToCopy(bytes, 0, bytes.length);
+            buffer.setLength(0);
+        }
+
+        @Override
+        public void close() throws SQLException {
+            try {
+                if (buffer.length() > 0) {
+                    enviar();
+                }
+                copyIn.endCopy();
+                System.out.printf("✓ %-28s %,d filas%n", tabla, filas);
+            } finally {
+                if (copyIn.isActive()) {
+                    copyIn.cancelCopy();
+                }
+            }
+        }
+    }
+}
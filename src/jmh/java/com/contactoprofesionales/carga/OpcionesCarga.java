@@ -0,0 +1,71 @@
+package com.contactoprofesionales.carga;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Opciones de línea de comandos de las herramientas de carga, en formato clave=valor.
+ *
+ * También lee y escribe el archivo con los rangos de IDs generados, que comparten
+ * GeneradorDatosSinteticos (lo escribe) y PruebaCargaHttp (lo lee).
+ */
+final class OpcionesCarga {
+
+    static final String ARCHIVO_DATOS_POR_DEFECTO = "target/carga/datos-generados.properties";
+
+    private final Map<String, String> valores = new LinkedHashMap<>();
+
+    OpcionesCarga(String[] args) {
+        for (String arg : args) {
+            int igual = arg.indexOf('=');
+            if (igual <= 0) {
+                throw new IllegalArgumentException("Argumento inválido (se espera clave=valor): " + arg);
+            }
+            valores.put(arg.substring(0, igual).trim(), arg.substring(igual + 1).trim());
+        }
+    }
+
+    String texto(String clave, String porDefecto) {
+        return valores.getOrDefault(clave, porDefecto);
+    }
+
+    int entero(String clave, int porDefecto) {
+        String valor = valores.get(clave);
+        return valor != null ? Integer.parseInt(valor) : porDefecto;
+    }
+
+    double decimal(String clave, double porDefecto) {
+        String valor = valores.get(clave);
+        return valor != null ? Double.parseDouble(valor) : porDefecto;
+    }
+
+    static Properties leerDatosGenerados(String archivo) throws IOException {
+        Path ruta = Paths.get(archivo);
+        if (!Files.exists(ruta)) {
+            throw new IllegalStateException("No existe " + archivo
+                + ": ejecute primero GeneradorDatosSinteticos o indique datos=<archivo>");
+        }
+        Properties propiedades = new Properties();
+        try (InputStream entrada = Files.newInputStream(ruta)) {
+            propiedades.load(entrada);
+        }
+        return propiedades;
+    }
+
+    static void escribirDatosGenerados(String archivo, Properties propiedades) throws IOException {
+        Path ruta = Paths.get(archivo);
+        if (ruta.getParent() != null) {
+            Files.createDirectories(ruta.getParent());
+        }
+        try (OutputStream salida = Files.newOutputStream(ruta)) {
+            propiedades.store(salida, "Rangos de IDs generados por GeneradorDatosSinteticos");
+        }
+    }
+}
@@ -0,0 +1,346 @@
+package com.contactoprofesionales.carga;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Prueba de carga HTTP contra una instancia levantada con docker-compose y datos de
+ * GeneradorDatosSinteticos.
+ *
+ * Mezcla (por defecto): búsqueda 60%, perfil 25%, solicitudes 10%, login 5%.
+ * - GET  /api/buscar-profesionales  (texto del catálogo sintético, páginas 1 a 3)
+ * - GET  /api/profesional/perfil    (profesional al azar)
+ * - GET  /api/solicitudes           (cliente o profesional al azar)
+ * - POST /api/login                 (cuenta sintética al azar)
+ *
+ * Cada hilo registra latencias en microsegundos en sus propios histogramas (HdrHistogram)
+ * y al final se suman: no hay contención entre hilos al medir. Las peticiones durante el
+ * calentamiento no se registran.
+ *
+ * Con tasa=N (peticiones/s en total) cada hilo envía a intervalos fijos y la latencia se
+ * mide desde el instante en que la petición debía salir, así las pausas del servidor no
+ * se esconden (omisión coordinada). Sin tasa, cada hilo envía en cuanto recibe respuesta.
+ *
+ * Se imprime un resumen por endpoint y se guarda la distribución completa de cada uno en
+ * target/carga/&lt;endpoint&gt;.hgrm (se puede graficar con HistogramLogAnalyzer o el plotter web).
+ *
+ * Uso:
+ *   mvn -Pbenchmark test-compile exec:exec@prueba-carga -Dcarga.args="hilos=32 duracion=120 tasa=400"
+ *
+ * Opciones (clave=valor): url (http://localhost:9091), hilos (16), duracion (60 s),
+ * calentamiento (15 s), tasa (0 = sin límite), mezcla (buscar=60,perfil=25,solicitudes=10,login=5),
+ * datos (archivo de rangos del generador).
+ */
+public class PruebaCargaHttp {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final String urlBase;
+    private final HttpClient cliente;
+    private final Endpoint[] endpoints;
+    private final int pesoTotal;
+
+    private final int profesionalDesde;
+    private final int profesionalHasta;
+    private final int usuarioProfesionalDesde;
+    private final int usuarioProfesionalHasta;
+    private final int clienteDesde;
+    private final int clienteHasta;
+
+    public PruebaCargaHttp(String urlBase, String mezcla, Properties rangos) {
+        this.urlBase = urlBase.endsWith("/") ? urlBase.substring(0, urlBase.length() - 1) : urlBase;
+        this.cliente = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+        this.endpoints = crearEndpoints(mezcla);
+
+        int suma = 0;
+        for (Endpoint endpoint : endpoints) {
+            suma += endpoint.peso;
+        }
+        this.pesoTotal = suma;
+
+        this.profesionalDesde = entero(rangos, "profesionales.desde");
+        this.profesionalHasta = entero(rangos, "profesionales.hasta");
+        this.usuarioProfesionalDesde = entero(rangos, "usuarios.profesionales.desde");
+        this.usuarioProfesionalHasta = entero(rangos, "usuarios.profesionales.hasta");
+        this.clienteDesde = entero(rangos, "usuarios.clientes.desde");
+        this.clienteHasta = entero(rangos, "usuarios.clientes.hasta");
+    }
+
+    public static void main(String[] args) throws Exception {
+        OpcionesCarga opciones = new OpcionesCarga(args);
+        Properties rangos = OpcionesCarga.leerDatosGenerados(
+                opciones.texto("datos", OpcionesCarga.ARCHIVO_DATOS_POR_DEFECTO));
+
+        PruebaCargaHttp prueba = new PruebaCargaHttp(
+                opciones.texto("url", "http://localhost:9091"),
+                opciones.texto("mezcla", "buscar=60,perfil=25,solicitudes=10,login=5"),
+                rangos);
+
+        prueba.ejecutar(opciones.entero("hilos", 16),
+                        opciones.entero("duracion", 60),
+                        opciones.entero("calentamiento", 15),
+                        opciones.decimal("tasa", 0));
+    }
+
+    /**
+     * Ejecuta la prueba y escribe el resumen en la salida estándar.
+     *
+     * @param hilos Usuarios concurrentes
+     * @param duracionSegundos Duración de la medición (sin contar el calentamiento)
+     * @param calentamientoSegundos Tiempo inicial que no se registra
+     * @param tasaTotal Peticiones por segundo entre todos los hilos (0 = sin límite)
+     */
+    public void ejecutar(int hilos, int duracionSegundos, int calentamientoSegundos, double tasaTotal)
+            throws InterruptedException, IOException {
+
+        long inicio = System.nanoTime();
+        long inicioMedicion = inicio + TimeUnit.SECONDS.toNanos(calentamientoSegundos);
+        long fin = inicioMedicion + TimeUnit.SECONDS.toNanos(duracionSegundos);
+        long intervalo = tasaTotal > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) * hilos / tasaTotal) : 0;
+
+        System.out.printf("Prueba de carga: %s, %d hilos, %d s (+%d s de calentamiento), %s%n",
+                          urlBase, hilos, duracionSegundos, calentamientoSegundos,
+                          tasaTotal > 0 ? String.format("%.0f pet/s", tasaTotal) : "sin límite de tasa");
+
+        List<Trabajador> trabajadores = new ArrayList<>(hilos);
+        List<Thread> threads = new ArrayList<>(hilos);
+        for (int i = 0; i < hilos; i++) {
+            // Desfase inicial para que los hilos con tasa fija no envíen todos a la vez
+            long primerEnvio = inicio + (intervalo > 0 ? intervalo * i / hilos : 0);
+            Trabajador trabajador = new Trabajador(primerEnvio, intervalo, inicioMedicion, fin);
+            Thread thread = new Thread(trabajador, "carga-" + i);
+            trabajadores.add(trabajador);
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        imprimirResumen(trabajadores, duracionSegundos);
+    }
+
+    private void imprimirResumen(List<Trabajador> trabajadores, int duracionSegundos) throws IOException {
+        Path directorio = Paths.get("target", "carga");
+        Files.createDirectories(directorio);
+
+        System.out.printf("%n%-12s %10s %8s %9s %9s %9s %9s %9s %9s%n",
+                          "endpoint", "peticiones", "errores", "pet/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+
+        for (int e = 0; e < endpoints.length; e++) {
+            Histogram total = new Histogram(3);
+            long errores = 0;
+            for (Trabajador trabajador : trabajadores) {
+                total.add(trabajador.latencias[e]);
+                errores += trabajador.errores[e];
+            }
+
+            System.out.printf("%-12s %10d %8d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                              endpoints[e].nombre, total.getTotalCount(), errores,
+                              (double) total.getTotalCount() / duracionSegundos,
+                              ms(total.getValueAtPercentile(50)), ms(total.getValueAtPercentile(90)),
+                              ms(total.getValueAtPercentile(99)), ms(total.getValueAtPercentile(99.9)),
+                              ms(total.getMaxValue()));
+
+            try (PrintStream salida = new PrintStream(
+                    Files.newOutputStream(directorio.resolve(endpoints[e].nombre + ".hgrm")), false, "UTF-8")) {
+                // Valores en microsegundos, distribución en milisegundos
+                total.outputPercentileDistribution(salida, 1000.0);
+            }
+        }
+        System.out.println("\nDistribuciones completas en " + directorio.toAbsolutePath());
+    }
+
+    private static double ms(long micros) {
+        return micros / 1000.0;
+    }
+
+    /**
+     * Un usuario virtual: elige un endpoint según la mezcla, envía y registra la latencia.
+     */
+    private final class Trabajador implements Runnable {
+
+        private final long intervalo;
+        private final long inicioMedicion;
+        private final long fin;
+        private long siguienteEnvio;
+
+        private final Histogram[] latencias = new Histogram[endpoints.length];
+        private final long[] errores = new long[endpoints.length];
+
+        Trabajador(long primerEnvio, long intervalo, long inicioMedicion, long fin) {
+            this.siguienteEnvio = primerEnvio;
+            this.intervalo = intervalo;
+            this.inicioMedicion = inicioMedicion;
+            this.fin = fin;
+            for (int i = 0; i < latencias.length; i++) {
+                latencias[i] = new Histogram(3);
+            }
+        }
+
+        @Override
+        public void run() {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+
+            while (true) {
+                long envioPrevisto;
+                if (intervalo > 0) {
+                    envioPrevisto = siguienteEnvio;
+                    siguienteEnvio += intervalo;
+                    esperarHasta(envioPrevisto);
+                } else {
+                    envioPrevisto = System.nanoTime();
+                }
+                if (envioPrevisto >= fin) {
+                    return;
+                }
+
+                int e = elegirEndpoint(random);
+                boolean ok;
+                try {
+                    HttpResponse<Void> respuesta = cliente.send(endpoints[e].peticion(random),
+                                                                 HttpResponse.BodyHandlers.discarding());
+                    ok = respuesta.statusCode() < 400;
+                } catch (IOException ex) {
+                    ok = false;
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                long latenciaMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - envioPrevisto);
+
+                if (envioPrevisto >= inicioMedicion) {
+                    latencias[e].recordValue(latenciaMicros);
+                    if (!ok) {
+                        errores[e]++;
+                    }
+                }
+            }
+        }
+
+        private void esperarHasta(long instante) {
+            long espera = instante - System.nanoTime();
+            if (espera > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(espera);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+
+    private int elegirEndpoint(ThreadLocalRandom random) {
+        int r = random.nextInt(pesoTotal);
+        for (int i = 0; i < endpoints.length; i++) {
+            r -= endpoints[i].peso;
+            if (r < 0) {
+                return i;
+            }
+        }
+        return endpoints.length - 1;
+    }
+
+    private Endpoint[] crearEndpoints(String mezcla) {
+        List<Endpoint> lista = new ArrayList<>();
+        for (String parte : mezcla.split(",")) {
+            String[] nombrePeso = parte.trim().split("=");
+            int peso = Integer.parseInt(nombrePeso[1].trim());
+            if (peso > 0) {
+                lista.add(new Endpoint(nombrePeso[0].trim(), peso));
+            }
+        }
+        if (lista.isEmpty()) {
+            throw new IllegalArgumentException("La mezcla no tiene endpoints con peso mayor a 0: " + mezcla);
+        }
+        return lista.toArray(new Endpoint[0]);
+    }
+
+    /**
+     * Endpoint de la mezcla y cómo armar una petición al azar para él.
+     */
+    private final class Endpoint {
+
+        private final String nombre;
+        private final int peso;
+
+        Endpoint(String nombre, int peso) {
+            if (!nombre.equals("buscar") && !nombre.equals("perfil")
+                    && !nombre.equals("solicitudes") && !nombre.equals("login")) {
+                throw new IllegalArgumentException("Endpoint desconocido en la mezcla: " + nombre);
+            }
+            this.nombre = nombre;
+            this.peso = peso;
+        }
+
+        HttpRequest peticion(ThreadLocalRandom random) {
+            switch (nombre) {
+                case "buscar":
+                    String texto = CatalogoSintetico.SERVICIOS[random.nextInt(CatalogoSintetico.SERVICIOS.length)];
+                    if (random.nextInt(3) == 0) {
+                        texto += " " + CatalogoSintetico.HABILIDADES[random.nextInt(CatalogoSintetico.HABILIDADES.length)];
+                    }
+                    return get("/api/buscar-profesionales?especialidadTexto="
+                               + URLEncoder.encode(texto, StandardCharsets.UTF_8)
+                               + "&pagina=" + (1 + random.nextInt(3)) + "&elementosPorPagina=20");
+
+                case "perfil":
+                    return get("/api/profesional/perfil?profesionalId="
+                               + random.nextInt(profesionalDesde, profesionalHasta + 1));
+
+                case "solicitudes":
+                    if (random.nextBoolean()) {
+                        return get("/api/solicitudes?tipo=cliente&usuarioId="
+                                   + random.nextInt(clienteDesde, clienteHasta + 1));
+                    }
+                    return get("/api/solicitudes?tipo=profesional&usuarioId="
+                               + random.nextInt(usuarioProfesionalDesde, usuarioProfesionalHasta + 1));
+
+                default:
+                    String email = CatalogoSintetico.email(random.nextInt(usuarioProfesionalDesde, clienteHasta + 1));
+                    String cuerpo = "{\"email\":\"" + email + "\",\"password\":\"" + CatalogoSintetico.PASSWORD + "\"}";
+                    return HttpRequest.newBuilder(URI.create(urlBase + "/api/login"))
+                            .timeout(TIMEOUT)
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString(cuerpo))
+                            .build();
+            }
+        }
+
+        private HttpRequest get(String ruta) {
+            return HttpRequest.newBuilder(URI.create(urlBase + ruta))
+                    .timeout(TIMEOUT)
+                    .header("Accept", "application/json")
+                    .GET()
+                    .build();
+        }
+    }
+
+    private static int entero(Properties propiedades, String clave) {
+        String valor = propiedades.getProperty(clave);
+        if (valor == null) {
+            throw new IllegalStateException("Falta " + clave + " en el archivo de rangos");
+        }
+        return Integer.parseInt(valor);
+    }
+}
@@ -1,10 +1,11 @@
 package com.contactoprofesionales.controller;
 
-import com.contactoprofesionales.dao.ServiciosProfesionalDAO;
-import com.contactoprofesionales.dao.ServiciosProfesionalDAOImpl;
 import com.contactoprofesionales.dto.ServiciosProfesionalCompleto;
 import com.contactoprofesionales.model.*;
 import com.contactoprofesionales.util.DatabaseConnection;
+import com.contactoprofesionales.service.profesional.ServiciosProfesionalService;
+import com.contactoprofesionales.util.GsonUtil;
+import com.contactoprofesionales.util.JsonResponseWriter;
 import com.google.gson.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -20,9 +21,7 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
 
 /**
  * Servlet para gestionar los servicios profesionales.
@@ -40,20 +39,16 @@ public class ServiciosProfesionalServlet extends HttpServlet {
 	 */
 	private static final long serialVersionUID = 1L;
 	private static final Logger logger = LoggerFactory.getLogger(ServiciosProfesionalServlet.class);
-    private ServiciosProfesionalDAO serviciosDAO;
+    private ServiciosProfesionalService serviciosService;
     private Gson gson;
 
     @Override
     public void init() throws ServletException {
         super.init();
-        this.serviciosDAO = new ServiciosProfesionalDAOImpl();
+        this.serviciosService = new ServiciosProfesionalService();
 
         // Configurar Gson con adaptadores personalizados
-        this.gson = new GsonBuilder()
-                .registerTypeAdapter(LocalDateTime.class, new LocalDateTimeAdapter())
-                .registerTypeAdapter(LocalTime.class, new LocalTimeAdapter())
-                .setPrettyPrinting()
-                .create();
+        this.gson = GsonUtil.createGson();
 
         logger.info("ServiciosProfesionalServlet inicializado");
     }
@@ -89,7 +84,7 @@ public class ServiciosProfesionalServlet extends HttpServlet {
 	
 	         logger.info("Obteniendo servicios del profesional {}", profesionalId);
 	
-	         ServiciosProfesionalCompleto servicios = serviciosDAO.obtenerServiciosProfesional(profesionalId);
+	         ServiciosProfesionalCompleto servicios = serviciosService.obtenerServicios(profesionalId);
 	
 	         JsonObject jsonResponse = new JsonObject();
 	         jsonResponse.addProperty("success", true);
@@ -167,11 +162,11 @@ public class ServiciosProfesionalServlet extends HttpServlet {
             DisponibilidadHoraria disponibilidad = parsearDisponibilidad(disponibilidadJson, profesionalId);
 
             // Verificar si ya tiene servicios
-            boolean yaExiste = serviciosDAO.tieneServiciosConfigurados(profesionalId);
+            boolean yaExiste = serviciosService.tieneServiciosConfigurados(profesionalId);
 
             if (yaExiste) {
                 // Actualizar en lugar de crear
-                boolean actualizado = serviciosDAO.actualizarServiciosProfesional(
+                boolean actualizado = serviciosService.actualizarServicios(
                     profesionalId, especialidades, areaServicio, disponibilidad
                 );
 
@@ -187,7 +182,7 @@ public class ServiciosProfesionalServlet extends HttpServlet {
                 }
             } else {
                 // Crear nuevos servicios
-                boolean guardado = serviciosDAO.guardarServiciosProfesional(
+                boolean guardado = serviciosService.guardarServicios(
                     profesionalId, especialidades, areaServicio, disponibilidad
                 );
 
@@ -301,7 +296,7 @@ public class ServiciosProfesionalServlet extends HttpServlet {
 	        DisponibilidadHoraria disponibilidad = parsearDisponibilidad(disponibilidadJson, profesionalId);
 
 	        // Actualizar
-	        boolean actualizado = serviciosDAO.actualizarServiciosProfesional(
+	        boolean actualizado = serviciosService.actualizarServicios(
 	            profesionalId, especialidades, areaServicio, disponibilidad
 	        );
 
@@ -357,7 +352,7 @@ public class ServiciosProfesionalServlet extends HttpServlet {
 
 	        logger.info("Eliminando servicios del profesional {}", profesionalId);
 
-	        boolean eliminado = serviciosDAO.eliminarServiciosProfesional(profesionalId);
+	        boolean eliminado = serviciosService.eliminarServicios(profesionalId);
 
 	        if (eliminado) {
 	            JsonObject jsonResponse = new JsonObject();
@@ -569,10 +564,7 @@ public class ServiciosProfesionalServlet extends HttpServlet {
     }
 
     private void enviarRespuesta(HttpServletResponse response, int status, JsonObject jsonResponse) throws IOException {
-        response.setStatus(status);
-        response.setContentType("application/json");
-        response.setCharacterEncoding("UTF-8");
-        response.getWriter().write(gson.toJson(jsonResponse));
+        JsonResponseWriter.escribir(response, status, jsonResponse);
     }
 
     private void enviarError(HttpServletResponse response, int status, String mensaje) throws IOException {
@@ -582,33 +574,4 @@ public class ServiciosProfesionalServlet extends HttpServlet {
 
         enviarRespuesta(response, status, jsonResponse);
     }
-
-    // Adaptadores JSON para LocalDateTime y LocalTime
-    private static class LocalDateTimeAdapter implements JsonSerializer<LocalDateTime>, JsonDeserializer<LocalDateTime> {
-        private final DateTimeFormatter formatter = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
-
-        @Override
-        public JsonElement serialize(LocalDateTime src, java.lang.reflect.Type typeOfSrc, JsonSerializationContext context) {
-            return new JsonPrimitive(src.format(formatter));
-        }
-
-        @Override
-        public LocalDateTime deserialize(JsonElement json, java.lang.reflect.Type typeOfT, JsonDeserializationContext context) throws JsonParseException {
-            return LocalDateTime.parse(json.getAsString(), formatter);
-        }
-    }
-
-    private static class LocalTimeAdapter implements JsonSerializer<LocalTime>, JsonDeserializer<LocalTime> {
-        private final DateTimeFormatter formatter = DateTimeFormatter.ISO_LOCAL_TIME;
-
-        @Override
-        public JsonElement serialize(LocalTime src, java.lang.reflect.Type typeOfSrc, JsonSerializationContext context) {
-            return new JsonPrimitive(src.format(formatter));
-        }
-
-        @Override
-        public LocalTime deserialize(JsonElement json, java.lang.reflect.Type typeOfT, JsonDeserializationContext context) throws JsonParseException {
-            return LocalTime.parse(json.getAsString(), formatter);
-        }
-    }
 }
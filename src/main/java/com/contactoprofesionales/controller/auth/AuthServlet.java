@@ -1,6 +1,8 @@
 package com.contactoprofesionales.controller.auth;
 
 import com.contactoprofesionales.dto.ResponseDTO;
+import com.contactoprofesionales.util.GsonUtil;
+import com.contactoprofesionales.util.JsonResponseWriter;
 import com.google.gson.Gson;
 
 import jakarta.servlet.ServletException;
@@ -33,7 +35,7 @@ public class AuthServlet extends HttpServlet {
 	 */
 	private static final long serialVersionUID = 1L;
 	private static final Logger logger = Logger.getLogger(AuthServlet.class.getName());
-    private final Gson gson = new Gson();
+    private final Gson gson = GsonUtil.createGson();
 
     /**
      * GET /api/auth/me
@@ -130,10 +132,7 @@ public class AuthServlet extends HttpServlet {
         response.setStatus(status);
 
         ResponseDTO<Object> responseDTO = new ResponseDTO<>(true, "Éxito", data);
-        String jsonResponse = gson.toJson(responseDTO);
-
-        logger.info("Respuesta exitosa: " + jsonResponse);
-        response.getWriter().write(jsonResponse);
+        JsonResponseWriter.escribir(response, responseDTO);
     }
 
     /**
@@ -151,10 +150,7 @@ public class AuthServlet extends HttpServlet {
         errorData.put("mensaje", errorMessage);
 
         ResponseDTO<Object> responseDTO = new ResponseDTO<>(false, errorMessage, null, errorData);
-        String jsonResponse = gson.toJson(responseDTO);
-
-        logger.warning("Respuesta de error: " + jsonResponse);
-        response.getWriter().write(jsonResponse);
+        JsonResponseWriter.escribir(response, responseDTO);
     }
 
     /**
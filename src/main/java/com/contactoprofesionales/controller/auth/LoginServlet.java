@@ -15,6 +15,8 @@ import com.contactoprofesionales.exception.DatabaseException;
 import com.contactoprofesionales.dao.usuariopersona.UsuarioPersonaDAO;
 import com.contactoprofesionales.dao.usuariopersona.UsuarioPersonaDAOImpl;
 import com.contactoprofesionales.model.UsuarioPersona;
+import com.contactoprofesionales.util.GsonUtil;
+import com.contactoprofesionales.util.JsonResponseWriter;
 
 
 import java.util.Optional;
@@ -77,7 +79,7 @@ public class LoginServlet extends HttpServlet {
 	 */
 	private static final long serialVersionUID = 5370883328003365634L;
 	private static final Logger logger = LoggerFactory.getLogger(LoginServlet.class);
-    private final Gson gson = new Gson();
+    private final Gson gson = GsonUtil.createGson();
     
     private AutenticacionService autenticacionService;
     private TokenService tokenService;
@@ -146,7 +148,7 @@ public class LoginServlet extends HttpServlet {
             
             // 7. Retornar respuesta
             response.setStatus(HttpServletResponse.SC_OK);
-            response.getWriter().write(gson.toJson(jsonResponse));
+            JsonResponseWriter.escribir(response, jsonResponse);
 
         // ✅ NUEVO: Capturar UserNotFoundException PRIMERO (antes que AuthenticationException) (añadido: 2025-11-15)
         // Cuando el usuario no existe, NO se deben contar intentos fallidos
@@ -336,7 +338,7 @@ public class LoginServlet extends HttpServlet {
 
         // Usar código 404 para diferenciar de errores de autenticación normales
         response.setStatus(HttpServletResponse.SC_NOT_FOUND);
-        response.getWriter().write(gson.toJson(jsonResponse));
+        JsonResponseWriter.escribir(response, jsonResponse);
     }
 
     /**
@@ -359,7 +361,7 @@ public class LoginServlet extends HttpServlet {
         jsonResponse.setData(errorData);
 
         response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-        response.getWriter().write(gson.toJson(jsonResponse));
+        JsonResponseWriter.escribir(response, jsonResponse);
     }
 
     /**
@@ -376,7 +378,7 @@ public class LoginServlet extends HttpServlet {
         );
         
         response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
-        response.getWriter().write(gson.toJson(jsonResponse));
+        JsonResponseWriter.escribir(response, jsonResponse);
     }
 
     /**
@@ -391,7 +393,7 @@ public class LoginServlet extends HttpServlet {
         JsonResponse jsonResponse = JsonResponse.error("Formato de datos inválido");
         
         response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-        response.getWriter().write(gson.toJson(jsonResponse));
+        JsonResponseWriter.escribir(response, jsonResponse);
     }
 
     /**
@@ -406,7 +408,7 @@ public class LoginServlet extends HttpServlet {
         JsonResponse jsonResponse = JsonResponse.error("Error interno del servidor");
         
         response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
-        response.getWriter().write(gson.toJson(jsonResponse));
+        JsonResponseWriter.escribir(response, jsonResponse);
     }
 
     @Override
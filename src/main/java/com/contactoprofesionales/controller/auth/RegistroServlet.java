@@ -13,6 +13,8 @@ import com.contactoprofesionales.util.PasswordHasher;
 import com.contactoprofesionales.dao.usuariopersona.UsuarioPersonaDAO;
 import com.contactoprofesionales.dao.usuariopersona.UsuarioPersonaDAOImpl;
 import com.contactoprofesionales.model.UsuarioPersona;
+import com.contactoprofesionales.util.GsonUtil;
+import com.contactoprofesionales.util.JsonResponseWriter;
 import java.util.Map;
 import java.util.HashMap;
 import com.google.gson.Gson;
@@ -28,10 +30,6 @@ import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.io.BufferedReader;
 
-import com.google.gson.GsonBuilder;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 
 /**
  * Controlador Servlet para el registro de nuevos usuarios.
@@ -63,20 +61,7 @@ public class RegistroServlet extends HttpServlet {
         logger.info("=== Inicializando RegistroServlet ===");
         this.usuarioDAO = new UsuarioDAOImpl();
         this.autenticacionService = new AutenticacionServiceImpl();
-        this.gson = new GsonBuilder()
-            .registerTypeAdapter(LocalDateTime.class,
-                (com.google.gson.JsonSerializer<LocalDateTime>)
-                (src, typeOfSrc, context) ->
-                    src == null ? null :
-                    new com.google.gson.JsonPrimitive(src.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME))
-            )
-            .registerTypeAdapter(LocalDate.class,
-                (com.google.gson.JsonSerializer<LocalDate>)
-                (src, typeOfSrc, context) ->
-                    src == null ? null :
-                    new com.google.gson.JsonPrimitive(src.format(DateTimeFormatter.ISO_LOCAL_DATE))
-            )
-            .create();
+        this.gson = GsonUtil.createGson();
     }
     
     /**
@@ -112,7 +97,7 @@ public class RegistroServlet extends HttpServlet {
             jsonResponse.addProperty("success", false);
             jsonResponse.addProperty("message", "Error en el servidor: " + ex.getMessage());
             response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
-            response.getWriter().write(gson.toJson(jsonResponse));
+            JsonResponseWriter.escribir(response, jsonResponse);
         }
     }
 
@@ -141,21 +126,21 @@ public class RegistroServlet extends HttpServlet {
             logger.info("Usuario registrado exitosamente: {}, Rol: {}", registroResponse.getEmail(), registroResponse.getTipoRol());
 
             response.setStatus(HttpServletResponse.SC_CREATED);
-            response.getWriter().write(gson.toJson(jsonResponse));
+            JsonResponseWriter.escribir(response, jsonResponse);
 
         } catch (AuthenticationException authEx) {
             logger.warn("Error de autenticación en registro: {}", authEx.getMessage());
             jsonResponse.addProperty("success", false);
             jsonResponse.addProperty("message", authEx.getMessage());
             response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-            response.getWriter().write(gson.toJson(jsonResponse));
+            JsonResponseWriter.escribir(response, jsonResponse);
 
         } catch (DatabaseException dbEx) {
             logger.error("Error de base de datos en registro: {}", dbEx.getMessage(), dbEx);
             jsonResponse.addProperty("success", false);
             jsonResponse.addProperty("message", "Error al registrar usuario: " + dbEx.getMessage());
             response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
-            response.getWriter().write(gson.toJson(jsonResponse));
+            JsonResponseWriter.escribir(response, jsonResponse);
         }
     }
 
@@ -175,7 +160,7 @@ public class RegistroServlet extends HttpServlet {
                 response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
                 jsonResponse.addProperty("success", false);
                 jsonResponse.addProperty("message", "Faltan datos obligatorios");
-                response.getWriter().write(gson.toJson(jsonResponse));
+                JsonResponseWriter.escribir(response, jsonResponse);
                 return;
             }
 
@@ -189,7 +174,7 @@ public class RegistroServlet extends HttpServlet {
                 response.setStatus(HttpServletResponse.SC_CONFLICT);
                 jsonResponse.addProperty("success", false);
                 jsonResponse.addProperty("message", "El correo ya está registrado");
-                response.getWriter().write(gson.toJson(jsonResponse));
+                JsonResponseWriter.escribir(response, jsonResponse);
                 return;
             }
 
@@ -243,21 +228,21 @@ public class RegistroServlet extends HttpServlet {
                 response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
             }
 
-            response.getWriter().write(gson.toJson(jsonResponse));
+            JsonResponseWriter.escribir(response, jsonResponse);
 
         } catch (DatabaseException dbEx) {
             logger.error("Error de base de datos en registro simple: {}", dbEx.getMessage(), dbEx);
             response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
             jsonResponse.addProperty("success", false);
             jsonResponse.addProperty("message", "Error de base de datos: " + dbEx.getMessage());
-            response.getWriter().write(gson.toJson(jsonResponse));
+            JsonResponseWriter.escribir(response, jsonResponse);
 
         } catch (Exception ex) {
             logger.error("Error inesperado en registro simple: {}", ex.getMessage(), ex);
             response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
             jsonResponse.addProperty("success", false);
             jsonResponse.addProperty("message", "Error en el servidor: " + ex.getMessage());
-            response.getWriter().write(gson.toJson(jsonResponse));
+            JsonResponseWriter.escribir(response, jsonResponse);
         }
     }
 
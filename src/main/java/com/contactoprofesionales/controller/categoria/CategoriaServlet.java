@@ -4,9 +4,9 @@ import com.contactoprofesionales.dao.categoria.CategoriaServicioDAO;
 import com.contactoprofesionales.dao.categoria.CategoriaServicioDAOImpl;
 import com.contactoprofesionales.exception.DatabaseException;
 import com.contactoprofesionales.model.CategoriaServicio;
-import com.contactoprofesionales.util.LocalDateTimeAdapter;
+import com.contactoprofesionales.util.GsonUtil;
+import com.contactoprofesionales.util.JsonResponseWriter;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -17,8 +17,6 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
 import java.io.IOException;
-import java.io.PrintWriter;
-import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -34,9 +32,7 @@ public class CategoriaServlet extends HttpServlet {
     private static final Logger logger = LoggerFactory.getLogger(CategoriaServlet.class);
     private static final long serialVersionUID = 1L;
 
-    private final Gson gson = new GsonBuilder()
-            .registerTypeAdapter(LocalDateTime.class, new LocalDateTimeAdapter())
-            .create();
+    private final Gson gson = GsonUtil.createGson();
 
     private CategoriaServicioDAO categoriaDAO;
 
@@ -109,13 +105,7 @@ public class CategoriaServlet extends HttpServlet {
         responseBody.put("success", true);
         responseBody.put("data", data);
 
-        String jsonResponse = gson.toJson(responseBody);
-        logger.debug("Enviando respuesta exitosa: {}", jsonResponse);
-
-        try (PrintWriter out = response.getWriter()) {
-            out.print(jsonResponse);
-            out.flush();
-        }
+        JsonResponseWriter.escribir(response, responseBody);
     }
 
     /**
@@ -134,12 +124,6 @@ public class CategoriaServlet extends HttpServlet {
 
         responseBody.put("error", error);
 
-        String jsonResponse = gson.toJson(responseBody);
-        logger.debug("Enviando respuesta de error: {}", jsonResponse);
-
-        try (PrintWriter out = response.getWriter()) {
-            out.print(jsonResponse);
-            out.flush();
-        }
+        JsonResponseWriter.escribir(response, responseBody);
     }
 }
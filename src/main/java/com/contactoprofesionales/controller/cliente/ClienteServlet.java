@@ -6,9 +6,9 @@ import com.contactoprofesionales.dto.ClienteRegistroRequest;
 import com.contactoprofesionales.exception.ClienteException;
 import com.contactoprofesionales.service.cliente.ClienteService;
 import com.contactoprofesionales.service.cliente.ClienteServiceImpl;
-import com.contactoprofesionales.util.LocalDateTimeAdapter;
+import com.contactoprofesionales.util.GsonUtil;
+import com.contactoprofesionales.util.JsonResponseWriter;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.JsonSyntaxException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -21,8 +21,6 @@ import jakarta.servlet.http.HttpServletResponse;
 
 import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.PrintWriter;
-import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -42,9 +40,7 @@ public class ClienteServlet extends HttpServlet {
     private static final Logger logger = LoggerFactory.getLogger(ClienteServlet.class);
     private static final long serialVersionUID = 1L;    
     
-    private final Gson gson = new GsonBuilder()
-            .registerTypeAdapter(LocalDateTime.class, new LocalDateTimeAdapter())
-            .create();
+    private final Gson gson = GsonUtil.createGson();
     
     private ClienteService clienteService;
     //private Gson gson;
@@ -54,7 +50,7 @@ public class ClienteServlet extends HttpServlet {
         super.init();
         logger.info("=== Inicializando ClienteServlet ===");
         this.clienteService = new ClienteServiceImpl();
-        //this.gson = new Gson();
+        //this.gson = GsonUtil.createGson();
     }
     
     /**
@@ -351,13 +347,7 @@ public class ClienteServlet extends HttpServlet {
         responseBody.put("success", true);
         responseBody.put("data", data);
         
-        String jsonResponse = gson.toJson(responseBody);
-        logger.debug("Enviando respuesta exitosa: {}", jsonResponse);
-        
-        try (PrintWriter out = response.getWriter()) {
-            out.print(jsonResponse);
-            out.flush();
-        }
+        JsonResponseWriter.escribir(response, responseBody);
     }
     
     /**
@@ -406,12 +396,6 @@ public class ClienteServlet extends HttpServlet {
         
         responseBody.put("error", error);
         
-        String jsonResponse = gson.toJson(responseBody);
-        logger.debug("Enviando respuesta de error: {}", jsonResponse);
-        
-        try (PrintWriter out = response.getWriter()) {
-            out.print(jsonResponse);
-            out.flush();
-        }
+        JsonResponseWriter.escribir(response, responseBody);
     }
 }
\ No newline at end of file
@@ -0,0 +1,109 @@
+package com.contactoprofesionales.controller.metricas;
+
+import com.contactoprofesionales.metricas.EscritorPrometheus;
+import com.contactoprofesionales.metricas.MetricasConsultas;
+import com.contactoprofesionales.metricas.MetricasHttp;
+import com.contactoprofesionales.metricas.MetricasJvm;
+import com.contactoprofesionales.metricas.MetricasPoolConexiones;
+import com.contactoprofesionales.util.JsonResponse;
+import com.contactoprofesionales.util.JsonResponseWriter;
+
+import jakarta.servlet.ServletException;
+import jakarta.servlet.annotation.WebServlet;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * Endpoint de métricas en formato de texto de Prometheus.
+ *
+ * Endpoint:
+ * - GET /metrics -> Métricas HTTP por ruta, consultas JDBC por DAO, pool de conexiones y JVM
+ * - GET /metrics/consultas -> Informe en texto de las consultas JDBC (p50/p99, filas) por forma de SQL
+ *
+ * Si se define la propiedad del sistema contactoprofesionales.metricas.token (o la variable
+ * de entorno METRICAS_TOKEN), se exige el header Authorization: Bearer &lt;token&gt;.
+ * Sin token, /metrics solo responde a peticiones desde localhost (403 para el resto) y
+ * /metrics/consultas no existe (404): el informe muestra la forma del SQL de cada DAO.
+ */
+@WebServlet(name = "MetricasServlet", urlPatterns = {"/metrics", "/metrics/consultas"})
+public class MetricasServlet extends HttpServlet {
+
+    /** Propiedad del sistema con el token que protege /metrics (sin él, solo localhost). */
+    public static final String PROPIEDAD_TOKEN = "contactoprofesionales.metricas.token";
+
+    private String token;
+
+    @Override
+    public void init() throws ServletException {
+        token = System.getProperty(PROPIEDAD_TOKEN, System.getenv("METRICAS_TOKEN"));
+        if (token != null && token.isEmpty()) {
+            token = null;
+        }
+    }
+
+    @Override
+    protected void doGet(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
+
+        boolean informeConsultas = "/metrics/consultas".equals(request.getServletPath());
+        if (informeConsultas && token == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        if (token == null && !esLocal(request)) {
+            JsonResponseWriter.escribir(response, HttpServletResponse.SC_FORBIDDEN,
+                                        JsonResponse.error("Métricas disponibles solo desde localhost"));
+            return;
+        }
+
+        if (!autorizado(request)) {
+            JsonResponseWriter.escribir(response, HttpServletResponse.SC_UNAUTHORIZED,
+                                        JsonResponse.error("Token de métricas inválido"));
+            return;
+        }
+
+        StringBuilder texto = new StringBuilder(16 * 1024);
+        String contentType;
+        if (informeConsultas) {
+            MetricasConsultas.getInstancia().escribirInforme(texto);
+            contentType = "text/plain; charset=utf-8";
+        } else {
+            EscritorPrometheus escritor = new EscritorPrometheus(texto);
+            MetricasHttp.getInstancia().escribir(escritor);
+            MetricasConsultas.getInstancia().escribir(escritor);
+            MetricasPoolConexiones.getInstancia().escribir(escritor);
+            MetricasJvm.escribir(escritor);
+            contentType = EscritorPrometheus.CONTENT_TYPE;
+        }
+
+        byte[] cuerpo = texto.toString().getBytes(StandardCharsets.UTF_8);
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(contentType);
+        response.setHeader("Cache-Control", "no-store");
+        response.setContentLength(cuerpo.length);
+        response.getOutputStream().write(cuerpo);
+    }
+
+    private static boolean esLocal(HttpServletRequest request) {
+        String remoto = request.getRemoteAddr();
+        return "127.0.0.1".equals(remoto) || "::1".equals(remoto) || "0:0:0:0:0:0:0:1".equals(remoto);
+    }
+
+    private boolean autorizado(HttpServletRequest request) {
+        if (token == null) {
+            return true;
+        }
+        String authHeader = request.getHeader("Authorization");
+        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            return false;
+        }
+        // Comparación de tiempo constante
+        return MessageDigest.isEqual(token.getBytes(StandardCharsets.UTF_8),
+                                     authHeader.substring(7).getBytes(StandardCharsets.UTF_8));
+    }
+}
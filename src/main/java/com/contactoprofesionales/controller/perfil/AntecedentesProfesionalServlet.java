@@ -6,6 +6,8 @@ import com.contactoprofesionales.model.AntecedenteProfesional;
 import com.contactoprofesionales.model.AntecedenteProfesional.TipoAntecedente;
 import com.contactoprofesionales.util.JsonResponse;
 import com.contactoprofesionales.util.GsonUtil;
+import com.contactoprofesionales.util.JsonResponseWriter;
+import com.contactoprofesionales.service.profesional.CachePerfilProfesional;
 import com.google.gson.Gson;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -48,6 +50,7 @@ public class AntecedentesProfesionalServlet extends HttpServlet {
 
     private final Gson gson;
     private AntecedentesProfesionalDAO antecedentesDAO;
+    private final CachePerfilProfesional cachePerfil = CachePerfilProfesional.getInstancia();
 
     public AntecedentesProfesionalServlet() {
         // ✅ Usar GsonUtil que incluye adaptadores para LocalDateTime y LocalDate
@@ -107,7 +110,7 @@ public class AntecedentesProfesionalServlet extends HttpServlet {
             if (profesionalId == null) {
                 logger.warn("✗ No se pudo obtener el profesional del token");
                 response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-                response.getWriter().write(gson.toJson(JsonResponse.error("No autenticado")));
+                JsonResponseWriter.escribir(response, JsonResponse.error("No autenticado"));
                 return;
             }
 
@@ -119,7 +122,7 @@ public class AntecedentesProfesionalServlet extends HttpServlet {
                     antecedentes.size(), duration);
 
             response.setStatus(HttpServletResponse.SC_OK);
-            response.getWriter().write(gson.toJson(JsonResponse.success("Antecedentes obtenidos", antecedentes)));
+            JsonResponseWriter.escribir(response, JsonResponse.success("Antecedentes obtenidos", antecedentes));
 
         } catch (Exception e) {
             handleError(response, e, startTime);
@@ -161,7 +164,7 @@ public class AntecedentesProfesionalServlet extends HttpServlet {
             if (profesionalId == null) {
                 logger.warn("✗ No autenticado");
                 response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-                response.getWriter().write(gson.toJson(JsonResponse.error("No autenticado")));
+                JsonResponseWriter.escribir(response, JsonResponse.error("No autenticado"));
                 return;
             }
 
@@ -173,20 +176,21 @@ public class AntecedentesProfesionalServlet extends HttpServlet {
             if (antecedente.getTipoAntecedente() == null) {
                 logger.warn("✗ Tipo de antecedente es requerido");
                 response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-                response.getWriter().write(gson.toJson(JsonResponse.error(
-                        "El tipo de antecedente es requerido. Valores válidos: policial, penal, judicial")));
+                JsonResponseWriter.escribir(response, JsonResponse.error(
+                        "El tipo de antecedente es requerido. Valores válidos: policial, penal, judicial"));
                 return;
             }
 
             if (antecedente.getDocumentoUrl() == null || antecedente.getDocumentoUrl().trim().isEmpty()) {
                 logger.warn("✗ URL del documento es requerida");
                 response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-                response.getWriter().write(gson.toJson(JsonResponse.error("La URL del documento es requerida")));
+                JsonResponseWriter.escribir(response, JsonResponse.error("La URL del documento es requerida"));
                 return;
             }
 
             // ✅ Guardar antecedente (el DAO valida que no exista duplicado del mismo tipo)
             Integer id = antecedentesDAO.guardar(antecedente);
+            cachePerfil.invalidar(profesionalId);
             antecedente.setId(id);
 
             long duration = System.currentTimeMillis() - startTime;
@@ -194,15 +198,15 @@ public class AntecedentesProfesionalServlet extends HttpServlet {
                     antecedente.getTipoAntecedente().getValor(), id, duration);
 
             response.setStatus(HttpServletResponse.SC_CREATED);
-            response.getWriter().write(gson.toJson(JsonResponse.success(
-                    "Antecedente creado exitosamente. Será verificado por un administrador.", antecedente)));
+            JsonResponseWriter.escribir(response, JsonResponse.success(
+                    "Antecedente creado exitosamente. Será verificado por un administrador.", antecedente));
 
         } catch (Exception e) {
             // ✅ Si el error es por antecedente duplicado, retornar 400 en lugar de 500
             if (e.getMessage() != null && e.getMessage().contains("Ya existe un antecedente")) {
                 logger.warn("✗ Antecedente duplicado: {}", e.getMessage());
                 response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-                response.getWriter().write(gson.toJson(JsonResponse.error(e.getMessage())));
+                JsonResponseWriter.escribir(response, JsonResponse.error(e.getMessage()));
             } else {
                 handleError(response, e, startTime);
             }
@@ -241,7 +245,7 @@ public class AntecedentesProfesionalServlet extends HttpServlet {
 
             if (profesionalId == null) {
                 response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-                response.getWriter().write(gson.toJson(JsonResponse.error("No autenticado")));
+                JsonResponseWriter.escribir(response, JsonResponse.error("No autenticado"));
                 return;
             }
 
@@ -253,7 +257,7 @@ public class AntecedentesProfesionalServlet extends HttpServlet {
             if (antecedente.getId() == null) {
                 logger.warn("✗ ID de antecedente es requerido para actualizar");
                 response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-                response.getWriter().write(gson.toJson(JsonResponse.error("ID es requerido para actualizar")));
+                JsonResponseWriter.escribir(response, JsonResponse.error("ID es requerido para actualizar"));
                 return;
             }
 
@@ -265,17 +269,18 @@ public class AntecedentesProfesionalServlet extends HttpServlet {
 
             // ✅ Actualizar antecedente (el DAO NO actualiza estado de verificación)
             boolean actualizado = antecedentesDAO.actualizar(antecedente);
+            cachePerfil.invalidar(profesionalId);
 
             if (actualizado) {
                 long duration = System.currentTimeMillis() - startTime;
                 logger.info("✓ Antecedente actualizado exitosamente - Tiempo: {}ms", duration);
 
                 response.setStatus(HttpServletResponse.SC_OK);
-                response.getWriter().write(gson.toJson(JsonResponse.success("Antecedente actualizado exitosamente", antecedente)));
+                JsonResponseWriter.escribir(response, JsonResponse.success("Antecedente actualizado exitosamente", antecedente));
             } else {
                 logger.warn("✗ Antecedente no encontrado o no pertenece al profesional");
                 response.setStatus(HttpServletResponse.SC_NOT_FOUND);
-                response.getWriter().write(gson.toJson(JsonResponse.error("Antecedente no encontrado")));
+                JsonResponseWriter.escribir(response, JsonResponse.error("Antecedente no encontrado"));
             }
 
         } catch (Exception e) {
@@ -306,7 +311,7 @@ public class AntecedentesProfesionalServlet extends HttpServlet {
 
             if (profesionalId == null) {
                 response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-                response.getWriter().write(gson.toJson(JsonResponse.error("No autenticado")));
+                JsonResponseWriter.escribir(response, JsonResponse.error("No autenticado"));
                 return;
             }
 
@@ -315,7 +320,7 @@ public class AntecedentesProfesionalServlet extends HttpServlet {
             if (idParam == null || idParam.trim().isEmpty()) {
                 logger.warn("✗ ID de antecedente es requerido");
                 response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-                response.getWriter().write(gson.toJson(JsonResponse.error("ID es requerido")));
+                JsonResponseWriter.escribir(response, JsonResponse.error("ID es requerido"));
                 return;
             }
 
@@ -323,23 +328,24 @@ public class AntecedentesProfesionalServlet extends HttpServlet {
 
             // ✅ Eliminar antecedente (soft delete)
             boolean eliminado = antecedentesDAO.eliminar(id);
+            cachePerfil.invalidar(profesionalId);
 
             if (eliminado) {
                 long duration = System.currentTimeMillis() - startTime;
                 logger.info("✓ Antecedente eliminado exitosamente - Tiempo: {}ms", duration);
 
                 response.setStatus(HttpServletResponse.SC_OK);
-                response.getWriter().write(gson.toJson(JsonResponse.success("Antecedente eliminado exitosamente")));
+                JsonResponseWriter.escribir(response, JsonResponse.success("Antecedente eliminado exitosamente"));
             } else {
                 logger.warn("✗ Antecedente no encontrado");
                 response.setStatus(HttpServletResponse.SC_NOT_FOUND);
-                response.getWriter().write(gson.toJson(JsonResponse.error("Antecedente no encontrado")));
+                JsonResponseWriter.escribir(response, JsonResponse.error("Antecedente no encontrado"));
             }
 
         } catch (NumberFormatException e) {
             logger.warn("✗ ID de antecedente inválido", e);
             response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-            response.getWriter().write(gson.toJson(JsonResponse.error("ID inválido")));
+            JsonResponseWriter.escribir(response, JsonResponse.error("ID inválido"));
 
         } catch (Exception e) {
             handleError(response, e, startTime);
@@ -378,7 +384,7 @@ public class AntecedentesProfesionalServlet extends HttpServlet {
         logger.error("✗ Error procesando solicitud - Tiempo: {}ms", duration, e);
 
         response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
-        response.getWriter().write(gson.toJson(JsonResponse.error("Error interno del servidor: " + e.getMessage())));
+        JsonResponseWriter.escribir(response, JsonResponse.error("Error interno del servidor: " + e.getMessage()));
     }
 
     @Override
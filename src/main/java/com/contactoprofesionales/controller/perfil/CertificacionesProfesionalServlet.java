@@ -5,6 +5,8 @@ import com.contactoprofesionales.dao.certificaciones.CertificacionesProfesionalD
 import com.contactoprofesionales.model.CertificacionProfesional;
 import com.contactoprofesionales.util.JsonResponse;
 import com.contactoprofesionales.util.GsonUtil;
+import com.contactoprofesionales.util.JsonResponseWriter;
+import com.contactoprofesionales.service.profesional.CachePerfilProfesional;
 import com.google.gson.Gson;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -41,6 +43,7 @@ public class CertificacionesProfesionalServlet extends HttpServlet {
 
     private final Gson gson;
     private CertificacionesProfesionalDAO certificacionesDAO;
+    private final CachePerfilProfesional cachePerfil = CachePerfilProfesional.getInstancia();
 
     public CertificacionesProfesionalServlet() {
         // ✅ Usar GsonUtil que incluye adaptadores para LocalDateTime y LocalDate
@@ -99,7 +102,7 @@ public class CertificacionesProfesionalServlet extends HttpServlet {
             if (profesionalId == null) {
                 logger.warn("✗ No se pudo obtener el profesional del token");
                 response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-                response.getWriter().write(gson.toJson(JsonResponse.error("No autenticado")));
+                JsonResponseWriter.escribir(response, JsonResponse.error("No autenticado"));
                 return;
             }
 
@@ -111,7 +114,7 @@ public class CertificacionesProfesionalServlet extends HttpServlet {
                     certificaciones.size(), duration);
 
             response.setStatus(HttpServletResponse.SC_OK);
-            response.getWriter().write(gson.toJson(JsonResponse.success("Certificaciones obtenidas", certificaciones)));
+            JsonResponseWriter.escribir(response, JsonResponse.success("Certificaciones obtenidas", certificaciones));
 
         } catch (Exception e) {
             handleError(response, e, startTime);
@@ -147,7 +150,7 @@ public class CertificacionesProfesionalServlet extends HttpServlet {
             if (profesionalId == null) {
                 logger.warn("✗ No autenticado");
                 response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-                response.getWriter().write(gson.toJson(JsonResponse.error("No autenticado")));
+                JsonResponseWriter.escribir(response, JsonResponse.error("No autenticado"));
                 return;
             }
 
@@ -159,26 +162,27 @@ public class CertificacionesProfesionalServlet extends HttpServlet {
             if (certificacion.getNombreCertificacion() == null || certificacion.getNombreCertificacion().trim().isEmpty()) {
                 logger.warn("✗ Nombre de certificación es requerido");
                 response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-                response.getWriter().write(gson.toJson(JsonResponse.error("El nombre de la certificación es requerido")));
+                JsonResponseWriter.escribir(response, JsonResponse.error("El nombre de la certificación es requerido"));
                 return;
             }
 
             if (certificacion.getInstitucion() == null || certificacion.getInstitucion().trim().isEmpty()) {
                 logger.warn("✗ Institución es requerida");
                 response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-                response.getWriter().write(gson.toJson(JsonResponse.error("La institución es requerida")));
+                JsonResponseWriter.escribir(response, JsonResponse.error("La institución es requerida"));
                 return;
             }
 
             // Guardar certificación
             Integer id = certificacionesDAO.guardar(certificacion);
+            cachePerfil.invalidar(profesionalId);
             certificacion.setId(id);
 
             long duration = System.currentTimeMillis() - startTime;
             logger.info("✓ Certificación creada exitosamente con ID {} - Tiempo: {}ms", id, duration);
 
             response.setStatus(HttpServletResponse.SC_CREATED);
-            response.getWriter().write(gson.toJson(JsonResponse.success("Certificación creada exitosamente", certificacion)));
+            JsonResponseWriter.escribir(response, JsonResponse.success("Certificación creada exitosamente", certificacion));
 
         } catch (Exception e) {
             handleError(response, e, startTime);
@@ -210,7 +214,7 @@ public class CertificacionesProfesionalServlet extends HttpServlet {
 
             if (profesionalId == null) {
                 response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-                response.getWriter().write(gson.toJson(JsonResponse.error("No autenticado")));
+                JsonResponseWriter.escribir(response, JsonResponse.error("No autenticado"));
                 return;
             }
 
@@ -220,22 +224,23 @@ public class CertificacionesProfesionalServlet extends HttpServlet {
             if (certificacion.getId() == null) {
                 logger.warn("✗ ID de certificación es requerido para actualizar");
                 response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-                response.getWriter().write(gson.toJson(JsonResponse.error("ID es requerido para actualizar")));
+                JsonResponseWriter.escribir(response, JsonResponse.error("ID es requerido para actualizar"));
                 return;
             }
 
             boolean actualizado = certificacionesDAO.actualizar(certificacion);
+            cachePerfil.invalidar(profesionalId);
 
             if (actualizado) {
                 long duration = System.currentTimeMillis() - startTime;
                 logger.info("✓ Certificación actualizada exitosamente - Tiempo: {}ms", duration);
 
                 response.setStatus(HttpServletResponse.SC_OK);
-                response.getWriter().write(gson.toJson(JsonResponse.success("Certificación actualizada exitosamente", certificacion)));
+                JsonResponseWriter.escribir(response, JsonResponse.success("Certificación actualizada exitosamente", certificacion));
             } else {
                 logger.warn("✗ Certificación no encontrada o no pertenece al profesional");
                 response.setStatus(HttpServletResponse.SC_NOT_FOUND);
-                response.getWriter().write(gson.toJson(JsonResponse.error("Certificación no encontrada")));
+                JsonResponseWriter.escribir(response, JsonResponse.error("Certificación no encontrada"));
             }
 
         } catch (Exception e) {
@@ -263,7 +268,7 @@ public class CertificacionesProfesionalServlet extends HttpServlet {
 
             if (profesionalId == null) {
                 response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-                response.getWriter().write(gson.toJson(JsonResponse.error("No autenticado")));
+                JsonResponseWriter.escribir(response, JsonResponse.error("No autenticado"));
                 return;
             }
 
@@ -271,30 +276,31 @@ public class CertificacionesProfesionalServlet extends HttpServlet {
             if (idParam == null || idParam.trim().isEmpty()) {
                 logger.warn("✗ ID de certificación es requerido");
                 response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-                response.getWriter().write(gson.toJson(JsonResponse.error("ID es requerido")));
+                JsonResponseWriter.escribir(response, JsonResponse.error("ID es requerido"));
                 return;
             }
 
             Integer id = Integer.parseInt(idParam);
 
             boolean eliminado = certificacionesDAO.eliminar(id);
+            cachePerfil.invalidar(profesionalId);
 
             if (eliminado) {
                 long duration = System.currentTimeMillis() - startTime;
                 logger.info("✓ Certificación eliminada exitosamente - Tiempo: {}ms", duration);
 
                 response.setStatus(HttpServletResponse.SC_OK);
-                response.getWriter().write(gson.toJson(JsonResponse.success("Certificación eliminada exitosamente")));
+                JsonResponseWriter.escribir(response, JsonResponse.success("Certificación eliminada exitosamente"));
             } else {
                 logger.warn("✗ Certificación no encontrada");
                 response.setStatus(HttpServletResponse.SC_NOT_FOUND);
-                response.getWriter().write(gson.toJson(JsonResponse.error("Certificación no encontrada")));
+                JsonResponseWriter.escribir(response, JsonResponse.error("Certificación no encontrada"));
             }
 
         } catch (NumberFormatException e) {
             logger.warn("✗ ID de certificación inválido", e);
             response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-            response.getWriter().write(gson.toJson(JsonResponse.error("ID inválido")));
+            JsonResponseWriter.escribir(response, JsonResponse.error("ID inválido"));
 
         } catch (Exception e) {
             handleError(response, e, startTime);
@@ -350,7 +356,7 @@ public class CertificacionesProfesionalServlet extends HttpServlet {
         logger.error("✗ Error procesando solicitud - Tiempo: {}ms", duration, e);
 
         response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
-        response.getWriter().write(gson.toJson(JsonResponse.error("Error interno del servidor: " + e.getMessage())));
+        JsonResponseWriter.escribir(response, JsonResponse.error("Error interno del servidor: " + e.getMessage()));
     }
 
     @Override
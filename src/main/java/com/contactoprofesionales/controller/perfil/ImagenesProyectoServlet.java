@@ -5,6 +5,8 @@ import com.contactoprofesionales.dao.portafolio.ImagenesProyectoDAOImpl;
 import com.contactoprofesionales.model.ImagenProyecto;
 import com.contactoprofesionales.util.JsonResponse;
 import com.contactoprofesionales.util.GsonUtil;
+import com.contactoprofesionales.util.JsonResponseWriter;
+import com.contactoprofesionales.service.profesional.CachePerfilProfesional;
 import com.google.gson.Gson;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -47,6 +49,7 @@ public class ImagenesProyectoServlet extends HttpServlet {
 
     private final Gson gson;
     private ImagenesProyectoDAO imagenesDAO;
+    private final CachePerfilProfesional cachePerfil = CachePerfilProfesional.getInstancia();
 
     public ImagenesProyectoServlet() {
         // ✅ Usar GsonUtil que incluye adaptadores para LocalDateTime y LocalDate
@@ -116,7 +119,7 @@ public class ImagenesProyectoServlet extends HttpServlet {
             if (profesionalId == null) {
                 logger.warn("✗ No se pudo obtener el profesional del token");
                 response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-                response.getWriter().write(gson.toJson(JsonResponse.error("No autenticado")));
+                JsonResponseWriter.escribir(response, JsonResponse.error("No autenticado"));
                 return;
             }
 
@@ -135,13 +138,13 @@ public class ImagenesProyectoServlet extends HttpServlet {
             } else {
                 logger.warn("✗ Se requiere parámetro 'id' o 'proyectoId'");
                 response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-                response.getWriter().write(gson.toJson(JsonResponse.error("Se requiere parámetro 'id' o 'proyectoId'")));
+                JsonResponseWriter.escribir(response, JsonResponse.error("Se requiere parámetro 'id' o 'proyectoId'"));
             }
 
         } catch (NumberFormatException e) {
             logger.warn("✗ ID inválido", e);
             response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-            response.getWriter().write(gson.toJson(JsonResponse.error("ID inválido")));
+            JsonResponseWriter.escribir(response, JsonResponse.error("ID inválido"));
 
         } catch (Exception e) {
             handleError(response, e, startTime);
@@ -168,7 +171,7 @@ public class ImagenesProyectoServlet extends HttpServlet {
                 imagenes.size(), duration);
 
         response.setStatus(HttpServletResponse.SC_OK);
-        response.getWriter().write(gson.toJson(JsonResponse.success("Imágenes obtenidas", imagenes)));
+        JsonResponseWriter.escribir(response, JsonResponse.success("Imágenes obtenidas", imagenes));
     }
 
     /**
@@ -190,11 +193,11 @@ public class ImagenesProyectoServlet extends HttpServlet {
             logger.info("✓ Imagen encontrada - Tiempo: {}ms", duration);
 
             response.setStatus(HttpServletResponse.SC_OK);
-            response.getWriter().write(gson.toJson(JsonResponse.success("Imagen encontrada", imagenOpt.get())));
+            JsonResponseWriter.escribir(response, JsonResponse.success("Imagen encontrada", imagenOpt.get()));
         } else {
             logger.warn("✗ Imagen con ID {} no encontrada", imagenId);
             response.setStatus(HttpServletResponse.SC_NOT_FOUND);
-            response.getWriter().write(gson.toJson(JsonResponse.error("Imagen no encontrada")));
+            JsonResponseWriter.escribir(response, JsonResponse.error("Imagen no encontrada"));
         }
     }
 
@@ -234,7 +237,7 @@ public class ImagenesProyectoServlet extends HttpServlet {
             if (profesionalId == null) {
                 logger.warn("✗ No autenticado");
                 response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-                response.getWriter().write(gson.toJson(JsonResponse.error("No autenticado")));
+                JsonResponseWriter.escribir(response, JsonResponse.error("No autenticado"));
                 return;
             }
 
@@ -245,14 +248,14 @@ public class ImagenesProyectoServlet extends HttpServlet {
             if (imagen.getProyectoId() == null) {
                 logger.warn("✗ ID del proyecto es requerido");
                 response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-                response.getWriter().write(gson.toJson(JsonResponse.error("El ID del proyecto es requerido")));
+                JsonResponseWriter.escribir(response, JsonResponse.error("El ID del proyecto es requerido"));
                 return;
             }
 
             if (imagen.getUrlImagen() == null || imagen.getUrlImagen().trim().isEmpty()) {
                 logger.warn("✗ URL de la imagen es requerida");
                 response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-                response.getWriter().write(gson.toJson(JsonResponse.error("La URL de la imagen es requerida")));
+                JsonResponseWriter.escribir(response, JsonResponse.error("La URL de la imagen es requerida"));
                 return;
             }
 
@@ -260,27 +263,28 @@ public class ImagenesProyectoServlet extends HttpServlet {
             if (imagen.getTipoImagen() == null) {
                 logger.warn("✗ Tipo de imagen es requerido");
                 response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-                response.getWriter().write(gson.toJson(JsonResponse.error(
-                        "El tipo de imagen es requerido. Valores válidos: antes, despues, proceso, general")));
+                JsonResponseWriter.escribir(response, JsonResponse.error(
+                        "El tipo de imagen es requerido. Valores válidos: antes, despues, proceso, general"));
                 return;
             }
 
             // ✅ Guardar imagen (el DAO valida el límite de 5 imágenes)
             Integer id = imagenesDAO.guardar(imagen);
+            cachePerfil.invalidar(profesionalId);
             imagen.setId(id);
 
             long duration = System.currentTimeMillis() - startTime;
             logger.info("✓ Imagen creada exitosamente con ID {} - Tiempo: {}ms", id, duration);
 
             response.setStatus(HttpServletResponse.SC_CREATED);
-            response.getWriter().write(gson.toJson(JsonResponse.success("Imagen creada exitosamente", imagen)));
+            JsonResponseWriter.escribir(response, JsonResponse.success("Imagen creada exitosamente", imagen));
 
         } catch (Exception e) {
             // ✅ Si el error es por límite de imágenes, retornar 400 en lugar de 500
             if (e.getMessage() != null && e.getMessage().contains("máximo de 5 imágenes")) {
                 logger.warn("✗ Límite de imágenes alcanzado: {}", e.getMessage());
                 response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-                response.getWriter().write(gson.toJson(JsonResponse.error(e.getMessage())));
+                JsonResponseWriter.escribir(response, JsonResponse.error(e.getMessage()));
             } else {
                 handleError(response, e, startTime);
             }
@@ -314,7 +318,7 @@ public class ImagenesProyectoServlet extends HttpServlet {
 
             if (profesionalId == null) {
                 response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-                response.getWriter().write(gson.toJson(JsonResponse.error("No autenticado")));
+                JsonResponseWriter.escribir(response, JsonResponse.error("No autenticado"));
                 return;
             }
 
@@ -323,7 +327,7 @@ public class ImagenesProyectoServlet extends HttpServlet {
             if (idParam == null || idParam.trim().isEmpty()) {
                 logger.warn("✗ ID de imagen es requerido");
                 response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-                response.getWriter().write(gson.toJson(JsonResponse.error("ID es requerido")));
+                JsonResponseWriter.escribir(response, JsonResponse.error("ID es requerido"));
                 return;
             }
 
@@ -334,23 +338,24 @@ public class ImagenesProyectoServlet extends HttpServlet {
 
             // ✅ Eliminar imagen (DELETE físico)
             boolean eliminado = imagenesDAO.eliminar(id);
+            cachePerfil.invalidar(profesionalId);
 
             if (eliminado) {
                 long duration = System.currentTimeMillis() - startTime;
                 logger.info("✓ Imagen eliminada exitosamente (DELETE físico) - Tiempo: {}ms", duration);
 
                 response.setStatus(HttpServletResponse.SC_OK);
-                response.getWriter().write(gson.toJson(JsonResponse.success("Imagen eliminada exitosamente")));
+                JsonResponseWriter.escribir(response, JsonResponse.success("Imagen eliminada exitosamente"));
             } else {
                 logger.warn("✗ Imagen no encontrada");
                 response.setStatus(HttpServletResponse.SC_NOT_FOUND);
-                response.getWriter().write(gson.toJson(JsonResponse.error("Imagen no encontrada")));
+                JsonResponseWriter.escribir(response, JsonResponse.error("Imagen no encontrada"));
             }
 
         } catch (NumberFormatException e) {
             logger.warn("✗ ID de imagen inválido", e);
             response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-            response.getWriter().write(gson.toJson(JsonResponse.error("ID inválido")));
+            JsonResponseWriter.escribir(response, JsonResponse.error("ID inválido"));
 
         } catch (Exception e) {
             handleError(response, e, startTime);
@@ -389,7 +394,7 @@ public class ImagenesProyectoServlet extends HttpServlet {
         logger.error("✗ Error procesando solicitud - Tiempo: {}ms", duration, e);
 
         response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
-        response.getWriter().write(gson.toJson(JsonResponse.error("Error interno del servidor: " + e.getMessage())));
+        JsonResponseWriter.escribir(response, JsonResponse.error("Error interno del servidor: " + e.getMessage()));
     }
 
     @Override
@@ -1,17 +1,12 @@
 package com.contactoprofesionales.controller.perfil;
 
-import com.contactoprofesionales.dao.certificaciones.CertificacionesProfesionalDAO;
-import com.contactoprofesionales.dao.certificaciones.CertificacionesProfesionalDAOImpl;
-import com.contactoprofesionales.dao.portafolio.ProyectosPortafolioDAO;
-import com.contactoprofesionales.dao.portafolio.ProyectosPortafolioDAOImpl;
-import com.contactoprofesionales.dao.antecedentes.AntecedentesProfesionalDAO;
-import com.contactoprofesionales.dao.antecedentes.AntecedentesProfesionalDAOImpl;
-import com.contactoprofesionales.dao.redes.RedesSocialesProfesionalDAO;
-import com.contactoprofesionales.dao.redes.RedesSocialesProfesionalDAOImpl;
 import com.contactoprofesionales.dto.PerfilProfesionalCompletoDTO;
+import com.contactoprofesionales.service.profesional.CachePerfilProfesional;
+import com.contactoprofesionales.service.profesional.PerfilProfesionalService;
 import com.contactoprofesionales.util.JsonResponse;
 import com.contactoprofesionales.util.DatabaseConnection;
 import com.contactoprofesionales.util.GsonUtil;
+import com.contactoprofesionales.util.JsonResponseWriter;
 import com.google.gson.Gson;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -22,10 +17,7 @@ import jakarta.servlet.http.HttpServlet;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.math.BigDecimal;
 import java.sql.*;
-import java.util.ArrayList;
-import java.util.Arrays;
 
 /**
  * Servlet para gestión del perfil profesional completo.
@@ -63,11 +55,11 @@ public class PerfilProfesionalServlet extends HttpServlet {
 
     private final Gson gson;
 
-    // ✅ DAOs para datos complejos
-    private CertificacionesProfesionalDAO certificacionesDAO;
-    private ProyectosPortafolioDAO proyectosDAO;
-    private AntecedentesProfesionalDAO antecedentesDAO;
-    private RedesSocialesProfesionalDAO redesDAO;
+    // ✅ Perfil completo: secciones cargadas en paralelo (certificaciones, proyectos, antecedentes, redes)
+    private PerfilProfesionalService perfilService;
+
+    // ✅ Perfil ya serializado por profesional; se invalida en cada escritura del perfil
+    private final CachePerfilProfesional cachePerfil = CachePerfilProfesional.getInstancia();
 
     public PerfilProfesionalServlet() {
         // ✅ Usar GsonUtil que incluye adaptadores para LocalDateTime
@@ -80,10 +72,7 @@ public class PerfilProfesionalServlet extends HttpServlet {
         logger.info("=== Inicializando PerfilProfesionalServlet ===");
 
         try {
-            this.certificacionesDAO = new CertificacionesProfesionalDAOImpl();
-            this.proyectosDAO = new ProyectosPortafolioDAOImpl();
-            this.antecedentesDAO = new AntecedentesProfesionalDAOImpl();
-            this.redesDAO = new RedesSocialesProfesionalDAOImpl();
+            this.perfilService = new PerfilProfesionalService();
             logger.info("✓ PerfilProfesionalServlet inicializado correctamente");
         } catch (Exception e) {
             logger.error("✗ Error al inicializar PerfilProfesionalServlet", e);
@@ -137,7 +126,7 @@ public class PerfilProfesionalServlet extends HttpServlet {
             if (profesionalIdParam == null || profesionalIdParam.trim().isEmpty()) {
                 logger.warn("✗ No se proporcionó profesionalId en la petición");
                 response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-                response.getWriter().write(gson.toJson(JsonResponse.error("Parámetro profesionalId requerido")));
+                JsonResponseWriter.escribir(response, JsonResponse.error("Parámetro profesionalId requerido"));
                 return;
             }
 
@@ -148,237 +137,35 @@ public class PerfilProfesionalServlet extends HttpServlet {
             } catch (NumberFormatException e) {
                 logger.warn("✗ profesionalId inválido: {}", profesionalIdParam);
                 response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-                response.getWriter().write(gson.toJson(JsonResponse.error("profesionalId debe ser un número válido")));
+                JsonResponseWriter.escribir(response, JsonResponse.error("profesionalId debe ser un número válido"));
                 return;
             }
 
             if (profesionalId == null) {
                 logger.warn("✗ profesionalId es null");
                 response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-                response.getWriter().write(gson.toJson(JsonResponse.error("profesionalId requerido")));
+                JsonResponseWriter.escribir(response, JsonResponse.error("profesionalId requerido"));
                 return;
             }
 
-            // ✅ Construir perfil completo consolidando todos los datos
-            PerfilProfesionalCompletoDTO perfil = construirPerfilCompleto(profesionalId);
+            // ✅ Perfil completo desde caché (o consolidando todos los datos si no está vigente)
+            final Integer id = profesionalId;
+            CachePerfilProfesional.Entrada entrada = cachePerfil.obtener(
+                    CachePerfilProfesional.VISTA_PERFIL_COMPLETO, profesionalId,
+                    () -> JsonResponse.success("Perfil obtenido exitosamente",
+                                               perfilService.obtenerPerfilCompleto(id)),
+                    gson::toJson);
+
+            escribirRespuestaCacheada(request, response, entrada);
 
             long duration = System.currentTimeMillis() - startTime;
             logger.info("✓ Perfil completo obtenido exitosamente - Tiempo: {}ms", duration);
 
-            response.setStatus(HttpServletResponse.SC_OK);
-            response.getWriter().write(gson.toJson(JsonResponse.success("Perfil obtenido exitosamente", perfil)));
-
         } catch (Exception e) {
             handleError(response, e, startTime);
         }
     }
 
-    /**
-     * Construye el perfil completo del profesional consolidando todos los datos.
-     *
-     * Consulta múltiples fuentes:
-     * - Tabla profesionales (datos básicos)
-     * - Tabla usuarios y personas (nombre, email, teléfono)
-     * - Certificaciones (vía DAO)
-     * - Proyectos con imágenes (vía DAO)
-     * - Antecedentes (vía DAO)
-     * - Redes sociales (vía DAO)
-     * - Especialidades (vía query directa)
-     * - Función calcular_puntuacion_profesional() (puntuación calculada)
-     *
-     * @param profesionalId ID del profesional
-     * @return PerfilProfesionalCompletoDTO con todos los datos consolidados
-     * @throws Exception si hay error en alguna consulta
-     */
-    private PerfilProfesionalCompletoDTO construirPerfilCompleto(Integer profesionalId) throws Exception {
-        logger.debug("Construyendo perfil completo para profesional {}", profesionalId);
-
-        PerfilProfesionalCompletoDTO perfil = new PerfilProfesionalCompletoDTO();
-
-        // ✅ 1. Obtener datos básicos del profesional (con JOIN a usuarios)
-        String sql = "SELECT " +
-                    "p.id, p.usuario_id, p.descripcion, p.experiencia, p.habilidades, " +
-                    "p.foto_perfil, p.foto_portada, p.tarifa_hora, " +
-                    "p.calificacion_promedio, p.total_resenas, " +
-                    "p.verificado, p.disponible, p.fecha_registro, p.ultima_actualizacion, " +
-                    "p.anios_experiencia, p.documento_identidad, p.verificacion_identidad, " +
-                    "p.certificado_antecedentes, " +
-                    // ✅ NUEVOS CAMPOS
-                    "p.biografia_profesional, p.idiomas, p.licencias_profesionales, " +
-                    "p.seguro_responsabilidad, p.metodos_pago, p.politica_cancelacion, " +
-                    // ✅ Datos de usuarios (nombre completo, email, teléfono)
-                    "u.nombre_completo, u.telefono " +
-                    "FROM profesionales p " +
-                    "INNER JOIN usuarios u ON p.usuario_id = u.id " +
-                    "WHERE p.id = ? AND p.activo = TRUE";
-
-        try (Connection conn = DatabaseConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-
-            stmt.setInt(1, profesionalId);
-
-            try (ResultSet rs = stmt.executeQuery()) {
-                if (rs.next()) {
-                    // ✅ Mapear datos básicos
-                    perfil.setId(rs.getInt("id"));
-                    perfil.setUsuarioId(rs.getInt("usuario_id"));
-
-                    // ✅ Datos personales (de tabla users)
-                    perfil.setNombreCompleto(rs.getString("nombre_completo"));
-                    
-                    perfil.setTelefono(rs.getString("telefono"));
-                    perfil.setDocumentoIdentidad(rs.getString("documento_identidad"));
-
-                    // ✅ Información profesional
-                    perfil.setBiografiaProfesional(rs.getString("biografia_profesional"));
-                    perfil.setDescripcion(rs.getString("descripcion"));
-                    perfil.setExperiencia(rs.getString("experiencia"));
-                    perfil.setAniosExperiencia(rs.getInt("anios_experiencia"));
-
-                    // ✅ Habilidades (convertir de texto separado por comas a lista)
-                    String habilidadesStr = rs.getString("habilidades");
-                    if (habilidadesStr != null && !habilidadesStr.trim().isEmpty()) {
-                        perfil.setHabilidades(Arrays.asList(habilidadesStr.split(",")));
-                    }
-
-                    // ✅ Información adicional (arrays de PostgreSQL)
-                    Array idiomasArray = rs.getArray("idiomas");
-                    if (idiomasArray != null) {
-                        perfil.setIdiomas((String[]) idiomasArray.getArray());
-                    }
-
-                    Array metodosPagoArray = rs.getArray("metodos_pago");
-                    if (metodosPagoArray != null) {
-                        perfil.setMetodosPago((String[]) metodosPagoArray.getArray());
-                    }
-
-                    perfil.setLicenciasProfesionales(rs.getString("licencias_profesionales"));
-                    perfil.setSeguroResponsabilidad(rs.getBoolean("seguro_responsabilidad"));
-                    perfil.setPoliticaCancelacion(rs.getString("politica_cancelacion"));
-
-                    // ✅ Fotos
-                    perfil.setFotoPerfil(rs.getString("foto_perfil"));
-                    perfil.setFotoPortada(rs.getString("foto_portada"));
-
-                    // ✅ Tarifas y calificaciones
-                    perfil.setTarifaHora(rs.getBigDecimal("tarifa_hora"));
-                    perfil.setCalificacionPromedio(rs.getDouble("calificacion_promedio"));
-                    perfil.setTotalResenas(rs.getInt("total_resenas"));
-
-                    // ✅ Estado
-                    perfil.setVerificado(rs.getBoolean("verificado"));
-                    perfil.setVerificacionIdentidad(rs.getBoolean("verificacion_identidad"));
-                    perfil.setCertificadoAntecedentes(rs.getBoolean("certificado_antecedentes"));
-                    perfil.setDisponible(rs.getBoolean("disponible"));
-
-                    Timestamp fechaRegistro = rs.getTimestamp("fecha_registro");
-                    if (fechaRegistro != null) {
-                        perfil.setFechaRegistro(fechaRegistro.toLocalDateTime());
-                    }
-
-                    Timestamp ultimaActualizacion = rs.getTimestamp("ultima_actualizacion");
-                    if (ultimaActualizacion != null) {
-                        perfil.setUltimaActualizacion(ultimaActualizacion.toLocalDateTime());
-                    }
-
-                } else {
-                    throw new Exception("Profesional no encontrado");
-                }
-            }
-        }
-
-        // ✅ 2. Obtener certificaciones
-        try {
-            perfil.setCertificaciones(certificacionesDAO.listarPorProfesional(profesionalId));
-            logger.debug("Certificaciones cargadas: {}", perfil.getCertificaciones().size());
-        } catch (Exception e) {
-            logger.warn("Error al cargar certificaciones", e);
-            perfil.setCertificaciones(new ArrayList<>());
-        }
-
-        // ✅ 3. Obtener proyectos (incluye imágenes)
-        try {
-            perfil.setProyectos(proyectosDAO.listarPorProfesional(profesionalId));
-            logger.debug("Proyectos cargados: {}", perfil.getProyectos().size());
-        } catch (Exception e) {
-            logger.warn("Error al cargar proyectos", e);
-            perfil.setProyectos(new ArrayList<>());
-        }
-
-        // ✅ 4. Obtener antecedentes
-        try {
-            perfil.setAntecedentes(antecedentesDAO.listarPorProfesional(profesionalId));
-            perfil.setAntecedentesVerificados(antecedentesDAO.contarVerificados(profesionalId));
-            logger.debug("Antecedentes cargados: {} ({} verificados)",
-                    perfil.getAntecedentes().size(), perfil.getAntecedentesVerificados());
-        } catch (Exception e) {
-            logger.warn("Error al cargar antecedentes", e);
-            perfil.setAntecedentes(new ArrayList<>());
-            perfil.setAntecedentesVerificados(0);
-        }
-
-        // ✅ 5. Obtener redes sociales
-        try {
-            perfil.setRedesSociales(redesDAO.listarPorProfesional(profesionalId));
-            logger.debug("Redes sociales cargadas: {}", perfil.getRedesSociales().size());
-        } catch (Exception e) {
-            logger.warn("Error al cargar redes sociales", e);
-            perfil.setRedesSociales(new ArrayList<>());
-        }
-
-        // ✅ 6. Calcular puntuación de la plataforma (función SQL)
-        try {
-            perfil.setPuntuacionPlataforma(calcularPuntuacionPlataforma(profesionalId));
-            logger.debug("Puntuación plataforma calculada: {}", perfil.getPuntuacionPlataforma());
-        } catch (Exception e) {
-            logger.warn("Error al calcular puntuación de la plataforma", e);
-            perfil.setPuntuacionPlataforma(BigDecimal.ZERO);
-        }
-
-        // ✅ TODO: Cargar especialidades, áreas de cobertura y disponibilidad
-        // (Requieren DAOs adicionales o queries directas)
-
-        logger.info("✓ Perfil completo construido exitosamente para profesional {}", profesionalId);
-        return perfil;
-    }
-
-    /**
-     * Calcula la puntuación de la plataforma usando la función SQL.
-     *
-     * La función calcular_puntuacion_profesional() toma en cuenta:
-     * - Calificación promedio de proyectos (40%)
-     * - Certificaciones (20%)
-     * - Antecedentes verificados (20%)
-     * - Años de experiencia (10%)
-     * - Biografía completa (10%)
-     *
-     * @param profesionalId ID del profesional
-     * @return Puntuación calculada (0-10)
-     * @throws Exception si hay error en la consulta
-     */
-    private BigDecimal calcularPuntuacionPlataforma(Integer profesionalId) throws Exception {
-        String sql = "SELECT calcular_puntuacion_profesional(?)";
-
-        try (Connection conn = DatabaseConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-
-            stmt.setInt(1, profesionalId);
-
-            try (ResultSet rs = stmt.executeQuery()) {
-                if (rs.next()) {
-                    BigDecimal puntuacion = rs.getBigDecimal(1);
-                    return puntuacion != null ? puntuacion : BigDecimal.ZERO;
-                }
-            }
-
-            return BigDecimal.ZERO;
-
-        } catch (SQLException e) {
-            logger.error("Error al calcular puntuación de la plataforma", e);
-            throw new Exception("Error al calcular puntuación", e);
-        }
-    }
-
     /**
      * PUT: Actualiza los datos básicos del perfil profesional.
      *
@@ -419,7 +206,7 @@ public class PerfilProfesionalServlet extends HttpServlet {
             if (profesionalIdParam == null || profesionalIdParam.trim().isEmpty()) {
                 logger.warn("✗ No se proporcionó profesionalId en la petición PUT");
                 response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-                response.getWriter().write(gson.toJson(JsonResponse.error("Parámetro profesionalId requerido")));
+                JsonResponseWriter.escribir(response, JsonResponse.error("Parámetro profesionalId requerido"));
                 return;
             }
 
@@ -430,13 +217,13 @@ public class PerfilProfesionalServlet extends HttpServlet {
             } catch (NumberFormatException e) {
                 logger.warn("✗ profesionalId inválido en PUT: {}", profesionalIdParam);
                 response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-                response.getWriter().write(gson.toJson(JsonResponse.error("profesionalId debe ser un número válido")));
+                JsonResponseWriter.escribir(response, JsonResponse.error("profesionalId debe ser un número válido"));
                 return;
             }
 
             if (profesionalId == null) {
                 response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-                response.getWriter().write(gson.toJson(JsonResponse.error("profesionalId requerido")));
+                JsonResponseWriter.escribir(response, JsonResponse.error("profesionalId requerido"));
                 return;
             }
 
@@ -446,13 +233,14 @@ public class PerfilProfesionalServlet extends HttpServlet {
 
             // ✅ Actualizar datos básicos en la tabla profesionales
             actualizarDatosBasicos(profesionalId, datosActualizados);
+            cachePerfil.invalidar(profesionalId);
 
             long duration = System.currentTimeMillis() - startTime;
             logger.info("✓ Perfil básico actualizado exitosamente - Tiempo: {}ms", duration);
 
             response.setStatus(HttpServletResponse.SC_OK);
-            response.getWriter().write(gson.toJson(JsonResponse.success(
-                    "Perfil actualizado exitosamente", datosActualizados)));
+            JsonResponseWriter.escribir(response, JsonResponse.success(
+                    "Perfil actualizado exitosamente", datosActualizados));
 
         } catch (Exception e) {
             handleError(response, e, startTime);
@@ -530,6 +318,26 @@ public class PerfilProfesionalServlet extends HttpServlet {
         }
     }
 
+    /**
+     * Escribe el JSON cacheado con su ETag, o 304 si el cliente ya tiene esa versión
+     * (If-None-Match). El perfil es privado del profesional: el navegador debe
+     * revalidar siempre (no-cache) y los proxies no deben guardarlo.
+     */
+    private void escribirRespuestaCacheada(HttpServletRequest request, HttpServletResponse response,
+                                           CachePerfilProfesional.Entrada entrada) throws IOException {
+        response.setHeader("ETag", entrada.getEtag());
+        response.setHeader("Cache-Control", "private, no-cache");
+
+        if (CachePerfilProfesional.coincideEtag(request.getHeader("If-None-Match"), entrada.getEtag())) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentLength(entrada.getJson().length);
+        response.getOutputStream().write(entrada.getJson());
+    }
+
     /**
      * Obtiene el ID del profesional desde la sesión del usuario autenticado.
      * ✅ CORREGIDO 2025-12-04: Obtiene el profesionalId desde HttpSession
@@ -566,7 +374,7 @@ public class PerfilProfesionalServlet extends HttpServlet {
         logger.error("✗ Error procesando solicitud - Tiempo: {}ms", duration, e);
 
         response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
-        response.getWriter().write(gson.toJson(JsonResponse.error("Error interno del servidor: " + e.getMessage())));
+        JsonResponseWriter.escribir(response, JsonResponse.error("Error interno del servidor: " + e.getMessage()));
     }
 
     /**
@@ -5,6 +5,8 @@ import com.contactoprofesionales.dao.portafolio.ProyectosPortafolioDAOImpl;
 import com.contactoprofesionales.model.ProyectoPortafolio;
 import com.contactoprofesionales.util.JsonResponse;
 import com.contactoprofesionales.util.GsonUtil;
+import com.contactoprofesionales.util.JsonResponseWriter;
+import com.contactoprofesionales.service.profesional.CachePerfilProfesional;
 import com.google.gson.Gson;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -46,6 +48,7 @@ public class ProyectosPortafolioServlet extends HttpServlet {
 
     private final Gson gson;
     private ProyectosPortafolioDAO proyectosDAO;
+    private final CachePerfilProfesional cachePerfil = CachePerfilProfesional.getInstancia();
 
     public ProyectosPortafolioServlet() {
         // ✅ Usar GsonUtil que incluye adaptadores para LocalDateTime y LocalDate
@@ -117,7 +120,7 @@ public class ProyectosPortafolioServlet extends HttpServlet {
             if (profesionalId == null) {
                 logger.warn("✗ No se pudo obtener el profesional del token");
                 response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-                response.getWriter().write(gson.toJson(JsonResponse.error("No autenticado")));
+                JsonResponseWriter.escribir(response, JsonResponse.error("No autenticado"));
                 return;
             }
 
@@ -135,7 +138,7 @@ public class ProyectosPortafolioServlet extends HttpServlet {
         } catch (NumberFormatException e) {
             logger.warn("✗ ID de proyecto inválido", e);
             response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-            response.getWriter().write(gson.toJson(JsonResponse.error("ID inválido")));
+            JsonResponseWriter.escribir(response, JsonResponse.error("ID inválido"));
 
         } catch (Exception e) {
             handleError(response, e, startTime);
@@ -162,7 +165,7 @@ public class ProyectosPortafolioServlet extends HttpServlet {
                 proyectos.size(), duration);
 
         response.setStatus(HttpServletResponse.SC_OK);
-        response.getWriter().write(gson.toJson(JsonResponse.success("Proyectos obtenidos", proyectos)));
+        JsonResponseWriter.escribir(response, JsonResponse.success("Proyectos obtenidos", proyectos));
     }
 
     /**
@@ -184,11 +187,11 @@ public class ProyectosPortafolioServlet extends HttpServlet {
             logger.info("✓ Proyecto encontrado - Tiempo: {}ms", duration);
 
             response.setStatus(HttpServletResponse.SC_OK);
-            response.getWriter().write(gson.toJson(JsonResponse.success("Proyecto encontrado", proyectoOpt.get())));
+            JsonResponseWriter.escribir(response, JsonResponse.success("Proyecto encontrado", proyectoOpt.get()));
         } else {
             logger.warn("✗ Proyecto con ID {} no encontrado", proyectoId);
             response.setStatus(HttpServletResponse.SC_NOT_FOUND);
-            response.getWriter().write(gson.toJson(JsonResponse.error("Proyecto no encontrado")));
+            JsonResponseWriter.escribir(response, JsonResponse.error("Proyecto no encontrado"));
         }
     }
 
@@ -224,7 +227,7 @@ public class ProyectosPortafolioServlet extends HttpServlet {
             if (profesionalId == null) {
                 logger.warn("✗ No autenticado");
                 response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-                response.getWriter().write(gson.toJson(JsonResponse.error("No autenticado")));
+                JsonResponseWriter.escribir(response, JsonResponse.error("No autenticado"));
                 return;
             }
 
@@ -236,40 +239,41 @@ public class ProyectosPortafolioServlet extends HttpServlet {
             if (proyecto.getNombreProyecto() == null || proyecto.getNombreProyecto().trim().isEmpty()) {
                 logger.warn("✗ Nombre del proyecto es requerido");
                 response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-                response.getWriter().write(gson.toJson(JsonResponse.error("El nombre del proyecto es requerido")));
+                JsonResponseWriter.escribir(response, JsonResponse.error("El nombre del proyecto es requerido"));
                 return;
             }
 
             if (proyecto.getFechaRealizacion() == null) {
                 logger.warn("✗ Fecha de realización es requerida");
                 response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-                response.getWriter().write(gson.toJson(JsonResponse.error("La fecha de realización es requerida")));
+                JsonResponseWriter.escribir(response, JsonResponse.error("La fecha de realización es requerida"));
                 return;
             }
 
             if (proyecto.getDescripcion() == null || proyecto.getDescripcion().trim().isEmpty()) {
                 logger.warn("✗ Descripción del proyecto es requerida");
                 response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-                response.getWriter().write(gson.toJson(JsonResponse.error("La descripción del proyecto es requerida")));
+                JsonResponseWriter.escribir(response, JsonResponse.error("La descripción del proyecto es requerida"));
                 return;
             }
 
             // ✅ Guardar proyecto (el DAO valida el límite de 20 proyectos)
             Integer id = proyectosDAO.guardar(proyecto);
+            cachePerfil.invalidar(profesionalId);
             proyecto.setId(id);
 
             long duration = System.currentTimeMillis() - startTime;
             logger.info("✓ Proyecto creado exitosamente con ID {} - Tiempo: {}ms", id, duration);
 
             response.setStatus(HttpServletResponse.SC_CREATED);
-            response.getWriter().write(gson.toJson(JsonResponse.success("Proyecto creado exitosamente", proyecto)));
+            JsonResponseWriter.escribir(response, JsonResponse.success("Proyecto creado exitosamente", proyecto));
 
         } catch (Exception e) {
             // ✅ Si el error es por límite de proyectos, retornar 400 en lugar de 500
             if (e.getMessage() != null && e.getMessage().contains("máximo de 20 proyectos")) {
                 logger.warn("✗ Límite de proyectos alcanzado: {}", e.getMessage());
                 response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-                response.getWriter().write(gson.toJson(JsonResponse.error(e.getMessage())));
+                JsonResponseWriter.escribir(response, JsonResponse.error(e.getMessage()));
             } else {
                 handleError(response, e, startTime);
             }
@@ -310,7 +314,7 @@ public class ProyectosPortafolioServlet extends HttpServlet {
 
             if (profesionalId == null) {
                 response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-                response.getWriter().write(gson.toJson(JsonResponse.error("No autenticado")));
+                JsonResponseWriter.escribir(response, JsonResponse.error("No autenticado"));
                 return;
             }
 
@@ -322,7 +326,7 @@ public class ProyectosPortafolioServlet extends HttpServlet {
             if (proyecto.getId() == null) {
                 logger.warn("✗ ID de proyecto es requerido para actualizar");
                 response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-                response.getWriter().write(gson.toJson(JsonResponse.error("ID es requerido para actualizar")));
+                JsonResponseWriter.escribir(response, JsonResponse.error("ID es requerido para actualizar"));
                 return;
             }
 
@@ -335,17 +339,18 @@ public class ProyectosPortafolioServlet extends HttpServlet {
 
             // ✅ Actualizar proyecto (el DAO NO actualiza calificación ni comentario)
             boolean actualizado = proyectosDAO.actualizar(proyecto);
+            cachePerfil.invalidar(profesionalId);
 
             if (actualizado) {
                 long duration = System.currentTimeMillis() - startTime;
                 logger.info("✓ Proyecto actualizado exitosamente - Tiempo: {}ms", duration);
 
                 response.setStatus(HttpServletResponse.SC_OK);
-                response.getWriter().write(gson.toJson(JsonResponse.success("Proyecto actualizado exitosamente", proyecto)));
+                JsonResponseWriter.escribir(response, JsonResponse.success("Proyecto actualizado exitosamente", proyecto));
             } else {
                 logger.warn("✗ Proyecto no encontrado o no pertenece al profesional");
                 response.setStatus(HttpServletResponse.SC_NOT_FOUND);
-                response.getWriter().write(gson.toJson(JsonResponse.error("Proyecto no encontrado")));
+                JsonResponseWriter.escribir(response, JsonResponse.error("Proyecto no encontrado"));
             }
 
         } catch (Exception e) {
@@ -376,7 +381,7 @@ public class ProyectosPortafolioServlet extends HttpServlet {
 
             if (profesionalId == null) {
                 response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-                response.getWriter().write(gson.toJson(JsonResponse.error("No autenticado")));
+                JsonResponseWriter.escribir(response, JsonResponse.error("No autenticado"));
                 return;
             }
 
@@ -385,7 +390,7 @@ public class ProyectosPortafolioServlet extends HttpServlet {
             if (idParam == null || idParam.trim().isEmpty()) {
                 logger.warn("✗ ID de proyecto es requerido");
                 response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-                response.getWriter().write(gson.toJson(JsonResponse.error("ID es requerido")));
+                JsonResponseWriter.escribir(response, JsonResponse.error("ID es requerido"));
                 return;
             }
 
@@ -393,23 +398,24 @@ public class ProyectosPortafolioServlet extends HttpServlet {
 
             // ✅ Eliminar proyecto (soft delete)
             boolean eliminado = proyectosDAO.eliminar(id);
+            cachePerfil.invalidar(profesionalId);
 
             if (eliminado) {
                 long duration = System.currentTimeMillis() - startTime;
                 logger.info("✓ Proyecto eliminado exitosamente - Tiempo: {}ms", duration);
 
                 response.setStatus(HttpServletResponse.SC_OK);
-                response.getWriter().write(gson.toJson(JsonResponse.success("Proyecto eliminado exitosamente")));
+                JsonResponseWriter.escribir(response, JsonResponse.success("Proyecto eliminado exitosamente"));
             } else {
                 logger.warn("✗ Proyecto no encontrado");
                 response.setStatus(HttpServletResponse.SC_NOT_FOUND);
-                response.getWriter().write(gson.toJson(JsonResponse.error("Proyecto no encontrado")));
+                JsonResponseWriter.escribir(response, JsonResponse.error("Proyecto no encontrado"));
             }
 
         } catch (NumberFormatException e) {
             logger.warn("✗ ID de proyecto inválido", e);
             response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-            response.getWriter().write(gson.toJson(JsonResponse.error("ID inválido")));
+            JsonResponseWriter.escribir(response, JsonResponse.error("ID inválido"));
 
         } catch (Exception e) {
             handleError(response, e, startTime);
@@ -458,7 +464,7 @@ public class ProyectosPortafolioServlet extends HttpServlet {
         logger.error("✗ Error procesando solicitud - Tiempo: {}ms", duration, e);
 
         response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
-        response.getWriter().write(gson.toJson(JsonResponse.error("Error interno del servidor: " + e.getMessage())));
+        JsonResponseWriter.escribir(response, JsonResponse.error("Error interno del servidor: " + e.getMessage()));
     }
 
     @Override
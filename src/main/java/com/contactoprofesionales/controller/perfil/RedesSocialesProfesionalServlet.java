@@ -5,6 +5,8 @@ import com.contactoprofesionales.dao.redes.RedesSocialesProfesionalDAOImpl;
 import com.contactoprofesionales.model.RedSocialProfesional;
 import com.contactoprofesionales.util.JsonResponse;
 import com.contactoprofesionales.util.GsonUtil;
+import com.contactoprofesionales.util.JsonResponseWriter;
+import com.contactoprofesionales.service.profesional.CachePerfilProfesional;
 import com.google.gson.Gson;
 import com.google.gson.reflect.TypeToken;
 import org.slf4j.Logger;
@@ -48,6 +50,7 @@ public class RedesSocialesProfesionalServlet extends HttpServlet {
 
     private final Gson gson;
     private RedesSocialesProfesionalDAO redesDAO;
+    private final CachePerfilProfesional cachePerfil = CachePerfilProfesional.getInstancia();
 
     public RedesSocialesProfesionalServlet() {
         // ✅ Usar GsonUtil que incluye adaptadores para LocalDateTime y LocalDate
@@ -112,7 +115,7 @@ public class RedesSocialesProfesionalServlet extends HttpServlet {
             if (profesionalId == null) {
                 logger.warn("✗ No se pudo obtener el profesional del token");
                 response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-                response.getWriter().write(gson.toJson(JsonResponse.error("No autenticado")));
+                JsonResponseWriter.escribir(response, JsonResponse.error("No autenticado"));
                 return;
             }
 
@@ -124,7 +127,7 @@ public class RedesSocialesProfesionalServlet extends HttpServlet {
                     redes.size(), duration);
 
             response.setStatus(HttpServletResponse.SC_OK);
-            response.getWriter().write(gson.toJson(JsonResponse.success("Redes sociales obtenidas", redes)));
+            JsonResponseWriter.escribir(response, JsonResponse.success("Redes sociales obtenidas", redes));
 
         } catch (Exception e) {
             handleError(response, e, startTime);
@@ -161,7 +164,7 @@ public class RedesSocialesProfesionalServlet extends HttpServlet {
             if (profesionalId == null) {
                 logger.warn("✗ No autenticado");
                 response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-                response.getWriter().write(gson.toJson(JsonResponse.error("No autenticado")));
+                JsonResponseWriter.escribir(response, JsonResponse.error("No autenticado"));
                 return;
             }
 
@@ -173,14 +176,14 @@ public class RedesSocialesProfesionalServlet extends HttpServlet {
             if (red.getTipoRed() == null || red.getTipoRed().trim().isEmpty()) {
                 logger.warn("✗ Tipo de red social es requerido");
                 response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-                response.getWriter().write(gson.toJson(JsonResponse.error("El tipo de red social es requerido")));
+                JsonResponseWriter.escribir(response, JsonResponse.error("El tipo de red social es requerido"));
                 return;
             }
 
             if (red.getUrl() == null || red.getUrl().trim().isEmpty()) {
                 logger.warn("✗ URL de la red social es requerida");
                 response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-                response.getWriter().write(gson.toJson(JsonResponse.error("La URL de la red social es requerida")));
+                JsonResponseWriter.escribir(response, JsonResponse.error("La URL de la red social es requerida"));
                 return;
             }
 
@@ -189,6 +192,7 @@ public class RedesSocialesProfesionalServlet extends HttpServlet {
 
             // ✅ Guardar red social
             Integer id = redesDAO.guardar(red);
+            cachePerfil.invalidar(profesionalId);
             red.setId(id);
 
             long duration = System.currentTimeMillis() - startTime;
@@ -196,7 +200,7 @@ public class RedesSocialesProfesionalServlet extends HttpServlet {
                     red.getTipoRed(), id, duration);
 
             response.setStatus(HttpServletResponse.SC_CREATED);
-            response.getWriter().write(gson.toJson(JsonResponse.success("Red social creada exitosamente", red)));
+            JsonResponseWriter.escribir(response, JsonResponse.success("Red social creada exitosamente", red));
 
         } catch (Exception e) {
             handleError(response, e, startTime);
@@ -249,7 +253,7 @@ public class RedesSocialesProfesionalServlet extends HttpServlet {
 
             if (profesionalId == null) {
                 response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-                response.getWriter().write(gson.toJson(JsonResponse.error("No autenticado")));
+                JsonResponseWriter.escribir(response, JsonResponse.error("No autenticado"));
                 return;
             }
 
@@ -292,7 +296,7 @@ public class RedesSocialesProfesionalServlet extends HttpServlet {
         if (red.getId() == null) {
             logger.warn("✗ ID de red social es requerido para actualizar");
             response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-            response.getWriter().write(gson.toJson(JsonResponse.error("ID es requerido para actualizar")));
+            JsonResponseWriter.escribir(response, JsonResponse.error("ID es requerido para actualizar"));
             return;
         }
 
@@ -303,17 +307,18 @@ public class RedesSocialesProfesionalServlet extends HttpServlet {
 
         // ✅ Actualizar red social
         boolean actualizado = redesDAO.actualizar(red);
+        cachePerfil.invalidar(profesionalId);
 
         if (actualizado) {
             long duration = System.currentTimeMillis() - startTime;
             logger.info("✓ Red social actualizada exitosamente - Tiempo: {}ms", duration);
 
             response.setStatus(HttpServletResponse.SC_OK);
-            response.getWriter().write(gson.toJson(JsonResponse.success("Red social actualizada exitosamente", red)));
+            JsonResponseWriter.escribir(response, JsonResponse.success("Red social actualizada exitosamente", red));
         } else {
             logger.warn("✗ Red social no encontrada o no pertenece al profesional");
             response.setStatus(HttpServletResponse.SC_NOT_FOUND);
-            response.getWriter().write(gson.toJson(JsonResponse.error("Red social no encontrada")));
+            JsonResponseWriter.escribir(response, JsonResponse.error("Red social no encontrada"));
         }
     }
 
@@ -343,7 +348,7 @@ public class RedesSocialesProfesionalServlet extends HttpServlet {
         if (redes == null || redes.isEmpty()) {
             logger.warn("✗ La lista de redes sociales no puede estar vacía");
             response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-            response.getWriter().write(gson.toJson(JsonResponse.error("La lista de redes sociales no puede estar vacía")));
+            JsonResponseWriter.escribir(response, JsonResponse.error("La lista de redes sociales no puede estar vacía"));
             return;
         }
 
@@ -356,6 +361,7 @@ public class RedesSocialesProfesionalServlet extends HttpServlet {
 
         // ✅ Guardar múltiples redes en transacción
         boolean guardado = redesDAO.guardarMultiples(profesionalId, redes);
+        cachePerfil.invalidar(profesionalId);
 
         if (guardado) {
             long duration = System.currentTimeMillis() - startTime;
@@ -363,12 +369,12 @@ public class RedesSocialesProfesionalServlet extends HttpServlet {
                     redes.size(), duration);
 
             response.setStatus(HttpServletResponse.SC_OK);
-            response.getWriter().write(gson.toJson(JsonResponse.success(
-                    "Redes sociales actualizadas exitosamente", redes)));
+            JsonResponseWriter.escribir(response, JsonResponse.success(
+                    "Redes sociales actualizadas exitosamente", redes));
         } else {
             logger.error("✗ Error al guardar redes sociales");
             response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
-            response.getWriter().write(gson.toJson(JsonResponse.error("Error al actualizar redes sociales")));
+            JsonResponseWriter.escribir(response, JsonResponse.error("Error al actualizar redes sociales"));
         }
     }
 
@@ -395,7 +401,7 @@ public class RedesSocialesProfesionalServlet extends HttpServlet {
 
             if (profesionalId == null) {
                 response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-                response.getWriter().write(gson.toJson(JsonResponse.error("No autenticado")));
+                JsonResponseWriter.escribir(response, JsonResponse.error("No autenticado"));
                 return;
             }
 
@@ -404,7 +410,7 @@ public class RedesSocialesProfesionalServlet extends HttpServlet {
             if (idParam == null || idParam.trim().isEmpty()) {
                 logger.warn("✗ ID de red social es requerido");
                 response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-                response.getWriter().write(gson.toJson(JsonResponse.error("ID es requerido")));
+                JsonResponseWriter.escribir(response, JsonResponse.error("ID es requerido"));
                 return;
             }
 
@@ -412,23 +418,24 @@ public class RedesSocialesProfesionalServlet extends HttpServlet {
 
             // ✅ Eliminar red social (soft delete)
             boolean eliminado = redesDAO.eliminar(id);
+            cachePerfil.invalidar(profesionalId);
 
             if (eliminado) {
                 long duration = System.currentTimeMillis() - startTime;
                 logger.info("✓ Red social eliminada exitosamente - Tiempo: {}ms", duration);
 
                 response.setStatus(HttpServletResponse.SC_OK);
-                response.getWriter().write(gson.toJson(JsonResponse.success("Red social eliminada exitosamente")));
+                JsonResponseWriter.escribir(response, JsonResponse.success("Red social eliminada exitosamente"));
             } else {
                 logger.warn("✗ Red social no encontrada");
                 response.setStatus(HttpServletResponse.SC_NOT_FOUND);
-                response.getWriter().write(gson.toJson(JsonResponse.error("Red social no encontrada")));
+                JsonResponseWriter.escribir(response, JsonResponse.error("Red social no encontrada"));
             }
 
         } catch (NumberFormatException e) {
             logger.warn("✗ ID de red social inválido", e);
             response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-            response.getWriter().write(gson.toJson(JsonResponse.error("ID inválido")));
+            JsonResponseWriter.escribir(response, JsonResponse.error("ID inválido"));
 
         } catch (Exception e) {
             handleError(response, e, startTime);
@@ -477,7 +484,7 @@ public class RedesSocialesProfesionalServlet extends HttpServlet {
         logger.error("✗ Error procesando solicitud - Tiempo: {}ms", duration, e);
 
         response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
-        response.getWriter().write(gson.toJson(JsonResponse.error("Error interno del servidor: " + e.getMessage())));
+        JsonResponseWriter.escribir(response, JsonResponse.error("Error interno del servidor: " + e.getMessage()));
     }
 
     @Override
@@ -3,11 +3,13 @@ package com.contactoprofesionales.controller.profesional;
 import com.contactoprofesionales.dao.profesional.ProfesionalDAO;
 import com.contactoprofesionales.dao.profesional.ProfesionalDAOImpl;
 import com.contactoprofesionales.dto.BusquedaCriteriosDTO;
-import com.contactoprofesionales.dto.ProfesionalBusquedaDTO;
+import com.contactoprofesionales.dto.FacetaDTO;
+import com.contactoprofesionales.dto.ResultadoBusquedaDTO;
 import com.contactoprofesionales.exception.DatabaseException;
+import com.contactoprofesionales.exception.IndiceNoDisponibleException;
 import com.contactoprofesionales.service.profesional.BusquedaProfesionalesService;
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
+import com.contactoprofesionales.util.CursorPaginacion;
+import com.contactoprofesionales.util.JsonResponseWriter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -18,7 +20,6 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
 import java.io.IOException;
-import java.io.PrintWriter;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -27,7 +28,12 @@ import java.util.Map;
  * Servlet para gestionar la búsqueda de profesionales.
  * 
  * Endpoints:
- * - GET /api/buscar-profesionales : Busca profesionales con filtros
+ * - GET /api/buscar-profesionales : Busca profesionales con filtros (con facetas=true incluye
+ *   las facetas en la primera página).
+ *   Con el parámetro cursor (vacío para la primera página) pagina por posición y devuelve
+ *   siguienteCursor en lugar del total.
+ *   Con cercaDe={distritoId} (y radioKm opcional) devuelve los profesionales que atienden
+ *   ese distrito ordenados por distancia (distanciaKm en cada resultado).
  * - GET /api/especialidades : Obtiene lista de especialidades disponibles
  * - GET /api/distritos : Obtiene lista de distritos disponibles
  */
@@ -42,7 +48,6 @@ public class BusquedaProfesionalesServlet extends HttpServlet {
     private static final Logger logger = LoggerFactory.getLogger(BusquedaProfesionalesServlet.class);
     
     private BusquedaProfesionalesService busquedaService;
-    private Gson gson;
     
     @Override
     public void init() throws ServletException {
@@ -52,12 +57,6 @@ public class BusquedaProfesionalesServlet extends HttpServlet {
         ProfesionalDAO profesionalDAO = new ProfesionalDAOImpl();
         this.busquedaService = new BusquedaProfesionalesService(profesionalDAO);
         
-        // Configurar Gson
-        this.gson = new GsonBuilder()
-                .setDateFormat("yyyy-MM-dd'T'HH:mm:ss")
-                .setPrettyPrinting()
-                .create();
-        
         logger.info("✓ BusquedaProfesionalesServlet inicializado correctamente");
     }
     
@@ -116,40 +115,45 @@ public class BusquedaProfesionalesServlet extends HttpServlet {
             
             logger.info("Búsqueda solicitada con criterios: {}", criterios);
             
-            // Realizar búsqueda
-            List<ProfesionalBusquedaDTO> resultados = busquedaService.buscarProfesionales(criterios);
-            logger.info("Resultados obtenidos: {}", resultados.size());
-            
-            // Obtener total de resultados (sin paginación)
-            int totalResultados = busquedaService.contarResultados(criterios);
-            
-            // Calcular información de paginación
-            int totalPaginas = busquedaService.calcularTotalPaginas(
-                totalResultados, 
-                criterios.getElementosPorPagina()
-            );
+            // Realizar búsqueda (página y total en una sola ejecución)
+            ResultadoBusquedaDTO resultado = busquedaService.buscar(criterios);
+            logger.info("Resultados obtenidos: {}", resultado.getProfesionales().size());
             
             // Construir respuesta
             Map<String, Object> respuesta = new HashMap<>();
             respuesta.put("success", true);
-            respuesta.put("profesionales", resultados);
-            respuesta.put("total", totalResultados);
-            respuesta.put("pagina", criterios.getPagina());
-            respuesta.put("elementosPorPagina", criterios.getElementosPorPagina());
-            respuesta.put("totalPaginas", totalPaginas);
+            respuesta.put("profesionales", resultado.getProfesionales());
+            respuesta.put("elementosPorPagina", resultado.getElementosPorPagina());
+            if (criterios.isPaginacionCursor()) {
+                respuesta.put("siguienteCursor", resultado.getSiguienteCursor());
+            } else {
+                respuesta.put("pagina", resultado.getPagina());
+            }
+            if (resultado.isTotalCalculado()) {
+                respuesta.put("total", resultado.getTotal());
+                respuesta.put("totalPaginas", resultado.getTotalPaginas());
+            }
             respuesta.put("criterios", criterios.getDescripcion());
+            if (resultado.getFacetas() != null) {
+                respuesta.put("facetas", resultado.getFacetas());
+            }
             
             // Enviar respuesta JSON
             enviarRespuestaExitosa(response, respuesta);
             
             logger.info("✓ Búsqueda completada. Devolviendo {} resultados de {}", 
-                       resultados.size(), totalResultados);
+                       resultado.getProfesionales().size(), resultado.getTotal());
             
         } catch (IllegalArgumentException e) {
             logger.warn("Criterios de búsqueda inválidos: {}", e.getMessage());
             enviarError(response, HttpServletResponse.SC_BAD_REQUEST, 
                        "Criterios de búsqueda inválidos: " + e.getMessage());
             
+        } catch (IndiceNoDisponibleException e) {
+            // Índices en memoria aún en su primera construcción
+            logger.warn("⚠️ {}", e.getMessage());
+            enviarError(response, HttpServletResponse.SC_SERVICE_UNAVAILABLE, e.getMessage());
+            
         } catch (DatabaseException e) {
             logger.error("Error de base de datos al buscar profesionales: {}", e.getMessage(), e);
             enviarError(response, HttpServletResponse.SC_INTERNAL_SERVER_ERROR, 
@@ -167,11 +171,14 @@ public class BusquedaProfesionalesServlet extends HttpServlet {
      */
     private void obtenerEspecialidades(HttpServletResponse response) throws IOException {
         try {
+            // Ambas listas salen de la caché de facetas (sin consultar la BD en cada llamada)
             List<String> especialidades = busquedaService.obtenerEspecialidadesDisponibles();
+            List<FacetaDTO> facetas = busquedaService.obtenerFacetasEspecialidades();
             
             Map<String, Object> respuesta = new HashMap<>();
             respuesta.put("success", true);
             respuesta.put("especialidades", especialidades);
+            respuesta.put("facetas", facetas); // Cantidad de profesionales por especialidad
             respuesta.put("total", especialidades.size());
             
             enviarRespuestaExitosa(response, respuesta);
@@ -190,11 +197,14 @@ public class BusquedaProfesionalesServlet extends HttpServlet {
      */
     private void obtenerDistritos(HttpServletResponse response) throws IOException {
         try {
+            // Ambas listas salen de la caché de facetas (sin consultar la BD en cada llamada)
             List<String> distritos = busquedaService.obtenerDistritosDisponibles();
+            List<FacetaDTO> facetas = busquedaService.obtenerFacetasDistritos();
             
             Map<String, Object> respuesta = new HashMap<>();
             respuesta.put("success", true);
             respuesta.put("distritos", distritos);
+            respuesta.put("facetas", facetas); // Cantidad de profesionales por distrito
             respuesta.put("total", distritos.size());
             
             enviarRespuestaExitosa(response, respuesta);
@@ -269,6 +279,25 @@ public class BusquedaProfesionalesServlet extends HttpServlet {
             criterios.setDisponible(Boolean.parseBoolean(disponibleStr));
         }
         
+        // Cercanía: distrito del cliente y radio en km (inválidos -> 400, no se ignoran)
+        String cercaDeStr = request.getParameter("cercaDe");
+        if (cercaDeStr != null && !cercaDeStr.isEmpty()) {
+            try {
+                criterios.setDistritoCercaniaId(Integer.parseInt(cercaDeStr));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Distrito de cercanía inválido: " + cercaDeStr);
+            }
+            
+            String radioKmStr = request.getParameter("radioKm");
+            if (radioKmStr != null && !radioKmStr.isEmpty()) {
+                try {
+                    criterios.setRadioKm(Double.parseDouble(radioKmStr));
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("Radio inválido: " + radioKmStr);
+                }
+            }
+        }
+        
         // Ordenamiento
         String ordenarPor = request.getParameter("ordenarPor");
         if (ordenarPor != null && !ordenarPor.isEmpty()) {
@@ -280,6 +309,21 @@ public class BusquedaProfesionalesServlet extends HttpServlet {
             criterios.setOrdenDireccion(ordenDireccion);
         }
         
+        // Facetas (conteos por categoría, distrito, tarifa...): facetas=true para incluirlas.
+        // Son una segunda consulta agrupada, así que solo se calculan si la página las muestra
+        if ("true".equalsIgnoreCase(request.getParameter("facetas"))) {
+            criterios.setIncluirFacetas(true);
+        }
+        
+        // Paginación por cursor: presente (aunque vacío) activa el modo; inválido -> 400
+        String cursor = request.getParameter("cursor");
+        if (cursor != null) {
+            criterios.setPaginacionCursor(true);
+            if (!cursor.trim().isEmpty()) {
+                criterios.setCursor(CursorPaginacion.decodificar(cursor));
+            }
+        }
+        
         // Paginación
         String paginaStr = request.getParameter("pagina");
         if (paginaStr != null && !paginaStr.isEmpty()) {
@@ -310,9 +354,7 @@ public class BusquedaProfesionalesServlet extends HttpServlet {
     private void enviarRespuestaExitosa(HttpServletResponse response, Object data) 
             throws IOException {
         response.setStatus(HttpServletResponse.SC_OK);
-        PrintWriter out = response.getWriter();
-        out.print(gson.toJson(data));
-        out.flush();
+        JsonResponseWriter.escribir(response, data);
     }
     
     /**
@@ -327,9 +369,7 @@ public class BusquedaProfesionalesServlet extends HttpServlet {
         error.put("statusCode", statusCode);
         
         response.setStatus(statusCode);
-        PrintWriter out = response.getWriter();
-        out.print(gson.toJson(error));
-        out.flush();
+        JsonResponseWriter.escribir(response, error);
     }
     
     @Override
@@ -2,8 +2,9 @@ package com.contactoprofesionales.controller.profesional;
 
 import com.contactoprofesionales.exception.DatabaseException;
 import com.contactoprofesionales.util.DatabaseConnection;
+import com.contactoprofesionales.util.GsonUtil;
+import com.contactoprofesionales.util.JsonResponseWriter;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -14,7 +15,6 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
 import java.io.IOException;
-import java.io.PrintWriter;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -36,9 +36,7 @@ public class EspecialidadPorIdServlet extends HttpServlet {
     @Override
     public void init() throws ServletException {
         super.init();
-        this.gson = new GsonBuilder()
-                .setPrettyPrinting()
-                .create();
+        this.gson = GsonUtil.createGson();
         logger.info("✓ EspecialidadPorIdServlet inicializado correctamente");
     }
 
@@ -69,10 +67,7 @@ public class EspecialidadPorIdServlet extends HttpServlet {
             respuesta.put("success", true);
             respuesta.put("especialidad", especialidad);
 
-            try (PrintWriter out = response.getWriter()) {
-                out.print(gson.toJson(respuesta));
-                out.flush();
-            }
+            JsonResponseWriter.escribir(response, respuesta);
 
         } catch (NumberFormatException e) {
             logger.error("ID de especialidad inválido: {}", especialidadIdStr, e);
@@ -123,9 +118,6 @@ public class EspecialidadPorIdServlet extends HttpServlet {
         errorResponse.put("success", false);
         errorResponse.put("error", mensaje);
 
-        try (PrintWriter out = response.getWriter()) {
-            out.print(gson.toJson(errorResponse));
-            out.flush();
-        }
+        JsonResponseWriter.escribir(response, errorResponse);
     }
 }
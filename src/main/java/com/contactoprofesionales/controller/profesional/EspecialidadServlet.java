@@ -5,9 +5,9 @@ import com.contactoprofesionales.exception.DatabaseException;
 import com.contactoprofesionales.exception.ValidationException;
 import com.contactoprofesionales.service.profesional.EspecialidadService;
 import com.contactoprofesionales.service.profesional.EspecialidadServiceImpl;
-import com.contactoprofesionales.util.LocalDateTimeAdapter;
+import com.contactoprofesionales.util.GsonUtil;
+import com.contactoprofesionales.util.JsonResponseWriter;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonSyntaxException;
 import org.slf4j.Logger;
@@ -21,8 +21,6 @@ import jakarta.servlet.http.HttpServletResponse;
 
 import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.PrintWriter;
-import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -43,9 +41,7 @@ public class EspecialidadServlet extends HttpServlet {
     private static final Logger logger = LoggerFactory.getLogger(EspecialidadServlet.class);
     private static final long serialVersionUID = 1L;
 
-    private final Gson gson = new GsonBuilder()
-            .registerTypeAdapter(LocalDateTime.class, new LocalDateTimeAdapter())
-            .create();
+    private final Gson gson = GsonUtil.createGson();
 
     private EspecialidadService especialidadService;
 
@@ -387,13 +383,7 @@ public class EspecialidadServlet extends HttpServlet {
         responseBody.put("success", true);
         responseBody.put("data", data);
 
-        String jsonResponse = gson.toJson(responseBody);
-        logger.debug("Enviando respuesta exitosa: {}", jsonResponse);
-
-        try (PrintWriter out = response.getWriter()) {
-            out.print(jsonResponse);
-            out.flush();
-        }
+        JsonResponseWriter.escribir(response, responseBody);
     }
 
     /**
@@ -412,12 +402,6 @@ public class EspecialidadServlet extends HttpServlet {
 
         responseBody.put("error", error);
 
-        String jsonResponse = gson.toJson(responseBody);
-        logger.debug("Enviando respuesta de error: {}", jsonResponse);
-
-        try (PrintWriter out = response.getWriter()) {
-            out.print(jsonResponse);
-            out.flush();
-        }
+        JsonResponseWriter.escribir(response, responseBody);
     }
 }
\ No newline at end of file
@@ -4,7 +4,6 @@ import com.contactoprofesionales.dao.profesional.EspecialidadProfesionalDAO;
 import com.contactoprofesionales.dao.profesional.EspecialidadProfesionalDAOImpl;
 import com.contactoprofesionales.exception.DatabaseException;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -15,7 +14,6 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
 import java.io.IOException;
-import java.io.PrintWriter;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -25,6 +23,8 @@ import java.util.List;
 import java.util.Map;
 
 import com.contactoprofesionales.util.DatabaseConnection;
+import com.contactoprofesionales.util.GsonUtil;
+import com.contactoprofesionales.util.JsonResponseWriter;
 
 /**
  * Servlet para obtener especialidades filtradas por categoría
@@ -43,9 +43,7 @@ public class EspecialidadesPorCategoriaServlet extends HttpServlet {
     @Override
     public void init() throws ServletException {
         super.init();
-        this.gson = new GsonBuilder()
-                .setPrettyPrinting()
-                .create();
+        this.gson = GsonUtil.createGson();
         logger.info("✓ EspecialidadesPorCategoriaServlet inicializado correctamente");
     }
 
@@ -165,9 +163,7 @@ public class EspecialidadesPorCategoriaServlet extends HttpServlet {
     private void enviarRespuestaExitosa(HttpServletResponse response, Object data)
             throws IOException {
         response.setStatus(HttpServletResponse.SC_OK);
-        PrintWriter out = response.getWriter();
-        out.print(gson.toJson(data));
-        out.flush();
+        JsonResponseWriter.escribir(response, data);
     }
 
     private void enviarError(HttpServletResponse response, int statusCode, String mensaje)
@@ -178,8 +174,6 @@ public class EspecialidadesPorCategoriaServlet extends HttpServlet {
         error.put("statusCode", statusCode);
 
         response.setStatus(statusCode);
-        PrintWriter out = response.getWriter();
-        out.print(gson.toJson(error));
-        out.flush();
+        JsonResponseWriter.escribir(response, error);
     }
 }
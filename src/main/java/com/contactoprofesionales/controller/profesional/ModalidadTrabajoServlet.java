@@ -4,8 +4,9 @@ import com.contactoprofesionales.dao.profesional.EspecialidadProfesionalDAO;
 import com.contactoprofesionales.dao.profesional.EspecialidadProfesionalDAOImpl;
 import com.contactoprofesionales.dto.ModalidadTrabajoDTO;
 import com.contactoprofesionales.exception.DatabaseException;
+import com.contactoprofesionales.util.GsonUtil;
+import com.contactoprofesionales.util.JsonResponseWriter;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -16,7 +17,6 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
 import java.io.IOException;
-import java.io.PrintWriter;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -55,9 +55,7 @@ public class ModalidadTrabajoServlet extends HttpServlet {
     public void init() throws ServletException {
         super.init();
         this.especialidadDAO = new EspecialidadProfesionalDAOImpl();
-        this.gson = new GsonBuilder()
-                .setPrettyPrinting()
-                .create();
+        this.gson = GsonUtil.createGson();
         logger.info("✓ ModalidadTrabajoServlet inicializado correctamente");
     }
 
@@ -105,10 +103,7 @@ public class ModalidadTrabajoServlet extends HttpServlet {
             logger.info("Modalidad obtenida exitosamente para especialidad {}: Remoto={}, Presencial={}",
                        especialidadId, modalidad.getTrabajoRemoto(), modalidad.getTrabajoPresencial());
 
-            try (PrintWriter out = response.getWriter()) {
-                out.print(gson.toJson(respuesta));
-                out.flush();
-            }
+            JsonResponseWriter.escribir(response, respuesta);
 
         } catch (NumberFormatException e) {
             logger.error("ID de especialidad inválido: {}", especialidadIdStr, e);
@@ -136,9 +131,6 @@ public class ModalidadTrabajoServlet extends HttpServlet {
         errorResponse.put("success", false);
         errorResponse.put("error", mensaje);
 
-        try (PrintWriter out = response.getWriter()) {
-            out.print(gson.toJson(errorResponse));
-            out.flush();
-        }
+        JsonResponseWriter.escribir(response, errorResponse);
     }
 }
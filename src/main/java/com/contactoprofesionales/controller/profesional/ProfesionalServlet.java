@@ -4,9 +4,11 @@ import com.contactoprofesionales.dto.EspecialidadDTO;
 import com.contactoprofesionales.model.Profesional;
 import com.contactoprofesionales.service.profesional.EspecialidadService;
 import com.contactoprofesionales.service.profesional.EspecialidadServiceImpl;
+import com.contactoprofesionales.service.profesional.CachePerfilProfesional;
 import com.contactoprofesionales.service.profesional.ProfesionalService;
 import com.contactoprofesionales.util.JsonResponse;
 import com.contactoprofesionales.util.GsonUtil;
+import com.contactoprofesionales.util.JsonResponseWriter;
 import com.contactoprofesionales.exception.DatabaseException;
 import com.contactoprofesionales.exception.ProfesionalException;
 import com.contactoprofesionales.exception.ValidationException;
@@ -56,6 +58,7 @@ import java.util.Map;
  *
  * Endpoints DISPONIBLES (solo lectura):
  * - GET /api/profesionales                -> Listar profesionales (con filtros opcionales)
+ * - GET /api/profesionales?cursor=&limite=N -> Página por cursor (respuesta con siguienteCursor)
  * - GET /api/profesionales/{id}           -> Obtener profesional específico
  * - GET /api/profesionales?usuarioId={id} -> Obtener profesional por usuarioId
  *
@@ -71,12 +74,16 @@ public class ProfesionalServlet extends HttpServlet {
     
     private static final long serialVersionUID = 1L;
     private static final Logger logger = LoggerFactory.getLogger(ProfesionalServlet.class);
-    //private final Gson gson = new Gson();
+    //private final Gson gson = GsonUtil.createGson();
     private static final Gson gson = GsonUtil.createGson();
+    private static final int LIMITE_PAGINA_POR_DEFECTO = 20;
 
     private ProfesionalService profesionalService;
     private EspecialidadService especialidadService;
 
+    // ✅ Respuesta de /api/profesionales/{id} ya serializada, con ETag (304 sin tocar la BD)
+    private final CachePerfilProfesional cachePerfil = CachePerfilProfesional.getInstancia();
+
     @Override
     public void init() throws ServletException {
         super.init();
@@ -137,7 +144,7 @@ public class ProfesionalServlet extends HttpServlet {
                         JsonResponse jsonResponse = JsonResponse.success(especialidades);
 
                         response.setStatus(HttpServletResponse.SC_OK);
-                        response.getWriter().write(gson.toJson(jsonResponse));
+                        JsonResponseWriter.escribir(response, jsonResponse);
                     } catch (Exception e) {
                         logger.error("❌ Error al obtener especialidades para profesional {}: {}",
                             profesionalId, e.getMessage(), e);
@@ -157,7 +164,7 @@ public class ProfesionalServlet extends HttpServlet {
 
                 if (splits.length >= 2) {
                     Integer profesionalId = Integer.parseInt(splits[1]);
-                    obtenerProfesional(profesionalId, response);
+                    obtenerProfesional(profesionalId, request, response);
                 } else {
                     sendBadRequest(response, "ID de profesional inválido");
                 }
@@ -230,7 +237,7 @@ public class ProfesionalServlet extends HttpServlet {
             JsonResponse jsonResponse = JsonResponse.success(responseData);
             
             response.setStatus(HttpServletResponse.SC_OK);
-            response.getWriter().write(gson.toJson(jsonResponse));
+            JsonResponseWriter.escribir(response, jsonResponse);
             
             logger.info("✓ Profesional encontrado: ID {}", profesional.getId());
             
@@ -246,7 +253,7 @@ public class ProfesionalServlet extends HttpServlet {
             JsonResponse jsonResponse = JsonResponse.success(responseData);
             
             response.setStatus(HttpServletResponse.SC_OK); // ✅ 200 OK, no 404
-            response.getWriter().write(gson.toJson(jsonResponse));
+            JsonResponseWriter.escribir(response, jsonResponse);
         }
     }
     
@@ -269,6 +276,14 @@ public class ProfesionalServlet extends HttpServlet {
             }
         }
         
+        // Paginación por cursor: ?cursor=<token>&limite=N (cursor vacío = primera página)
+        String cursor = request.getParameter("cursor");
+        String limiteStr = request.getParameter("limite");
+        if (cursor != null || limiteStr != null) {
+            listarProfesionalesPorCursor(cursor, limiteStr, response);
+            return;
+        }
+        
         List<Profesional> profesionales;
         
         if (especialidad != null || distrito != null || calificacionMin != null) {
@@ -291,7 +306,36 @@ public class ProfesionalServlet extends HttpServlet {
         JsonResponse jsonResponse = JsonResponse.success(responseData);
         
         response.setStatus(HttpServletResponse.SC_OK);
-        response.getWriter().write(gson.toJson(jsonResponse));
+        JsonResponseWriter.escribir(response, jsonResponse);
+    }
+    
+    /**
+     * Lista una página de profesionales por posición (sin leer ni contar los anteriores).
+     * La respuesta incluye siguienteCursor mientras haya más páginas.
+     */
+    private void listarProfesionalesPorCursor(String cursor, String limiteStr, HttpServletResponse response)
+            throws Exception {
+        
+        int limite = LIMITE_PAGINA_POR_DEFECTO;
+        if (limiteStr != null && !limiteStr.isEmpty()) {
+            try {
+                limite = Integer.parseInt(limiteStr);
+            } catch (NumberFormatException e) {
+                throw new ValidationException("Límite inválido: " + limiteStr);
+            }
+        }
+        
+        List<Profesional> profesionales = profesionalService.listarProfesionales(cursor, limite);
+        
+        Map<String, Object> responseData = new HashMap<>();
+        responseData.put("profesionales", profesionales);
+        responseData.put("limite", limite);
+        responseData.put("siguienteCursor", profesionalService.siguienteCursor(profesionales, limite));
+        
+        JsonResponse jsonResponse = JsonResponse.success(responseData);
+        
+        response.setStatus(HttpServletResponse.SC_OK);
+        JsonResponseWriter.escribir(response, jsonResponse);
     }
     
     /**
@@ -306,103 +350,127 @@ public class ProfesionalServlet extends HttpServlet {
      * PARA GESTIÓN DE PERFIL usar:
      * - GET /api/profesional/perfil: Devuelve PerfilProfesionalCompletoDTO con todas las relaciones
      */
-    private void obtenerProfesional(Integer profesionalId, HttpServletResponse response)
-            throws Exception {
+    private void obtenerProfesional(Integer profesionalId, HttpServletRequest request,
+                                    HttpServletResponse response) throws Exception {
 
     	logger.info("🔍 Buscando profesional con ID: {}", profesionalId);
 
     	try {
-            Profesional profesional = profesionalService.obtenerProfesional(profesionalId);
+            // ✅ Desde caché si la versión del perfil sigue vigente
+            CachePerfilProfesional.Entrada entrada = cachePerfil.obtener(
+                    CachePerfilProfesional.VISTA_PROFESIONAL, profesionalId,
+                    () -> construirRespuestaProfesional(profesionalId),
+                    gson::toJson);
 
-            if (profesional == null) {
+            if (entrada == null) {
                 logger.warn("⚠️ Profesional con ID {} no encontrado", profesionalId);
                 sendNotFound(response, "Profesional no encontrado");
                 return;
             }
 
-            // Construir respuesta con datos completos
-            Map<String, Object> profesionalData = new HashMap<>();
-         // Campos principales
-            profesionalData.put("id", profesional.getId());
-            profesionalData.put("usuarioId", profesional.getUsuarioId());
-
-            // ⚠️ DEPRECADO - Información personal (de JOIN con users)
-            // Mantenido SOLO para búsqueda pública, NO se gestiona en formulario profesional.html
-            profesionalData.put("nombreCompleto", profesional.getNombreCompleto() != null ? profesional.getNombreCompleto() : "");
-            profesionalData.put("email", profesional.getEmail() != null ? profesional.getEmail() : "");
-            profesionalData.put("telefono", profesional.getTelefono() != null ? profesional.getTelefono() : "");
-            
-            // Información profesional
-            profesionalData.put("especialidad", profesional.getEspecialidad() != null ? profesional.getEspecialidad() : "");
-            profesionalData.put("descripcion", profesional.getDescripcion() != null ? profesional.getDescripcion() : "");
-            profesionalData.put("experiencia", profesional.getExperiencia() != null ? profesional.getExperiencia() : "");
-            
-            // ⚠️ DEPRECADO - Habilidades y certificaciones (pueden ser JSON strings)
-            // Ahora se usan tablas relacionadas: certificaciones_profesionales
-            profesionalData.put("habilidades", profesional.getHabilidades() != null ? profesional.getHabilidades() : "");
-            profesionalData.put("certificaciones", profesional.getCertificaciones() != null ? profesional.getCertificaciones() : "");
+            response.setHeader("ETag", entrada.getEtag());
+            response.setHeader("Cache-Control", "private, no-cache");
 
-            // ⚠️ DEPRECADO - Multimedia
-            // fotoPerfil, fotoPortada: Ya NO se gestionan en formulario profesional-refactorizado.html
-            // portafolio: Ahora se usa tabla proyectos_portafolio
-            // Mantenido SOLO para búsqueda pública
-            profesionalData.put("fotoPerfil", profesional.getFotoPerfil() != null ? profesional.getFotoPerfil() : "");
-            profesionalData.put("fotoPortada", profesional.getFotoPortada() != null ? profesional.getFotoPortada() : "");
-            profesionalData.put("portafolio", profesional.getPortafolio() != null ? profesional.getPortafolio() : "");
-            
-            // Tarifas y calificaciones
-            profesionalData.put("tarifaHora", profesional.getTarifaHora() != null ? profesional.getTarifaHora() : 0.0);
-            profesionalData.put("calificacionPromedio", profesional.getCalificacionPromedio() != null ? profesional.getCalificacionPromedio() : 0.0);
-            profesionalData.put("totalResenas", profesional.getTotalResenas() != null ? profesional.getTotalResenas() : 0);
-            
-            // Ubicación y servicio
-            profesionalData.put("ubicacion", profesional.getUbicacion() != null ? profesional.getUbicacion() : "");
-            profesionalData.put("distrito", profesional.getDistrito() != null ? profesional.getDistrito() : "");
-            profesionalData.put("latitud", profesional.getLatitud() != null ? profesional.getLatitud() : 0.0);
-            profesionalData.put("longitud", profesional.getLongitud() != null ? profesional.getLongitud() : 0.0);
-            profesionalData.put("radioServicio", profesional.getRadioServicio() != null ? profesional.getRadioServicio() : 0);
-            
-            // Disponibilidad (puede ser JSON string con horarios)
-            profesionalData.put("disponibilidad", profesional.getDisponibilidad() != null ? profesional.getDisponibilidad() : "");
-            
-            // Estados booleanos
-            profesionalData.put("verificado", profesional.isVerificado());
-            profesionalData.put("disponible", profesional.isDisponible());
-            profesionalData.put("activo", profesional.isActivo());
-            
-            // Fechas
-            if (profesional.getFechaRegistro() != null) {
-                profesionalData.put("fechaRegistro", profesional.getFechaRegistro().toString());
-            }
-            if (profesional.getUltimaActualizacion() != null) {
-                profesionalData.put("ultimaActualizacion", profesional.getUltimaActualizacion().toString());
+            if (CachePerfilProfesional.coincideEtag(request.getHeader("If-None-Match"), entrada.getEtag())) {
+                logger.debug("Profesional {} sin cambios (304)", profesionalId);
+                response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+                return;
             }
-            
-            Map<String, Object> responseData = new HashMap<>();
-            responseData.put("profesional", profesionalData);
-            
-            JsonResponse jsonResponse = JsonResponse.success(responseData);
-            
+
             response.setStatus(HttpServletResponse.SC_OK);
-            String jsonString = gson.toJson(jsonResponse);
-            
-            logger.info("✅ Profesional encontrado: {}", profesional.getNombreCompleto());
-            logger.debug("📤 Enviando respuesta JSON: {}", jsonString);
-            
-            response.getWriter().write(jsonString);
-            
+            response.setContentLength(entrada.getJson().length);
+            response.getOutputStream().write(entrada.getJson());
+
         } catch (ProfesionalException e) {
             logger.error("❌ Error al obtener profesional {}: {}", profesionalId, e.getMessage());
             throw e;
         }
     }
+
+    /**
+     * Construye la respuesta JSON de GET /api/profesionales/{id}.
+     *
+     * @return JsonResponse con los datos del profesional, o null si no existe
+     */
+    private JsonResponse construirRespuestaProfesional(Integer profesionalId) throws Exception {
+        Profesional profesional = profesionalService.obtenerProfesional(profesionalId);
+
+        if (profesional == null) {
+            return null;
+        }
+
+        // Construir respuesta con datos completos
+        Map<String, Object> profesionalData = new HashMap<>();
+         // Campos principales
+        profesionalData.put("id", profesional.getId());
+        profesionalData.put("usuarioId", profesional.getUsuarioId());
+
+        // ⚠️ DEPRECADO - Información personal (de JOIN con users)
+        // Mantenido SOLO para búsqueda pública, NO se gestiona en formulario profesional.html
+        profesionalData.put("nombreCompleto", profesional.getNombreCompleto() != null ? profesional.getNombreCompleto() : "");
+        profesionalData.put("email", profesional.getEmail() != null ? profesional.getEmail() : "");
+        profesionalData.put("telefono", profesional.getTelefono() != null ? profesional.getTelefono() : "");
+        
+        // Información profesional
+        profesionalData.put("especialidad", profesional.getEspecialidad() != null ? profesional.getEspecialidad() : "");
+        profesionalData.put("descripcion", profesional.getDescripcion() != null ? profesional.getDescripcion() : "");
+        profesionalData.put("experiencia", profesional.getExperiencia() != null ? profesional.getExperiencia() : "");
+        
+        // ⚠️ DEPRECADO - Habilidades y certificaciones (pueden ser JSON strings)
+        // Ahora se usan tablas relacionadas: certificaciones_profesionales
+        profesionalData.put("habilidades", profesional.getHabilidades() != null ? profesional.getHabilidades() : "");
+        profesionalData.put("certificaciones", profesional.getCertificaciones() != null ? profesional.getCertificaciones() : "");
+
+        // ⚠️ DEPRECADO - Multimedia
+        // fotoPerfil, fotoPortada: Ya NO se gestionan en formulario profesional-refactorizado.html
+        // portafolio: Ahora se usa tabla proyectos_portafolio
+        // Mantenido SOLO para búsqueda pública
+        profesionalData.put("fotoPerfil", profesional.getFotoPerfil() != null ? profesional.getFotoPerfil() : "");
+        profesionalData.put("fotoPortada", profesional.getFotoPortada() != null ? profesional.getFotoPortada() : "");
+        profesionalData.put("portafolio", profesional.getPortafolio() != null ? profesional.getPortafolio() : "");
+        
+        // Tarifas y calificaciones
+        profesionalData.put("tarifaHora", profesional.getTarifaHora() != null ? profesional.getTarifaHora() : 0.0);
+        profesionalData.put("calificacionPromedio", profesional.getCalificacionPromedio() != null ? profesional.getCalificacionPromedio() : 0.0);
+        profesionalData.put("totalResenas", profesional.getTotalResenas() != null ? profesional.getTotalResenas() : 0);
+        
+        // Ubicación y servicio
+        profesionalData.put("ubicacion", profesional.getUbicacion() != null ? profesional.getUbicacion() : "");
+        profesionalData.put("distrito", profesional.getDistrito() != null ? profesional.getDistrito() : "");
+        profesionalData.put("latitud", profesional.getLatitud() != null ? profesional.getLatitud() : 0.0);
+        profesionalData.put("longitud", profesional.getLongitud() != null ? profesional.getLongitud() : 0.0);
+        profesionalData.put("radioServicio", profesional.getRadioServicio() != null ? profesional.getRadioServicio() : 0);
+        
+        // Disponibilidad (puede ser JSON string con horarios)
+        profesionalData.put("disponibilidad", profesional.getDisponibilidad() != null ? profesional.getDisponibilidad() : "");
+        
+        // Estados booleanos
+        profesionalData.put("verificado", profesional.isVerificado());
+        profesionalData.put("disponible", profesional.isDisponible());
+        profesionalData.put("activo", profesional.isActivo());
+        
+        // Fechas
+        if (profesional.getFechaRegistro() != null) {
+            profesionalData.put("fechaRegistro", profesional.getFechaRegistro().toString());
+        }
+        if (profesional.getUltimaActualizacion() != null) {
+            profesionalData.put("ultimaActualizacion", profesional.getUltimaActualizacion().toString());
+        }
+        
+        Map<String, Object> responseData = new HashMap<>();
+        responseData.put("profesional", profesionalData);
+        
+        logger.info("✅ Profesional encontrado: {}", profesional.getNombreCompleto());
+
+        return JsonResponse.success(responseData);
+    }
     
     // Agregar este método si no existe
     private void sendNotFound(HttpServletResponse response, String message) 
             throws IOException {
         JsonResponse jsonResponse = JsonResponse.error(message);
         response.setStatus(HttpServletResponse.SC_NOT_FOUND);
-        response.getWriter().write(gson.toJson(jsonResponse));
+        JsonResponseWriter.escribir(response, jsonResponse);
     }
     
     // Manejo de errores
@@ -415,7 +483,7 @@ public class ProfesionalServlet extends HttpServlet {
         JsonResponse jsonResponse = JsonResponse.error(e.getMessage());
         
         response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-        response.getWriter().write(gson.toJson(jsonResponse));
+        JsonResponseWriter.escribir(response, jsonResponse);
     }
     
     private void handleProfesionalError(HttpServletResponse response, ProfesionalException e, 
@@ -426,7 +494,7 @@ public class ProfesionalServlet extends HttpServlet {
         JsonResponse jsonResponse = JsonResponse.error(e.getMessage());
         
         response.setStatus(HttpServletResponse.SC_NOT_FOUND);
-        response.getWriter().write(gson.toJson(jsonResponse));
+        JsonResponseWriter.escribir(response, jsonResponse);
     }
     
     private void handleDatabaseError(HttpServletResponse response, DatabaseException e, 
@@ -439,7 +507,7 @@ public class ProfesionalServlet extends HttpServlet {
         );
         
         response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
-        response.getWriter().write(gson.toJson(jsonResponse));
+        JsonResponseWriter.escribir(response, jsonResponse);
     }
     
     private void handleInternalError(HttpServletResponse response, Exception e, 
@@ -450,14 +518,14 @@ public class ProfesionalServlet extends HttpServlet {
         JsonResponse jsonResponse = JsonResponse.error("Error interno del servidor");
         
         response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
-        response.getWriter().write(gson.toJson(jsonResponse));
+        JsonResponseWriter.escribir(response, jsonResponse);
     }
     
     private void sendBadRequest(HttpServletResponse response, String message) 
             throws IOException {
         JsonResponse jsonResponse = JsonResponse.error(message);
         response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-        response.getWriter().write(gson.toJson(jsonResponse));
+        JsonResponseWriter.escribir(response, jsonResponse);
     }
     
     @Override
@@ -3,11 +3,12 @@ package com.contactoprofesionales.controller.profesional;
 import com.contactoprofesionales.dto.RedSocialDTO;
 import com.contactoprofesionales.exception.DatabaseException;
 import com.contactoprofesionales.exception.ValidationException;
+import com.contactoprofesionales.service.profesional.CachePerfilProfesional;
 import com.contactoprofesionales.service.profesional.RedSocialService;
 import com.contactoprofesionales.service.profesional.RedSocialServiceImpl;
-import com.contactoprofesionales.util.LocalDateTimeAdapter;
+import com.contactoprofesionales.util.GsonUtil;
+import com.contactoprofesionales.util.JsonResponseWriter;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonSyntaxException;
 import org.slf4j.Logger;
@@ -21,8 +22,6 @@ import jakarta.servlet.http.HttpServletResponse;
 
 import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.PrintWriter;
-import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -41,11 +40,10 @@ public class RedSocialServlet extends HttpServlet {
     private static final Logger logger = LoggerFactory.getLogger(RedSocialServlet.class);
     private static final long serialVersionUID = 1L;
 
-    private final Gson gson = new GsonBuilder()
-            .registerTypeAdapter(LocalDateTime.class, new LocalDateTimeAdapter())
-            .create();
+    private final Gson gson = GsonUtil.createGson();
 
     private RedSocialService redSocialService;
+    private final CachePerfilProfesional cachePerfil = CachePerfilProfesional.getInstancia();
 
     @Override
     public void init() throws ServletException {
@@ -156,6 +154,7 @@ public class RedSocialServlet extends HttpServlet {
 
             // Agregar red social
             RedSocialDTO redSocialCreada = redSocialService.agregar(profesionalId, tipoRed, url);
+            cachePerfil.invalidar(profesionalId);
 
             logger.info("✓ Red social agregada exitosamente con ID: {}", redSocialCreada.getId());
 
@@ -229,6 +228,7 @@ public class RedSocialServlet extends HttpServlet {
 
             // Actualizar red social
             RedSocialDTO redSocialActualizada = redSocialService.actualizar(redSocialId, url);
+            cachePerfil.invalidar(redSocialActualizada.getProfesionalId());
 
             logger.info("✓ Red social actualizada exitosamente: ID {}", redSocialId);
 
@@ -285,6 +285,7 @@ public class RedSocialServlet extends HttpServlet {
 
             // Eliminar red social
             boolean eliminado = redSocialService.eliminar(redSocialId);
+            cachePerfil.invalidar(extractProfesionalIdFromPath(request.getRequestURI()));
 
             if (eliminado) {
                 logger.info("✓ Red social eliminada exitosamente: ID {}", redSocialId);
@@ -370,13 +371,7 @@ public class RedSocialServlet extends HttpServlet {
         responseBody.put("success", true);
         responseBody.put("data", data);
 
-        String jsonResponse = gson.toJson(responseBody);
-        logger.debug("Enviando respuesta exitosa: {}", jsonResponse);
-
-        try (PrintWriter out = response.getWriter()) {
-            out.print(jsonResponse);
-            out.flush();
-        }
+        JsonResponseWriter.escribir(response, responseBody);
     }
 
     /**
@@ -395,12 +390,6 @@ public class RedSocialServlet extends HttpServlet {
 
         responseBody.put("error", error);
 
-        String jsonResponse = gson.toJson(responseBody);
-        logger.debug("Enviando respuesta de error: {}", jsonResponse);
-
-        try (PrintWriter out = response.getWriter()) {
-            out.print(jsonResponse);
-            out.flush();
-        }
+        JsonResponseWriter.escribir(response, responseBody);
     }
 }
@@ -0,0 +1,198 @@
+package com.contactoprofesionales.controller.solicitud;
+
+import com.contactoprofesionales.service.solicitud.EventosSolicitudes;
+import com.contactoprofesionales.service.solicitud.SolicitudServicioService;
+import com.contactoprofesionales.util.JsonResponse;
+import com.contactoprofesionales.util.JsonResponseWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.annotation.WebServlet;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Eventos de solicitudes en tiempo real (Server-Sent Events), en lugar de consultar
+ * periódicamente /api/solicitudes/pendientes/count.
+ *
+ * Endpoint:
+ * - GET /api/solicitudes/eventos?tipo=profesional&usuarioId={id} -> stream text/event-stream
+ *
+ * Eventos:
+ * - pendientes      {count, profesionalId}  (al conectar y en cada cambio; solo profesionales)
+ * - nueva_solicitud {solicitudId, estado, profesionalId, clienteId}
+ * - cancelacion     {solicitudId, estado, profesionalId, clienteId}
+ * - estado          {solicitudId, estado, profesionalId, clienteId}
+ *
+ * La conexión queda abierta con un AsyncContext sin timeout: no ocupa un hilo mientras
+ * no hay eventos. Las escrituras son no bloqueantes (WriteListener), así un cliente
+ * que no lee no retiene hilos del servidor. El navegador (EventSource) se reconecta
+ * solo si se corta.
+ */
+@WebServlet(name = "EventosSolicitudServlet", urlPatterns = {"/api/solicitudes/eventos"}, asyncSupported = true)
+public class EventosSolicitudServlet extends HttpServlet {
+
+    private static final long serialVersionUID = 1L;
+    private static final Logger logger = LoggerFactory.getLogger(EventosSolicitudServlet.class);
+
+    /** Espera sugerida al navegador antes de reconectar. */
+    private static final int MILISEGUNDOS_RECONEXION = 5000;
+
+    private transient SolicitudServicioService solicitudService;
+    private transient EventosSolicitudes eventos;
+
+    @Override
+    public void init() throws ServletException {
+        super.init();
+        this.solicitudService = new SolicitudServicioService();
+        this.eventos = EventosSolicitudes.getInstancia();
+        logger.info("✓ EventosSolicitudServlet inicializado correctamente");
+    }
+
+    @Override
+    protected void doGet(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
+
+        Integer usuarioId = obtenerUsuarioId(request);
+        if (usuarioId == null) {
+            JsonResponseWriter.escribir(response, HttpServletResponse.SC_UNAUTHORIZED,
+                                        JsonResponse.error("Usuario no autenticado"));
+            return;
+        }
+
+        boolean esProfesional = !"cliente".equals(request.getParameter("tipo"));
+        String destino = esProfesional
+                ? EventosSolicitudes.destinoProfesional(usuarioId)
+                : EventosSolicitudes.destinoCliente(usuarioId);
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType("text/event-stream");
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader("Cache-Control", "no-cache");
+        response.setHeader("X-Accel-Buffering", "no");  // nginx: no acumular el stream
+
+        AsyncContext contexto = request.startAsync();
+        contexto.setTimeout(0);
+
+        ServletOutputStream salida = response.getOutputStream();
+        EventosSolicitudes.Suscripcion suscripcion = eventos.crearSuscripcion(destino, new EventosSolicitudes.Salida() {
+            @Override
+            public boolean listaParaEscribir() {
+                return salida.isReady();
+            }
+
+            @Override
+            public void escribir(String texto) throws IOException {
+                salida.write(texto.getBytes(StandardCharsets.UTF_8));
+                // Si el buffer quedó lleno, el contenedor lo envía y avisa con onWritePossible
+                if (salida.isReady()) {
+                    salida.flush();
+                }
+            }
+
+            @Override
+            public void cerrar() {
+                try {
+                    contexto.complete();
+                } catch (IllegalStateException e) {
+                    // Ya completado por el contenedor
+                }
+            }
+        });
+
+        // Salida no bloqueante: ningún hilo queda esperando a un cliente lento
+        salida.setWriteListener(new WriteListener() {
+            @Override
+            public void onWritePossible() {
+                eventos.escribirPendientes(suscripcion);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                eventos.cancelar(suscripcion);
+                try {
+                    contexto.complete();
+                } catch (IllegalStateException e) {
+                    // Ya completado por el contenedor
+                }
+            }
+        });
+
+        contexto.addListener(new AsyncListener() {
+            @Override
+            public void onComplete(AsyncEvent event) {
+                eventos.cancelar(suscripcion);
+            }
+
+            @Override
+            public void onTimeout(AsyncEvent event) {
+                eventos.cancelar(suscripcion);
+                event.getAsyncContext().complete();
+            }
+
+            @Override
+            public void onError(AsyncEvent event) {
+                eventos.cancelar(suscripcion);
+            }
+
+            @Override
+            public void onStartAsync(AsyncEvent event) {
+            }
+        });
+
+        // retry: va por la cola de la suscripción, antes de registrarla para que
+        // ningún evento publicado se adelante
+        eventos.enviarReintento(suscripcion, MILISEGUNDOS_RECONEXION);
+        eventos.suscribir(suscripcion);
+        logger.debug("🔔 Conexión de eventos abierta para {}", destino);
+
+        // Estado inicial: el cliente no necesita una consulta aparte al conectar
+        if (esProfesional) {
+            try {
+                Map<String, Object> conteo = new HashMap<>();
+                conteo.put("count", solicitudService.contarSolicitudesPendientes(usuarioId));
+                conteo.put("profesionalId", usuarioId);
+                eventos.enviar(suscripcion, "pendientes", conteo);
+            } catch (Exception e) {
+                logger.warn("⚠️ No se pudo enviar el conteo inicial de pendientes: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Mismo criterio que SolicitudServicioServlet: sesión y, si no hay, parámetro usuarioId
+     * (EventSource no permite enviar headers de autorización).
+     */
+    private Integer obtenerUsuarioId(HttpServletRequest request) {
+        HttpSession session = request.getSession(false);
+        if (session != null) {
+            Object userId = session.getAttribute("userId");
+            if (userId instanceof Integer) {
+                return (Integer) userId;
+            }
+        }
+
+        String userIdParam = request.getParameter("usuarioId");
+        if (userIdParam != null && !userIdParam.isEmpty()) {
+            try {
+                return Integer.parseInt(userIdParam);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+}
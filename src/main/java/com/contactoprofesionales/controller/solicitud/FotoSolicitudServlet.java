@@ -0,0 +1,100 @@
+package com.contactoprofesionales.controller.solicitud;
+
+import com.contactoprofesionales.service.almacenamiento.AlmacenamientoFotos;
+import com.contactoprofesionales.service.almacenamiento.AlmacenamientoFotosLocal;
+import com.contactoprofesionales.service.almacenamiento.ProcesadorFotos;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jakarta.servlet.ServletException;
+import jakarta.servlet.annotation.WebServlet;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Sirve las fotos adjuntas a las solicitudes desde el almacenamiento local.
+ *
+ * Endpoint:
+ * - GET /uploads/solicitudes/{sha256}.{ext}      -> foto original
+ * - GET /uploads/solicitudes/{sha256}_min.jpg    -> miniatura (o la original si aún no existe)
+ *
+ * El nombre es el hash del contenido, así que la respuesta nunca cambia y se puede
+ * guardar en caché sin vencimiento; la original servida en lugar de una miniatura
+ * faltante va con no-cache.
+ */
+@WebServlet(name = "FotoSolicitudServlet", urlPatterns = {"/uploads/solicitudes/*"})
+public class FotoSolicitudServlet extends HttpServlet {
+
+    private static final long serialVersionUID = 1L;
+    private static final Logger logger = LoggerFactory.getLogger(FotoSolicitudServlet.class);
+
+    private static final String SUFIJO_MINIATURA = "_min.jpg";
+
+    private transient AlmacenamientoFotos almacenamiento;
+
+    @Override
+    public void init() throws ServletException {
+        super.init();
+        this.almacenamiento = ProcesadorFotos.getInstancia().getAlmacenamiento();
+        logger.info("✓ FotoSolicitudServlet inicializado correctamente");
+    }
+
+    @Override
+    protected void doGet(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
+
+        String pathInfo = request.getPathInfo();
+        String nombre = pathInfo != null ? pathInfo.substring(1) : null;
+
+        if (!AlmacenamientoFotosLocal.esNombreValido(nombre)) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        // Miniatura pendiente o no soportada (WebP): se sirve la foto original, sin caché
+        // larga para que el navegador pida la miniatura cuando exista
+        boolean reemplazo = nombre.endsWith(SUFIJO_MINIATURA) && !almacenamiento.existe(nombre);
+        if (reemplazo) {
+            nombre = buscarOriginal(nombre.substring(0, nombre.length() - SUFIJO_MINIATURA.length()));
+        }
+
+        try (InputStream contenido = nombre != null ? almacenamiento.abrir(nombre) : null) {
+            if (contenido == null) {
+                response.sendError(HttpServletResponse.SC_NOT_FOUND);
+                return;
+            }
+
+            response.setContentType(tipoContenido(nombre));
+            response.setHeader("Cache-Control", reemplazo ? "no-cache" : "public, max-age=31536000, immutable");
+            contenido.transferTo(response.getOutputStream());
+        }
+    }
+
+    private String buscarOriginal(String hash) {
+        for (String extension : new String[] {"jpg", "png", "gif", "webp"}) {
+            String original = hash + "." + extension;
+            if (almacenamiento.existe(original)) {
+                return original;
+            }
+        }
+        return null;
+    }
+
+    private static String tipoContenido(String nombre) {
+        String extension = nombre.substring(nombre.lastIndexOf('.') + 1);
+        switch (extension) {
+            case "png":
+                return "image/png";
+            case "gif":
+                return "image/gif";
+            case "webp":
+                return "image/webp";
+            default:
+                return "image/jpeg";
+        }
+    }
+}
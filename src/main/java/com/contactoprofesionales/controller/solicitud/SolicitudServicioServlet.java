@@ -3,16 +3,17 @@ package com.contactoprofesionales.controller.solicitud;
 import com.contactoprofesionales.model.SolicitudServicio;
 import com.contactoprofesionales.dto.SolicitudServicioRequest;
 import com.contactoprofesionales.dto.SolicitudDetalleDTO;
+import com.contactoprofesionales.dto.FiltroSolicitudesDTO;
+import com.contactoprofesionales.dto.SolicitudResumenDTO;
 import com.contactoprofesionales.service.solicitud.SolicitudServicioService;
 import com.contactoprofesionales.util.JsonResponse;
 import com.contactoprofesionales.exception.ValidationException;
 import com.contactoprofesionales.exception.DatabaseException;
+import com.contactoprofesionales.util.GsonUtil;
+import com.contactoprofesionales.util.JsonResponseWriter;
 
-import com.contactoprofesionales.util.LocalDateTimeAdapter;
-import java.time.LocalDateTime;
 
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.JsonSyntaxException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -26,6 +27,9 @@ import jakarta.servlet.http.HttpSession;
 
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -36,10 +40,14 @@ import java.util.Map;
  * Endpoints:
  * - POST /api/solicitudes                -> Crear solicitud
  * - GET  /api/solicitudes                -> Listar solicitudes del usuario
+ * - GET  /api/solicitudes?cursor=&limite=N[&estado=a,b][&urgencia=][&desde=][&hasta=]
+ *                                        -> Página por cursor, proyección reducida (respuesta con siguienteCursor)
  * - GET  /api/solicitudes/{id}           -> Obtener solicitud específica
  * - PUT  /api/solicitudes/{id}/cancelar  -> Cancelar solicitud (clientes)
  * - PUT  /api/solicitudes/{id}/estado    -> Actualizar estado (profesionales)
  * - GET  /api/solicitudes/pendientes/count -> Contar solicitudes pendientes (profesionales)
+ * - GET  /api/solicitudes/contadores     -> Solicitudes por estado (profesionales)
+ * - GET  /api/solicitudes/eventos        -> Eventos en tiempo real (ver EventosSolicitudServlet)
  *
  * ACTUALIZADO 2025-12-03: Agregado endpoint de actualización de estado para profesionales
  */
@@ -51,9 +59,8 @@ public class SolicitudServicioServlet extends HttpServlet {
     
     private static final long serialVersionUID = 1L;
     private static final Logger logger = LoggerFactory.getLogger(SolicitudServicioServlet.class);
-    private final Gson gson = new GsonBuilder()
-            .registerTypeAdapter(LocalDateTime.class, new LocalDateTimeAdapter())
-            .create();
+    private static final int LIMITE_PAGINA_POR_DEFECTO = 20;
+    private final Gson gson = GsonUtil.createGson();
     
     private SolicitudServicioService solicitudService;
     
@@ -129,7 +136,7 @@ public class SolicitudServicioServlet extends HttpServlet {
                        solicitud.getId(), duration);
             
             response.setStatus(HttpServletResponse.SC_CREATED);
-            response.getWriter().write(gson.toJson(jsonResponse));
+            JsonResponseWriter.escribir(response, jsonResponse);
             
         } catch (ValidationException e) {
             handleValidationError(response, e, startTime);
@@ -184,6 +191,8 @@ public class SolicitudServicioServlet extends HttpServlet {
             } else if (pathInfo.equals("/pendientes/count")) {
                 // ✅ NUEVO: Contar solicitudes pendientes para badge de alertas
                 contarSolicitudesPendientes(usuarioId, response);
+            } else if (pathInfo.equals("/contadores")) {
+                contarSolicitudesPorEstado(usuarioId, response);
             } else {
                 // Obtener solicitud específica
                 String[] splits = pathInfo.split("/");
@@ -201,6 +210,9 @@ public class SolicitudServicioServlet extends HttpServlet {
         } catch (NumberFormatException e) {
             sendBadRequest(response, "ID de solicitud inválido");
             
+        } catch (ValidationException e) {
+            handleValidationError(response, e, System.currentTimeMillis());
+            
         } catch (Exception e) {
             handleInternalError(response, e, System.currentTimeMillis());
         }
@@ -273,6 +285,14 @@ public class SolicitudServicioServlet extends HttpServlet {
         
         String tipo = request.getParameter("tipo"); // "cliente" o "profesional"
         
+        // Paginación por cursor: ?cursor=<token>&limite=N (cursor vacío = primera página)
+        String cursor = request.getParameter("cursor");
+        String limiteStr = request.getParameter("limite");
+        if (cursor != null || limiteStr != null) {
+            listarSolicitudesPorCursor(usuarioId, "profesional".equals(tipo), cursor, limiteStr, request, response);
+            return;
+        }
+        
         List<SolicitudServicio> solicitudes;
         
         if ("profesional".equals(tipo)) {
@@ -288,7 +308,74 @@ public class SolicitudServicioServlet extends HttpServlet {
         JsonResponse jsonResponse = JsonResponse.success(responseData);
         
         response.setStatus(HttpServletResponse.SC_OK);
-        response.getWriter().write(gson.toJson(jsonResponse));
+        JsonResponseWriter.escribir(response, jsonResponse);
+    }
+    
+    /**
+     * Lista una página de solicitudes por posición, con filtros opcionales:
+     * estado (uno o varios separados por coma), urgencia y rango desde/hasta (yyyy-MM-dd)
+     * sobre la fecha de la solicitud. La respuesta incluye siguienteCursor mientras haya
+     * más páginas; los filtros deben repetirse al pedir la siguiente.
+     */
+    private void listarSolicitudesPorCursor(Integer usuarioId, boolean comoProfesional, String cursor,
+                                            String limiteStr, HttpServletRequest request,
+                                            HttpServletResponse response) throws Exception {
+        
+        FiltroSolicitudesDTO filtro = new FiltroSolicitudesDTO();
+        filtro.setLimite(LIMITE_PAGINA_POR_DEFECTO);
+        if (limiteStr != null && !limiteStr.isEmpty()) {
+            try {
+                filtro.setLimite(Integer.parseInt(limiteStr));
+            } catch (NumberFormatException e) {
+                throw new ValidationException("Límite inválido: " + limiteStr);
+            }
+        }
+        
+        String estado = request.getParameter("estado");
+        if (estado != null && !estado.trim().isEmpty()) {
+            List<String> estados = new ArrayList<>();
+            for (String e : estado.split(",")) {
+                if (!e.trim().isEmpty()) {
+                    estados.add(e.trim().toLowerCase());
+                }
+            }
+            filtro.setEstados(estados);
+        }
+        
+        String urgencia = request.getParameter("urgencia");
+        if (urgencia != null && !urgencia.trim().isEmpty()) {
+            filtro.setUrgencia(urgencia.trim().toLowerCase());
+        }
+        
+        filtro.setDesde(parsearFecha(request.getParameter("desde"), "desde"));
+        filtro.setHasta(parsearFecha(request.getParameter("hasta"), "hasta"));
+        
+        List<SolicitudResumenDTO> solicitudes =
+            solicitudService.listarSolicitudesPaginadas(usuarioId, comoProfesional, filtro, cursor);
+        
+        Map<String, Object> responseData = new HashMap<>();
+        responseData.put("solicitudes", solicitudes);
+        responseData.put("limite", filtro.getLimite());
+        responseData.put("siguienteCursor", solicitudService.siguienteCursor(solicitudes, filtro.getLimite()));
+        
+        JsonResponse jsonResponse = JsonResponse.success(responseData);
+        
+        response.setStatus(HttpServletResponse.SC_OK);
+        JsonResponseWriter.escribir(response, jsonResponse);
+    }
+    
+    /**
+     * Parsea un parámetro de fecha (yyyy-MM-dd); null si no viene.
+     */
+    private LocalDate parsearFecha(String valor, String nombre) throws ValidationException {
+        if (valor == null || valor.trim().isEmpty()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(valor.trim());
+        } catch (DateTimeParseException e) {
+            throw new ValidationException("Fecha '" + nombre + "' inválida. Formato esperado: yyyy-MM-dd");
+        }
     }
     
     private void obtenerSolicitud(Integer solicitudId, Integer usuarioId,
@@ -309,7 +396,7 @@ public class SolicitudServicioServlet extends HttpServlet {
             JsonResponse jsonResponse = JsonResponse.success(responseData);
 
             response.setStatus(HttpServletResponse.SC_OK);
-            response.getWriter().write(gson.toJson(jsonResponse));
+            JsonResponseWriter.escribir(response, jsonResponse);
 
         } catch (ValidationException e) {
             // Si la solicitud no existe o el usuario no tiene permiso, retornar 404
@@ -330,7 +417,7 @@ public class SolicitudServicioServlet extends HttpServlet {
         if (cancelada) {
             JsonResponse jsonResponse = JsonResponse.success("Solicitud cancelada exitosamente");
             response.setStatus(HttpServletResponse.SC_OK);
-            response.getWriter().write(gson.toJson(jsonResponse));
+            JsonResponseWriter.escribir(response, jsonResponse);
         } else {
             sendBadRequest(response, "No se pudo cancelar la solicitud");
         }
@@ -356,11 +443,28 @@ public class SolicitudServicioServlet extends HttpServlet {
         JsonResponse jsonResponse = JsonResponse.success(responseData);
 
         response.setStatus(HttpServletResponse.SC_OK);
-        response.getWriter().write(gson.toJson(jsonResponse));
+        JsonResponseWriter.escribir(response, jsonResponse);
 
         logger.info("✅ Respuesta enviada: {} solicitudes pendientes", count);
     }
 
+    /**
+     * Cuenta las solicitudes de un profesional por estado (estadísticas del dashboard).
+     * Endpoint: GET /api/solicitudes/contadores
+     */
+    private void contarSolicitudesPorEstado(Integer profesionalId, HttpServletResponse response)
+            throws Exception {
+
+        Map<String, Object> responseData = new HashMap<>();
+        responseData.put("contadores", solicitudService.contarSolicitudesPorEstado(profesionalId));
+        responseData.put("profesionalId", profesionalId);
+
+        JsonResponse jsonResponse = JsonResponse.success(responseData);
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        JsonResponseWriter.escribir(response, jsonResponse);
+    }
+
     /**
      * Actualiza el estado de una solicitud (solo profesionales).
      * Endpoint: PUT /api/solicitudes/{id}/estado
@@ -402,7 +506,7 @@ public class SolicitudServicioServlet extends HttpServlet {
             );
 
             response.setStatus(HttpServletResponse.SC_OK);
-            response.getWriter().write(gson.toJson(jsonResponse));
+            JsonResponseWriter.escribir(response, jsonResponse);
 
             logger.info("✅ Estado de solicitud {} actualizado a '{}'", solicitudId, nuevoEstado);
         } else {
@@ -495,7 +599,7 @@ public class SolicitudServicioServlet extends HttpServlet {
         JsonResponse jsonResponse = JsonResponse.error(e.getMessage());
         
         response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-        response.getWriter().write(gson.toJson(jsonResponse));
+        JsonResponseWriter.escribir(response, jsonResponse);
     }
     
     private void handleDatabaseError(HttpServletResponse response, DatabaseException e, 
@@ -508,7 +612,7 @@ public class SolicitudServicioServlet extends HttpServlet {
         );
         
         response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
-        response.getWriter().write(gson.toJson(jsonResponse));
+        JsonResponseWriter.escribir(response, jsonResponse);
     }
     
     private void handleJsonError(HttpServletResponse response, JsonSyntaxException e, 
@@ -519,7 +623,7 @@ public class SolicitudServicioServlet extends HttpServlet {
         JsonResponse jsonResponse = JsonResponse.error("Formato de datos inválido");
         
         response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-        response.getWriter().write(gson.toJson(jsonResponse));
+        JsonResponseWriter.escribir(response, jsonResponse);
     }
     
     private void handleInternalError(HttpServletResponse response, Exception e, 
@@ -530,28 +634,28 @@ public class SolicitudServicioServlet extends HttpServlet {
         JsonResponse jsonResponse = JsonResponse.error("Error interno del servidor");
         
         response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
-        response.getWriter().write(gson.toJson(jsonResponse));
+        JsonResponseWriter.escribir(response, jsonResponse);
     }
     
     private void sendUnauthorized(HttpServletResponse response, String message) 
             throws IOException {
         JsonResponse jsonResponse = JsonResponse.error(message);
         response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-        response.getWriter().write(gson.toJson(jsonResponse));
+        JsonResponseWriter.escribir(response, jsonResponse);
     }
     
     private void sendBadRequest(HttpServletResponse response, String message)
             throws IOException {
         JsonResponse jsonResponse = JsonResponse.error(message);
         response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-        response.getWriter().write(gson.toJson(jsonResponse));
+        JsonResponseWriter.escribir(response, jsonResponse);
     }
 
     private void sendNotFound(HttpServletResponse response, String message)
             throws IOException {
         JsonResponse jsonResponse = JsonResponse.error(message);
         response.setStatus(HttpServletResponse.SC_NOT_FOUND);
-        response.getWriter().write(gson.toJson(jsonResponse));
+        JsonResponseWriter.escribir(response, jsonResponse);
         logger.warn("⚠️ Recurso no encontrado: {}", message);
     }
 
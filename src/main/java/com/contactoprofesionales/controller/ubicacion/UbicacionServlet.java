@@ -7,9 +7,9 @@ import com.contactoprofesionales.exception.DatabaseException;
 import com.contactoprofesionales.exception.ValidationException;
 import com.contactoprofesionales.service.ubicacion.UbicacionService;
 import com.contactoprofesionales.service.ubicacion.UbicacionServiceImpl;
-import com.contactoprofesionales.util.LocalDateTimeAdapter;
+import com.contactoprofesionales.util.GsonUtil;
+import com.contactoprofesionales.util.JsonResponseWriter;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -20,8 +20,6 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
 import java.io.IOException;
-import java.io.PrintWriter;
-import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -40,9 +38,7 @@ public class UbicacionServlet extends HttpServlet {
     private static final Logger logger = LoggerFactory.getLogger(UbicacionServlet.class);
     private static final long serialVersionUID = 1L;
 
-    private final Gson gson = new GsonBuilder()
-            .registerTypeAdapter(LocalDateTime.class, new LocalDateTimeAdapter())
-            .create();
+    private final Gson gson = GsonUtil.createGson();
 
     private UbicacionService ubicacionService;
 
@@ -208,13 +204,7 @@ public class UbicacionServlet extends HttpServlet {
         responseBody.put("success", true);
         responseBody.put("data", data);
 
-        String jsonResponse = gson.toJson(responseBody);
-        logger.debug("Enviando respuesta exitosa: {}", jsonResponse);
-
-        try (PrintWriter out = response.getWriter()) {
-            out.print(jsonResponse);
-            out.flush();
-        }
+        JsonResponseWriter.escribir(response, responseBody);
     }
 
     /**
@@ -233,12 +223,6 @@ public class UbicacionServlet extends HttpServlet {
 
         responseBody.put("error", error);
 
-        String jsonResponse = gson.toJson(responseBody);
-        logger.debug("Enviando respuesta de error: {}", jsonResponse);
-
-        try (PrintWriter out = response.getWriter()) {
-            out.print(jsonResponse);
-            out.flush();
-        }
+        JsonResponseWriter.escribir(response, responseBody);
     }
 }
@@ -1,12 +1,18 @@
 package com.contactoprofesionales.controller.usuario;
 
+import com.contactoprofesionales.dao.profesional.ProfesionalDAO;
+import com.contactoprofesionales.dao.profesional.ProfesionalDAOImpl;
 import com.contactoprofesionales.dao.usuariopersona.UsuarioPersonaDAO;
 import com.contactoprofesionales.dao.usuariopersona.UsuarioPersonaDAOImpl;
 import com.contactoprofesionales.dto.ResponseDTO;
 import com.contactoprofesionales.model.UsuarioPersona;
 import com.contactoprofesionales.exception.DatabaseException;
+import com.contactoprofesionales.model.Profesional;
+import com.contactoprofesionales.service.profesional.CachePerfilProfesional;
+import com.contactoprofesionales.service.profesional.FacetasBusquedaService;
+import com.contactoprofesionales.util.GsonUtil;
+import com.contactoprofesionales.util.JsonResponseWriter;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 
 import jakarta.servlet.ServletException;
 import jakarta.servlet.annotation.WebServlet;
@@ -19,7 +25,6 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.Optional;
 
 @WebServlet(name = "UsuarioPersonaServlet", urlPatterns = {"/api/usuario-persona/*"})
@@ -31,50 +36,19 @@ public class UsuarioPersonaServlet extends HttpServlet {
 	private static final long serialVersionUID = 1L;
 	private static final Logger logger = LoggerFactory.getLogger(UsuarioPersonaServlet.class);
     private UsuarioPersonaDAO usuarioPersonaDAO;
+    private ProfesionalDAO profesionalDAO;
+    private final CachePerfilProfesional cachePerfil = CachePerfilProfesional.getInstancia();
+    private final FacetasBusquedaService facetasBusqueda = FacetasBusquedaService.getInstancia();
     private Gson gson;
 
     @Override
     public void init() throws ServletException {
         super.init();
         this.usuarioPersonaDAO = new UsuarioPersonaDAOImpl();
+        this.profesionalDAO = new ProfesionalDAOImpl();
         
-        // Configurar Gson con TypeAdapters para LocalDate y LocalDateTime
-        this.gson = new GsonBuilder()
-            // Serialización de LocalDateTime (Object -> JSON)
-            .registerTypeAdapter(LocalDateTime.class,
-                (com.google.gson.JsonSerializer<LocalDateTime>)
-                (src, typeOfSrc, context) ->
-                    src == null ? null :
-                    new com.google.gson.JsonPrimitive(src.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME))
-            )
-            // Deserialización de LocalDateTime (JSON -> Object)
-            .registerTypeAdapter(LocalDateTime.class,
-                (com.google.gson.JsonDeserializer<LocalDateTime>)
-                (json, typeOfT, context) -> {
-                    if (json == null || json.isJsonNull()) {
-                        return null;
-                    }
-                    return LocalDateTime.parse(json.getAsString(), DateTimeFormatter.ISO_LOCAL_DATE_TIME);
-                }
-            )
-            // Serialización de LocalDate (Object -> JSON)
-            .registerTypeAdapter(LocalDate.class,
-                (com.google.gson.JsonSerializer<LocalDate>)
-                (src, typeOfSrc, context) ->
-                    src == null ? null :
-                    new com.google.gson.JsonPrimitive(src.format(DateTimeFormatter.ISO_LOCAL_DATE))
-            )
-            // Deserialización de LocalDate (JSON -> Object) - ESTO ES LO CRÍTICO
-            .registerTypeAdapter(LocalDate.class,
-                (com.google.gson.JsonDeserializer<LocalDate>)
-                (json, typeOfT, context) -> {
-                    if (json == null || json.isJsonNull()) {
-                        return null;
-                    }
-                    return LocalDate.parse(json.getAsString(), DateTimeFormatter.ISO_LOCAL_DATE);
-                }
-            )
-            .create();
+        // Gson compartido (GsonUtil ya registra los adaptadores de LocalDate y LocalDateTime)
+        this.gson = GsonUtil.createGson();
         
         logger.info("UsuarioPersonaServlet inicializado");
     }
@@ -144,6 +118,7 @@ public class UsuarioPersonaServlet extends HttpServlet {
 
             // Actualizar
             UsuarioPersona actualizado = usuarioPersonaDAO.actualizar(persona);
+            invalidarPerfilProfesional(usuarioPersonaId);
 
             sendSuccess(response, 200, actualizado);
             logger.info("Usuario persona actualizado: {}", usuarioPersonaId);
@@ -182,6 +157,19 @@ public class UsuarioPersonaServlet extends HttpServlet {
         }
     }
 
+    /**
+     * El nombre y el teléfono del usuario forman parte del perfil público
+     * del profesional, y su distrito es el de la faceta de distritos: si el usuario
+     * es profesional, se invalidan su perfil en caché y las facetas de búsqueda.
+     */
+    private void invalidarPerfilProfesional(Long usuarioId) throws DatabaseException {
+        Profesional profesional = profesionalDAO.buscarPorUsuarioId(usuarioId.intValue());
+        if (profesional != null) {
+            cachePerfil.invalidar(profesional.getId());
+            facetasBusqueda.invalidar();
+        }
+    }
+
     private String readRequestBody(HttpServletRequest request) throws IOException {
         StringBuilder sb = new StringBuilder();
         String line;
@@ -194,12 +182,12 @@ public class UsuarioPersonaServlet extends HttpServlet {
     private void sendSuccess(HttpServletResponse response, int status, Object data) throws IOException {
         response.setStatus(status);
         ResponseDTO<Object> responseDTO = new ResponseDTO<>(true, "Éxito", data);
-        response.getWriter().write(gson.toJson(responseDTO));
+        JsonResponseWriter.escribir(response, responseDTO);
     }
 
     private void sendError(HttpServletResponse response, int status, String message) throws IOException {
         response.setStatus(status);
         ResponseDTO<Object> responseDTO = new ResponseDTO<>(false, message, null);
-        response.getWriter().write(gson.toJson(responseDTO));
+        JsonResponseWriter.escribir(response, responseDTO);
     }
 }
\ No newline at end of file
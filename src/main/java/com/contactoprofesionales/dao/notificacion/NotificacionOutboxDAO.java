@@ -0,0 +1,62 @@
+package com.contactoprofesionales.dao.notificacion;
+
+import com.contactoprofesionales.exception.DatabaseException;
+import com.contactoprofesionales.model.NotificacionOutbox;
+
+import java.sql.Connection;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Interfaz DAO para el outbox de notificaciones (tabla 'notificaciones_outbox').
+ */
+public interface NotificacionOutboxDAO {
+
+    /**
+     * Registra una notificación usando la conexión (y transacción) del llamador.
+     * Si ya existe una con la misma clave de idempotencia no hace nada.
+     *
+     * @param conn Conexión con la transacción del cambio de la solicitud
+     * @param notificacion Notificación a registrar
+     * @return true si se insertó, false si ya existía
+     * @throws DatabaseException si ocurre un error en la inserción
+     */
+    boolean registrar(Connection conn, NotificacionOutbox notificacion) throws DatabaseException;
+
+    /**
+     * Reserva un lote de notificaciones pendientes cuyo próximo intento ya venció.
+     * Suma un intento y mueve proximo_intento al fin de la reserva, de modo que otro
+     * despachador no las tome mientras tanto; si el proceso cae, vuelven a estar
+     * disponibles al vencer la reserva.
+     *
+     * @param limite Máximo de notificaciones del lote
+     * @param segundosReserva Duración de la reserva
+     * @return Notificaciones reservadas (con el intento ya sumado)
+     * @throws DatabaseException si ocurre un error en la consulta
+     */
+    List<NotificacionOutbox> reservarPendientes(int limite, int segundosReserva) throws DatabaseException;
+
+    /**
+     * Marca una notificación como entregada.
+     */
+    void marcarEnviada(Long id) throws DatabaseException;
+
+    /**
+     * Deja la notificación pendiente para un nuevo intento.
+     *
+     * @param id ID de la notificación
+     * @param proximoIntento Cuándo reintentar
+     * @param error Mensaje del error de la entrega
+     */
+    void reprogramar(Long id, LocalDateTime proximoIntento, String error) throws DatabaseException;
+
+    /**
+     * Marca una notificación como fallida (se agotaron los intentos o no hay canal).
+     */
+    void marcarFallida(Long id, String error) throws DatabaseException;
+
+    /**
+     * Cuenta las notificaciones pendientes (incluye las reservadas).
+     */
+    int contarPendientes() throws DatabaseException;
+}
@@ -0,0 +1,212 @@
+package com.contactoprofesionales.dao.notificacion;
+
+import com.contactoprofesionales.exception.DatabaseException;
+import com.contactoprofesionales.model.NotificacionOutbox;
+import com.contactoprofesionales.util.DatabaseConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.*;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Implementación DAO del outbox de notificaciones.
+ * Gestiona el acceso a la tabla 'notificaciones_outbox' (migración V014).
+ */
+public class NotificacionOutboxDAOImpl implements NotificacionOutboxDAO {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificacionOutboxDAOImpl.class);
+
+    private static final int LONGITUD_MAXIMA_ERROR = 1000;
+
+    public NotificacionOutboxDAOImpl() {}
+
+    @Override
+    public boolean registrar(Connection conn, NotificacionOutbox notificacion) throws DatabaseException {
+        String sql = """
+            INSERT INTO notificaciones_outbox (
+                clave_idempotencia, tipo, canal, solicitud_id, destinatario_id, payload
+            )
+            VALUES (?, ?, ?, ?, ?, ?)
+            ON CONFLICT (clave_idempotencia) DO NOTHING
+            RETURNING id
+        """;
+
+        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setString(1, notificacion.getClaveIdempotencia());
+            ps.setString(2, notificacion.getTipo());
+            ps.setString(3, notificacion.getCanal());
+            ps.setInt(4, notificacion.getSolicitudId());
+            ps.setObject(5, notificacion.getDestinatarioId());
+            ps.setString(6, notificacion.getPayload());
+
+            try (ResultSet rs = ps.executeQuery()) {
+                if (rs.next()) {
+                    notificacion.setId(rs.getLong("id"));
+                    return true;
+                }
+            }
+
+            logger.debug("Notificación {} ya registrada, se omite", notificacion.getClaveIdempotencia());
+            return false;
+
+        } catch (SQLException e) {
+            logger.error("Error al registrar notificación {}: {}", notificacion.getClaveIdempotencia(), e.getMessage());
+            throw new DatabaseException("Error al registrar la notificación", e);
+        }
+    }
+
+    @Override
+    public List<NotificacionOutbox> reservarPendientes(int limite, int segundosReserva) throws DatabaseException {
+        // SKIP LOCKED: varias instancias pueden despachar a la vez sin tomar las mismas filas
+        String sql = """
+            UPDATE notificaciones_outbox o
+            SET intentos = o.intentos + 1,
+                proximo_intento = CURRENT_TIMESTAMP + make_interval(secs => ?)
+            FROM (
+                SELECT id
+                FROM notificaciones_outbox
+                WHERE estado = 'pendiente'
+                AND proximo_intento <= CURRENT_TIMESTAMP
+                ORDER BY proximo_intento
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+            ) lote
+            WHERE o.id = lote.id
+            RETURNING o.*
+        """;
+
+        List<NotificacionOutbox> notificaciones = new ArrayList<>();
+
+        try (Connection conn = DatabaseConnection.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+
+            ps.setInt(1, segundosReserva);
+            ps.setInt(2, limite);
+
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    notificaciones.add(mapearNotificacion(rs));
+                }
+            }
+            return notificaciones;
+
+        } catch (SQLException e) {
+            logger.error("Error al reservar notificaciones pendientes: {}", e.getMessage());
+            throw new DatabaseException("Error al reservar notificaciones pendientes", e);
+        }
+    }
+
+    @Override
+    public void marcarEnviada(Long id) throws DatabaseException {
+        String sql = """
+            UPDATE notificaciones_outbox
+            SET estado = 'enviada', fecha_envio = CURRENT_TIMESTAMP, ultimo_error = NULL
+            WHERE id = ?
+        """;
+
+        try (Connection conn = DatabaseConnection.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+
+            ps.setLong(1, id);
+            ps.executeUpdate();
+
+        } catch (SQLException e) {
+            logger.error("Error al marcar como enviada la notificación {}: {}", id, e.getMessage());
+            throw new DatabaseException("Error al marcar la notificación como enviada", e);
+        }
+    }
+
+    @Override
+    public void reprogramar(Long id, LocalDateTime proximoIntento, String error) throws DatabaseException {
+        String sql = """
+            UPDATE notificaciones_outbox
+            SET proximo_intento = ?, ultimo_error = ?
+            WHERE id = ? AND estado = 'pendiente'
+        """;
+
+        try (Connection conn = DatabaseConnection.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+
+            ps.setTimestamp(1, Timestamp.valueOf(proximoIntento));
+            ps.setString(2, truncar(error));
+            ps.setLong(3, id);
+            ps.executeUpdate();
+
+        } catch (SQLException e) {
+            logger.error("Error al reprogramar la notificación {}: {}", id, e.getMessage());
+            throw new DatabaseException("Error al reprogramar la notificación", e);
+        }
+    }
+
+    @Override
+    public void marcarFallida(Long id, String error) throws DatabaseException {
+        String sql = """
+            UPDATE notificaciones_outbox
+            SET estado = 'fallida', ultimo_error = ?
+            WHERE id = ?
+        """;
+
+        try (Connection conn = DatabaseConnection.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+
+            ps.setString(1, truncar(error));
+            ps.setLong(2, id);
+            ps.executeUpdate();
+
+        } catch (SQLException e) {
+            logger.error("Error al marcar como fallida la notificación {}: {}", id, e.getMessage());
+            throw new DatabaseException("Error al marcar la notificación como fallida", e);
+        }
+    }
+
+    @Override
+    public int contarPendientes() throws DatabaseException {
+        String sql = "SELECT COUNT(*) FROM notificaciones_outbox WHERE estado = 'pendiente'";
+
+        try (Connection conn = DatabaseConnection.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql);
+             ResultSet rs = ps.executeQuery()) {
+
+            return rs.next() ? rs.getInt(1) : 0;
+
+        } catch (SQLException e) {
+            logger.error("Error al contar notificaciones pendientes: {}", e.getMessage());
+            throw new DatabaseException("Error al contar notificaciones pendientes", e);
+        }
+    }
+
+    private String truncar(String error) {
+        if (error == null || error.length() <= LONGITUD_MAXIMA_ERROR) {
+            return error;
+        }
+        return error.substring(0, LONGITUD_MAXIMA_ERROR);
+    }
+
+    /**
+     * Convierte una fila del ResultSet a un objeto NotificacionOutbox.
+     */
+    private NotificacionOutbox mapearNotificacion(ResultSet rs) throws SQLException {
+        NotificacionOutbox n = new NotificacionOutbox();
+        n.setId(rs.getLong("id"));
+        n.setClaveIdempotencia(rs.getString("clave_idempotencia"));
+        n.setTipo(rs.getString("tipo"));
+        n.setCanal(rs.getString("canal"));
+        n.setSolicitudId(rs.getInt("solicitud_id"));
+        n.setDestinatarioId((Integer) rs.getObject("destinatario_id"));
+        n.setPayload(rs.getString("payload"));
+        n.setEstado(rs.getString("estado"));
+        n.setIntentos(rs.getInt("intentos"));
+
+        Timestamp proximo = rs.getTimestamp("proximo_intento");
+        n.setProximoIntento(proximo != null ? proximo.toLocalDateTime() : null);
+        n.setUltimoError(rs.getString("ultimo_error"));
+        Timestamp creacion = rs.getTimestamp("fecha_creacion");
+        n.setFechaCreacion(creacion != null ? creacion.toLocalDateTime() : null);
+        Timestamp envio = rs.getTimestamp("fecha_envio");
+        n.setFechaEnvio(envio != null ? envio.toLocalDateTime() : null);
+        return n;
+    }
+}
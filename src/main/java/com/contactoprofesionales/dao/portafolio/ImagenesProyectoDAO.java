@@ -2,6 +2,7 @@ package com.contactoprofesionales.dao.portafolio;
 
 import com.contactoprofesionales.model.ImagenProyecto;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -27,6 +28,15 @@ public interface ImagenesProyectoDAO {
      */
     List<ImagenProyecto> listarPorProyecto(Integer proyectoId) throws Exception;
 
+    /**
+     * Lista las imágenes de varios proyectos con una sola consulta.
+     *
+     * @param proyectoIds IDs de los proyectos
+     * @return Mapa ID de proyecto → imágenes ordenadas; los proyectos sin imágenes no tienen entrada
+     * @throws Exception si hay error en la consulta
+     */
+    Map<Integer, List<ImagenProyecto>> listarPorProyectos(List<Integer> proyectoIds) throws Exception;
+
     /**
      * Busca una imagen específica por su ID.
      *
@@ -2,13 +2,16 @@ package com.contactoprofesionales.dao.portafolio;
 
 import com.contactoprofesionales.model.ImagenProyecto;
 import com.contactoprofesionales.model.ImagenProyecto.TipoImagen;
+import com.contactoprofesionales.util.CargadorHijosLote;
 import com.contactoprofesionales.util.DatabaseConnection;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -67,6 +70,37 @@ public class ImagenesProyectoDAOImpl implements ImagenesProyectoDAO {
         }
     }
 
+    /**
+     * Lista las imágenes de varios proyectos en un solo viaje a la BD
+     * (WHERE proyecto_id = ANY(?)) en lugar de una consulta por proyecto.
+     *
+     * @param proyectoIds IDs de los proyectos
+     * @return Mapa ID de proyecto → imágenes ordenadas por orden y tipo
+     * @throws Exception si hay error en la consulta
+     */
+    @Override
+    public Map<Integer, List<ImagenProyecto>> listarPorProyectos(List<Integer> proyectoIds) throws Exception {
+        if (proyectoIds == null || proyectoIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        logger.debug("Listando imágenes de {} proyectos en lote", proyectoIds.size());
+
+        String sql = "SELECT id, proyecto_id, url_imagen, tipo_imagen, descripcion, " +
+                    "orden, fecha_subida " +
+                    "FROM imagenes_proyecto " +
+                    "WHERE proyecto_id = ANY(?) " +
+                    "ORDER BY proyecto_id, orden ASC, tipo_imagen ASC";
+
+        try (Connection conn = DatabaseConnection.getConnection()) {
+            return CargadorHijosLote.cargar(conn, sql, "proyecto_id", proyectoIds, this::mapearImagen);
+
+        } catch (SQLException e) {
+            logger.error("Error al listar imágenes de los proyectos {}", proyectoIds, e);
+            throw new Exception("Error al obtener imágenes de los proyectos", e);
+        }
+    }
+
     /**
      * Busca una imagen específica por su ID.
      *
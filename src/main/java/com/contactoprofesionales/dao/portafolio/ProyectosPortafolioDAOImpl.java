@@ -2,6 +2,7 @@ package com.contactoprofesionales.dao.portafolio;
 
 import com.contactoprofesionales.model.ProyectoPortafolio;
 import com.contactoprofesionales.model.ImagenProyecto;
+import com.contactoprofesionales.util.CargadorHijosLote;
 import com.contactoprofesionales.util.DatabaseConnection;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -9,7 +10,9 @@ import org.slf4j.LoggerFactory;
 import java.sql.*;
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -33,7 +36,12 @@ public class ProyectosPortafolioDAOImpl implements ProyectosPortafolioDAO {
     private final ImagenesProyectoDAO imagenesDAO;
 
     public ProyectosPortafolioDAOImpl() {
-        this.imagenesDAO = new ImagenesProyectoDAOImpl();
+        this(new ImagenesProyectoDAOImpl());
+    }
+
+    // Constructor para testing
+    public ProyectosPortafolioDAOImpl(ImagenesProyectoDAO imagenesDAO) {
+        this.imagenesDAO = imagenesDAO;
     }
 
     /**
@@ -67,28 +75,21 @@ public class ProyectosPortafolioDAOImpl implements ProyectosPortafolioDAO {
 
             try (ResultSet rs = stmt.executeQuery()) {
                 while (rs.next()) {
-                    ProyectoPortafolio proyecto = mapearProyecto(rs);
-
-                    // ✅ Cargar imágenes del proyecto
-                    try {
-                        List<ImagenProyecto> imagenes = imagenesDAO.listarPorProyecto(proyecto.getId());
-                        proyecto.setImagenes(imagenes);
-                    } catch (Exception e) {
-                        logger.warn("Error al cargar imágenes del proyecto {}", proyecto.getId(), e);
-                        proyecto.setImagenes(new ArrayList<>());
-                    }
-
-                    proyectos.add(proyecto);
+                    proyectos.add(mapearProyecto(rs));
                 }
             }
 
-            logger.debug("Se encontraron {} proyectos para el profesional {}", proyectos.size(), profesionalId);
-            return proyectos;
-
         } catch (SQLException e) {
             logger.error("Error al listar proyectos del profesional {}", profesionalId, e);
             throw new Exception("Error al obtener proyectos del portafolio", e);
         }
+
+        // ✅ Imágenes de todos los proyectos en una sola consulta (sin N+1),
+        // después de liberar la conexión de la consulta de proyectos
+        cargarImagenes(proyectos);
+
+        logger.debug("Se encontraron {} proyectos para el profesional {}", proyectos.size(), profesionalId);
+        return proyectos;
     }
 
     /**
@@ -115,26 +116,23 @@ public class ProyectosPortafolioDAOImpl implements ProyectosPortafolioDAO {
 
             stmt.setInt(1, id);
 
+            ProyectoPortafolio proyecto = null;
             try (ResultSet rs = stmt.executeQuery()) {
                 if (rs.next()) {
-                    ProyectoPortafolio proyecto = mapearProyecto(rs);
-
-                    // ✅ Cargar imágenes
-                    try {
-                        List<ImagenProyecto> imagenes = imagenesDAO.listarPorProyecto(proyecto.getId());
-                        proyecto.setImagenes(imagenes);
-                    } catch (Exception e) {
-                        logger.warn("Error al cargar imágenes del proyecto {}", id, e);
-                        proyecto.setImagenes(new ArrayList<>());
-                    }
-
-                    logger.debug("Proyecto encontrado: {}", proyecto);
-                    return Optional.of(proyecto);
+                    proyecto = mapearProyecto(rs);
                 }
             }
 
-            logger.debug("Proyecto con ID {} no encontrado", id);
-            return Optional.empty();
+            if (proyecto == null) {
+                logger.debug("Proyecto con ID {} no encontrado", id);
+                return Optional.empty();
+            }
+
+            // ✅ Cargar imágenes
+            cargarImagenes(Collections.singletonList(proyecto));
+
+            logger.debug("Proyecto encontrado: {}", proyecto);
+            return Optional.of(proyecto);
 
         } catch (SQLException e) {
             logger.error("Error al buscar proyecto con ID {}", id, e);
@@ -142,6 +140,33 @@ public class ProyectosPortafolioDAOImpl implements ProyectosPortafolioDAO {
         }
     }
 
+    /**
+     * Carga las imágenes de los proyectos con una sola consulta y las asigna en memoria.
+     * Si la carga falla, los proyectos quedan con lista vacía (las imágenes no son críticas).
+     *
+     * @param proyectos Proyectos a completar
+     */
+    void cargarImagenes(List<ProyectoPortafolio> proyectos) {
+        if (proyectos.isEmpty()) {
+            return;
+        }
+
+        List<Integer> ids = new ArrayList<>(proyectos.size());
+        for (ProyectoPortafolio proyecto : proyectos) {
+            ids.add(proyecto.getId());
+        }
+
+        Map<Integer, List<ImagenProyecto>> imagenes;
+        try {
+            imagenes = imagenesDAO.listarPorProyectos(ids);
+        } catch (Exception e) {
+            logger.warn("Error al cargar imágenes de los proyectos {}", ids, e);
+            imagenes = Collections.emptyMap();
+        }
+
+        CargadorHijosLote.asignar(proyectos, ProyectoPortafolio::getId, imagenes, ProyectoPortafolio::setImagenes);
+    }
+
     /**
      * Guarda un nuevo proyecto en el portafolio.
      * VALIDA que el profesional no tenga ya 20 proyectos activos antes de insertar.
@@ -1,7 +1,15 @@
 package com.contactoprofesionales.dao.profesional;
 
+import com.contactoprofesionales.dto.BusquedaCriteriosDTO;
+import com.contactoprofesionales.dto.FacetaDTO;
+import com.contactoprofesionales.dto.FacetasBusquedaDTO;
+import com.contactoprofesionales.dto.ProfesionalBusquedaDTO;
+import com.contactoprofesionales.dto.ProfesionalIndiceDTO;
+import com.contactoprofesionales.dto.ProfesionalUbicacionDTO;
+import com.contactoprofesionales.dto.ResultadoPaginadoDTO;
 import com.contactoprofesionales.model.Profesional;
 import com.contactoprofesionales.exception.DatabaseException;
+import com.contactoprofesionales.util.CursorPaginacion;
 import java.util.List;
 
 /**
@@ -25,6 +33,12 @@ public interface ProfesionalDAO {
      */
     List<Profesional> listarTodos() throws DatabaseException;
     
+    /**
+     * Lista hasta 'limite' profesionales activos ubicados después del cursor
+     * (null = desde el inicio), ordenados por calificación, reseñas e id descendentes.
+     */
+    List<Profesional> listarPorCursor(CursorPaginacion despuesDe, int limite) throws DatabaseException;
+    
     /**
      * Busca profesionales por especialidad.
      */
@@ -41,6 +55,53 @@ public interface ProfesionalDAO {
     List<Profesional> buscarConFiltros(String especialidad, String distrito, 
                                        Double calificacionMin) throws DatabaseException;
     
+    /**
+     * Busca profesionales aplicando todos los criterios (categoría, especialidad,
+     * tarifa máxima y disponibilidad) en SQL y devuelve solo la página solicitada
+     * junto con el total de coincidencias.
+     */
+    ResultadoPaginadoDTO<Profesional> buscarPaginado(BusquedaCriteriosDTO criterios) throws DatabaseException;
+    
+    /**
+     * Cuenta los profesionales que cumplen los criterios de búsqueda (sin paginación).
+     */
+    int contarConFiltros(BusquedaCriteriosDTO criterios) throws DatabaseException;
+    
+    /**
+     * Busca profesionales activos por sus IDs, respetando el orden de la lista recibida.
+     */
+    List<Profesional> buscarPorIds(List<Integer> ids) throws DatabaseException;
+    
+    /**
+     * Búsqueda paginada sobre las tarjetas de búsqueda (profesionales_tarjeta_busqueda).
+     * Solo aplica los filtros de tarifa máxima y disponibilidad; las búsquedas por
+     * categoría o especialidad usan buscarPaginado.
+     */
+    ResultadoPaginadoDTO<ProfesionalBusquedaDTO> buscarTarjetasPaginado(BusquedaCriteriosDTO criterios)
+            throws DatabaseException;
+    
+    /**
+     * Obtiene las tarjetas de búsqueda de los IDs indicados, respetando el orden de la lista.
+     */
+    List<ProfesionalBusquedaDTO> buscarTarjetasPorIds(List<Integer> ids) throws DatabaseException;
+    
+    /**
+     * Lista los datos de todos los profesionales activos para construir el índice de búsqueda.
+     */
+    List<ProfesionalIndiceDTO> listarParaIndice() throws DatabaseException;
+    
+    /**
+     * Obtiene los datos de un profesional para el índice de búsqueda.
+     * Retorna null si el profesional no existe o no está activo.
+     */
+    ProfesionalIndiceDTO obtenerParaIndice(Integer profesionalId) throws DatabaseException;
+    
+    /**
+     * Lista la ubicación (distrito y área de servicio) de todos los profesionales activos
+     * para construir el índice de búsqueda por cercanía.
+     */
+    List<ProfesionalUbicacionDTO> listarUbicacionesServicio() throws DatabaseException;
+    
     /**
      * Crea un nuevo profesional.
      */
@@ -81,4 +142,25 @@ public interface ProfesionalDAO {
      */
     List<String> obtenerDistritosUnicos() throws DatabaseException;
     
+    /**
+     * Cuenta los profesionales activos por servicio profesional (faceta de especialidades),
+     * ordenado alfabéticamente.
+     */
+    List<FacetaDTO> contarPorEspecialidad() throws DatabaseException;
+    
+    /**
+     * Cuenta los profesionales activos por distrito (faceta de distritos),
+     * ordenado por ID de distrito.
+     */
+    List<FacetaDTO> contarPorDistrito() throws DatabaseException;
+    
+    /**
+     * Calcula las facetas (conteos por categoría, distrito, rango de tarifa, disponible
+     * y verificado) de los resultados de una búsqueda.
+     *
+     * @param criterios Criterios de búsqueda (se ignoran si idsIndice no es null)
+     * @param idsIndice IDs resueltos por el índice en memoria, o null para filtrar en SQL
+     */
+    FacetasBusquedaDTO contarFacetas(BusquedaCriteriosDTO criterios, List<Integer> idsIndice)
+            throws DatabaseException;
 }
@@ -1,15 +1,28 @@
 package com.contactoprofesionales.dao.profesional;
 
+import com.contactoprofesionales.dto.BusquedaCriteriosDTO;
+import com.contactoprofesionales.dto.FacetaDTO;
+import com.contactoprofesionales.dto.FacetasBusquedaDTO;
+import com.contactoprofesionales.dto.ProfesionalBusquedaDTO;
+import com.contactoprofesionales.dto.ProfesionalIndiceDTO;
+import com.contactoprofesionales.dto.ProfesionalUbicacionDTO;
+import com.contactoprofesionales.dto.ResultadoPaginadoDTO;
 import com.contactoprofesionales.model.Profesional;
+import com.contactoprofesionales.model.UbicacionServicio;
 import com.contactoprofesionales.exception.DatabaseException;
+import com.contactoprofesionales.util.CursorPaginacion;
+import com.contactoprofesionales.util.TextoBusqueda;
 import com.contactoprofesionales.util.DatabaseConnection;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.math.BigDecimal;
 import java.sql.*;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Implementación del DAO para operaciones con profesionales.
@@ -23,6 +36,41 @@ public class ProfesionalDAOImpl implements ProfesionalDAO {
 
     private static final Logger logger = LoggerFactory.getLogger(ProfesionalDAOImpl.class);
 
+    // Búsqueda de texto con pg_trgm + f_unaccent (migración V010). null = aún no verificado
+    private static volatile Boolean busquedaTrigramDisponible;
+
+    // ✅ Especialidades de cada profesional agregadas en UNA sola pasada (principal primero).
+    // Reemplaza las dos subconsultas correlacionadas por fila (LIMIT 1 + STRING_AGG).
+    private static final String AGREGADO_ESPECIALIDADES =
+            "(ARRAY_AGG(ep.id ORDER BY ep.es_principal DESC, ep.orden ASC))[1] AS especialidad_id, " +
+            "STRING_AGG(ep.servicio_profesional, ', ' ORDER BY ep.es_principal DESC, ep.orden ASC) AS especialidades ";
+
+    // Listados completos: se agrega toda la tabla una vez y se une por hash
+    static final String JOIN_ESPECIALIDADES_AGREGADAS =
+            "LEFT JOIN (SELECT ep.profesional_id, " + AGREGADO_ESPECIALIDADES +
+            "FROM especialidades_profesional ep WHERE ep.activo = true " +
+            "GROUP BY ep.profesional_id) esp ON esp.profesional_id = p.id ";
+
+    // Consultas de pocas filas (por ID o una página): un único acceso indexado por fila
+    static final String JOIN_ESPECIALIDADES_LATERAL =
+            "LEFT JOIN LATERAL (SELECT " + AGREGADO_ESPECIALIDADES +
+            "FROM especialidades_profesional ep " +
+            "WHERE ep.profesional_id = p.id AND ep.activo = true) esp ON true ";
+
+    // Columnas que espera mapResultSetToProfesional (alias esp de los JOIN anteriores)
+    private static final String COLUMNAS_ESPECIALIDADES =
+            "esp.especialidad_id, COALESCE(esp.especialidades, 'Sin especialidad') AS especialidad_nombre ";
+
+    static final String SQL_LISTAR_TODOS =
+            "SELECT p.*, " +
+            "u.nombre_completo, u.telefono, u.distrito_id, " +
+            COLUMNAS_ESPECIALIDADES +
+            "FROM profesionales p " +
+            "INNER JOIN usuarios u ON p.usuario_id = u.id " +
+            JOIN_ESPECIALIDADES_AGREGADAS +
+            "WHERE p.activo = true AND u.activo = true " +
+            "ORDER BY p.calificacion_promedio DESC, p.total_resenas DESC, p.id DESC";
+
     /**
      * ✅ ACTUALIZADO 2025-11-17: Query con JOIN a especialidades y categorias_servicio
      * Incluye especialidad_nombre desde categorias_servicio y distrito_id desde usuarios
@@ -34,13 +82,10 @@ public class ProfesionalDAOImpl implements ProfesionalDAO {
         // ✅ REFACTORIZADO: Mostrar TODAS las especialidades concatenadas
         String sql = "SELECT p.*, " +
                     "u.nombre_completo, u.telefono, u.distrito_id, " +
-                    "COALESCE(" +
-                    "  (SELECT STRING_AGG(ep.servicio_profesional, ', ' ORDER BY ep.es_principal DESC, ep.orden ASC) " +
-                    "   FROM especialidades_profesional ep " +
-                    "   WHERE ep.profesional_id = p.id AND ep.activo = true), " +
-                    "  'Sin especialidad') AS especialidad_nombre " +
+                    COLUMNAS_ESPECIALIDADES +
                     "FROM profesionales p " +
                     "INNER JOIN usuarios u ON p.usuario_id = u.id " +
+                    JOIN_ESPECIALIDADES_LATERAL +
                     "WHERE p.id = ? AND p.activo = true AND u.activo = true";
 
         try (Connection conn = DatabaseConnection.getConnection();
@@ -72,13 +117,10 @@ public class ProfesionalDAOImpl implements ProfesionalDAO {
         // ✅ REFACTORIZADO: Mostrar TODAS las especialidades concatenadas
         String sql = "SELECT p.*, " +
                     "u.nombre_completo, u.telefono, u.distrito_id, " +
-                    "COALESCE(" +
-                    "  (SELECT STRING_AGG(ep.servicio_profesional, ', ' ORDER BY ep.es_principal DESC, ep.orden ASC) " +
-                    "   FROM especialidades_profesional ep " +
-                    "   WHERE ep.profesional_id = p.id AND ep.activo = true), " +
-                    "  'Sin especialidad') AS especialidad_nombre " +
+                    COLUMNAS_ESPECIALIDADES +
                     "FROM profesionales p " +
                     "INNER JOIN usuarios u ON p.usuario_id = u.id " +
+                    JOIN_ESPECIALIDADES_LATERAL +
                     "WHERE p.usuario_id = ? AND p.activo = true AND u.activo = true";
 
         try (Connection conn = DatabaseConnection.getConnection();
@@ -107,21 +149,8 @@ public class ProfesionalDAOImpl implements ProfesionalDAO {
     public List<Profesional> listarTodos() throws DatabaseException {
         logger.debug("Listando todos los profesionales");
 
-        // ✅ REFACTORIZADO: Mostrar TODAS las especialidades concatenadas cuando se lista sin filtro
-        String sql = "SELECT p.*, " +
-                    "u.nombre_completo, u.telefono, u.distrito_id, " +
-                    "(SELECT ep.id FROM especialidades_profesional ep " +
-                    " WHERE ep.profesional_id = p.id AND ep.activo = true " +
-                    " ORDER BY ep.es_principal DESC, ep.orden ASC LIMIT 1) AS especialidad_id, " + // ID de especialidad principal
-                    "COALESCE(" +
-                    "  (SELECT STRING_AGG(ep.servicio_profesional, ', ' ORDER BY ep.es_principal DESC, ep.orden ASC) " +
-                    "   FROM especialidades_profesional ep " +
-                    "   WHERE ep.profesional_id = p.id AND ep.activo = true), " +
-                    "  'Sin especialidad') AS especialidad_nombre " +
-                    "FROM profesionales p " +
-                    "INNER JOIN usuarios u ON p.usuario_id = u.id " +
-                    "WHERE p.activo = true AND u.activo = true " +
-                    "ORDER BY p.calificacion_promedio DESC, p.total_resenas DESC";
+        // ✅ Mostrar TODAS las especialidades concatenadas (un solo agregado + hash join)
+        String sql = SQL_LISTAR_TODOS;
 
         List<Profesional> profesionales = new ArrayList<>();
 
@@ -142,6 +171,51 @@ public class ProfesionalDAOImpl implements ProfesionalDAO {
         }
     }
 
+    /**
+     * Lista profesionales activos por páginas usando un cursor de posición
+     * (mismo orden que listarTodos, con id como desempate).
+     */
+    @Override
+    public List<Profesional> listarPorCursor(CursorPaginacion despuesDe, int limite) throws DatabaseException {
+        logger.debug("Listando profesionales después de {} (límite {})", despuesDe, limite);
+
+        StringBuilder sql = new StringBuilder("SELECT p.*, ")
+            .append("u.nombre_completo, u.telefono, u.distrito_id, ")
+            .append(COLUMNAS_ESPECIALIDADES)
+            .append("FROM profesionales p ")
+            .append("INNER JOIN usuarios u ON p.usuario_id = u.id ")
+            .append(JOIN_ESPECIALIDADES_LATERAL)
+            .append("WHERE p.activo = true AND u.activo = true");
+        List<Object> params = new ArrayList<>();
+
+        agregarCondicionCursor(sql, params, despuesDe,
+                               "p.calificacion_promedio", "p.total_resenas", "p.id");
+
+        sql.append(" ORDER BY p.calificacion_promedio DESC, p.total_resenas DESC, p.id DESC")
+           .append(" LIMIT ?");
+        params.add(limite);
+
+        List<Profesional> profesionales = new ArrayList<>();
+
+        try (Connection conn = DatabaseConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
+
+            asignarParametros(stmt, params);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    profesionales.add(mapResultSetToProfesional(rs));
+                }
+            }
+
+            return profesionales;
+
+        } catch (SQLException e) {
+            logger.error("Error al listar profesionales por cursor", e);
+            throw new DatabaseException("Error al listar profesionales", e);
+        }
+    }
+
     /**
      * ✅ ACTUALIZADO 2025-11-17: Búsqueda por nombre de categoría de servicio
      * Antes buscaba por campo especialidad, ahora busca en categorias_servicio.nombre
@@ -150,6 +224,8 @@ public class ProfesionalDAOImpl implements ProfesionalDAO {
     public List<Profesional> buscarPorEspecialidad(String especialidad) throws DatabaseException {
         logger.debug("Buscando profesionales por especialidad: {}", especialidad);
 
+        List<Object> params = new ArrayList<>();
+
         // ✅ REFACTORIZADO: Mostrar solo la especialidad buscada para cada profesional
         // Agrupa profesionales y muestra solo la especialidad que coincide con la búsqueda
         String sql = "SELECT p.*, " +
@@ -159,7 +235,8 @@ public class ProfesionalDAOImpl implements ProfesionalDAO {
                     "FROM profesionales p " +
                     "INNER JOIN usuarios u ON p.usuario_id = u.id " +
                     "INNER JOIN especialidades_profesional ep ON p.id = ep.profesional_id " +
-                    "WHERE ep.servicio_profesional ILIKE ? AND p.activo = true AND u.activo = true AND ep.activo = true " +
+                    "WHERE " + condicionTextoEspecialidad(especialidad, false, params) +
+                    " AND p.activo = true AND u.activo = true AND ep.activo = true " +
                     "GROUP BY p.id, u.nombre_completo, u.telefono, u.distrito_id " +
                     "ORDER BY p.calificacion_promedio DESC, p.total_resenas DESC";
 
@@ -168,7 +245,7 @@ public class ProfesionalDAOImpl implements ProfesionalDAO {
         try (Connection conn = DatabaseConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
 
-            stmt.setString(1, "%" + especialidad + "%");
+            asignarParametros(stmt, params);
 
             try (ResultSet rs = stmt.executeQuery()) {
                 while (rs.next()) {
@@ -263,22 +340,15 @@ public class ProfesionalDAOImpl implements ProfesionalDAO {
                .append("INNER JOIN especialidades_profesional ep ON p.id = ep.profesional_id ")
                .append("WHERE p.activo = true AND u.activo = true ")
                .append("AND ep.activo = true ")
-               .append("AND ep.servicio_profesional ILIKE ? ");
-            params.add("%" + especialidad + "%");
+               .append("AND ").append(condicionTextoEspecialidad(especialidad, false, params)).append(" ");
         } else {
             // CASO 2: Listado general - Mostrar TODAS las especialidades concatenadas
             sql.append("SELECT p.*, ")
                .append("u.nombre_completo, u.telefono, u.distrito_id, ")
-               .append("(SELECT ep.id FROM especialidades_profesional ep ")
-               .append(" WHERE ep.profesional_id = p.id AND ep.activo = true ")
-               .append(" ORDER BY ep.es_principal DESC, ep.orden ASC LIMIT 1) AS especialidad_id, ") // ID de especialidad principal
-               .append("COALESCE(")
-               .append("  (SELECT STRING_AGG(ep.servicio_profesional, ', ' ORDER BY ep.es_principal DESC, ep.orden ASC) ")
-               .append("   FROM especialidades_profesional ep ")
-               .append("   WHERE ep.profesional_id = p.id AND ep.activo = true), ")
-               .append("  'Sin especialidad') AS especialidad_nombre ")
+               .append(COLUMNAS_ESPECIALIDADES) // ID de especialidad principal + todas concatenadas
                .append("FROM profesionales p ")
                .append("INNER JOIN usuarios u ON p.usuario_id = u.id ")
+               .append(JOIN_ESPECIALIDADES_AGREGADAS)
                .append("WHERE p.activo = true AND u.activo = true ");
         }
 
@@ -311,16 +381,7 @@ public class ProfesionalDAOImpl implements ProfesionalDAO {
         try (Connection conn = DatabaseConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
 
-            for (int i = 0; i < params.size(); i++) {
-                Object param = params.get(i);
-                if (param instanceof String) {
-                    stmt.setString(i + 1, (String) param);
-                } else if (param instanceof Double) {
-                    stmt.setDouble(i + 1, (Double) param);
-                } else if (param instanceof Integer) {
-                    stmt.setInt(i + 1, (Integer) param);
-                }
-            }
+            asignarParametros(stmt, params);
 
             try (ResultSet rs = stmt.executeQuery()) {
                 while (rs.next()) {
@@ -337,6 +398,757 @@ public class ProfesionalDAOImpl implements ProfesionalDAO {
         }
     }
 
+    /**
+     * Búsqueda paginada con todos los filtros resueltos en SQL.
+     *
+     * - Con filtro de categoría/especialidad: JOIN a especialidades_profesional y
+     *   muestra solo la especialidad que coincide (igual que buscarConFiltros)
+     * - Sin ese filtro: primero se obtiene la página y luego se calculan las
+     *   especialidades concatenadas solo para las filas devueltas (JOIN LATERAL)
+     * - El total se obtiene en la misma consulta con COUNT(*) OVER()
+     * - Con paginación por cursor: se busca por posición (calificación, reseñas, id)
+     *   y no se calcula el total
+     */
+    @Override
+    public ResultadoPaginadoDTO<Profesional> buscarPaginado(BusquedaCriteriosDTO criterios)
+            throws DatabaseException {
+
+        logger.debug("Búsqueda paginada - Criterios: {}", criterios);
+
+        StringBuilder sql = new StringBuilder();
+        List<Object> params = new ArrayList<>();
+
+        if (requiereFiltroEspecialidades(criterios)) {
+            String texto = obtenerTextoEspecialidad(criterios);
+            // Con cursor se ordena solo por la clave del cursor (la relevancia no es una posición estable)
+            boolean ordenarPorRelevancia = texto != null && !criterios.isPaginacionCursor()
+                                           && usarBusquedaTrigram();
+
+            sql.append("SELECT p.*, ")
+               .append("u.nombre_completo, u.telefono, u.distrito_id, ")
+               .append("MAX(ep.id) AS especialidad_id, ")
+               .append("MAX(ep.servicio_profesional) AS especialidad_nombre, ");
+            if (ordenarPorRelevancia) {
+                // Relevancia: similitud del texto buscado con el servicio más parecido
+                sql.append("MAX(word_similarity(f_unaccent(lower(?)), ")
+                   .append("f_unaccent(lower(ep.servicio_profesional)))) AS relevancia, ");
+                params.add(texto);
+            }
+            sql.append(columnaTotal(criterios));
+            agregarFiltrosBusqueda(sql, params, criterios);
+            agregarCondicionCursor(sql, params, criterios.getCursor(),
+                                   "p.calificacion_promedio", "p.total_resenas", "p.id");
+            sql.append(" GROUP BY p.id, u.nombre_completo, u.telefono, u.distrito_id")
+               .append(" ORDER BY ")
+               .append(ordenarPorRelevancia ? "relevancia DESC NULLS LAST, " : "")
+               .append("p.calificacion_promedio DESC, p.total_resenas DESC, p.id DESC")
+               .append(" LIMIT ? OFFSET ?");
+        } else {
+            sql.append("SELECT p.*, ")
+               .append(COLUMNAS_ESPECIALIDADES)
+               .append("FROM (")
+               .append("SELECT p.*, ")
+               .append("u.nombre_completo, u.telefono, u.distrito_id, ")
+               .append(columnaTotal(criterios));
+            agregarFiltrosBusqueda(sql, params, criterios);
+            agregarCondicionCursor(sql, params, criterios.getCursor(),
+                                   "p.calificacion_promedio", "p.total_resenas", "p.id");
+            sql.append(" ORDER BY p.calificacion_promedio DESC, p.total_resenas DESC, p.id DESC")
+               .append(" LIMIT ? OFFSET ?")
+               .append(") p ")
+               .append(JOIN_ESPECIALIDADES_LATERAL)
+               .append("ORDER BY p.calificacion_promedio DESC, p.total_resenas DESC, p.id DESC");
+        }
+
+        params.add(criterios.getElementosPorPagina());
+        params.add(criterios.getOffset());
+
+        List<Profesional> profesionales = new ArrayList<>();
+        int total = criterios.isPaginacionCursor() ? ResultadoPaginadoDTO.TOTAL_NO_CALCULADO : 0;
+
+        try (Connection conn = DatabaseConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
+
+            asignarParametros(stmt, params);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    if (profesionales.isEmpty() && !criterios.isPaginacionCursor()) {
+                        total = rs.getInt("total_resultados");
+                    }
+                    profesionales.add(mapResultSetToProfesional(rs));
+                }
+            }
+
+        } catch (SQLException e) {
+            logger.error("Error en búsqueda paginada de profesionales", e);
+            throw new DatabaseException("Error al buscar profesionales", e);
+        }
+
+        // Página fuera de rango: el COUNT(*) OVER() no devuelve filas, se cuenta aparte
+        if (profesionales.isEmpty() && criterios.getOffset() > 0) {
+            total = contarConFiltros(criterios);
+        }
+
+        logger.debug("Página {} con {} profesionales de {} en total",
+                    criterios.getPagina(), profesionales.size(), total);
+        return new ResultadoPaginadoDTO<>(profesionales, total);
+    }
+
+    @Override
+    public int contarConFiltros(BusquedaCriteriosDTO criterios) throws DatabaseException {
+        logger.debug("Contando profesionales con criterios: {}", criterios);
+
+        StringBuilder sql = new StringBuilder("SELECT COUNT(DISTINCT p.id) ");
+        List<Object> params = new ArrayList<>();
+        agregarFiltrosBusqueda(sql, params, criterios);
+
+        try (Connection conn = DatabaseConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
+
+            asignarParametros(stmt, params);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    return rs.getInt(1);
+                }
+            }
+
+            return 0;
+
+        } catch (SQLException e) {
+            logger.error("Error al contar profesionales con filtros", e);
+            throw new DatabaseException("Error al contar profesionales", e);
+        }
+    }
+
+    /**
+     * Carga una página de profesionales ya resuelta por el índice de búsqueda en memoria.
+     * Las especialidades concatenadas se calculan solo para los IDs recibidos.
+     */
+    @Override
+    public List<Profesional> buscarPorIds(List<Integer> ids) throws DatabaseException {
+        List<Profesional> profesionales = new ArrayList<>();
+
+        if (ids == null || ids.isEmpty()) {
+            return profesionales;
+        }
+
+        logger.debug("Buscando {} profesionales por IDs", ids.size());
+
+        String sql = "SELECT p.*, " +
+                    "u.nombre_completo, u.telefono, u.distrito_id, " +
+                    COLUMNAS_ESPECIALIDADES +
+                    "FROM profesionales p " +
+                    "INNER JOIN usuarios u ON p.usuario_id = u.id " +
+                    JOIN_ESPECIALIDADES_LATERAL +
+                    "WHERE p.id = ANY(?) AND p.activo = true AND u.activo = true";
+
+        Map<Integer, Profesional> porId = new HashMap<>();
+
+        try (Connection conn = DatabaseConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setArray(1, conn.createArrayOf("integer", ids.toArray()));
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    Profesional profesional = mapResultSetToProfesional(rs);
+                    porId.put(profesional.getId(), profesional);
+                }
+            }
+
+        } catch (SQLException e) {
+            logger.error("Error al buscar profesionales por IDs", e);
+            throw new DatabaseException("Error al buscar profesionales", e);
+        }
+
+        // Respetar el orden (ranking) de la lista de IDs
+        for (Integer id : ids) {
+            Profesional profesional = porId.get(id);
+            if (profesional != null) {
+                profesionales.add(profesional);
+            }
+        }
+
+        return profesionales;
+    }
+
+    /**
+     * Página de resultados leída de profesionales_tarjeta_busqueda (migración V011):
+     * una fila angosta por profesional, sin JOIN a usuarios ni especialidades.
+     */
+    @Override
+    public ResultadoPaginadoDTO<ProfesionalBusquedaDTO> buscarTarjetasPaginado(BusquedaCriteriosDTO criterios)
+            throws DatabaseException {
+
+        logger.debug("Búsqueda paginada en tarjetas - Criterios: {}", criterios);
+
+        StringBuilder sql = new StringBuilder("SELECT t.*, ")
+            .append(columnaTotal(criterios))
+            .append("FROM profesionales_tarjeta_busqueda t WHERE TRUE");
+        List<Object> params = new ArrayList<>();
+
+        if (criterios.getTarifaMaxima() != null) {
+            sql.append(" AND t.tarifa_hora <= ?");
+            params.add(criterios.getTarifaMaxima());
+        }
+
+        if (Boolean.TRUE.equals(criterios.getDisponible())) {
+            sql.append(" AND t.disponible = true");
+        }
+
+        agregarCondicionCursor(sql, params, criterios.getCursor(),
+                               "t.calificacion_promedio", "t.total_resenas", "t.profesional_id");
+
+        sql.append(" ORDER BY t.calificacion_promedio DESC, t.total_resenas DESC, t.profesional_id DESC")
+           .append(" LIMIT ? OFFSET ?");
+        params.add(criterios.getElementosPorPagina());
+        params.add(criterios.getOffset());
+
+        List<ProfesionalBusquedaDTO> tarjetas = new ArrayList<>();
+        int total = criterios.isPaginacionCursor() ? ResultadoPaginadoDTO.TOTAL_NO_CALCULADO : 0;
+
+        try (Connection conn = DatabaseConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
+
+            asignarParametros(stmt, params);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    if (tarjetas.isEmpty() && !criterios.isPaginacionCursor()) {
+                        total = rs.getInt("total_resultados");
+                    }
+                    tarjetas.add(mapResultSetToTarjeta(rs));
+                }
+            }
+
+        } catch (SQLException e) {
+            logger.error("Error en búsqueda paginada de tarjetas", e);
+            throw new DatabaseException("Error al buscar profesionales", e);
+        }
+
+        // Página fuera de rango: se cuenta aparte (mismos filtros que buscarPaginado)
+        if (tarjetas.isEmpty() && criterios.getOffset() > 0) {
+            total = contarConFiltros(criterios);
+        }
+
+        return new ResultadoPaginadoDTO<>(tarjetas, total);
+    }
+
+    @Override
+    public List<ProfesionalBusquedaDTO> buscarTarjetasPorIds(List<Integer> ids) throws DatabaseException {
+        List<ProfesionalBusquedaDTO> tarjetas = new ArrayList<>();
+
+        if (ids == null || ids.isEmpty()) {
+            return tarjetas;
+        }
+
+        logger.debug("Buscando {} tarjetas por IDs", ids.size());
+
+        String sql = "SELECT t.* FROM profesionales_tarjeta_busqueda t WHERE t.profesional_id = ANY(?)";
+
+        Map<Integer, ProfesionalBusquedaDTO> porId = new HashMap<>();
+
+        try (Connection conn = DatabaseConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setArray(1, conn.createArrayOf("integer", ids.toArray()));
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    ProfesionalBusquedaDTO tarjeta = mapResultSetToTarjeta(rs);
+                    porId.put(tarjeta.getId(), tarjeta);
+                }
+            }
+
+        } catch (SQLException e) {
+            logger.error("Error al buscar tarjetas por IDs", e);
+            throw new DatabaseException("Error al buscar profesionales", e);
+        }
+
+        // Respetar el orden (ranking) de la lista de IDs
+        for (Integer id : ids) {
+            ProfesionalBusquedaDTO tarjeta = porId.get(id);
+            if (tarjeta != null) {
+                tarjetas.add(tarjeta);
+            }
+        }
+
+        return tarjetas;
+    }
+
+    /**
+     * Mapea una fila de profesionales_tarjeta_busqueda al DTO de búsqueda.
+     * La descripción ya viene recortada y las habilidades limitadas desde la BD.
+     */
+    private ProfesionalBusquedaDTO mapResultSetToTarjeta(ResultSet rs) throws SQLException {
+        ProfesionalBusquedaDTO dto = new ProfesionalBusquedaDTO();
+
+        dto.setId(rs.getInt("profesional_id"));
+        dto.setNombreCompleto(rs.getString("nombre_completo"));
+        dto.setTelefono(rs.getString("telefono"));
+
+        int distritoId = rs.getInt("distrito_id");
+        if (!rs.wasNull()) {
+            // Mismo formato que mapResultSetToProfesional: distrito_id como String
+            dto.setDistrito(String.valueOf(distritoId));
+        }
+
+        int especialidadId = rs.getInt("especialidad_id");
+        if (!rs.wasNull()) {
+            dto.setEspecialidadId(especialidadId);
+        }
+        dto.setEspecialidad(rs.getString("especialidades"));
+
+        dto.setDescripcionCorta(rs.getString("descripcion_corta"));
+        dto.setExperiencia(rs.getString("experiencia"));
+
+        Array habilidadesArray = rs.getArray("habilidades_destacadas");
+        if (habilidadesArray != null) {
+            String[] habilidades = (String[]) habilidadesArray.getArray();
+            if (habilidades.length > 0) {
+                dto.setHabilidadesDestacadas(Arrays.asList(habilidades));
+            }
+        }
+
+        dto.setFotoPerfil(rs.getString("foto_perfil"));
+        dto.setTarifaHora(rs.getDouble("tarifa_hora"));
+        dto.setCalificacionPromedio(rs.getDouble("calificacion_promedio"));
+        dto.setTotalResenas(rs.getInt("total_resenas"));
+        dto.setDisponible(rs.getBoolean("disponible"));
+        dto.setVerificado(rs.getBoolean("verificado"));
+
+        return dto;
+    }
+
+    @Override
+    public List<ProfesionalIndiceDTO> listarParaIndice() throws DatabaseException {
+        logger.debug("Listando profesionales para índice de búsqueda");
+
+        List<ProfesionalIndiceDTO> documentos = new ArrayList<>();
+
+        try (Connection conn = DatabaseConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(construirSqlIndice(false));
+             ResultSet rs = stmt.executeQuery()) {
+
+            while (rs.next()) {
+                documentos.add(mapResultSetToIndice(rs));
+            }
+
+            logger.debug("Cargados {} profesionales para índice", documentos.size());
+            return documentos;
+
+        } catch (SQLException e) {
+            logger.error("Error al listar profesionales para índice", e);
+            throw new DatabaseException("Error al listar profesionales para índice", e);
+        }
+    }
+
+    @Override
+    public ProfesionalIndiceDTO obtenerParaIndice(Integer profesionalId) throws DatabaseException {
+        logger.debug("Obteniendo profesional {} para índice de búsqueda", profesionalId);
+
+        try (Connection conn = DatabaseConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(construirSqlIndice(true))) {
+
+            stmt.setInt(1, profesionalId);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    return mapResultSetToIndice(rs);
+                }
+            }
+
+            return null;
+
+        } catch (SQLException e) {
+            logger.error("Error al obtener profesional {} para índice", profesionalId, e);
+            throw new DatabaseException("Error al obtener profesional para índice", e);
+        }
+    }
+
+    /**
+     * Carga del índice de cercanía: una fila por ubicación de servicio (o una sola fila si
+     * el profesional no tiene ubicaciones específicas), ordenadas por profesional.
+     * Parte de las tarjetas de búsqueda, que ya contienen solo a los profesionales activos
+     * con su distrito, categorías, tarifa y calificación.
+     */
+    @Override
+    public List<ProfesionalUbicacionDTO> listarUbicacionesServicio() throws DatabaseException {
+        logger.debug("Listando ubicaciones de servicio para índice de cercanía");
+
+        String sql = "SELECT t.profesional_id, t.distrito_id, t.categoria_ids, t.tarifa_hora, " +
+                     "t.disponible, t.calificacion_promedio, t.total_resenas, " +
+                     "COALESCE(a.todo_pais, false) AS todo_pais, " +
+                     "us.tipo_ubicacion, us.departamento, us.provincia, us.distrito " +
+                     "FROM profesionales_tarjeta_busqueda t " +
+                     "LEFT JOIN areas_servicio a ON a.profesional_id = t.profesional_id AND a.activo = true " +
+                     "LEFT JOIN ubicaciones_servicio us ON us.area_servicio_id = a.id AND us.activo = true " +
+                     "ORDER BY t.profesional_id, us.orden";
+
+        List<ProfesionalUbicacionDTO> profesionales = new ArrayList<>();
+
+        try (Connection conn = DatabaseConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql);
+             ResultSet rs = stmt.executeQuery()) {
+
+            ProfesionalUbicacionDTO actual = null;
+
+            while (rs.next()) {
+                int profesionalId = rs.getInt("profesional_id");
+
+                if (actual == null || actual.getId() != profesionalId) {
+                    actual = mapResultSetToUbicacion(rs);
+                    profesionales.add(actual);
+                }
+
+                String tipoUbicacion = rs.getString("tipo_ubicacion");
+                if (tipoUbicacion != null) {
+                    UbicacionServicio ubicacion = new UbicacionServicio();
+                    ubicacion.setTipoUbicacion(tipoUbicacion);
+                    ubicacion.setDepartamento(rs.getString("departamento"));
+                    ubicacion.setProvincia(rs.getString("provincia"));
+                    ubicacion.setDistrito(rs.getString("distrito"));
+                    actual.getUbicaciones().add(ubicacion);
+                }
+            }
+
+            logger.debug("Cargadas ubicaciones de {} profesionales", profesionales.size());
+            return profesionales;
+
+        } catch (SQLException e) {
+            logger.error("Error al listar ubicaciones de servicio", e);
+            throw new DatabaseException("Error al listar ubicaciones de servicio", e);
+        }
+    }
+
+    /**
+     * Mapea los datos del profesional (sin ubicaciones) de la consulta del índice de cercanía.
+     */
+    private ProfesionalUbicacionDTO mapResultSetToUbicacion(ResultSet rs) throws SQLException {
+        ProfesionalUbicacionDTO dto = new ProfesionalUbicacionDTO();
+
+        dto.setId(rs.getInt("profesional_id"));
+        int distritoId = rs.getInt("distrito_id");
+        dto.setDistritoId(rs.wasNull() ? null : distritoId);
+        dto.setCalificacionPromedio(rs.getDouble("calificacion_promedio"));
+        dto.setTotalResenas(rs.getInt("total_resenas"));
+        double tarifa = rs.getDouble("tarifa_hora");
+        dto.setTarifaHora(rs.wasNull() ? null : tarifa);
+        dto.setDisponible(rs.getBoolean("disponible"));
+        dto.setTodoPais(rs.getBoolean("todo_pais"));
+
+        Array categoriaIds = rs.getArray("categoria_ids");
+        if (categoriaIds != null) {
+            for (Integer categoriaId : (Integer[]) categoriaIds.getArray()) {
+                dto.getCategoriaIds().add(categoriaId);
+            }
+        }
+
+        return dto;
+    }
+
+    /**
+     * SQL de carga del índice: un registro por profesional activo con sus servicios
+     * y categorías agregados (un solo JOIN agrupado, sin subconsultas por fila).
+     */
+    private String construirSqlIndice(boolean porId) {
+        return "SELECT p.id, p.calificacion_promedio, p.total_resenas, p.tarifa_hora, p.disponible, " +
+               "p.habilidades, p.biografia_profesional, " +
+               "ARRAY_AGG(DISTINCT ep.categoria_id) FILTER (WHERE ep.categoria_id IS NOT NULL) AS categoria_ids, " +
+               "ARRAY_AGG(ep.servicio_profesional) FILTER (WHERE ep.servicio_profesional IS NOT NULL) AS servicios, " +
+               "ARRAY_AGG(DISTINCT cs.nombre) FILTER (WHERE cs.nombre IS NOT NULL) AS categorias " +
+               "FROM profesionales p " +
+               "INNER JOIN usuarios u ON p.usuario_id = u.id " +
+               "LEFT JOIN especialidades_profesional ep ON ep.profesional_id = p.id AND ep.activo = true " +
+               "LEFT JOIN categorias_servicio cs ON cs.id = ep.categoria_id " +
+               "WHERE p.activo = true AND u.activo = true " +
+               (porId ? "AND p.id = ? " : "") +
+               "GROUP BY p.id";
+    }
+
+    /**
+     * Mapea un registro de la consulta del índice a ProfesionalIndiceDTO.
+     */
+    private ProfesionalIndiceDTO mapResultSetToIndice(ResultSet rs) throws SQLException {
+        ProfesionalIndiceDTO documento = new ProfesionalIndiceDTO();
+
+        documento.setId(rs.getInt("id"));
+        documento.setCalificacionPromedio(rs.getDouble("calificacion_promedio"));
+        documento.setTotalResenas(rs.getInt("total_resenas"));
+        double tarifa = rs.getDouble("tarifa_hora");
+        documento.setTarifaHora(rs.wasNull() ? null : tarifa);
+        documento.setDisponible(rs.getBoolean("disponible"));
+
+        Array categoriaIds = rs.getArray("categoria_ids");
+        if (categoriaIds != null) {
+            for (Integer categoriaId : (Integer[]) categoriaIds.getArray()) {
+                documento.getCategoriaIds().add(categoriaId);
+            }
+        }
+
+        Array servicios = rs.getArray("servicios");
+        if (servicios != null) {
+            for (String servicio : (String[]) servicios.getArray()) {
+                documento.agregarTexto(servicio);
+            }
+        }
+
+        Array categorias = rs.getArray("categorias");
+        if (categorias != null) {
+            for (String categoria : (String[]) categorias.getArray()) {
+                documento.agregarTexto(categoria);
+            }
+        }
+
+        Array habilidades = rs.getArray("habilidades");
+        if (habilidades != null) {
+            for (String habilidad : (String[]) habilidades.getArray()) {
+                documento.agregarTexto(habilidad);
+            }
+        }
+
+        documento.agregarTexto(rs.getString("biografia_profesional"));
+
+        return documento;
+    }
+
+    /**
+     * Indica si los criterios filtran por categoría o texto de especialidad
+     * (requiere JOIN con especialidades_profesional).
+     */
+    private boolean requiereFiltroEspecialidades(BusquedaCriteriosDTO criterios) {
+        return criterios.getCategoriaId() != null || obtenerTextoEspecialidad(criterios) != null;
+    }
+
+    /**
+     * Texto de especialidad a buscar: la especialidad seleccionada o, si se eligió
+     * "Otro", el texto libre ingresado.
+     */
+    private String obtenerTextoEspecialidad(BusquedaCriteriosDTO criterios) {
+        return criterios.getEspecialidad() != null
+               ? criterios.getEspecialidad()
+               : criterios.getEspecialidadTexto();
+    }
+
+    /**
+     * Agrega FROM, JOINs y condiciones WHERE de la búsqueda paginada.
+     */
+    private void agregarFiltrosBusqueda(StringBuilder sql, List<Object> params,
+                                        BusquedaCriteriosDTO criterios) {
+
+        boolean filtraEspecialidades = requiereFiltroEspecialidades(criterios);
+
+        sql.append("FROM profesionales p ")
+           .append("INNER JOIN usuarios u ON p.usuario_id = u.id ");
+
+        if (filtraEspecialidades) {
+            // Con categoría: alguna especialidad activa de esa categoría. Solo con texto, el
+            // profesional puede coincidir por habilidades o biografía sin especialidades
+            // (igual que el índice en memoria)
+            sql.append(criterios.getCategoriaId() != null ? "INNER" : "LEFT")
+               .append(" JOIN especialidades_profesional ep ON p.id = ep.profesional_id AND ep.activo = true ");
+        }
+
+        sql.append("WHERE p.activo = true AND u.activo = true");
+
+        if (filtraEspecialidades) {
+            if (criterios.getCategoriaId() != null) {
+                sql.append(" AND ep.categoria_id = ?");
+                params.add(criterios.getCategoriaId());
+            }
+
+            String texto = obtenerTextoEspecialidad(criterios);
+            if (texto != null) {
+                sql.append(" AND ").append(condicionTextoProfesional("p.id", texto, params));
+            }
+        }
+
+        if (criterios.getTarifaMaxima() != null) {
+            sql.append(" AND p.tarifa_hora <= ?");
+            params.add(criterios.getTarifaMaxima());
+        }
+
+        if (Boolean.TRUE.equals(criterios.getDisponible())) {
+            sql.append(" AND p.disponible = true");
+        }
+    }
+
+    /**
+     * Condición SQL de búsqueda de texto sobre la columna con el ID del profesional, con las
+     * reglas del índice en memoria ({@link TextoBusqueda}): cada término debe estar al inicio
+     * de una palabra de alguno de sus servicios activos, nombres de categoría, habilidades o
+     * de su biografía, sin distinguir mayúsculas ni acentos. Así la búsqueda devuelve los
+     * mismos profesionales con el índice listo o sin él.
+     *
+     * Cada término es un semi-join "columnaId IN (... UNION ...)" con una rama por campo,
+     * para que cada rama use su propio índice GIN trigram en lugar de recorrer todos los
+     * profesionales (un OR entre campos de tablas distintas no puede usar índices):
+     * - Servicios y categorías: índices de la migración V010
+     * - Habilidades y biografía: índices de la migración V017
+     * Sin pg_trgm, la misma expresión sobre lower(...) (los acentos guardados no se ignoran).
+     * Si el texto no tiene términos indexables (p. ej. una sola letra), se busca el texto
+     * completo en los servicios ({@link #condicionTextoEspecialidad}).
+     */
+    private String condicionTextoProfesional(String columnaId, String texto, List<Object> params) {
+        List<String> terminos = TextoBusqueda.tokenizar(texto);
+        if (terminos.isEmpty()) {
+            return columnaId + " IN (SELECT ep.profesional_id FROM especialidades_profesional ep " +
+                   "WHERE ep.activo = true AND " + condicionTextoEspecialidad(texto, true, params) + ")";
+        }
+
+        boolean trigram = usarBusquedaTrigram();
+        String normalizar = trigram ? "f_unaccent(lower(%s))" : "lower(%s)";
+        String servicio = String.format(normalizar, "ept.servicio_profesional");
+        String categoria = String.format(normalizar, "cst.nombre");
+        String habilidades = trigram
+                             ? "f_habilidades_texto(pt.habilidades)"
+                             : "lower(array_to_string(pt.habilidades, ' '))";
+        String biografia = String.format(normalizar, "pt.biografia_profesional");
+
+        StringBuilder condicion = new StringBuilder("(");
+        for (String termino : terminos) {
+            if (condicion.length() > 1) {
+                condicion.append(" AND ");
+            }
+            condicion.append(columnaId).append(" IN (")
+                     .append("SELECT ept.profesional_id FROM especialidades_profesional ept ")
+                     .append("WHERE ept.activo = true AND ").append(servicio).append(" ~ ? ")
+                     .append("UNION SELECT ept.profesional_id FROM especialidades_profesional ept ")
+                     .append("WHERE ept.activo = true AND ept.categoria_id IN ")
+                     .append("(SELECT cst.id FROM categorias_servicio cst WHERE ").append(categoria).append(" ~ ?) ")
+                     .append("UNION SELECT pt.id FROM profesionales pt ")
+                     .append("WHERE pt.activo = true AND ").append(habilidades).append(" ~ ? ")
+                     .append("UNION SELECT pt.id FROM profesionales pt ")
+                     .append("WHERE pt.activo = true AND ").append(biografia).append(" ~ ?)");
+
+            String patron = TextoBusqueda.patronInicioPalabra(termino);
+            for (int i = 0; i < 4; i++) {
+                params.add(patron);
+            }
+        }
+        return condicion.append(")").toString();
+    }
+
+    /**
+     * Condición SQL de búsqueda de texto sobre especialidades_profesional (alias ep).
+     *
+     * - Con pg_trgm: compara sin acentos ni mayúsculas usando la misma expresión que los
+     *   índices GIN trigram de la migración V010, por lo que LIKE '%texto%' usa índice.
+     *   Si incluirCategoria es true, también coincide por nombre de categoría.
+     * - Sin la extensión: ILIKE secuencial (comportamiento anterior), con las mismas
+     *   coincidencias por nombre de categoría.
+     */
+    private String condicionTextoEspecialidad(String texto, boolean incluirCategoria, List<Object> params) {
+        String patron = "%" + texto + "%";
+
+        if (!usarBusquedaTrigram()) {
+            params.add(patron);
+            if (!incluirCategoria) {
+                return "ep.servicio_profesional ILIKE ?";
+            }
+
+            params.add(patron);
+            return "(ep.servicio_profesional ILIKE ? " +
+                   "OR ep.categoria_id IN (SELECT cs.id FROM categorias_servicio cs WHERE cs.nombre ILIKE ?))";
+        }
+
+        params.add(patron);
+        if (!incluirCategoria) {
+            return "f_unaccent(lower(ep.servicio_profesional)) LIKE f_unaccent(lower(?))";
+        }
+
+        params.add(patron);
+        return "(f_unaccent(lower(ep.servicio_profesional)) LIKE f_unaccent(lower(?)) " +
+               "OR ep.categoria_id IN (SELECT cs.id FROM categorias_servicio cs " +
+               "WHERE f_unaccent(lower(cs.nombre)) LIKE f_unaccent(lower(?))))";
+    }
+
+    /**
+     * Indica si la BD tiene pg_trgm y las funciones f_unaccent (migración V010) y
+     * f_habilidades_texto (migración V017).
+     * El resultado se guarda al verificarse; si la verificación falla (p. ej. la BD no
+     * responde) se usa ILIKE en esa consulta y se vuelve a verificar en la siguiente.
+     */
+    private boolean usarBusquedaTrigram() {
+        Boolean disponible = busquedaTrigramDisponible;
+        if (disponible != null) {
+            return disponible;
+        }
+
+        String sql = "SELECT EXISTS(SELECT 1 FROM pg_extension WHERE extname = 'pg_trgm') " +
+                    "AND EXISTS(SELECT 1 FROM pg_proc WHERE proname = 'f_unaccent') " +
+                    "AND EXISTS(SELECT 1 FROM pg_proc WHERE proname = 'f_habilidades_texto')";
+
+        disponible = false;
+        try (Connection conn = DatabaseConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql);
+             ResultSet rs = stmt.executeQuery()) {
+
+            if (rs.next()) {
+                disponible = rs.getBoolean(1);
+            }
+
+        } catch (SQLException e) {
+            logger.warn("⚠️ No se pudo verificar pg_trgm, se usará ILIKE en esta búsqueda: {}", e.getMessage());
+            return false;
+        }
+
+        busquedaTrigramDisponible = disponible;
+        logger.info("Búsqueda de texto de especialidades: {}",
+                   disponible ? "pg_trgm (índices GIN trigram)" : "ILIKE (sin pg_trgm)");
+        return disponible;
+    }
+
+    /**
+     * Columna del total de resultados: COUNT(*) OVER() con paginación por OFFSET.
+     * Con cursor no se cuenta (obligaría a recorrer todas las filas restantes).
+     */
+    private String columnaTotal(BusquedaCriteriosDTO criterios) {
+        return criterios.isPaginacionCursor()
+               ? "NULL AS total_resultados "
+               : "COUNT(*) OVER() AS total_resultados ";
+    }
+
+    /**
+     * Condición de paginación por posición: filas estrictamente después del cursor en el
+     * orden (calificación DESC, reseñas DESC, id DESC). La comparación de filas permite
+     * que PostgreSQL empiece a leer el índice de orden directamente en esa posición.
+     */
+    private void agregarCondicionCursor(StringBuilder sql, List<Object> params, CursorPaginacion cursor,
+                                        String columnaCalificacion, String columnaResenas, String columnaId) {
+        if (cursor == null) {
+            return;
+        }
+        sql.append(" AND (").append(columnaCalificacion).append(", ")
+           .append(columnaResenas).append(", ")
+           .append(columnaId).append(") < (?, ?, ?)");
+        params.add(cursor.getCalificacion());
+        params.add(cursor.getTotalResenas());
+        params.add(cursor.getId());
+    }
+
+    /**
+     * Asigna los parámetros de una consulta dinámica según su tipo.
+     */
+    private void asignarParametros(PreparedStatement stmt, List<Object> params) throws SQLException {
+        for (int i = 0; i < params.size(); i++) {
+            Object param = params.get(i);
+            if (param instanceof String) {
+                stmt.setString(i + 1, (String) param);
+            } else if (param instanceof Double) {
+                stmt.setDouble(i + 1, (Double) param);
+            } else if (param instanceof Integer) {
+                stmt.setInt(i + 1, (Integer) param);
+            } else if (param instanceof BigDecimal) {
+                stmt.setBigDecimal(i + 1, (BigDecimal) param);
+            } else if (param instanceof Integer[]) {
+                stmt.setArray(i + 1, stmt.getConnection().createArrayOf("integer", (Integer[]) param));
+            }
+        }
+    }
+
     /**
      * ✅ ACTUALIZADO 2025-11-17: INSERT simplificado con campos que SÍ existen
      *
@@ -763,4 +1575,149 @@ public class ProfesionalDAOImpl implements ProfesionalDAO {
         }
     }
 
+    /**
+     * Faceta de especialidades: profesionales activos (con tarjeta de búsqueda) por servicio.
+     */
+    @Override
+    public List<FacetaDTO> contarPorEspecialidad() throws DatabaseException {
+        logger.debug("Contando profesionales por especialidad");
+
+        String sql = "SELECT ep.servicio_profesional AS valor, COUNT(DISTINCT ep.profesional_id) AS total " +
+                    "FROM especialidades_profesional ep " +
+                    "INNER JOIN profesionales_tarjeta_busqueda t ON t.profesional_id = ep.profesional_id " +
+                    "WHERE ep.activo = true AND ep.servicio_profesional IS NOT NULL " +
+                    "GROUP BY ep.servicio_profesional " +
+                    "ORDER BY ep.servicio_profesional";
+
+        return consultarFacetas(sql, "especialidades");
+    }
+
+    /**
+     * Faceta de distritos: profesionales activos (con tarjeta de búsqueda) por distrito_id.
+     */
+    @Override
+    public List<FacetaDTO> contarPorDistrito() throws DatabaseException {
+        logger.debug("Contando profesionales por distrito");
+
+        String sql = "SELECT t.distrito_id::text AS valor, COUNT(*) AS total " +
+                    "FROM profesionales_tarjeta_busqueda t " +
+                    "WHERE t.distrito_id IS NOT NULL " +
+                    "GROUP BY t.distrito_id " +
+                    "ORDER BY t.distrito_id";
+
+        return consultarFacetas(sql, "distritos");
+    }
+
+    /**
+     * Facetas de una búsqueda en una sola consulta sobre las tarjetas de búsqueda:
+     * - categoría: UNNEST de categoria_ids de los profesionales filtrados
+     * - distrito, rango de tarifa, disponible y verificado: GROUPING SETS
+     *
+     * Si idsIndice no es null (búsqueda resuelta por el índice en memoria), se cuentan
+     * exactamente esos profesionales; si no, se aplican los mismos filtros que buscarPaginado.
+     */
+    @Override
+    public FacetasBusquedaDTO contarFacetas(BusquedaCriteriosDTO criterios, List<Integer> idsIndice)
+            throws DatabaseException {
+
+        logger.debug("Calculando facetas de búsqueda - Criterios: {}", criterios);
+
+        StringBuilder sql = new StringBuilder();
+        List<Object> params = new ArrayList<>();
+
+        sql.append("WITH filtrados AS (")
+           .append("SELECT t.distrito_id, t.disponible, t.verificado, t.categoria_ids, ")
+           .append("CASE WHEN t.tarifa_hora IS NULL THEN NULL ")
+           .append("WHEN t.tarifa_hora < 50 THEN '0-50' ")
+           .append("WHEN t.tarifa_hora < 100 THEN '50-100' ")
+           .append("WHEN t.tarifa_hora < 200 THEN '100-200' ")
+           .append("ELSE '200+' END AS rango_tarifa ")
+           .append("FROM profesionales_tarjeta_busqueda t WHERE TRUE");
+
+        if (idsIndice != null) {
+            sql.append(" AND t.profesional_id = ANY(?)");
+            params.add(idsIndice.toArray(new Integer[0]));
+        } else {
+            if (criterios.getCategoriaId() != null) {
+                sql.append(" AND ? = ANY(t.categoria_ids)");
+                params.add(criterios.getCategoriaId());
+            }
+            String texto = obtenerTextoEspecialidad(criterios);
+            if (texto != null) {
+                // Mismas reglas que agregarFiltrosBusqueda y el índice en memoria
+                sql.append(" AND ").append(condicionTextoProfesional("t.profesional_id", texto, params));
+            }
+            if (criterios.getTarifaMaxima() != null) {
+                sql.append(" AND t.tarifa_hora <= ?");
+                params.add(criterios.getTarifaMaxima());
+            }
+            if (Boolean.TRUE.equals(criterios.getDisponible())) {
+                sql.append(" AND t.disponible = true");
+            }
+        }
+
+        sql.append(") ")
+           .append("SELECT '").append(FacetasBusquedaDTO.CATEGORIA).append("' AS faceta, ")
+           .append("c.categoria_id::text AS valor, COUNT(*) AS total ")
+           .append("FROM filtrados f CROSS JOIN LATERAL UNNEST(f.categoria_ids) AS c(categoria_id) ")
+           .append("GROUP BY c.categoria_id ")
+           .append("UNION ALL ")
+           .append("SELECT CASE WHEN GROUPING(distrito_id) = 0 THEN '").append(FacetasBusquedaDTO.DISTRITO).append("' ")
+           .append("WHEN GROUPING(rango_tarifa) = 0 THEN '").append(FacetasBusquedaDTO.TARIFA).append("' ")
+           .append("WHEN GROUPING(disponible) = 0 THEN '").append(FacetasBusquedaDTO.DISPONIBLE).append("' ")
+           .append("ELSE '").append(FacetasBusquedaDTO.VERIFICADO).append("' END, ")
+           .append("CASE WHEN GROUPING(distrito_id) = 0 THEN distrito_id::text ")
+           .append("WHEN GROUPING(rango_tarifa) = 0 THEN rango_tarifa ")
+           .append("WHEN GROUPING(disponible) = 0 THEN disponible::text ")
+           .append("ELSE verificado::text END, ")
+           .append("COUNT(*) ")
+           .append("FROM filtrados ")
+           .append("GROUP BY GROUPING SETS ((distrito_id), (rango_tarifa), (disponible), (verificado)) ")
+           .append("ORDER BY faceta, total DESC, valor");
+
+        FacetasBusquedaDTO facetas = new FacetasBusquedaDTO();
+
+        try (Connection conn = DatabaseConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
+
+            asignarParametros(stmt, params);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    String valor = rs.getString("valor");
+                    if (valor != null) { // Sin distrito o sin tarifa: no forman bucket
+                        facetas.agregar(rs.getString("faceta"), new FacetaDTO(valor, rs.getInt("total")));
+                    }
+                }
+            }
+
+            logger.debug("Facetas calculadas: {}", facetas);
+            return facetas;
+
+        } catch (SQLException e) {
+            logger.error("Error al calcular facetas de búsqueda", e);
+            throw new DatabaseException("Error al calcular facetas de búsqueda", e);
+        }
+    }
+
+    private List<FacetaDTO> consultarFacetas(String sql, String nombreFaceta) throws DatabaseException {
+        List<FacetaDTO> facetas = new ArrayList<>();
+
+        try (Connection conn = DatabaseConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql);
+             ResultSet rs = stmt.executeQuery()) {
+
+            while (rs.next()) {
+                facetas.add(new FacetaDTO(rs.getString("valor"), rs.getInt("total")));
+            }
+
+            logger.debug("Faceta {}: {} valores", nombreFaceta, facetas.size());
+            return facetas;
+
+        } catch (SQLException e) {
+            logger.error("Error al contar faceta de {}", nombreFaceta, e);
+            throw new DatabaseException("Error al obtener " + nombreFaceta, e);
+        }
+    }
+
 }
@@ -0,0 +1,39 @@
+package com.contactoprofesionales.dao.solicitud;
+
+import com.contactoprofesionales.exception.DatabaseException;
+
+import java.sql.Connection;
+import java.util.Map;
+
+/**
+ * Interfaz DAO para los contadores de solicitudes por profesional y estado
+ * (tabla 'solicitud_contadores', migración V016).
+ *
+ * Los contadores se mantienen en la misma transacción que el cambio de la solicitud
+ * (SolicitudServicioDAOImpl), así que leerlos equivale a un COUNT(*) sin recorrer
+ * las solicitudes.
+ */
+public interface SolicitudContadoresDAO {
+
+    /**
+     * Registra que una solicitud del profesional pasó de un estado a otro, usando la
+     * conexión (y transacción) del llamador. No hace commit ni cierra la conexión.
+     *
+     * @param conn Conexión con la transacción del cambio de la solicitud
+     * @param profesionalId Profesional de la solicitud
+     * @param estadoAnterior Estado previo, o null si la solicitud es nueva
+     * @param estadoNuevo Estado actual
+     * @throws DatabaseException si ocurre un error en la actualización
+     */
+    void mover(Connection conn, Integer profesionalId, String estadoAnterior, String estadoNuevo)
+            throws DatabaseException;
+
+    /**
+     * Obtiene los contadores de un profesional.
+     *
+     * @param profesionalId ID del profesional
+     * @return Total de solicitudes por estado (los estados sin solicitudes pueden faltar)
+     * @throws DatabaseException si ocurre un error en la consulta
+     */
+    Map<String, Long> obtenerPorProfesional(Integer profesionalId) throws DatabaseException;
+}
@@ -0,0 +1,105 @@
+package com.contactoprofesionales.dao.solicitud;
+
+import com.contactoprofesionales.exception.DatabaseException;
+import com.contactoprofesionales.util.DatabaseConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.*;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Implementación DAO de los contadores de solicitudes.
+ * Gestiona el acceso a la tabla 'solicitud_contadores' (migración V016).
+ */
+public class SolicitudContadoresDAOImpl implements SolicitudContadoresDAO {
+
+    private static final Logger logger = LoggerFactory.getLogger(SolicitudContadoresDAOImpl.class);
+
+    public SolicitudContadoresDAOImpl() {}
+
+    /**
+     * Resta uno al estado anterior y suma uno al nuevo. Las dos filas se bloquean
+     * siempre en orden alfabético de estado: dos transacciones que mueven solicitudes
+     * del mismo profesional en sentidos opuestos no se bloquean mutuamente.
+     */
+    @Override
+    public void mover(Connection conn, Integer profesionalId, String estadoAnterior, String estadoNuevo)
+            throws DatabaseException {
+        if (estadoNuevo.equals(estadoAnterior)) {
+            return;
+        }
+
+        try {
+            if (estadoAnterior != null && estadoAnterior.compareTo(estadoNuevo) < 0) {
+                restar(conn, profesionalId, estadoAnterior);
+                sumar(conn, profesionalId, estadoNuevo);
+            } else {
+                sumar(conn, profesionalId, estadoNuevo);
+                if (estadoAnterior != null) {
+                    restar(conn, profesionalId, estadoAnterior);
+                }
+            }
+        } catch (SQLException e) {
+            logger.error("Error al actualizar contadores del profesional {} ({} → {}): {}",
+                         profesionalId, estadoAnterior, estadoNuevo, e.getMessage());
+            throw new DatabaseException("Error al actualizar los contadores de solicitudes", e);
+        }
+    }
+
+    private void sumar(Connection conn, Integer profesionalId, String estado) throws SQLException {
+        String sql = """
+            INSERT INTO solicitud_contadores (profesional_id, estado, total)
+            VALUES (?, ?, 1)
+            ON CONFLICT (profesional_id, estado) DO UPDATE
+            SET total = solicitud_contadores.total + 1,
+                fecha_actualizacion = CURRENT_TIMESTAMP
+        """;
+
+        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setInt(1, profesionalId);
+            ps.setString(2, estado);
+            ps.executeUpdate();
+        }
+    }
+
+    private void restar(Connection conn, Integer profesionalId, String estado) throws SQLException {
+        // GREATEST: un contador desfasado no debe hacer fallar el cambio de la solicitud
+        String sql = """
+            UPDATE solicitud_contadores
+            SET total = GREATEST(total - 1, 0),
+                fecha_actualizacion = CURRENT_TIMESTAMP
+            WHERE profesional_id = ? AND estado = ?
+        """;
+
+        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setInt(1, profesionalId);
+            ps.setString(2, estado);
+            ps.executeUpdate();
+        }
+    }
+
+    @Override
+    public Map<String, Long> obtenerPorProfesional(Integer profesionalId) throws DatabaseException {
+        String sql = "SELECT estado, total FROM solicitud_contadores WHERE profesional_id = ?";
+        Map<String, Long> contadores = new HashMap<>();
+
+        try (Connection conn = DatabaseConnection.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+
+            ps.setInt(1, profesionalId);
+
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    contadores.put(rs.getString("estado"), rs.getLong("total"));
+                }
+            }
+            return contadores;
+
+        } catch (SQLException e) {
+            logger.error("Error al obtener contadores del profesional {}: {}", profesionalId, e.getMessage());
+            throw new DatabaseException("Error al obtener los contadores de solicitudes", e);
+        }
+    }
+}
@@ -2,7 +2,10 @@ package com.contactoprofesionales.dao.solicitud;
 
 import com.contactoprofesionales.model.SolicitudServicio;
 import com.contactoprofesionales.dto.SolicitudDetalleDTO;
+import com.contactoprofesionales.dto.FiltroSolicitudesDTO;
+import com.contactoprofesionales.dto.SolicitudResumenDTO;
 import com.contactoprofesionales.exception.DatabaseException;
+import java.sql.Connection;
 import java.util.List;
 
 /**
@@ -14,6 +17,13 @@ public interface SolicitudServicioDAO {
      * Crea una nueva solicitud de servicio.
      */
     SolicitudServicio crear(SolicitudServicio solicitud) throws DatabaseException;
+
+    /**
+     * Crea una nueva solicitud usando la conexión del llamador, para registrar en la
+     * misma transacción otros cambios (por ejemplo, el outbox de notificaciones).
+     * No hace commit ni cierra la conexión.
+     */
+    SolicitudServicio crear(Connection conn, SolicitudServicio solicitud) throws DatabaseException;
     
     /**
      * Busca una solicitud por ID.
@@ -29,16 +39,61 @@ public interface SolicitudServicioDAO {
      * Lista solicitudes de un profesional.
      */
     List<SolicitudServicio> listarPorProfesional(Integer profesionalId) throws DatabaseException;
+
+    /**
+     * Lista una página de solicitudes de un cliente (proyección reducida), en orden
+     * fecha_solicitud DESC, id DESC y a partir del cursor del filtro.
+     *
+     * @param clienteId ID del cliente
+     * @param filtro Filtros opcionales, cursor y límite
+     * @return Hasta filtro.getLimite() solicitudes
+     * @throws DatabaseException Si ocurre un error en la BD
+     */
+    List<SolicitudResumenDTO> listarPaginaPorCliente(Integer clienteId, FiltroSolicitudesDTO filtro)
+            throws DatabaseException;
+
+    /**
+     * Lista una página de solicitudes de un profesional (proyección reducida), en orden
+     * fecha_solicitud DESC, id DESC y a partir del cursor del filtro.
+     *
+     * @param profesionalId ID del profesional
+     * @param filtro Filtros opcionales, cursor y límite
+     * @return Hasta filtro.getLimite() solicitudes
+     * @throws DatabaseException Si ocurre un error en la BD
+     */
+    List<SolicitudResumenDTO> listarPaginaPorProfesional(Integer profesionalId, FiltroSolicitudesDTO filtro)
+            throws DatabaseException;
     
+
     /**
-     * Actualiza el estado de una solicitud.
+     * Cambia el estado de una solicitud del profesional en un solo UPDATE condicional,
+     * usando la conexión del llamador. No hace commit ni cierra la conexión.
+     *
+     * @param conn Conexión con la transacción del llamador
+     * @param id ID de la solicitud
+     * @param profesionalId Profesional dueño de la solicitud
+     * @param nuevoEstado Estado destino
+     * @param estadosPrevios Estados desde los que se permite el cambio (SolicitudServicio.estadosPrevios)
+     * @return La solicitud ya actualizada (con getEstadoAnterior()), o null si no existe,
+     *         no es del profesional o su estado actual no permite el cambio
+     * @throws DatabaseException Si ocurre un error en la BD
      */
-    boolean actualizarEstado(Integer id, String nuevoEstado) throws DatabaseException;
+    SolicitudServicio transicionarEstado(Connection conn, Integer id, Integer profesionalId,
+                                         String nuevoEstado, List<String> estadosPrevios) throws DatabaseException;
     
     /**
      * Cancela una solicitud.
      */
     boolean cancelar(Integer id, Integer clienteId) throws DatabaseException;
+
+    /**
+     * Cancela una solicitud del cliente si su estado lo permite (SolicitudServicio.ESTADOS_CANCELABLES),
+     * en un solo UPDATE condicional y usando la conexión del llamador.
+     * No hace commit ni cierra la conexión.
+     *
+     * @return La solicitud cancelada (con getEstadoAnterior()), o null si no se pudo cancelar
+     */
+    SolicitudServicio cancelar(Connection conn, Integer id, Integer clienteId) throws DatabaseException;
     
     /**
      * Verifica si existe una solicitud pendiente entre cliente y profesional.
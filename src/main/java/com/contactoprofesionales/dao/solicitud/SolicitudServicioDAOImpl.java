@@ -2,6 +2,8 @@ package com.contactoprofesionales.dao.solicitud;
 
 import com.contactoprofesionales.model.SolicitudServicio;
 import com.contactoprofesionales.dto.SolicitudDetalleDTO;
+import com.contactoprofesionales.dto.FiltroSolicitudesDTO;
+import com.contactoprofesionales.dto.SolicitudResumenDTO;
 import com.contactoprofesionales.exception.DatabaseException;
 import com.contactoprofesionales.util.DatabaseConnection;
 import org.slf4j.Logger;
@@ -19,19 +21,61 @@ import java.util.List;
  * 
  * Patrón: DAO (Data Access Object)
  * Responsabilidad: Interactuar con la base de datos (CRUD).
+ *
+ * Crear, cancelar y cambiar de estado actualizan también 'solicitud_contadores'
+ * (SolicitudContadoresDAO) en la misma transacción.
  */
 public class SolicitudServicioDAOImpl implements SolicitudServicioDAO {
 
     private static final Logger logger = LoggerFactory.getLogger(SolicitudServicioDAOImpl.class);
 
+    /**
+     * Columnas de la proyección de listados (SolicitudResumenDTO): sin descripción
+     * completa, fotos, dirección ni notas.
+     */
+    private static final String COLUMNAS_RESUMEN =
+        "id, cliente_id, profesional_id, LEFT(descripcion, " + SolicitudResumenDTO.LARGO_RESUMEN + ") AS resumen, "
+        + "presupuesto_estimado, urgencia, estado, tipo_prestacion, "
+        + "fecha_servicio, fecha_solicitud, fecha_respuesta ";
+
+    private final SolicitudContadoresDAO contadoresDAO;
+
     // Constructor por defecto
-    public SolicitudServicioDAOImpl() {}
+    public SolicitudServicioDAOImpl() {
+        this(new SolicitudContadoresDAOImpl());
+    }
+
+    public SolicitudServicioDAOImpl(SolicitudContadoresDAO contadoresDAO) {
+        this.contadoresDAO = contadoresDAO;
+    }
 
     /**
      * Crea una nueva solicitud en BD.
      */
     @Override
     public SolicitudServicio crear(SolicitudServicio solicitud) throws DatabaseException {
+        try (Connection conn = DatabaseConnection.getConnection()) {
+            // La solicitud y su contador se guardan juntos
+            conn.setAutoCommit(false);
+            try {
+                SolicitudServicio creada = crear(conn, solicitud);
+                conn.commit();
+                return creada;
+            } catch (DatabaseException | RuntimeException e) {
+                conn.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            logger.error("Error al crear solicitud: {}", e.getMessage());
+            throw new DatabaseException("Error al crear la solicitud de servicio", e);
+        }
+    }
+
+    /**
+     * Crea una nueva solicitud usando la conexión (y transacción) del llamador.
+     */
+    @Override
+    public SolicitudServicio crear(Connection conn, SolicitudServicio solicitud) throws DatabaseException {
         // ACTUALIZADO EN MIGRACIÓN V008: Agregados campos de ubicación estructurada y modalidad
         String sql = """
             INSERT INTO solicitudes_servicio (
@@ -45,8 +89,7 @@ public class SolicitudServicioDAOImpl implements SolicitudServicioDAO {
             RETURNING id
         """;
         
-        try (Connection conn = DatabaseConnection.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql)) {
+        try (PreparedStatement ps = conn.prepareStatement(sql)) {
 
             // ✅ CORRECCIÓN: Ajuste de parámetros según estructura de tabla (22 columnas, 20 en INSERT)
             // INSERT: cliente_id, profesional_id, descripcion, presupuesto_estimado,
@@ -90,6 +133,8 @@ public class SolicitudServicioDAOImpl implements SolicitudServicioDAO {
                 solicitud.setId(rs.getInt("id"));
             }
 
+            contadoresDAO.mover(conn, solicitud.getProfesionalId(), null, solicitud.getEstado());
+
             logger.info("Solicitud insertada correctamente con ID {}", solicitud.getId());
             return solicitud;
 
@@ -205,27 +250,160 @@ public class SolicitudServicioDAOImpl implements SolicitudServicioDAO {
         }
     }
 
+    /**
+     * Lista una página de solicitudes de un cliente.
+     */
+    @Override
+    public List<SolicitudResumenDTO> listarPaginaPorCliente(Integer clienteId, FiltroSolicitudesDTO filtro)
+            throws DatabaseException {
+        return listarPagina("cliente_id", clienteId, filtro);
+    }
+
+    /**
+     * Lista una página de solicitudes de un profesional.
+     */
+    @Override
+    public List<SolicitudResumenDTO> listarPaginaPorProfesional(Integer profesionalId, FiltroSolicitudesDTO filtro)
+            throws DatabaseException {
+        return listarPagina("profesional_id", profesionalId, filtro);
+    }
+
+    /**
+     * Consulta de una página: filtros opcionales, posición por comparación de filas
+     * (fecha_solicitud, id) < (?, ?) y LIMIT. Con los índices de V015 PostgreSQL recorre
+     * el índice del usuario (y del estado, si se filtra por uno) desde la posición del
+     * cursor y se detiene al completar la página, sin ordenar ni leer las anteriores.
+     *
+     * @param columnaUsuario "cliente_id" o "profesional_id" (constante, nunca del request)
+     */
+    private List<SolicitudResumenDTO> listarPagina(String columnaUsuario, Integer usuarioId,
+                                                   FiltroSolicitudesDTO filtro) throws DatabaseException {
+        StringBuilder sql = new StringBuilder("SELECT ").append(COLUMNAS_RESUMEN)
+            .append("FROM solicitudes_servicio ")
+            .append("WHERE ").append(columnaUsuario).append(" = ? AND activo = true");
+
+        boolean filtrarEstados = !filtro.getEstados().isEmpty();
+        if (filtrarEstados) {
+            sql.append(" AND estado = ANY(?)");
+        }
+        if (filtro.getUrgencia() != null) {
+            sql.append(" AND urgencia = ?");
+        }
+        if (filtro.getDesde() != null) {
+            sql.append(" AND fecha_solicitud >= ?");
+        }
+        if (filtro.getHasta() != null) {
+            sql.append(" AND fecha_solicitud < ?");
+        }
+        if (filtro.getCursor() != null) {
+            sql.append(" AND (fecha_solicitud, id) < (?, ?)");
+        }
+        sql.append(" ORDER BY fecha_solicitud DESC, id DESC LIMIT ?");
+
+        List<SolicitudResumenDTO> solicitudes = new ArrayList<>();
+
+        try (Connection conn = DatabaseConnection.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql.toString())) {
+
+            int i = 1;
+            ps.setInt(i++, usuarioId);
+            if (filtrarEstados) {
+                ps.setArray(i++, conn.createArrayOf("varchar", filtro.getEstados().toArray()));
+            }
+            if (filtro.getUrgencia() != null) {
+                ps.setString(i++, filtro.getUrgencia());
+            }
+            if (filtro.getDesde() != null) {
+                ps.setTimestamp(i++, Timestamp.valueOf(filtro.getDesde().atStartOfDay()));
+            }
+            if (filtro.getHasta() != null) {
+                // Hasta inclusivo: antes del inicio del día siguiente
+                ps.setTimestamp(i++, Timestamp.valueOf(filtro.getHasta().plusDays(1).atStartOfDay()));
+            }
+            if (filtro.getCursor() != null) {
+                ps.setTimestamp(i++, Timestamp.valueOf(filtro.getCursor().getFechaSolicitud()));
+                ps.setInt(i++, filtro.getCursor().getId());
+            }
+            ps.setInt(i, filtro.getLimite());
+
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    solicitudes.add(mapearResumen(rs));
+                }
+            }
+
+            logger.debug("Página de solicitudes ({} = {}, {}): {} filas",
+                         columnaUsuario, usuarioId, filtro, solicitudes.size());
+            return solicitudes;
+
+        } catch (SQLException e) {
+            logger.error("Error al listar página de solicitudes ({} = {}): {}", columnaUsuario, usuarioId, e.getMessage());
+            throw new DatabaseException("Error al listar solicitudes", e);
+        }
+    }
+
     /**
      * Cancela una solicitud (actualiza estado y fecha_actualizacion).
      */
     @Override
     public boolean cancelar(Integer solicitudId, Integer clienteId) throws DatabaseException {
+        try (Connection conn = DatabaseConnection.getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                boolean cancelada = cancelar(conn, solicitudId, clienteId) != null;
+                conn.commit();
+                return cancelada;
+            } catch (DatabaseException | RuntimeException e) {
+                conn.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            logger.error("Error al cancelar solicitud: {}", e.getMessage());
+            throw new DatabaseException("Error al cancelar solicitud", e);
+        }
+    }
+
+    /**
+     * Cancela una solicitud usando la conexión (y transacción) del llamador.
+     * La condición sobre el estado va en el mismo UPDATE: dos cambios simultáneos
+     * no pueden pasar ambos la validación.
+     */
+    @Override
+    public SolicitudServicio cancelar(Connection conn, Integer solicitudId, Integer clienteId) throws DatabaseException {
+        // previa: bloquea la fila y conserva el estado anterior para los contadores
         String sql = """
-            UPDATE solicitudes_servicio
+            WITH previa AS (
+                SELECT id, estado FROM solicitudes_servicio
+                WHERE id = ? AND cliente_id = ? AND activo = true
+                AND estado = ANY(?)
+                FOR UPDATE
+            )
+            UPDATE solicitudes_servicio s
             SET estado = 'cancelada', fecha_actualizacion = ?, activo = false
-            WHERE id = ? AND cliente_id = ? AND activo = true
+            FROM previa
+            WHERE s.id = previa.id
+            RETURNING s.*, previa.estado AS estado_anterior
         """;
 
-        try (Connection conn = DatabaseConnection.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql)) {
-
-            ps.setTimestamp(1, Timestamp.valueOf(LocalDateTime.now()));
-            ps.setInt(2, solicitudId);
-            ps.setInt(3, clienteId);
-
-            int rows = ps.executeUpdate();
-            logger.info("Solicitud cancelada (filas afectadas = {})", rows);
-            return rows > 0;
+        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+
+            ps.setInt(1, solicitudId);
+            ps.setInt(2, clienteId);
+            ps.setArray(3, conn.createArrayOf("varchar", SolicitudServicio.ESTADOS_CANCELABLES.toArray()));
+            ps.setTimestamp(4, Timestamp.valueOf(LocalDateTime.now()));
+
+            try (ResultSet rs = ps.executeQuery()) {
+                if (rs.next()) {
+                    SolicitudServicio cancelada = mapearSolicitud(rs);
+                    cancelada.setEstadoAnterior(rs.getString("estado_anterior"));
+                    contadoresDAO.mover(conn, cancelada.getProfesionalId(),
+                                        cancelada.getEstadoAnterior(), cancelada.getEstado());
+                    logger.info("Solicitud {} cancelada", solicitudId);
+                    return cancelada;
+                }
+            }
+            logger.info("Solicitud {} no cancelada (no existe, no es del cliente o su estado no lo permite)", solicitudId);
+            return null;
 
         } catch (SQLException e) {
             logger.error("Error al cancelar solicitud: {}", e.getMessage());
@@ -234,38 +412,90 @@ public class SolicitudServicioDAOImpl implements SolicitudServicioDAO {
     }
 
     /**
-     * Actualiza el estado de una solicitud.
-     * También actualiza fecha_respuesta cuando el profesional acepta o rechaza.
+     * Cambia el estado en un solo UPDATE condicional (compare-and-set): solo se aplica si
+     * la solicitud es del profesional, está activa y su estado actual es uno de los
+     * estados previos permitidos. No hay lectura previa ni bloqueo mientras corre Java:
+     * de dos transiciones simultáneas sobre el mismo estado, solo una encuentra la fila.
+     * (Si la otra espera el bloqueo de previa, PostgreSQL vuelve a evaluar la condición
+     * sobre la fila ya cambiada y no la devuelve.)
      *
-     * ACTUALIZADO 2025-12-04: Agregado actualización de fecha_respuesta
+     * También actualiza fecha_respuesta (ACTUALIZADO 2025-12-04).
      */
     @Override
-    public boolean actualizarEstado(Integer solicitudId, String nuevoEstado) throws DatabaseException {
+    public SolicitudServicio transicionarEstado(Connection conn, Integer solicitudId, Integer profesionalId,
+                                                String nuevoEstado, List<String> estadosPrevios)
+            throws DatabaseException {
+        // previa: bloquea la fila y conserva el estado anterior para los contadores
         String sql = """
-            UPDATE solicitudes_servicio
+            WITH previa AS (
+                SELECT id, estado FROM solicitudes_servicio
+                WHERE id = ? AND profesional_id = ? AND activo = true
+                AND estado = ANY(?)
+                FOR UPDATE
+            )
+            UPDATE solicitudes_servicio s
             SET estado = ?,
                 fecha_respuesta = CURRENT_TIMESTAMP,
                 fecha_actualizacion = CURRENT_TIMESTAMP
-            WHERE id = ? AND activo = true
+            FROM previa
+            WHERE s.id = previa.id
+            RETURNING s.*, previa.estado AS estado_anterior
         """;
 
-        try (Connection conn = DatabaseConnection.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql)) {
-
-            ps.setString(1, nuevoEstado);
-            ps.setInt(2, solicitudId);
+        try (PreparedStatement ps = conn.prepareStatement(sql)) {
 
-            int filas = ps.executeUpdate();
-            logger.info("✅ Estado actualizado de solicitud {} a '{}' con fecha_respuesta", solicitudId, nuevoEstado);
-            return filas > 0;
+            ps.setInt(1, solicitudId);
+            ps.setInt(2, profesionalId);
+            ps.setArray(3, conn.createArrayOf("varchar", estadosPrevios.toArray()));
+            ps.setString(4, nuevoEstado);
+
+            try (ResultSet rs = ps.executeQuery()) {
+                if (rs.next()) {
+                    SolicitudServicio actualizada = mapearSolicitud(rs);
+                    actualizada.setEstadoAnterior(rs.getString("estado_anterior"));
+                    contadoresDAO.mover(conn, profesionalId, actualizada.getEstadoAnterior(), nuevoEstado);
+                    logger.info("✅ Estado de solicitud {} cambiado a '{}'", solicitudId, nuevoEstado);
+                    return actualizada;
+                }
+            }
+            return null;
 
         } catch (SQLException e) {
-            logger.error("Error al actualizar estado de la solicitud {}: {}", solicitudId, e.getMessage());
+            logger.error("Error al cambiar estado de la solicitud {}: {}", solicitudId, e.getMessage());
             throw new DatabaseException("Error al actualizar el estado de la solicitud", e);
         }
     }
 
     
+    /**
+     * Convierte una fila de COLUMNAS_RESUMEN a SolicitudResumenDTO.
+     */
+    private SolicitudResumenDTO mapearResumen(ResultSet rs) throws SQLException {
+        SolicitudResumenDTO r = new SolicitudResumenDTO();
+        r.setId(rs.getInt("id"));
+        r.setClienteId(rs.getInt("cliente_id"));
+        r.setProfesionalId(rs.getInt("profesional_id"));
+        r.setResumen(rs.getString("resumen"));
+
+        double presupuesto = rs.getDouble("presupuesto_estimado");
+        if (!rs.wasNull()) r.setPresupuestoEstimado(presupuesto);
+
+        r.setUrgencia(rs.getString("urgencia"));
+        r.setEstado(rs.getString("estado"));
+        r.setTipoPrestacion(rs.getString("tipo_prestacion"));
+
+        Timestamp fechaServ = rs.getTimestamp("fecha_servicio");
+        if (fechaServ != null) r.setFechaServicio(fechaServ.toLocalDateTime());
+
+        Timestamp fechaSol = rs.getTimestamp("fecha_solicitud");
+        if (fechaSol != null) r.setFechaSolicitud(fechaSol.toLocalDateTime());
+
+        Timestamp fechaResp = rs.getTimestamp("fecha_respuesta");
+        if (fechaResp != null) r.setFechaRespuesta(fechaResp.toLocalDateTime());
+
+        return r;
+    }
+
     /**
      * Convierte una fila del ResultSet a un objeto SolicitudServicio.
      */
@@ -1,5 +1,6 @@
 package com.contactoprofesionales.dao.ubicacion;
 
+import com.contactoprofesionales.dto.DistritoCentroideDTO;
 import com.contactoprofesionales.exception.DatabaseException;
 import com.contactoprofesionales.model.Departamento;
 import com.contactoprofesionales.model.Provincia;
@@ -97,4 +98,12 @@ public interface UbicacionDAO {
      * @throws DatabaseException si ocurre un error en la consulta
      */
     List<Distrito> buscarDistritosPorNombre(String nombre) throws DatabaseException;
+
+    /**
+     * Lista los distritos activos con su centroide y los nombres de su provincia y departamento
+     * (carga del índice de búsqueda por cercanía)
+     * @return Lista de distritos con centroide (latitud/longitud null si no se cargó)
+     * @throws DatabaseException si ocurre un error en la consulta
+     */
+    List<DistritoCentroideDTO> listarCentroidesDistritos() throws DatabaseException;
 }
@@ -1,5 +1,6 @@
 package com.contactoprofesionales.dao.ubicacion;
 
+import com.contactoprofesionales.dto.DistritoCentroideDTO;
 import com.contactoprofesionales.exception.DatabaseException;
 import com.contactoprofesionales.model.Departamento;
 import com.contactoprofesionales.model.Provincia;
@@ -53,6 +54,14 @@ public class UbicacionDAOImpl implements UbicacionDAO {
     private static final String SELECT_DISTRITOS_BY_NOMBRE =
             "SELECT * FROM distritos WHERE LOWER(nombre) LIKE LOWER(?) AND activo = true ORDER BY nombre LIMIT 20";
 
+    private static final String SELECT_CENTROIDES_DISTRITOS =
+            "SELECT d.id, d.nombre AS distrito, p.nombre AS provincia, dp.nombre AS departamento, " +
+            "d.latitud, d.longitud " +
+            "FROM distritos d " +
+            "INNER JOIN provincias p ON p.id = d.provincia_id " +
+            "INNER JOIN departamentos dp ON dp.id = p.departamento_id " +
+            "WHERE d.activo = true";
+
     // ==================== IMPLEMENTACIÓN - DEPARTAMENTOS ====================
 
     @Override
@@ -322,6 +331,29 @@ public class UbicacionDAOImpl implements UbicacionDAO {
         }
     }
 
+    @Override
+    public List<DistritoCentroideDTO> listarCentroidesDistritos() throws DatabaseException {
+        logger.debug("Listando centroides de distritos");
+        List<DistritoCentroideDTO> centroides = new ArrayList<>();
+
+        try (Connection conn = DatabaseConnection.getConnection();
+             PreparedStatement ps = conn.prepareStatement(SELECT_CENTROIDES_DISTRITOS);
+             ResultSet rs = ps.executeQuery()) {
+
+            while (rs.next()) {
+                centroides.add(mapCentroide(rs));
+            }
+
+            logger.info("Se cargaron {} centroides de distritos", centroides.size());
+            return centroides;
+
+        } catch (SQLException e) {
+            logger.error("Error al listar centroides de distritos", e);
+            throw new DatabaseException("ERROR_LISTAR_CENTROIDES",
+                    "Error al obtener los centroides de distritos", e);
+        }
+    }
+
     // ==================== MÉTODOS DE MAPEO ====================
 
     private Departamento mapDepartamento(ResultSet rs) throws SQLException {
@@ -371,4 +403,22 @@ public class UbicacionDAOImpl implements UbicacionDAO {
 
         return distrito;
     }
+
+    private DistritoCentroideDTO mapCentroide(ResultSet rs) throws SQLException {
+        DistritoCentroideDTO centroide = new DistritoCentroideDTO();
+        centroide.setId(rs.getInt("id"));
+        centroide.setDistrito(rs.getString("distrito"));
+        centroide.setProvincia(rs.getString("provincia"));
+        centroide.setDepartamento(rs.getString("departamento"));
+
+        double latitud = rs.getDouble("latitud");
+        boolean sinLatitud = rs.wasNull();
+        double longitud = rs.getDouble("longitud");
+        if (!sinLatitud && !rs.wasNull()) {
+            centroide.setLatitud(latitud);
+            centroide.setLongitud(longitud);
+        }
+
+        return centroide;
+    }
 }
@@ -1,5 +1,7 @@
 package com.contactoprofesionales.dto;
 
+import com.contactoprofesionales.util.CursorPaginacion;
+
 import java.io.Serializable;
 
 /**
@@ -27,6 +29,11 @@ public class BusquedaCriteriosDTO implements Serializable {
     private String ordenDireccion; // "asc", "desc"
     private Integer pagina;
     private Integer elementosPorPagina;
+    private boolean incluirFacetas; // Calcular facetas (conteos) junto con la primera página (consulta aparte, a pedido)
+    private boolean paginacionCursor; // Paginación por posición (keyset) en lugar de OFFSET
+    private CursorPaginacion cursor; // Posición del último elemento entregado (null = desde el inicio)
+    private Integer distritoCercaniaId; // Búsqueda por cercanía: distrito del cliente
+    private Double radioKm; // Búsqueda por cercanía: radio alrededor del distrito del cliente
     
     // Constructor vacío
     public BusquedaCriteriosDTO() {
@@ -34,6 +41,7 @@ public class BusquedaCriteriosDTO implements Serializable {
         this.elementosPorPagina = 12;
         this.ordenarPor = "calificacion";
         this.ordenDireccion = "desc";
+        this.incluirFacetas = false;
     }
     
     // Constructor con parámetros principales (ACTUALIZADO)
@@ -172,11 +180,59 @@ public class BusquedaCriteriosDTO implements Serializable {
         }
     }
     
+    public boolean isIncluirFacetas() {
+        return incluirFacetas;
+    }
+    
+    public void setIncluirFacetas(boolean incluirFacetas) {
+        this.incluirFacetas = incluirFacetas;
+    }
+    
+    public boolean isPaginacionCursor() {
+        return paginacionCursor;
+    }
+    
+    public void setPaginacionCursor(boolean paginacionCursor) {
+        this.paginacionCursor = paginacionCursor;
+    }
+    
+    public CursorPaginacion getCursor() {
+        return cursor;
+    }
+    
+    public void setCursor(CursorPaginacion cursor) {
+        this.cursor = cursor;
+    }
+    
+    public Integer getDistritoCercaniaId() {
+        return distritoCercaniaId;
+    }
+    
+    public void setDistritoCercaniaId(Integer distritoCercaniaId) {
+        this.distritoCercaniaId = distritoCercaniaId;
+    }
+    
+    public Double getRadioKm() {
+        return radioKm;
+    }
+    
+    public void setRadioKm(Double radioKm) {
+        this.radioKm = radioKm;
+    }
+    
+    /**
+     * Indica si la búsqueda es por cercanía al distrito del cliente.
+     */
+    public boolean isBusquedaCercania() {
+        return distritoCercaniaId != null;
+    }
+    
     /**
      * Calcula el offset para la consulta SQL basado en la paginación.
+     * Con paginación por cursor siempre es 0 (la posición la da el cursor).
      */
     public int getOffset() {
-        return (pagina - 1) * elementosPorPagina;
+        return paginacionCursor ? 0 : (pagina - 1) * elementosPorPagina;
     }
     
     /**
@@ -188,7 +244,8 @@ public class BusquedaCriteriosDTO implements Serializable {
                especialidad != null ||
                especialidadTexto != null ||
                tarifaMaxima != null ||
-               disponible != null;
+               disponible != null ||
+               distritoCercaniaId != null;
     }
 
     /**
@@ -222,6 +279,11 @@ public class BusquedaCriteriosDTO implements Serializable {
             desc.append("Solo disponibles");
         }
 
+        if (distritoCercaniaId != null) {
+            if (desc.length() > 0) desc.append(", ");
+            desc.append("Cerca del distrito ID: ").append(distritoCercaniaId);
+        }
+
         return desc.length() > 0 ? desc.toString() : "Sin filtros";
     }
 
@@ -233,6 +295,8 @@ public class BusquedaCriteriosDTO implements Serializable {
                 ", especialidadTexto='" + especialidadTexto + '\'' +
                 ", tarifaMaxima=" + tarifaMaxima +
                 ", disponible=" + disponible +
+                ", distritoCercaniaId=" + distritoCercaniaId +
+                ", radioKm=" + radioKm +
                 ", ordenarPor='" + ordenarPor + '\'' +
                 ", ordenDireccion='" + ordenDireccion + '\'' +
                 ", pagina=" + pagina +
@@ -0,0 +1,103 @@
+package com.contactoprofesionales.dto;
+
+import java.io.Serializable;
+
+/**
+ * DTO con la ubicación de un distrito para la búsqueda por cercanía:
+ * centroide (latitud/longitud) y nombres de distrito, provincia y departamento,
+ * que son los que guardan las áreas de servicio (ubicaciones_servicio).
+ */
+public class DistritoCentroideDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Integer id;
+    private String distrito;
+    private String provincia;
+    private String departamento;
+    private Double latitud;  // null si el distrito aún no tiene centroide
+    private Double longitud;
+
+    // Constructor vacío
+    public DistritoCentroideDTO() {
+    }
+
+    // Constructor completo
+    public DistritoCentroideDTO(Integer id, String distrito, String provincia, String departamento,
+                                Double latitud, Double longitud) {
+        this.id = id;
+        this.distrito = distrito;
+        this.provincia = provincia;
+        this.departamento = departamento;
+        this.latitud = latitud;
+        this.longitud = longitud;
+    }
+
+    // Getters y Setters
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
+    public String getDistrito() {
+        return distrito;
+    }
+
+    public void setDistrito(String distrito) {
+        this.distrito = distrito;
+    }
+
+    public String getProvincia() {
+        return provincia;
+    }
+
+    public void setProvincia(String provincia) {
+        this.provincia = provincia;
+    }
+
+    public String getDepartamento() {
+        return departamento;
+    }
+
+    public void setDepartamento(String departamento) {
+        this.departamento = departamento;
+    }
+
+    public Double getLatitud() {
+        return latitud;
+    }
+
+    public void setLatitud(Double latitud) {
+        this.latitud = latitud;
+    }
+
+    public Double getLongitud() {
+        return longitud;
+    }
+
+    public void setLongitud(Double longitud) {
+        this.longitud = longitud;
+    }
+
+    /**
+     * Indica si el distrito tiene centroide cargado.
+     */
+    public boolean tieneCentroide() {
+        return latitud != null && longitud != null;
+    }
+
+    @Override
+    public String toString() {
+        return "DistritoCentroideDTO{" +
+                "id=" + id +
+                ", distrito='" + distrito + '\'' +
+                ", provincia='" + provincia + '\'' +
+                ", departamento='" + departamento + '\'' +
+                ", latitud=" + latitud +
+                ", longitud=" + longitud +
+                '}';
+    }
+}
@@ -0,0 +1,50 @@
+package com.contactoprofesionales.dto;
+
+import java.io.Serializable;
+
+/**
+ * DTO de una faceta de búsqueda: un valor (especialidad, distrito, etc.)
+ * y la cantidad de profesionales activos que lo tienen.
+ */
+public class FacetaDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private String valor;
+    private int total;
+
+    // Constructor vacío
+    public FacetaDTO() {
+    }
+
+    // Constructor completo
+    public FacetaDTO(String valor, int total) {
+        this.valor = valor;
+        this.total = total;
+    }
+
+    // Getters y Setters
+    public String getValor() {
+        return valor;
+    }
+
+    public void setValor(String valor) {
+        this.valor = valor;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public void setTotal(int total) {
+        this.total = total;
+    }
+
+    @Override
+    public String toString() {
+        return "FacetaDTO{" +
+                "valor='" + valor + '\'' +
+                ", total=" + total +
+                '}';
+    }
+}
@@ -0,0 +1,117 @@
+package com.contactoprofesionales.dto;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO con las facetas de una búsqueda de profesionales: cuántos resultados hay
+ * por categoría, distrito, rango de tarifa, disponibilidad y verificación.
+ * Los valores son IDs (categoría, distrito), etiquetas de rango ("0-50", "200+")
+ * o "true"/"false".
+ */
+public class FacetasBusquedaDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final String CATEGORIA = "categoria";
+    public static final String DISTRITO = "distrito";
+    public static final String TARIFA = "tarifa";
+    public static final String DISPONIBLE = "disponible";
+    public static final String VERIFICADO = "verificado";
+
+    private List<FacetaDTO> categorias;
+    private List<FacetaDTO> distritos;
+    private List<FacetaDTO> rangosTarifa;
+    private List<FacetaDTO> disponible;
+    private List<FacetaDTO> verificado;
+
+    // Constructor vacío
+    public FacetasBusquedaDTO() {
+        this.categorias = new ArrayList<>();
+        this.distritos = new ArrayList<>();
+        this.rangosTarifa = new ArrayList<>();
+        this.disponible = new ArrayList<>();
+        this.verificado = new ArrayList<>();
+    }
+
+    /**
+     * Agrega un valor a la faceta indicada (ignora facetas desconocidas).
+     */
+    public void agregar(String faceta, FacetaDTO valor) {
+        if (faceta == null) {
+            return;
+        }
+        switch (faceta) {
+            case CATEGORIA:
+                categorias.add(valor);
+                break;
+            case DISTRITO:
+                distritos.add(valor);
+                break;
+            case TARIFA:
+                rangosTarifa.add(valor);
+                break;
+            case DISPONIBLE:
+                disponible.add(valor);
+                break;
+            case VERIFICADO:
+                verificado.add(valor);
+                break;
+            default:
+                break;
+        }
+    }
+
+    // Getters y Setters
+    public List<FacetaDTO> getCategorias() {
+        return categorias;
+    }
+
+    public void setCategorias(List<FacetaDTO> categorias) {
+        this.categorias = categorias;
+    }
+
+    public List<FacetaDTO> getDistritos() {
+        return distritos;
+    }
+
+    public void setDistritos(List<FacetaDTO> distritos) {
+        this.distritos = distritos;
+    }
+
+    public List<FacetaDTO> getRangosTarifa() {
+        return rangosTarifa;
+    }
+
+    public void setRangosTarifa(List<FacetaDTO> rangosTarifa) {
+        this.rangosTarifa = rangosTarifa;
+    }
+
+    public List<FacetaDTO> getDisponible() {
+        return disponible;
+    }
+
+    public void setDisponible(List<FacetaDTO> disponible) {
+        this.disponible = disponible;
+    }
+
+    public List<FacetaDTO> getVerificado() {
+        return verificado;
+    }
+
+    public void setVerificado(List<FacetaDTO> verificado) {
+        this.verificado = verificado;
+    }
+
+    @Override
+    public String toString() {
+        return "FacetasBusquedaDTO{" +
+                "categorias=" + categorias.size() +
+                ", distritos=" + distritos.size() +
+                ", rangosTarifa=" + rangosTarifa.size() +
+                ", disponible=" + disponible.size() +
+                ", verificado=" + verificado.size() +
+                '}';
+    }
+}
@@ -0,0 +1,94 @@
+package com.contactoprofesionales.dto;
+
+import com.contactoprofesionales.util.CursorSolicitudes;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO con los filtros y la posición de una página del listado de solicitudes
+ * (GET /api/solicitudes?cursor=&limite=N).
+ *
+ * Todos los filtros son opcionales; las fechas se comparan con fecha_solicitud
+ * y ambas son inclusivas (día completo).
+ */
+public class FiltroSolicitudesDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private List<String> estados; // Vacío = todos los estados
+    private String urgencia; // 'normal' o 'urgent'
+    private LocalDate desde;
+    private LocalDate hasta;
+    private CursorSolicitudes cursor; // Posición de la última solicitud entregada (null = desde el inicio)
+    private int limite;
+
+    // Constructor vacío
+    public FiltroSolicitudesDTO() {
+        this.estados = new ArrayList<>();
+        this.limite = 20;
+    }
+
+    // Getters y Setters
+    public List<String> getEstados() {
+        return estados;
+    }
+
+    public void setEstados(List<String> estados) {
+        this.estados = estados != null ? estados : new ArrayList<>();
+    }
+
+    public String getUrgencia() {
+        return urgencia;
+    }
+
+    public void setUrgencia(String urgencia) {
+        this.urgencia = urgencia;
+    }
+
+    public LocalDate getDesde() {
+        return desde;
+    }
+
+    public void setDesde(LocalDate desde) {
+        this.desde = desde;
+    }
+
+    public LocalDate getHasta() {
+        return hasta;
+    }
+
+    public void setHasta(LocalDate hasta) {
+        this.hasta = hasta;
+    }
+
+    public CursorSolicitudes getCursor() {
+        return cursor;
+    }
+
+    public void setCursor(CursorSolicitudes cursor) {
+        this.cursor = cursor;
+    }
+
+    public int getLimite() {
+        return limite;
+    }
+
+    public void setLimite(int limite) {
+        this.limite = limite;
+    }
+
+    @Override
+    public String toString() {
+        return "FiltroSolicitudesDTO{" +
+                "estados=" + estados +
+                ", urgencia='" + urgencia + '\'' +
+                ", desde=" + desde +
+                ", hasta=" + hasta +
+                ", cursor=" + cursor +
+                ", limite=" + limite +
+                '}';
+    }
+}
@@ -36,6 +36,7 @@ public class ProfesionalBusquedaDTO implements Serializable {
     // Ubicación
     private String distrito;
     private Integer radioServicio;
+    private Double distanciaKm; // Solo en búsqueda por cercanía (null si no se conoce)
     
     // Estado
     private Boolean disponible;
@@ -178,6 +179,14 @@ public class ProfesionalBusquedaDTO implements Serializable {
         this.radioServicio = radioServicio;
     }
     
+    public Double getDistanciaKm() {
+        return distanciaKm;
+    }
+    
+    public void setDistanciaKm(Double distanciaKm) {
+        this.distanciaKm = distanciaKm;
+    }
+    
     public Boolean getDisponible() {
         return disponible;
     }
@@ -0,0 +1,108 @@
+package com.contactoprofesionales.dto;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO con los datos de un profesional necesarios para el índice de búsqueda en memoria.
+ * Incluye los textos a indexar (servicios, categorías, habilidades y biografía)
+ * y los campos usados para filtrar y ordenar los resultados.
+ */
+public class ProfesionalIndiceDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Integer id;
+    private Double calificacionPromedio;
+    private Integer totalResenas;
+    private Double tarifaHora;
+    private boolean disponible;
+    private List<Integer> categoriaIds;
+    private List<String> textos;
+
+    // Constructor vacío
+    public ProfesionalIndiceDTO() {
+        this.categoriaIds = new ArrayList<>();
+        this.textos = new ArrayList<>();
+    }
+
+    // Getters y Setters
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
+    public Double getCalificacionPromedio() {
+        return calificacionPromedio;
+    }
+
+    public void setCalificacionPromedio(Double calificacionPromedio) {
+        this.calificacionPromedio = calificacionPromedio;
+    }
+
+    public Integer getTotalResenas() {
+        return totalResenas;
+    }
+
+    public void setTotalResenas(Integer totalResenas) {
+        this.totalResenas = totalResenas;
+    }
+
+    public Double getTarifaHora() {
+        return tarifaHora;
+    }
+
+    public void setTarifaHora(Double tarifaHora) {
+        this.tarifaHora = tarifaHora;
+    }
+
+    public boolean isDisponible() {
+        return disponible;
+    }
+
+    public void setDisponible(boolean disponible) {
+        this.disponible = disponible;
+    }
+
+    public List<Integer> getCategoriaIds() {
+        return categoriaIds;
+    }
+
+    public void setCategoriaIds(List<Integer> categoriaIds) {
+        this.categoriaIds = categoriaIds;
+    }
+
+    public List<String> getTextos() {
+        return textos;
+    }
+
+    public void setTextos(List<String> textos) {
+        this.textos = textos;
+    }
+
+    /**
+     * Agrega un texto a indexar (ignora nulos y vacíos).
+     */
+    public void agregarTexto(String texto) {
+        if (texto != null && !texto.trim().isEmpty()) {
+            this.textos.add(texto);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ProfesionalIndiceDTO{" +
+                "id=" + id +
+                ", calificacionPromedio=" + calificacionPromedio +
+                ", totalResenas=" + totalResenas +
+                ", tarifaHora=" + tarifaHora +
+                ", disponible=" + disponible +
+                ", categoriaIds=" + categoriaIds +
+                ", textos=" + (textos != null ? textos.size() : 0) +
+                '}';
+    }
+}
@@ -0,0 +1,116 @@
+package com.contactoprofesionales.dto;
+
+import com.contactoprofesionales.model.UbicacionServicio;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO con los datos de un profesional necesarios para el índice de cercanía:
+ * distrito del profesional, área de servicio (todo el país o ubicaciones
+ * específicas) y los campos usados para filtrar y ordenar los resultados.
+ */
+public class ProfesionalUbicacionDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Integer id;
+    private Integer distritoId;
+    private Double calificacionPromedio;
+    private Integer totalResenas;
+    private Double tarifaHora;
+    private boolean disponible;
+    private List<Integer> categoriaIds;
+    private boolean todoPais;
+    private List<UbicacionServicio> ubicaciones;
+
+    // Constructor vacío
+    public ProfesionalUbicacionDTO() {
+        this.categoriaIds = new ArrayList<>();
+        this.ubicaciones = new ArrayList<>();
+    }
+
+    // Getters y Setters
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
+    public Integer getDistritoId() {
+        return distritoId;
+    }
+
+    public void setDistritoId(Integer distritoId) {
+        this.distritoId = distritoId;
+    }
+
+    public Double getCalificacionPromedio() {
+        return calificacionPromedio;
+    }
+
+    public void setCalificacionPromedio(Double calificacionPromedio) {
+        this.calificacionPromedio = calificacionPromedio;
+    }
+
+    public Integer getTotalResenas() {
+        return totalResenas;
+    }
+
+    public void setTotalResenas(Integer totalResenas) {
+        this.totalResenas = totalResenas;
+    }
+
+    public Double getTarifaHora() {
+        return tarifaHora;
+    }
+
+    public void setTarifaHora(Double tarifaHora) {
+        this.tarifaHora = tarifaHora;
+    }
+
+    public boolean isDisponible() {
+        return disponible;
+    }
+
+    public void setDisponible(boolean disponible) {
+        this.disponible = disponible;
+    }
+
+    public List<Integer> getCategoriaIds() {
+        return categoriaIds;
+    }
+
+    public void setCategoriaIds(List<Integer> categoriaIds) {
+        this.categoriaIds = categoriaIds;
+    }
+
+    public boolean isTodoPais() {
+        return todoPais;
+    }
+
+    public void setTodoPais(boolean todoPais) {
+        this.todoPais = todoPais;
+    }
+
+    public List<UbicacionServicio> getUbicaciones() {
+        return ubicaciones;
+    }
+
+    public void setUbicaciones(List<UbicacionServicio> ubicaciones) {
+        this.ubicaciones = ubicaciones;
+    }
+
+    @Override
+    public String toString() {
+        return "ProfesionalUbicacionDTO{" +
+                "id=" + id +
+                ", distritoId=" + distritoId +
+                ", todoPais=" + todoPais +
+                ", ubicaciones=" + (ubicaciones != null ? ubicaciones.size() : 0) +
+                '}';
+    }
+}
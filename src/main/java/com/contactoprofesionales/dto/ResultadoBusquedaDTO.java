@@ -0,0 +1,116 @@
+package com.contactoprofesionales.dto;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO con el resultado completo de una búsqueda de profesionales:
+ * la página solicitada, el total de coincidencias y la información de paginación.
+ * Se construye a partir de una única ejecución de la búsqueda en el DAO.
+ */
+public class ResultadoBusquedaDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private List<ProfesionalBusquedaDTO> profesionales;
+    private int total;
+    private int pagina;
+    private int elementosPorPagina;
+    private int totalPaginas;
+    private FacetasBusquedaDTO facetas; // null si no se solicitaron
+    private String siguienteCursor; // Paginación por cursor: null si no hay más resultados
+
+    // Constructor vacío
+    public ResultadoBusquedaDTO() {
+        this.profesionales = new ArrayList<>();
+    }
+
+    // Constructor completo (totalPaginas se calcula a partir del total)
+    public ResultadoBusquedaDTO(List<ProfesionalBusquedaDTO> profesionales, int total,
+                                int pagina, int elementosPorPagina) {
+        this.profesionales = profesionales != null ? profesionales : new ArrayList<>();
+        this.total = total;
+        this.pagina = pagina;
+        this.elementosPorPagina = elementosPorPagina;
+        this.totalPaginas = elementosPorPagina > 0
+                            ? (int) Math.ceil((double) total / elementosPorPagina)
+                            : 0;
+    }
+
+    // Getters y Setters
+    public List<ProfesionalBusquedaDTO> getProfesionales() {
+        return profesionales;
+    }
+
+    public void setProfesionales(List<ProfesionalBusquedaDTO> profesionales) {
+        this.profesionales = profesionales;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public void setTotal(int total) {
+        this.total = total;
+    }
+
+    public int getPagina() {
+        return pagina;
+    }
+
+    public void setPagina(int pagina) {
+        this.pagina = pagina;
+    }
+
+    public int getElementosPorPagina() {
+        return elementosPorPagina;
+    }
+
+    public void setElementosPorPagina(int elementosPorPagina) {
+        this.elementosPorPagina = elementosPorPagina;
+    }
+
+    public int getTotalPaginas() {
+        return totalPaginas;
+    }
+
+    public void setTotalPaginas(int totalPaginas) {
+        this.totalPaginas = totalPaginas;
+    }
+
+    public FacetasBusquedaDTO getFacetas() {
+        return facetas;
+    }
+
+    public void setFacetas(FacetasBusquedaDTO facetas) {
+        this.facetas = facetas;
+    }
+
+    public String getSiguienteCursor() {
+        return siguienteCursor;
+    }
+
+    public void setSiguienteCursor(String siguienteCursor) {
+        this.siguienteCursor = siguienteCursor;
+    }
+
+    /**
+     * Indica si se calculó el total (no se calcula con paginación por cursor).
+     */
+    public boolean isTotalCalculado() {
+        return total != ResultadoPaginadoDTO.TOTAL_NO_CALCULADO;
+    }
+
+    @Override
+    public String toString() {
+        return "ResultadoBusquedaDTO{" +
+                "profesionales=" + (profesionales != null ? profesionales.size() : 0) +
+                ", total=" + total +
+                ", pagina=" + pagina +
+                ", elementosPorPagina=" + elementosPorPagina +
+                ", totalPaginas=" + totalPaginas +
+                ", facetas=" + facetas +
+                '}';
+    }
+}
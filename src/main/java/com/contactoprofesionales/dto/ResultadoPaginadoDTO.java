@@ -0,0 +1,59 @@
+package com.contactoprofesionales.dto;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO genérico para resultados paginados obtenidos desde la base de datos.
+ * Contiene solo los elementos de la página solicitada y el total de registros
+ * que cumplen los criterios (sin paginación).
+ *
+ * @param <T> Tipo de los elementos de la página
+ */
+public class ResultadoPaginadoDTO<T> implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /** Total no calculado (paginación por cursor: contar anularía la ventaja de buscar por posición) */
+    public static final int TOTAL_NO_CALCULADO = -1;
+
+    private List<T> elementos;
+    private int total;
+
+    // Constructor vacío
+    public ResultadoPaginadoDTO() {
+        this.elementos = new ArrayList<>();
+    }
+
+    // Constructor completo
+    public ResultadoPaginadoDTO(List<T> elementos, int total) {
+        this.elementos = elementos != null ? elementos : new ArrayList<>();
+        this.total = total;
+    }
+
+    // Getters y Setters
+    public List<T> getElementos() {
+        return elementos;
+    }
+
+    public void setElementos(List<T> elementos) {
+        this.elementos = elementos;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public void setTotal(int total) {
+        this.total = total;
+    }
+
+    @Override
+    public String toString() {
+        return "ResultadoPaginadoDTO{" +
+                "elementos=" + (elementos != null ? elementos.size() : 0) +
+                ", total=" + total +
+                '}';
+    }
+}
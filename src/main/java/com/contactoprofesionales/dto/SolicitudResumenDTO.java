@@ -0,0 +1,130 @@
+package com.contactoprofesionales.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Proyección reducida de una solicitud para los listados paginados.
+ *
+ * No incluye la descripción completa, las fotos, la dirección ni las notas: solo lo que
+ * muestran las tablas del dashboard, más un resumen de la descripción
+ * (LARGO_RESUMEN caracteres). El detalle completo sigue en GET /api/solicitudes/{id}.
+ */
+public class SolicitudResumenDTO {
+
+    /** Caracteres de la descripción que se devuelven en el resumen. */
+    public static final int LARGO_RESUMEN = 80;
+
+    private Integer id;
+    private Integer clienteId;
+    private Integer profesionalId;
+    private String resumen;
+    private Double presupuestoEstimado;
+    private String urgencia;
+    private String estado;
+    private String tipoPrestacion;
+    private LocalDateTime fechaServicio;
+    private LocalDateTime fechaSolicitud;
+    private LocalDateTime fechaRespuesta;
+
+    // Constructor vacío
+    public SolicitudResumenDTO() {
+    }
+
+    // Getters y Setters
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
+    public Integer getClienteId() {
+        return clienteId;
+    }
+
+    public void setClienteId(Integer clienteId) {
+        this.clienteId = clienteId;
+    }
+
+    public Integer getProfesionalId() {
+        return profesionalId;
+    }
+
+    public void setProfesionalId(Integer profesionalId) {
+        this.profesionalId = profesionalId;
+    }
+
+    public String getResumen() {
+        return resumen;
+    }
+
+    public void setResumen(String resumen) {
+        this.resumen = resumen;
+    }
+
+    public Double getPresupuestoEstimado() {
+        return presupuestoEstimado;
+    }
+
+    public void setPresupuestoEstimado(Double presupuestoEstimado) {
+        this.presupuestoEstimado = presupuestoEstimado;
+    }
+
+    public String getUrgencia() {
+        return urgencia;
+    }
+
+    public void setUrgencia(String urgencia) {
+        this.urgencia = urgencia;
+    }
+
+    public String getEstado() {
+        return estado;
+    }
+
+    public void setEstado(String estado) {
+        this.estado = estado;
+    }
+
+    public String getTipoPrestacion() {
+        return tipoPrestacion;
+    }
+
+    public void setTipoPrestacion(String tipoPrestacion) {
+        this.tipoPrestacion = tipoPrestacion;
+    }
+
+    public LocalDateTime getFechaServicio() {
+        return fechaServicio;
+    }
+
+    public void setFechaServicio(LocalDateTime fechaServicio) {
+        this.fechaServicio = fechaServicio;
+    }
+
+    public LocalDateTime getFechaSolicitud() {
+        return fechaSolicitud;
+    }
+
+    public void setFechaSolicitud(LocalDateTime fechaSolicitud) {
+        this.fechaSolicitud = fechaSolicitud;
+    }
+
+    public LocalDateTime getFechaRespuesta() {
+        return fechaRespuesta;
+    }
+
+    public void setFechaRespuesta(LocalDateTime fechaRespuesta) {
+        this.fechaRespuesta = fechaRespuesta;
+    }
+
+    @Override
+    public String toString() {
+        return "SolicitudResumenDTO{" +
+                "id=" + id +
+                ", estado='" + estado + '\'' +
+                ", fechaSolicitud=" + fechaSolicitud +
+                '}';
+    }
+}
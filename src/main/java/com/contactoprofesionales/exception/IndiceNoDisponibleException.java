@@ -0,0 +1,14 @@
+package com.contactoprofesionales.exception;
+
+/**
+ * Excepción para búsquedas que necesitan un índice en memoria que aún no termina su
+ * primera construcción. Es temporal: la petición se puede repetir en unos segundos.
+ */
+public class IndiceNoDisponibleException extends Exception {
+
+    private static final long serialVersionUID = 1L;
+
+    public IndiceNoDisponibleException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,124 @@
+package com.contactoprofesionales.filter;
+
+import com.contactoprofesionales.metricas.MetricasHttp;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.annotation.WebFilter;
+import jakarta.servlet.http.HttpServletMapping;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Registra la latencia, el código de estado y las peticiones en curso de cada petición HTTP.
+ *
+ * La ruta es el patrón de mapeo del servlet (no la URL), para que las métricas no
+ * crezcan con los IDs. Por petición solo se toma System.nanoTime() dos veces y se
+ * actualizan contadores sin bloqueo. Las peticiones asíncronas se registran al completarse.
+ */
+@WebFilter(filterName = "MetricasFilter", urlPatterns = {"/*"}, asyncSupported = true)
+public class MetricasFilter implements Filter {
+
+    private final MetricasHttp metricas = MetricasHttp.getInstancia();
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+
+        if (!(request instanceof HttpServletRequest) || !(response instanceof HttpServletResponse)) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        HttpServletRequest httpRequest = (HttpServletRequest) request;
+        HttpServletResponse httpResponse = (HttpServletResponse) response;
+
+        MetricasHttp.Ruta ruta = metricas.ruta(httpRequest.getMethod(), patron(httpRequest));
+        Registro registro = new Registro(ruta, System.nanoTime());
+        ruta.iniciar();
+
+        boolean error = true;
+        try {
+            chain.doFilter(request, response);
+            error = false;
+        } finally {
+            if (!error && httpRequest.isAsyncStarted()) {
+                httpRequest.getAsyncContext().addListener(registro);
+            } else {
+                // Una excepción que sale del servlet termina en 500 aunque el estado aún diga 200
+                registro.finalizar(error ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : httpResponse.getStatus());
+            }
+        }
+    }
+
+    /**
+     * Patrón de mapeo del servlet que atiende la petición.
+     * Los recursos estáticos (servlet por defecto) se agrupan en "/".
+     */
+    static String patron(HttpServletRequest request) {
+        HttpServletMapping mapeo = request.getHttpServletMapping();
+        if (mapeo == null || mapeo.getMappingMatch() == null) {
+            return "/";
+        }
+        switch (mapeo.getMappingMatch()) {
+            case DEFAULT:
+            case CONTEXT_ROOT:
+                return "/";
+            default:
+                return mapeo.getPattern();
+        }
+    }
+
+    /**
+     * Fin de una petición; se registra una sola vez aunque el contenedor notifique
+     * más de un evento asíncrono (por ejemplo, timeout y luego complete).
+     */
+    private static final class Registro implements AsyncListener {
+
+        private final MetricasHttp.Ruta ruta;
+        private final long inicio;
+        private final AtomicBoolean finalizado = new AtomicBoolean();
+
+        Registro(MetricasHttp.Ruta ruta, long inicio) {
+            this.ruta = ruta;
+            this.inicio = inicio;
+        }
+
+        void finalizar(int status) {
+            if (finalizado.compareAndSet(false, true)) {
+                ruta.finalizar(System.nanoTime() - inicio, status);
+            }
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            ServletResponse response = event.getSuppliedResponse();
+            finalizar(response instanceof HttpServletResponse
+                      ? ((HttpServletResponse) response).getStatus()
+                      : HttpServletResponse.SC_OK);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            finalizar(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            finalizar(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // Un nuevo ciclo asíncrono sobre la misma petición: el listener debe volver a registrarse
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.contactoprofesionales.listener;
+
+import com.contactoprofesionales.service.solicitud.EventosSolicitudes;
+
+import jakarta.servlet.ServletContextEvent;
+import jakarta.servlet.ServletContextListener;
+import jakarta.servlet.annotation.WebListener;
+
+/**
+ * Cierra las conexiones de eventos en tiempo real y detiene sus latidos al replegar
+ * la aplicación. EventosSolicitudes se inicia con la primera suscripción.
+ */
+@WebListener
+public class EventosSolicitudesListener implements ServletContextListener {
+
+    @Override
+    public void contextDestroyed(ServletContextEvent sce) {
+        EventosSolicitudes.getInstancia().detener();
+    }
+}
@@ -0,0 +1,69 @@
+package com.contactoprofesionales.listener;
+
+import com.contactoprofesionales.service.profesional.IndiceBusquedaProfesionales;
+import com.contactoprofesionales.service.profesional.IndiceProximidadProfesionales;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jakarta.servlet.ServletContextEvent;
+import jakarta.servlet.ServletContextListener;
+import jakarta.servlet.annotation.WebListener;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Construye los índices de búsqueda de profesionales (texto y cercanía) al iniciar la aplicación.
+ *
+ * La construcción se hace en segundo plano para no retrasar el despliegue; mientras
+ * el índice no esté listo, la búsqueda usa la consulta SQL. El índice se reconstruye
+ * periódicamente para reflejar cambios que no pasan por las actualizaciones
+ * incrementales (calificación, tarifa, disponibilidad).
+ */
+@WebListener
+public class IndiceBusquedaListener implements ServletContextListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(IndiceBusquedaListener.class);
+    private static final long MINUTOS_ENTRE_RECONSTRUCCIONES = 10;
+
+    private ScheduledExecutorService scheduler;
+
+    @Override
+    public void contextInitialized(ServletContextEvent sce) {
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread hilo = new Thread(r, "indice-busqueda");
+            hilo.setDaemon(true);
+            return hilo;
+        });
+
+        scheduler.scheduleWithFixedDelay(this::construirIndice,
+                0, MINUTOS_ENTRE_RECONSTRUCCIONES, TimeUnit.MINUTES);
+
+        logger.info("✓ Construcción del índice de búsqueda programada (cada {} min)",
+                   MINUTOS_ENTRE_RECONSTRUCCIONES);
+    }
+
+    @Override
+    public void contextDestroyed(ServletContextEvent sce) {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            logger.info("Índice de búsqueda detenido");
+        }
+    }
+
+    private void construirIndice() {
+        try {
+            IndiceBusquedaProfesionales.getInstancia().construir();
+        } catch (Exception e) {
+            // No propagar: una excepción cancelaría las reconstrucciones siguientes
+            logger.error("Error al construir el índice de búsqueda: {}", e.getMessage(), e);
+        }
+
+        try {
+            IndiceProximidadProfesionales.getInstancia().construir();
+        } catch (Exception e) {
+            logger.error("Error al construir el índice de cercanía: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.contactoprofesionales.listener;
+
+import com.contactoprofesionales.service.notificacion.DespachadorNotificaciones;
+
+import jakarta.servlet.ServletContextEvent;
+import jakarta.servlet.ServletContextListener;
+import jakarta.servlet.annotation.WebListener;
+
+/**
+ * Inicia el despachador de notificaciones al desplegar la aplicación y lo detiene al
+ * replegarla. Las notificaciones registradas mientras está detenido quedan en el outbox.
+ */
+@WebListener
+public class NotificacionesListener implements ServletContextListener {
+
+    @Override
+    public void contextInitialized(ServletContextEvent sce) {
+        DespachadorNotificaciones.getInstancia().iniciar();
+    }
+
+    @Override
+    public void contextDestroyed(ServletContextEvent sce) {
+        DespachadorNotificaciones.getInstancia().detener();
+    }
+}
@@ -0,0 +1,20 @@
+package com.contactoprofesionales.listener;
+
+import com.contactoprofesionales.service.almacenamiento.ProcesadorFotos;
+
+import jakarta.servlet.ServletContextEvent;
+import jakarta.servlet.ServletContextListener;
+import jakarta.servlet.annotation.WebListener;
+
+/**
+ * Detiene la generación de miniaturas de fotos al replegar la aplicación. Las fotos
+ * cuya miniatura queda pendiente se sirven con la original hasta que exista.
+ */
+@WebListener
+public class ProcesadorFotosListener implements ServletContextListener {
+
+    @Override
+    public void contextDestroyed(ServletContextEvent sce) {
+        ProcesadorFotos.detener();
+    }
+}
@@ -0,0 +1,238 @@
+package com.contactoprofesionales.metricas;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Optional;
+
+/**
+ * Proxy de Connection que mide cada ejecución de sus Statement/PreparedStatement y la
+ * informa a {@link MetricasConsultas}.
+ *
+ * - El origen (clase.método del DAO) se obtiene una vez al preparar la sentencia, con el
+ *   primer método de la aplicación en la pila que no sea de util ni de metricas.
+ * - Las filas de un SELECT se cuentan al recorrer el ResultSet y se suman al cerrarlo
+ *   (o al cerrar la sentencia); las de un UPDATE/INSERT/DELETE salen del conteo que
+ *   devuelve el driver.
+ * - Cualquier otro método se delega sin cambios (unwrap, createArrayOf, transacciones...).
+ */
+public final class ConexionInstrumentada implements InvocationHandler {
+
+    private static final String PAQUETE_APLICACION = "com.contactoprofesionales.";
+    private static final String PAQUETE_METRICAS = "com.contactoprofesionales.metricas.";
+    private static final String PAQUETE_UTIL = "com.contactoprofesionales.util.";
+
+    private static final StackWalker PILA = StackWalker.getInstance();
+
+    private final Connection conexion;
+    private final MetricasConsultas metricas;
+
+    private ConexionInstrumentada(Connection conexion, MetricasConsultas metricas) {
+        this.conexion = conexion;
+        this.metricas = metricas;
+    }
+
+    /**
+     * Envuelve una conexión del pool. Cerrar el proxy cierra (devuelve al pool) la conexión real.
+     */
+    public static Connection envolver(Connection conexion, MetricasConsultas metricas) {
+        return (Connection) Proxy.newProxyInstance(
+                ConexionInstrumentada.class.getClassLoader(),
+                new Class<?>[] {Connection.class},
+                new ConexionInstrumentada(conexion, metricas));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method metodo, Object[] args) throws Throwable {
+        Object resultado = invocar(conexion, metodo, args);
+
+        String nombre = metodo.getName();
+        if (resultado instanceof Statement
+                && (nombre.equals("prepareStatement") || nombre.equals("prepareCall")
+                    || nombre.equals("createStatement"))) {
+            String sql = args != null && args.length > 0 && args[0] instanceof String ? (String) args[0] : null;
+            return Sentencia.envolver((Statement) resultado, sql, origen(), metricas);
+        }
+        return resultado;
+    }
+
+    /**
+     * Primer método de la aplicación en la pila (el DAO o servicio que ejecuta la consulta).
+     */
+    static String origen() {
+        Optional<StackWalker.StackFrame> marco = PILA.walk(marcos -> marcos
+                .filter(m -> m.getClassName().startsWith(PAQUETE_APLICACION)
+                             && !m.getClassName().startsWith(PAQUETE_METRICAS)
+                             && !m.getClassName().startsWith(PAQUETE_UTIL))
+                .findFirst());
+        if (!marco.isPresent()) {
+            return "(desconocido)";
+        }
+        String clase = marco.get().getClassName();
+        int punto = clase.lastIndexOf('.');
+        return clase.substring(punto + 1) + "." + marco.get().getMethodName();
+    }
+
+    private static Object invocar(Object destino, Method metodo, Object[] args) throws Throwable {
+        try {
+            return metodo.invoke(destino, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Proxy de Statement/PreparedStatement/CallableStatement.
+     */
+    private static final class Sentencia implements InvocationHandler {
+
+        private final Statement sentencia;
+        private final String sqlPreparado;
+        private final String origen;
+        private final MetricasConsultas metricas;
+
+        private int parametros;
+        private MetricasConsultas.Consulta ultimaConsulta;
+        private Resultados resultadosAbiertos;
+
+        private Sentencia(Statement sentencia, String sqlPreparado, String origen, MetricasConsultas metricas) {
+            this.sentencia = sentencia;
+            this.sqlPreparado = sqlPreparado;
+            this.origen = origen;
+            this.metricas = metricas;
+        }
+
+        static Statement envolver(Statement sentencia, String sql, String origen, MetricasConsultas metricas) {
+            Class<?> interfaz = sentencia instanceof CallableStatement ? CallableStatement.class
+                              : sentencia instanceof PreparedStatement ? PreparedStatement.class
+                              : Statement.class;
+            return (Statement) Proxy.newProxyInstance(
+                    ConexionInstrumentada.class.getClassLoader(),
+                    new Class<?>[] {interfaz},
+                    new Sentencia(sentencia, sql, origen, metricas));
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method metodo, Object[] args) throws Throwable {
+            String nombre = metodo.getName();
+
+            if (nombre.startsWith("execute")) {
+                return ejecutar(metodo, args);
+            }
+            if (nombre.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                parametros = Math.max(parametros, (Integer) args[0]);
+            } else if (nombre.equals("clearParameters")) {
+                parametros = 0;
+            } else if (nombre.equals("close")) {
+                cerrarResultados();
+            }
+
+            Object resultado = invocar(sentencia, metodo, args);
+            if (nombre.equals("getResultSet") && resultado instanceof ResultSet) {
+                // Resultados de execute(): la consulta ya se registró, solo falta contar filas
+                return contarFilas((ResultSet) resultado, ultimaConsulta);
+            }
+            return resultado;
+        }
+
+        private Object ejecutar(Method metodo, Object[] args) throws Throwable {
+            // Statement.execute(sql) trae el SQL en la llamada; PreparedStatement.execute() no
+            String sql = args != null && args.length > 0 && args[0] instanceof String ? (String) args[0] : sqlPreparado;
+            MetricasConsultas.Consulta consulta = metricas.consulta(origen, sql);
+            ultimaConsulta = consulta;
+            cerrarResultados();
+
+            long inicio = System.nanoTime();
+            Object resultado;
+            try {
+                resultado = invocar(sentencia, metodo, args);
+            } catch (Throwable e) {
+                consulta.registrarEjecucion(System.nanoTime() - inicio, parametros, true);
+                throw e;
+            }
+            consulta.registrarEjecucion(System.nanoTime() - inicio, parametros, false);
+
+            if (resultado instanceof ResultSet) {
+                return contarFilas((ResultSet) resultado, consulta);
+            } else if (resultado instanceof Integer || resultado instanceof Long) {
+                consulta.sumarFilas(((Number) resultado).longValue());
+            } else if (resultado instanceof int[]) {
+                for (int filas : (int[]) resultado) {
+                    consulta.sumarFilas(filas);
+                }
+            } else if (resultado instanceof long[]) {
+                for (long filas : (long[]) resultado) {
+                    consulta.sumarFilas(filas);
+                }
+            }
+            return resultado;
+        }
+
+        private ResultSet contarFilas(ResultSet resultSet, MetricasConsultas.Consulta consulta) {
+            if (consulta == null) {
+                return resultSet;
+            }
+            Resultados resultados = new Resultados(resultSet, consulta);
+            resultadosAbiertos = resultados;
+            return (ResultSet) Proxy.newProxyInstance(
+                    ConexionInstrumentada.class.getClassLoader(),
+                    new Class<?>[] {ResultSet.class},
+                    resultados);
+        }
+
+        private void cerrarResultados() {
+            if (resultadosAbiertos != null) {
+                resultadosAbiertos.informar();
+                resultadosAbiertos = null;
+            }
+        }
+    }
+
+    /**
+     * Proxy de ResultSet que cuenta las filas leídas con next().
+     */
+    private static final class Resultados implements InvocationHandler {
+
+        private final ResultSet resultSet;
+        private final MetricasConsultas.Consulta consulta;
+        private long filas;
+        private boolean informado;
+
+        private Resultados(ResultSet resultSet, MetricasConsultas.Consulta consulta) {
+            this.resultSet = resultSet;
+            this.consulta = consulta;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method metodo, Object[] args) throws Throwable {
+            String nombre = metodo.getName();
+            if (nombre.equals("close")) {
+                informar();
+            }
+
+            Object resultado = invocar(resultSet, metodo, args);
+
+            if (nombre.equals("next")) {
+                if (Boolean.TRUE.equals(resultado)) {
+                    filas++;
+                } else {
+                    informar();
+                }
+            }
+            return resultado;
+        }
+
+        void informar() {
+            if (!informado) {
+                informado = true;
+                consulta.sumarFilas(filas);
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.contactoprofesionales.metricas;
+
+/**
+ * Escribe métricas en el formato de texto de Prometheus (versión 0.0.4).
+ *
+ * Las etiquetas se pasan como pares nombre/valor: muestra("x", 1, "route", "/api", "method", "GET").
+ */
+public final class EscritorPrometheus {
+
+    public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private final StringBuilder salida;
+
+    public EscritorPrometheus(StringBuilder salida) {
+        this.salida = salida;
+    }
+
+    /**
+     * Escribe las líneas # HELP y # TYPE de una métrica.
+     *
+     * @param tipo counter, gauge o histogram
+     */
+    public void encabezado(String nombre, String tipo, String ayuda) {
+        salida.append("# HELP ").append(nombre).append(' ').append(ayuda).append('\n');
+        salida.append("# TYPE ").append(nombre).append(' ').append(tipo).append('\n');
+    }
+
+    public void muestra(String nombre, long valor, String... etiquetas) {
+        nombreYEtiquetas(nombre, etiquetas);
+        salida.append(valor).append('\n');
+    }
+
+    public void muestra(String nombre, double valor, String... etiquetas) {
+        nombreYEtiquetas(nombre, etiquetas);
+        if (Double.isNaN(valor)) {
+            salida.append("NaN");
+        } else if (Double.isInfinite(valor)) {
+            salida.append(valor > 0 ? "+Inf" : "-Inf");
+        } else {
+            salida.append(valor);
+        }
+        salida.append('\n');
+    }
+
+    private void nombreYEtiquetas(String nombre, String[] etiquetas) {
+        salida.append(nombre);
+        if (etiquetas.length > 0) {
+            salida.append('{');
+            for (int i = 0; i + 1 < etiquetas.length; i += 2) {
+                if (i > 0) {
+                    salida.append(',');
+                }
+                salida.append(etiquetas[i]).append("=\"");
+                escaparValor(etiquetas[i + 1]);
+                salida.append('"');
+            }
+            salida.append('}');
+        }
+        salida.append(' ');
+    }
+
+    private void escaparValor(String valor) {
+        for (int i = 0; i < valor.length(); i++) {
+            char c = valor.charAt(i);
+            switch (c) {
+                case '\\': salida.append("\\\\"); break;
+                case '"': salida.append("\\\""); break;
+                case '\n': salida.append("\\n"); break;
+                default: salida.append(c);
+            }
+        }
+    }
+}
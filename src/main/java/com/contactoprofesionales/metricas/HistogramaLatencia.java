@@ -0,0 +1,127 @@
+package com.contactoprofesionales.metricas;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histograma de latencias con cubetas fijas, exportado como histogram de Prometheus.
+ *
+ * Registrar una medición es una búsqueda en unos pocos límites y dos LongAdder, sin bloqueos:
+ * se puede llamar en cada petición. Los acumulados por cubeta se calculan al exportar.
+ */
+public final class HistogramaLatencia {
+
+    /** Límites superiores de las cubetas, en segundos (como los de los clientes de Prometheus). */
+    static final double[] LIMITES_SEGUNDOS = {0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10};
+
+    private final double[] limitesSegundos;
+    private final long[] limitesNanos;
+
+    // Una cubeta por límite más la de +Inf; cada una cuenta solo sus mediciones (no acumulado)
+    private final LongAdder[] cubetas;
+    private final LongAdder sumaNanos = new LongAdder();
+
+    /**
+     * Histograma con los límites por defecto (peticiones HTTP).
+     */
+    public HistogramaLatencia() {
+        this(LIMITES_SEGUNDOS);
+    }
+
+    /**
+     * Histograma con límites propios.
+     *
+     * @param limitesSegundos Límites superiores de las cubetas, en segundos y en orden creciente
+     */
+    public HistogramaLatencia(double[] limitesSegundos) {
+        this.limitesSegundos = limitesSegundos.clone();
+        this.limitesNanos = Arrays.stream(limitesSegundos)
+                .mapToLong(s -> (long) (s * TimeUnit.SECONDS.toNanos(1)))
+                .toArray();
+        this.cubetas = new LongAdder[limitesNanos.length + 1];
+        for (int i = 0; i < cubetas.length; i++) {
+            cubetas[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Registra una medición.
+     *
+     * @param nanos Duración en nanosegundos
+     */
+    public void registrar(long nanos) {
+        int i = 0;
+        while (i < limitesNanos.length && nanos > limitesNanos[i]) {
+            i++;
+        }
+        cubetas[i].increment();
+        sumaNanos.add(nanos);
+    }
+
+    /**
+     * Número de mediciones registradas.
+     */
+    public long getTotal() {
+        long total = 0;
+        for (LongAdder cubeta : cubetas) {
+            total += cubeta.sum();
+        }
+        return total;
+    }
+
+    /**
+     * Suma de las mediciones, en segundos.
+     */
+    public double getSumaSegundos() {
+        return sumaNanos.sum() / 1e9;
+    }
+
+    /**
+     * Percentil estimado, interpolando linealmente dentro de la cubeta que lo contiene.
+     * La precisión depende de los límites: sirve para comparar, no como valor exacto.
+     *
+     * @param percentil Entre 0 y 100
+     * @return Valor en segundos (0 si no hay mediciones; el último límite si cae en +Inf)
+     */
+    public double percentilSegundos(double percentil) {
+        long[] conteos = new long[cubetas.length];
+        long total = 0;
+        for (int i = 0; i < cubetas.length; i++) {
+            conteos[i] = cubetas[i].sum();
+            total += conteos[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        double objetivo = total * percentil / 100.0;
+        long acumulado = 0;
+        for (int i = 0; i < limitesSegundos.length; i++) {
+            if (conteos[i] > 0 && acumulado + conteos[i] >= objetivo) {
+                double inferior = i == 0 ? 0 : limitesSegundos[i - 1];
+                return inferior + (limitesSegundos[i] - inferior) * (objetivo - acumulado) / conteos[i];
+            }
+            acumulado += conteos[i];
+        }
+        return limitesSegundos[limitesSegundos.length - 1];
+    }
+
+    /**
+     * Escribe las series _bucket, _sum y _count (sin encabezado).
+     */
+    void escribir(EscritorPrometheus escritor, String nombre, String... etiquetas) {
+        String[] conLe = Arrays.copyOf(etiquetas, etiquetas.length + 2);
+        conLe[etiquetas.length] = "le";
+
+        long acumulado = 0;
+        for (int i = 0; i < cubetas.length; i++) {
+            acumulado += cubetas[i].sum();
+            conLe[etiquetas.length + 1] = i < limitesSegundos.length ? String.valueOf(limitesSegundos[i]) : "+Inf";
+            escritor.muestra(nombre + "_bucket", acumulado, conLe);
+        }
+        escritor.muestra(nombre + "_sum", sumaNanos.sum() / 1e9, etiquetas);
+        // _count igual a la cubeta +Inf leída arriba, aunque lleguen mediciones mientras se exporta
+        escritor.muestra(nombre + "_count", acumulado, etiquetas);
+    }
+}
@@ -0,0 +1,238 @@
+package com.contactoprofesionales.metricas;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Tiempos de las consultas JDBC por método DAO y forma del SQL, y registro de consultas lentas.
+ *
+ * Las conexiones de DatabaseConnection se envuelven con {@link ConexionInstrumentada}, que
+ * informa aquí cada ejecución. La forma del SQL es el texto normalizado (espacios colapsados,
+ * literales y listas IN reemplazados por ?), así las consultas que solo cambian en valores
+ * se agrupan.
+ *
+ * Las consultas que superan el umbral (propiedad del sistema contactoprofesionales.jdbc.lentas.ms,
+ * 500 ms por defecto) se registran con WARN con su origen y número de parámetros; los
+ * valores de los parámetros no se registran.
+ */
+public final class MetricasConsultas {
+
+    private static final Logger logger = LoggerFactory.getLogger(MetricasConsultas.class);
+
+    /** Propiedad del sistema con el umbral de consulta lenta en milisegundos. */
+    public static final String PROPIEDAD_UMBRAL_LENTAS = "contactoprofesionales.jdbc.lentas.ms";
+
+    /** Límites de las cubetas: las consultas suelen estar por debajo del milisegundo. */
+    static final double[] LIMITES_SEGUNDOS = {
+        0.0005, 0.001, 0.0025, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10
+    };
+
+    private static final int MAXIMO_CONSULTAS = 2000;
+    private static final int MAXIMO_FORMAS_EN_CACHE = 5000;
+    private static final String FORMA_OTRAS = "(otras consultas: límite de formas alcanzado)";
+
+    private static final Pattern ESPACIOS = Pattern.compile("\\s+");
+    private static final Pattern LITERAL_TEXTO = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern LITERAL_NUMERO = Pattern.compile("(?<![\\w.$])-?\\d+(?:\\.\\d+)?(?![\\w.])");
+    private static final Pattern LISTA_PARAMETROS = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+
+    private static final MetricasConsultas INSTANCIA = new MetricasConsultas(
+            TimeUnit.MILLISECONDS.toNanos(Long.getLong(PROPIEDAD_UMBRAL_LENTAS, 500)));
+
+    private final long umbralLentaNanos;
+    private final ConcurrentHashMap<String, Consulta> consultas = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Origen> origenes = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, String> formas = new ConcurrentHashMap<>();
+
+    /**
+     * Obtiene las métricas compartidas por la aplicación.
+     */
+    public static MetricasConsultas getInstancia() {
+        return INSTANCIA;
+    }
+
+    MetricasConsultas(long umbralLentaNanos) {
+        this.umbralLentaNanos = umbralLentaNanos;
+    }
+
+    /**
+     * Métricas de una consulta (se crean si no existen).
+     *
+     * @param origen Método que ejecuta la consulta, por ejemplo "ProfesionalDAOImpl.listarTodos"
+     * @param sql SQL tal como se preparó
+     */
+    public Consulta consulta(String origen, String sql) {
+        String forma = forma(sql);
+        String clave = origen + '\u0000' + forma;
+
+        Consulta consulta = consultas.get(clave);
+        if (consulta == null) {
+            if (consultas.size() >= MAXIMO_CONSULTAS) {
+                forma = FORMA_OTRAS;
+                clave = origen + '\u0000' + forma;
+            }
+            Origen metricasOrigen = origenes.computeIfAbsent(origen, o -> new Origen());
+            String formaFinal = forma;
+            consulta = consultas.computeIfAbsent(clave, k -> new Consulta(this, origen, formaFinal, metricasOrigen));
+        }
+        return consulta;
+    }
+
+    /**
+     * Normaliza un SQL para agrupar las consultas que solo cambian en valores.
+     */
+    static String normalizar(String sql) {
+        String forma = ESPACIOS.matcher(sql.trim()).replaceAll(" ");
+        forma = LITERAL_TEXTO.matcher(forma).replaceAll("?");
+        forma = LITERAL_NUMERO.matcher(forma).replaceAll("?");
+        return LISTA_PARAMETROS.matcher(forma).replaceAll("(?...)");
+    }
+
+    private String forma(String sql) {
+        if (sql == null) {
+            return "(sin SQL)";
+        }
+        String forma = formas.get(sql);
+        if (forma == null) {
+            forma = normalizar(sql);
+            if (formas.size() < MAXIMO_FORMAS_EN_CACHE) {
+                formas.put(sql, forma);
+            }
+        }
+        return forma;
+    }
+
+    /**
+     * Escribe las métricas por origen (método DAO) en formato Prometheus.
+     * La forma del SQL no se usa como etiqueta: está en el informe de /metrics/consultas.
+     */
+    public void escribir(EscritorPrometheus escritor) {
+        Map<String, Origen> ordenados = new TreeMap<>(origenes);
+
+        escritor.encabezado("db_query_duration_seconds", "histogram",
+                            "Duración de las consultas JDBC por método DAO.");
+        for (Map.Entry<String, Origen> origen : ordenados.entrySet()) {
+            origen.getValue().latencia.escribir(escritor, "db_query_duration_seconds", "dao", origen.getKey());
+        }
+
+        escritor.encabezado("db_query_rows_total", "counter",
+                            "Filas leídas o modificadas por las consultas JDBC.");
+        for (Map.Entry<String, Origen> origen : ordenados.entrySet()) {
+            escritor.muestra("db_query_rows_total", origen.getValue().filas.sum(), "dao", origen.getKey());
+        }
+
+        escritor.encabezado("db_query_errors_total", "counter", "Consultas JDBC que lanzaron SQLException.");
+        for (Map.Entry<String, Origen> origen : ordenados.entrySet()) {
+            escritor.muestra("db_query_errors_total", origen.getValue().errores.sum(), "dao", origen.getKey());
+        }
+    }
+
+    /**
+     * Informe en texto de las consultas ordenadas por tiempo total (las que más pesan primero).
+     */
+    public void escribirInforme(StringBuilder salida) {
+        List<Consulta> ordenadas = new ArrayList<>(consultas.values());
+        ordenadas.sort(Comparator.comparingDouble((Consulta c) -> c.latencia.getSumaSegundos()).reversed());
+
+        salida.append(String.format("%-55s %9s %9s %9s %10s %10s %7s  %s%n",
+                "origen", "consultas", "p50 ms", "p99 ms", "total s", "filas/cons", "errores", "sql"));
+        for (Consulta consulta : ordenadas) {
+            long total = consulta.latencia.getTotal();
+            salida.append(String.format("%-55s %9d %9.2f %9.2f %10.3f %10.1f %7d  %s%n",
+                    consulta.origen, total,
+                    consulta.latencia.percentilSegundos(50) * 1000,
+                    consulta.latencia.percentilSegundos(99) * 1000,
+                    consulta.latencia.getSumaSegundos(),
+                    total > 0 ? (double) consulta.filas.sum() / total : 0.0,
+                    consulta.errores.sum(),
+                    consulta.forma));
+        }
+    }
+
+    /**
+     * Métricas de una consulta (origen + forma del SQL).
+     */
+    public static final class Consulta {
+
+        private final MetricasConsultas metricas;
+        private final String origen;
+        private final String forma;
+        private final Origen metricasOrigen;
+        private final HistogramaLatencia latencia = new HistogramaLatencia(LIMITES_SEGUNDOS);
+        private final LongAdder filas = new LongAdder();
+        private final LongAdder errores = new LongAdder();
+
+        private Consulta(MetricasConsultas metricas, String origen, String forma, Origen metricasOrigen) {
+            this.metricas = metricas;
+            this.origen = origen;
+            this.forma = forma;
+            this.metricasOrigen = metricasOrigen;
+        }
+
+        /**
+         * Registra una ejecución y, si supera el umbral, la informa como consulta lenta.
+         *
+         * @param nanos Duración de la ejecución
+         * @param parametros Número de parámetros asignados (el mayor índice usado)
+         * @param error Si la ejecución lanzó SQLException
+         */
+        public void registrarEjecucion(long nanos, int parametros, boolean error) {
+            latencia.registrar(nanos);
+            metricasOrigen.latencia.registrar(nanos);
+            if (error) {
+                errores.increment();
+                metricasOrigen.errores.increment();
+            }
+
+            if (nanos >= metricas.umbralLentaNanos) {
+                logger.warn("🐢 Consulta lenta: {} ms en {} ({} parámetros): {}",
+                           TimeUnit.NANOSECONDS.toMillis(nanos), origen, parametros, forma);
+            }
+        }
+
+        /**
+         * Suma las filas leídas de un ResultSet o modificadas por un UPDATE/INSERT/DELETE.
+         */
+        public void sumarFilas(long cantidad) {
+            if (cantidad > 0) {
+                filas.add(cantidad);
+                metricasOrigen.filas.add(cantidad);
+            }
+        }
+
+        public String getOrigen() {
+            return origen;
+        }
+
+        public String getForma() {
+            return forma;
+        }
+
+        public long getEjecuciones() {
+            return latencia.getTotal();
+        }
+
+        public long getFilas() {
+            return filas.sum();
+        }
+    }
+
+    /**
+     * Totales de un método DAO (todas sus consultas), para /metrics.
+     */
+    private static final class Origen {
+        private final HistogramaLatencia latencia = new HistogramaLatencia(LIMITES_SEGUNDOS);
+        private final LongAdder filas = new LongAdder();
+        private final LongAdder errores = new LongAdder();
+    }
+}
@@ -0,0 +1,130 @@
+package com.contactoprofesionales.metricas;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Métricas de las peticiones HTTP por ruta: latencia, códigos de estado y peticiones en curso.
+ *
+ * La ruta es el patrón del servlet que atendió la petición (por ejemplo "/api/solicitudes/*"),
+ * no la URL: así el número de series no crece con los IDs de las URLs.
+ * Las métricas de una ruta se crean la primera vez y después solo se actualizan contadores
+ * sin bloqueo (LongAdder).
+ */
+public final class MetricasHttp {
+
+    private static final MetricasHttp INSTANCIA = new MetricasHttp();
+
+    private static final Set<String> METODOS_CONOCIDOS =
+            Set.of("GET", "POST", "PUT", "DELETE", "PATCH", "HEAD", "OPTIONS");
+
+    private final ConcurrentHashMap<String, Ruta> rutas = new ConcurrentHashMap<>();
+
+    /**
+     * Obtiene las métricas compartidas por la aplicación.
+     */
+    public static MetricasHttp getInstancia() {
+        return INSTANCIA;
+    }
+
+    MetricasHttp() {
+    }
+
+    /**
+     * Métricas de una ruta y método HTTP (se crean si no existen).
+     */
+    public Ruta ruta(String metodo, String patron) {
+        String metodoNormalizado = METODOS_CONOCIDOS.contains(metodo) ? metodo : "OTRO";
+        String clave = metodoNormalizado + ' ' + patron;
+
+        Ruta ruta = rutas.get(clave);
+        if (ruta == null) {
+            ruta = rutas.computeIfAbsent(clave, k -> new Ruta(metodoNormalizado, patron));
+        }
+        return ruta;
+    }
+
+    /**
+     * Escribe las métricas de todas las rutas en formato Prometheus.
+     */
+    public void escribir(EscritorPrometheus escritor) {
+        // Orden estable entre exportaciones
+        Map<String, Ruta> ordenadas = new TreeMap<>(rutas);
+
+        escritor.encabezado("http_server_requests_in_flight", "gauge",
+                            "Peticiones HTTP en curso.");
+        for (Ruta ruta : ordenadas.values()) {
+            escritor.muestra("http_server_requests_in_flight", ruta.enCurso.sum(),
+                             "method", ruta.metodo, "route", ruta.patron);
+        }
+
+        escritor.encabezado("http_server_requests_total", "counter",
+                            "Peticiones HTTP atendidas por código de estado.");
+        for (Ruta ruta : ordenadas.values()) {
+            for (Map.Entry<Integer, LongAdder> estado : new TreeMap<>(ruta.porEstado).entrySet()) {
+                escritor.muestra("http_server_requests_total", estado.getValue().sum(),
+                                 "method", ruta.metodo, "route", ruta.patron,
+                                 "status", String.valueOf(estado.getKey()));
+            }
+        }
+
+        escritor.encabezado("http_server_request_duration_seconds", "histogram",
+                            "Duración de las peticiones HTTP.");
+        for (Ruta ruta : ordenadas.values()) {
+            ruta.latencia.escribir(escritor, "http_server_request_duration_seconds",
+                                   "method", ruta.metodo, "route", ruta.patron);
+        }
+    }
+
+    /**
+     * Métricas de un método y ruta.
+     */
+    public static final class Ruta {
+
+        private final String metodo;
+        private final String patron;
+        private final LongAdder enCurso = new LongAdder();
+        private final HistogramaLatencia latencia = new HistogramaLatencia();
+        private final ConcurrentHashMap<Integer, LongAdder> porEstado = new ConcurrentHashMap<>();
+
+        private Ruta(String metodo, String patron) {
+            this.metodo = metodo;
+            this.patron = patron;
+        }
+
+        /**
+         * Marca el inicio de una petición.
+         */
+        public void iniciar() {
+            enCurso.increment();
+        }
+
+        /**
+         * Marca el fin de una petición iniciada con {@link #iniciar()}.
+         *
+         * @param nanos Duración de la petición
+         * @param status Código de estado HTTP de la respuesta
+         */
+        public void finalizar(long nanos, int status) {
+            enCurso.decrement();
+            latencia.registrar(nanos);
+
+            LongAdder contador = porEstado.get(status);
+            if (contador == null) {
+                contador = porEstado.computeIfAbsent(status, s -> new LongAdder());
+            }
+            contador.increment();
+        }
+
+        public long getTotalPeticiones() {
+            return latencia.getTotal();
+        }
+
+        public long getEnCurso() {
+            return enCurso.sum();
+        }
+    }
+}
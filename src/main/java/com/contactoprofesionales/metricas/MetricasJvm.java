@@ -0,0 +1,74 @@
+package com.contactoprofesionales.metricas;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.lang.management.OperatingSystemMXBean;
+import java.lang.management.RuntimeMXBean;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Métricas de la JVM (memoria, GC, hilos, CPU) leídas de los MXBeans estándar al exportar.
+ * Los nombres siguen los del cliente Java de Prometheus para reutilizar dashboards.
+ */
+public final class MetricasJvm {
+
+    private MetricasJvm() {
+    }
+
+    /**
+     * Escribe las métricas de la JVM en formato Prometheus.
+     */
+    public static void escribir(EscritorPrometheus escritor) {
+        MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+        MemoryUsage noHeap = ManagementFactory.getMemoryMXBean().getNonHeapMemoryUsage();
+
+        escritor.encabezado("jvm_memory_bytes_used", "gauge", "Memoria usada.");
+        escritor.muestra("jvm_memory_bytes_used", heap.getUsed(), "area", "heap");
+        escritor.muestra("jvm_memory_bytes_used", noHeap.getUsed(), "area", "nonheap");
+        escritor.encabezado("jvm_memory_bytes_committed", "gauge", "Memoria reservada por la JVM.");
+        escritor.muestra("jvm_memory_bytes_committed", heap.getCommitted(), "area", "heap");
+        escritor.muestra("jvm_memory_bytes_committed", noHeap.getCommitted(), "area", "nonheap");
+        escritor.encabezado("jvm_memory_bytes_max", "gauge", "Memoria máxima (-1 si no está definida).");
+        escritor.muestra("jvm_memory_bytes_max", heap.getMax(), "area", "heap");
+        escritor.muestra("jvm_memory_bytes_max", noHeap.getMax(), "area", "nonheap");
+
+        escritor.encabezado("jvm_gc_collection_seconds_count", "counter", "Recolecciones de basura.");
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            escritor.muestra("jvm_gc_collection_seconds_count", gc.getCollectionCount(), "gc", gc.getName());
+        }
+        escritor.encabezado("jvm_gc_collection_seconds_sum", "counter", "Tiempo total de recolección de basura.");
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            escritor.muestra("jvm_gc_collection_seconds_sum", gc.getCollectionTime() / 1000.0, "gc", gc.getName());
+        }
+
+        ThreadMXBean hilos = ManagementFactory.getThreadMXBean();
+        escritor.encabezado("jvm_threads_current", "gauge", "Hilos vivos.");
+        escritor.muestra("jvm_threads_current", hilos.getThreadCount());
+        escritor.encabezado("jvm_threads_daemon", "gauge", "Hilos daemon vivos.");
+        escritor.muestra("jvm_threads_daemon", hilos.getDaemonThreadCount());
+        escritor.encabezado("jvm_threads_peak", "gauge", "Máximo de hilos vivos desde el inicio.");
+        escritor.muestra("jvm_threads_peak", hilos.getPeakThreadCount());
+
+        escritor.encabezado("jvm_classes_currently_loaded", "gauge", "Clases cargadas.");
+        escritor.muestra("jvm_classes_currently_loaded", ManagementFactory.getClassLoadingMXBean().getLoadedClassCount());
+
+        RuntimeMXBean runtime = ManagementFactory.getRuntimeMXBean();
+        escritor.encabezado("process_start_time_seconds", "gauge", "Inicio del proceso (segundos desde epoch).");
+        escritor.muestra("process_start_time_seconds", runtime.getStartTime() / 1000.0);
+
+        OperatingSystemMXBean so = ManagementFactory.getOperatingSystemMXBean();
+        if (so instanceof com.sun.management.OperatingSystemMXBean) {
+            escritor.encabezado("process_cpu_seconds_total", "counter", "Tiempo de CPU usado por el proceso.");
+            escritor.muestra("process_cpu_seconds_total",
+                             ((com.sun.management.OperatingSystemMXBean) so).getProcessCpuTime() / 1e9);
+        }
+        if (so instanceof com.sun.management.UnixOperatingSystemMXBean) {
+            escritor.encabezado("process_open_fds", "gauge", "Descriptores de archivo abiertos.");
+            escritor.muestra("process_open_fds",
+                             ((com.sun.management.UnixOperatingSystemMXBean) so).getOpenFileDescriptorCount());
+        }
+        escritor.encabezado("system_load_average_1m", "gauge", "Carga promedio del sistema en el último minuto.");
+        escritor.muestra("system_load_average_1m", so.getSystemLoadAverage());
+    }
+}
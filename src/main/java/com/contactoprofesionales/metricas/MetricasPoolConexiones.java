@@ -0,0 +1,119 @@
+package com.contactoprofesionales.metricas;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToIntFunction;
+
+/**
+ * Métricas del pool de conexiones HikariCP.
+ *
+ * Se registra en la configuración del pool (HikariConfig.setMetricsTrackerFactory):
+ * HikariCP informa el tiempo de espera por una conexión, el tiempo de uso y los
+ * timeouts, y entrega sus PoolStats (conexiones activas, libres, hilos esperando),
+ * que HikariCP recalcula como máximo una vez por segundo.
+ */
+public final class MetricasPoolConexiones implements MetricsTrackerFactory {
+
+    private static final MetricasPoolConexiones INSTANCIA = new MetricasPoolConexiones();
+
+    private final ConcurrentHashMap<String, Pool> pools = new ConcurrentHashMap<>();
+
+    /**
+     * Obtiene las métricas compartidas por la aplicación.
+     */
+    public static MetricasPoolConexiones getInstancia() {
+        return INSTANCIA;
+    }
+
+    MetricasPoolConexiones() {
+    }
+
+    @Override
+    public IMetricsTracker create(String nombrePool, PoolStats estadisticas) {
+        Pool pool = new Pool(estadisticas);
+        pools.put(nombrePool, pool);
+        return pool;
+    }
+
+    /**
+     * Escribe las métricas de los pools registrados en formato Prometheus.
+     */
+    public void escribir(EscritorPrometheus escritor) {
+        Map<String, Pool> ordenados = new TreeMap<>(pools);
+
+        gauge(escritor, ordenados, "hikaricp_connections_active", "Conexiones en uso.",
+              PoolStats::getActiveConnections);
+        gauge(escritor, ordenados, "hikaricp_connections_idle", "Conexiones libres.",
+              PoolStats::getIdleConnections);
+        gauge(escritor, ordenados, "hikaricp_connections", "Conexiones abiertas.",
+              PoolStats::getTotalConnections);
+        gauge(escritor, ordenados, "hikaricp_connections_pending", "Hilos esperando una conexión.",
+              PoolStats::getPendingThreads);
+        gauge(escritor, ordenados, "hikaricp_connections_max", "Tamaño máximo del pool.",
+              PoolStats::getMaxConnections);
+
+        escritor.encabezado("hikaricp_connections_timeout_total", "counter",
+                            "Peticiones de conexión que agotaron el connectionTimeout.");
+        for (Map.Entry<String, Pool> pool : ordenados.entrySet()) {
+            escritor.muestra("hikaricp_connections_timeout_total", pool.getValue().timeouts.sum(),
+                             "pool", pool.getKey());
+        }
+
+        escritor.encabezado("hikaricp_connections_acquire_seconds", "histogram",
+                            "Tiempo de espera para obtener una conexión del pool.");
+        for (Map.Entry<String, Pool> pool : ordenados.entrySet()) {
+            pool.getValue().espera.escribir(escritor, "hikaricp_connections_acquire_seconds", "pool", pool.getKey());
+        }
+
+        escritor.encabezado("hikaricp_connections_usage_seconds", "histogram",
+                            "Tiempo que una conexión estuvo prestada antes de devolverse al pool.");
+        for (Map.Entry<String, Pool> pool : ordenados.entrySet()) {
+            pool.getValue().uso.escribir(escritor, "hikaricp_connections_usage_seconds", "pool", pool.getKey());
+        }
+    }
+
+    private void gauge(EscritorPrometheus escritor, Map<String, Pool> pools, String nombre, String ayuda,
+                       ToIntFunction<PoolStats> valor) {
+        escritor.encabezado(nombre, "gauge", ayuda);
+        for (Map.Entry<String, Pool> pool : pools.entrySet()) {
+            escritor.muestra(nombre, valor.applyAsInt(pool.getValue().estadisticas), "pool", pool.getKey());
+        }
+    }
+
+    /**
+     * Métricas de un pool; HikariCP llama a estos métodos en cada préstamo de conexión.
+     */
+    private static final class Pool implements IMetricsTracker {
+
+        private final PoolStats estadisticas;
+        private final HistogramaLatencia espera = new HistogramaLatencia();
+        private final HistogramaLatencia uso = new HistogramaLatencia();
+        private final LongAdder timeouts = new LongAdder();
+
+        private Pool(PoolStats estadisticas) {
+            this.estadisticas = estadisticas;
+        }
+
+        @Override
+        public void recordConnectionAcquiredNanos(long nanos) {
+            espera.registrar(nanos);
+        }
+
+        @Override
+        public void recordConnectionUsageMillis(long millis) {
+            uso.registrar(TimeUnit.MILLISECONDS.toNanos(millis));
+        }
+
+        @Override
+        public void recordConnectionTimeout() {
+            timeouts.increment();
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.contactoprofesionales.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Modelo de una notificación pendiente de entrega.
+ * Corresponde a la tabla 'notificaciones_outbox' en la BD (migración V014).
+ *
+ * Hay una fila por evento y canal; el despachador la entrega y la marca como
+ * 'enviada', o la reprograma hasta agotar los intentos ('fallida').
+ */
+public class NotificacionOutbox {
+
+    public static final String ESTADO_PENDIENTE = "pendiente";
+    public static final String ESTADO_ENVIADA = "enviada";
+    public static final String ESTADO_FALLIDA = "fallida";
+
+    private Long id;
+    private String claveIdempotencia;
+    private String tipo;            // 'nueva_solicitud', 'cancelacion', 'aceptacion', 'rechazo'
+    private String canal;           // nombre del CanalNotificacion que la entrega
+    private Integer solicitudId;
+    private Integer destinatarioId;
+    private String payload;         // JSON de la solicitud al momento del evento
+    private String estado;
+    private int intentos;
+    private LocalDateTime proximoIntento;
+    private String ultimoError;
+    private LocalDateTime fechaCreacion;
+    private LocalDateTime fechaEnvio;
+
+    // Constructor vacío
+    public NotificacionOutbox() {
+        this.estado = ESTADO_PENDIENTE;
+    }
+
+    // Constructor con los datos de un evento
+    public NotificacionOutbox(String tipo, String canal, Integer solicitudId,
+                              Integer destinatarioId, String payload) {
+        this();
+        this.tipo = tipo;
+        this.canal = canal;
+        this.solicitudId = solicitudId;
+        this.destinatarioId = destinatarioId;
+        this.payload = payload;
+        this.claveIdempotencia = tipo + ":" + solicitudId + ":" + canal;
+    }
+
+    // Getters y Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getClaveIdempotencia() {
+        return claveIdempotencia;
+    }
+
+    public void setClaveIdempotencia(String claveIdempotencia) {
+        this.claveIdempotencia = claveIdempotencia;
+    }
+
+    public String getTipo() {
+        return tipo;
+    }
+
+    public void setTipo(String tipo) {
+        this.tipo = tipo;
+    }
+
+    public String getCanal() {
+        return canal;
+    }
+
+    public void setCanal(String canal) {
+        this.canal = canal;
+    }
+
+    public Integer getSolicitudId() {
+        return solicitudId;
+    }
+
+    public void setSolicitudId(Integer solicitudId) {
+        this.solicitudId = solicitudId;
+    }
+
+    public Integer getDestinatarioId() {
+        return destinatarioId;
+    }
+
+    public void setDestinatarioId(Integer destinatarioId) {
+        this.destinatarioId = destinatarioId;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public void setPayload(String payload) {
+        this.payload = payload;
+    }
+
+    public String getEstado() {
+        return estado;
+    }
+
+    public void setEstado(String estado) {
+        this.estado = estado;
+    }
+
+    public int getIntentos() {
+        return intentos;
+    }
+
+    public void setIntentos(int intentos) {
+        this.intentos = intentos;
+    }
+
+    public LocalDateTime getProximoIntento() {
+        return proximoIntento;
+    }
+
+    public void setProximoIntento(LocalDateTime proximoIntento) {
+        this.proximoIntento = proximoIntento;
+    }
+
+    public String getUltimoError() {
+        return ultimoError;
+    }
+
+    public void setUltimoError(String ultimoError) {
+        this.ultimoError = ultimoError;
+    }
+
+    public LocalDateTime getFechaCreacion() {
+        return fechaCreacion;
+    }
+
+    public void setFechaCreacion(LocalDateTime fechaCreacion) {
+        this.fechaCreacion = fechaCreacion;
+    }
+
+    public LocalDateTime getFechaEnvio() {
+        return fechaEnvio;
+    }
+
+    public void setFechaEnvio(LocalDateTime fechaEnvio) {
+        this.fechaEnvio = fechaEnvio;
+    }
+
+    @Override
+    public String toString() {
+        return "NotificacionOutbox{" +
+                "id=" + id +
+                ", clave='" + claveIdempotencia + '\'' +
+                ", estado='" + estado + '\'' +
+                ", intentos=" + intentos +
+                '}';
+    }
+}
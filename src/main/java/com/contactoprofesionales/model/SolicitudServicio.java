@@ -2,7 +2,10 @@ package com.contactoprofesionales.model;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -13,10 +16,32 @@ import org.slf4j.LoggerFactory;
  * ACTUALIZADO 2025-12-03:
  * - Agregada validación de transiciones de estado
  * - Agregado método getEstadosDisponibles()
+ *
+ * Las transiciones están en la tabla TRANSICIONES: el modelo la usa para validar y
+ * SolicitudServicioDAO para el UPDATE condicional (WHERE estado IN estados previos).
  */
 public class SolicitudServicio {
 
     private static final Logger logger = LoggerFactory.getLogger(SolicitudServicio.class);
+
+    /**
+     * Transiciones que puede hacer el profesional: estado actual → estados siguientes.
+     * RECHAZADA, COMPLETADA y CANCELADA son finales.
+     */
+    private static final Map<String, List<String>> TRANSICIONES = new LinkedHashMap<>();
+    static {
+        TRANSICIONES.put("pendiente", List.of("aceptada", "rechazada"));
+        TRANSICIONES.put("aceptada", List.of("completada", "cancelada"));
+        TRANSICIONES.put("rechazada", List.of());
+        TRANSICIONES.put("completada", List.of());
+        TRANSICIONES.put("cancelada", List.of());
+    }
+
+    /** Todos los estados, en el orden del flujo. */
+    public static final List<String> ESTADOS = List.copyOf(TRANSICIONES.keySet());
+
+    /** Estados desde los que el cliente puede cancelar su solicitud. */
+    public static final List<String> ESTADOS_CANCELABLES = List.of("pendiente", "aceptada");
     
     private Integer id;
     private Integer clienteId;
@@ -64,6 +89,7 @@ public class SolicitudServicio {
     private String notasAdicionales;
     private List<String> fotosUrls;
     private String estado; // 'pendiente', 'aceptada', 'rechazada', 'completada', 'cancelada'
+    private transient String estadoAnterior; // Estado antes del último cambio hecho por el DAO (no se persiste ni se serializa)
     private LocalDateTime fechaSolicitud;
     private LocalDateTime fechaRespuesta;
     private LocalDateTime fechaActualizacion;
@@ -242,6 +268,14 @@ public class SolicitudServicio {
         this.estado = estado;
     }
 
+    public String getEstadoAnterior() {
+        return estadoAnterior;
+    }
+
+    public void setEstadoAnterior(String estadoAnterior) {
+        this.estadoAnterior = estadoAnterior;
+    }
+
     public LocalDateTime getFechaSolicitud() {
         return fechaSolicitud;
     }
@@ -288,7 +322,34 @@ public class SolicitudServicio {
     }
 
     public boolean puedeSerCancelada() {
-        return isPendiente() || isAceptada();
+        return ESTADOS_CANCELABLES.contains(this.estado);
+    }
+
+    /**
+     * Indica si el texto es uno de los estados de una solicitud (en minúsculas).
+     */
+    public static boolean esEstadoValido(String estado) {
+        return estado != null && TRANSICIONES.containsKey(estado);
+    }
+
+    /**
+     * Estados desde los que el profesional puede pasar al estado indicado.
+     * Es la condición del UPDATE atómico de SolicitudServicioDAO.transicionarEstado().
+     *
+     * @param nuevoEstado Estado destino (en minúsculas)
+     * @return Estados previos permitidos (vacío si ninguno lleva a ese estado)
+     */
+    public static List<String> estadosPrevios(String nuevoEstado) {
+        List<String> previos = new ArrayList<>();
+        if (nuevoEstado == null) {
+            return previos;
+        }
+        for (Map.Entry<String, List<String>> transicion : TRANSICIONES.entrySet()) {
+            if (transicion.getValue().contains(nuevoEstado)) {
+                previos.add(transicion.getKey());
+            }
+        }
+        return Collections.unmodifiableList(previos);
     }
 
     public boolean isUrgente() {
@@ -316,36 +377,17 @@ public class SolicitudServicio {
             return false;
         }
 
-        // Definir transiciones válidas según estado actual
-        switch (this.estado.toLowerCase()) {
-            case "pendiente":
-                // Desde PENDIENTE solo se puede ir a ACEPTADA o RECHAZADA
-                boolean validaDesdePendiente = "aceptada".equalsIgnoreCase(nuevoEstado) ||
-                                               "rechazada".equalsIgnoreCase(nuevoEstado);
-                logger.debug("Transición desde PENDIENTE a {}: {}", nuevoEstado,
-                            validaDesdePendiente ? "VÁLIDA" : "INVÁLIDA");
-                return validaDesdePendiente;
-
-            case "aceptada":
-                // Desde ACEPTADA solo se puede ir a COMPLETADA o CANCELADA
-                boolean validaDesdeAceptada = "completada".equalsIgnoreCase(nuevoEstado) ||
-                                              "cancelada".equalsIgnoreCase(nuevoEstado);
-                logger.debug("Transición desde ACEPTADA a {}: {}", nuevoEstado,
-                            validaDesdeAceptada ? "VÁLIDA" : "INVÁLIDA");
-                return validaDesdeAceptada;
-
-            case "rechazada":
-            case "completada":
-            case "cancelada":
-                // Estados finales: no permiten transiciones
-                logger.debug("Transición rechazada: {} es un estado final", this.estado);
-                return false;
-
-            default:
-                // Estado desconocido
-                logger.warn("Estado desconocido: {}", this.estado);
-                return false;
+        List<String> siguientes = TRANSICIONES.get(this.estado.toLowerCase());
+        if (siguientes == null) {
+            // Estado desconocido
+            logger.warn("Estado desconocido: {}", this.estado);
+            return false;
         }
+
+        boolean valida = siguientes.contains(nuevoEstado.toLowerCase());
+        logger.debug("Transición desde {} a {}: {}", this.estado.toUpperCase(), nuevoEstado,
+                    valida ? "VÁLIDA" : "INVÁLIDA");
+        return valida;
     }
 
     /**
@@ -356,25 +398,14 @@ public class SolicitudServicio {
     public List<String> getEstadosDisponibles() {
         List<String> estados = new ArrayList<>();
 
-        switch (this.estado.toLowerCase()) {
-            case "pendiente":
-                estados.add("ACEPTADA");
-                estados.add("RECHAZADA");
-                break;
-
-            case "aceptada":
-                estados.add("COMPLETADA");
-                estados.add("CANCELADA");
-                break;
-
-            case "rechazada":
-            case "completada":
-            case "cancelada":
-                // Estados finales: sin transiciones disponibles
-                break;
-
-            default:
-                logger.warn("Estado desconocido al obtener estados disponibles: {}", this.estado);
+        List<String> siguientes = TRANSICIONES.get(this.estado.toLowerCase());
+        if (siguientes == null) {
+            logger.warn("Estado desconocido al obtener estados disponibles: {}", this.estado);
+        } else {
+            // Estados finales: lista vacía
+            for (String siguiente : siguientes) {
+                estados.add(siguiente.toUpperCase());
+            }
         }
 
         logger.debug("Estados disponibles desde {}: {}", this.estado, estados);
@@ -0,0 +1,61 @@
+package com.contactoprofesionales.service.almacenamiento;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Almacenamiento de fotos por contenido: cada archivo se nombra con el SHA-256 de sus
+ * bytes, así la misma foto subida varias veces se guarda una sola vez y su URL no cambia.
+ *
+ * AlmacenamientoFotosLocal guarda en un directorio del servidor; un almacenamiento de
+ * objetos (S3, Azure Blob) puede implementar esta interfaz y devolver sus propias URLs
+ * sin cambiar ProcesadorFotos ni SolicitudServicioService.
+ */
+public interface AlmacenamientoFotos {
+
+    /**
+     * Guarda el contenido leyéndolo por partes (nunca completo en memoria).
+     *
+     * @param contenido Bytes de la foto; se leen hasta el final pero no se cierran
+     * @param extension Extensión sin punto ("jpg", "png", ...)
+     * @param maximoBytes Tamaño máximo permitido
+     * @return Nombre del archivo guardado ("{sha256}.{extension}")
+     * @throws ArchivoDemasiadoGrandeException si el contenido supera maximoBytes (no se guarda nada)
+     * @throws IOException si falla la lectura o la escritura
+     */
+    String guardar(InputStream contenido, String extension, long maximoBytes) throws IOException;
+
+    /**
+     * Guarda un archivo derivado de otro (p. ej. la miniatura), reemplazando si ya existe.
+     */
+    void guardarDerivado(String nombre, byte[] contenido) throws IOException;
+
+    /**
+     * Indica si existe un archivo con ese nombre.
+     */
+    boolean existe(String nombre);
+
+    /**
+     * Abre un archivo para leerlo.
+     *
+     * @return El contenido, o null si no existe
+     */
+    InputStream abrir(String nombre) throws IOException;
+
+    /**
+     * URL pública del archivo (la que se guarda en fotos_urls).
+     */
+    String url(String nombre);
+
+    /**
+     * El contenido supera el tamaño permitido.
+     */
+    class ArchivoDemasiadoGrandeException extends IOException {
+
+        private static final long serialVersionUID = 1L;
+
+        public ArchivoDemasiadoGrandeException(long maximoBytes) {
+            super("El archivo supera el máximo de " + maximoBytes + " bytes");
+        }
+    }
+}
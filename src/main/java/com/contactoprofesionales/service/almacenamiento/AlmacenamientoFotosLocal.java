@@ -0,0 +1,149 @@
+package com.contactoprofesionales.service.almacenamiento;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.regex.Pattern;
+
+/**
+ * Almacenamiento de fotos en un directorio local.
+ *
+ * Los archivos se reparten en subdirectorios por los dos primeros caracteres del hash
+ * (ab/abcdef....jpg) para no acumular miles en uno solo. Cada foto se escribe primero en
+ * un temporal mediante un FileChannel, calculando el SHA-256 mientras se escribe; al
+ * terminar se renombra al nombre final, o se descarta si ese contenido ya existía.
+ */
+public class AlmacenamientoFotosLocal implements AlmacenamientoFotos {
+
+    private static final Logger logger = LoggerFactory.getLogger(AlmacenamientoFotosLocal.class);
+
+    /** Nombres aceptados: hash (64 hex) con sufijo opcional y extensión. */
+    private static final Pattern NOMBRE_VALIDO = Pattern.compile("[0-9a-f]{64}(_[a-z]+)?\\.[a-z0-9]{2,5}");
+
+    private static final int TAMANO_BLOQUE = 16 * 1024;
+
+    private final Path directorio;
+    private final String urlBase;
+
+    /**
+     * @param directorio Directorio raíz de las fotos (se crea si no existe)
+     * @param urlBase Prefijo de las URLs públicas (p. ej. "uploads/solicitudes/")
+     */
+    public AlmacenamientoFotosLocal(Path directorio, String urlBase) {
+        this.directorio = directorio;
+        this.urlBase = urlBase.endsWith("/") ? urlBase : urlBase + "/";
+    }
+
+    @Override
+    public String guardar(InputStream contenido, String extension, long maximoBytes) throws IOException {
+        Files.createDirectories(directorio);
+
+        MessageDigest sha256 = nuevoDigest();
+        Path temporal = Files.createTempFile(directorio, ".foto", ".tmp");
+        try {
+            long total = 0;
+            byte[] bloque = new byte[TAMANO_BLOQUE];
+            ByteBuffer buffer = ByteBuffer.wrap(bloque);
+
+            try (FileChannel canal = FileChannel.open(temporal, StandardOpenOption.WRITE,
+                                                      StandardOpenOption.TRUNCATE_EXISTING)) {
+                int leidos;
+                while ((leidos = contenido.read(bloque)) != -1) {
+                    total += leidos;
+                    if (total > maximoBytes) {
+                        throw new ArchivoDemasiadoGrandeException(maximoBytes);
+                    }
+                    sha256.update(bloque, 0, leidos);
+                    buffer.clear().limit(leidos);
+                    while (buffer.hasRemaining()) {
+                        canal.write(buffer);
+                    }
+                }
+            }
+
+            String nombre = HexFormat.of().formatHex(sha256.digest()) + "." + extension;
+            Path destino = ruta(nombre);
+
+            if (Files.exists(destino)) {
+                logger.debug("Foto {} ya almacenada, se reutiliza", nombre);
+                return nombre;
+            }
+
+            Files.createDirectories(destino.getParent());
+            // Si otro hilo guardó el mismo contenido a la vez, reemplazarlo no cambia nada
+            Files.move(temporal, destino, StandardCopyOption.ATOMIC_MOVE);
+            logger.info("📷 Foto almacenada: {} ({} bytes)", nombre, total);
+            return nombre;
+
+        } finally {
+            Files.deleteIfExists(temporal);
+        }
+    }
+
+    @Override
+    public void guardarDerivado(String nombre, byte[] contenido) throws IOException {
+        Path destino = ruta(nombre);
+        Files.createDirectories(destino.getParent());
+
+        Path temporal = Files.createTempFile(destino.getParent(), ".derivado", ".tmp");
+        try {
+            Files.write(temporal, contenido);
+            Files.move(temporal, destino, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporal);
+        }
+    }
+
+    @Override
+    public boolean existe(String nombre) {
+        return esNombreValido(nombre) && Files.exists(ruta(nombre));
+    }
+
+    @Override
+    public InputStream abrir(String nombre) throws IOException {
+        if (!existe(nombre)) {
+            return null;
+        }
+        return Files.newInputStream(ruta(nombre));
+    }
+
+    @Override
+    public String url(String nombre) {
+        return urlBase + nombre;
+    }
+
+    /**
+     * Indica si el nombre tiene la forma de un archivo de este almacenamiento
+     * (evita rutas como "../" al servir archivos pedidos por URL).
+     */
+    public static boolean esNombreValido(String nombre) {
+        return nombre != null && NOMBRE_VALIDO.matcher(nombre).matches();
+    }
+
+    private Path ruta(String nombre) {
+        if (!esNombreValido(nombre)) {
+            throw new IllegalArgumentException("Nombre de archivo inválido: " + nombre);
+        }
+        return directorio.resolve(nombre.substring(0, 2)).resolve(nombre);
+    }
+
+    private static MessageDigest nuevoDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // Todo JRE incluye SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,335 @@
+package com.contactoprofesionales.service.almacenamiento;
+
+import com.contactoprofesionales.exception.ValidationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Guarda las fotos adjuntas a una solicitud (data URLs en base64) y devuelve sus URLs.
+ *
+ * - El base64 se decodifica a medida que se escribe (Base64.Decoder.wrap sobre el texto),
+ *   sin armar el arreglo de bytes completo de la foto.
+ * - El tipo se toma de los primeros bytes (JPEG, PNG, GIF o WebP), no del prefijo
+ *   "data:image/...", que envía el navegador.
+ * - Las miniaturas ({@value #LADO_MINIATURA} px, JPEG) se generan en un ejecutor aparte
+ *   con hilos y cola acotados; si la cola está llena se omiten y se sirve la foto original.
+ *   Antes de decodificar se leen las dimensiones: el límite de bytes no acota los píxeles
+ *   (un PNG pequeño puede declarar 30000x30000), así que se descartan las imágenes de más
+ *   de {@value #MAXIMO_PIXELES} píxeles y el resto se decodifica submuestreado.
+ *
+ * Configuración (propiedades del sistema):
+ * - contactoprofesionales.fotos.directorio (o FOTOS_DIRECTORIO): directorio local; debe
+ *   ser persistente porque fotos_urls apunta a estos archivos. Sin configurar se usa
+ *   ~/contactoprofesionales/fotos y se registra una advertencia
+ * - contactoprofesionales.fotos.url: prefijo de las URLs (por defecto "uploads/solicitudes/")
+ * - contactoprofesionales.fotos.maximo.bytes: tamaño máximo por foto (por defecto 5 MB)
+ */
+public final class ProcesadorFotos {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProcesadorFotos.class);
+
+    public static final String PROPIEDAD_DIRECTORIO = "contactoprofesionales.fotos.directorio";
+    public static final String PROPIEDAD_URL = "contactoprofesionales.fotos.url";
+    public static final String PROPIEDAD_MAXIMO_BYTES = "contactoprofesionales.fotos.maximo.bytes";
+
+    static final int LADO_MINIATURA = 320;
+    static final long MAXIMO_PIXELES = 40_000_000L;
+    private static final String SUFIJO_MINIATURA = "_min.jpg";
+    private static final int HILOS_MINIATURAS = 2;
+    private static final int MINIATURAS_EN_ESPERA = 32;
+
+    private static ProcesadorFotos instancia;
+
+    private final AlmacenamientoFotos almacenamiento;
+    private final long maximoBytes;
+    private final ExecutorService miniaturas;
+
+    /**
+     * Obtiene el procesador compartido por la aplicación (almacenamiento local).
+     */
+    public static synchronized ProcesadorFotos getInstancia() {
+        if (instancia == null) {
+            String directorio = System.getProperty(PROPIEDAD_DIRECTORIO, System.getenv("FOTOS_DIRECTORIO"));
+            if (directorio == null || directorio.isBlank()) {
+                directorio = Paths.get(System.getProperty("user.home"), "contactoprofesionales", "fotos").toString();
+                logger.warn("⚠️ ============================================================");
+                logger.warn("⚠️ {} no está configurado: las fotos de solicitudes se guardan en {}",
+                           PROPIEDAD_DIRECTORIO, directorio);
+                logger.warn("⚠️ Configurarlo con un volumen persistente y respaldado en producción");
+                logger.warn("⚠️ ============================================================");
+            }
+            AlmacenamientoFotos local = new AlmacenamientoFotosLocal(Paths.get(directorio),
+                    System.getProperty(PROPIEDAD_URL, "uploads/solicitudes/"));
+            instancia = new ProcesadorFotos(local, Long.getLong(PROPIEDAD_MAXIMO_BYTES, 5L * 1024 * 1024));
+            logger.info("📷 Fotos de solicitudes en {}", directorio);
+        }
+        return instancia;
+    }
+
+    ProcesadorFotos(AlmacenamientoFotos almacenamiento, long maximoBytes) {
+        this.almacenamiento = almacenamiento;
+        this.maximoBytes = maximoBytes;
+        this.miniaturas = crearEjecutor();
+    }
+
+    public AlmacenamientoFotos getAlmacenamiento() {
+        return almacenamiento;
+    }
+
+    /**
+     * Guarda las fotos y programa sus miniaturas.
+     *
+     * @param fotosBase64 Data URLs ("data:image/jpeg;base64,...") o base64 sin prefijo
+     * @return URLs de las fotos, en el mismo orden (se omiten las vacías)
+     * @throws ValidationException si alguna foto no es una imagen válida o es muy grande
+     * @throws IOException si falla el almacenamiento
+     */
+    public List<String> procesar(List<String> fotosBase64) throws ValidationException, IOException {
+        List<String> urls = new ArrayList<>();
+
+        for (int i = 0; i < fotosBase64.size(); i++) {
+            String foto = fotosBase64.get(i);
+            if (foto == null || foto.isBlank()) {
+                continue;
+            }
+
+            String nombre = guardar(foto, i + 1);
+            String url = almacenamiento.url(nombre);
+            if (!urls.contains(url)) {
+                programarMiniatura(nombre);
+            }
+            urls.add(url);
+        }
+
+        return urls;
+    }
+
+    private String guardar(String foto, int numero) throws ValidationException, IOException {
+        int coma = foto.indexOf(',');
+        int inicio = foto.startsWith("data:") && coma > 0 ? coma + 1 : 0;
+
+        InputStream bytes = new BufferedInputStream(
+                Base64.getMimeDecoder().wrap(new LectorTexto(foto, inicio)));
+        try {
+            String extension = detectarExtension(bytes);
+            if (extension == null) {
+                throw new ValidationException("La foto " + numero + " no es una imagen JPEG, PNG, GIF o WebP");
+            }
+            return almacenamiento.guardar(bytes, extension, maximoBytes);
+
+        } catch (AlmacenamientoFotos.ArchivoDemasiadoGrandeException e) {
+            throw new ValidationException("La foto " + numero + " no debe superar los "
+                    + (maximoBytes / (1024 * 1024)) + "MB");
+        } catch (IllegalArgumentException e) {
+            // Base64 mal formado
+            throw new ValidationException("La foto " + numero + " no tiene un formato válido");
+        }
+    }
+
+    /**
+     * Extensión según la firma de los primeros bytes, sin consumirlos.
+     */
+    static String detectarExtension(InputStream bytes) throws IOException {
+        byte[] firma = new byte[12];
+        bytes.mark(firma.length);
+        int leidos = bytes.readNBytes(firma, 0, firma.length);
+        bytes.reset();
+
+        if (leidos >= 3 && (firma[0] & 0xFF) == 0xFF && (firma[1] & 0xFF) == 0xD8 && (firma[2] & 0xFF) == 0xFF) {
+            return "jpg";
+        }
+        if (leidos >= 8 && (firma[0] & 0xFF) == 0x89 && firma[1] == 'P' && firma[2] == 'N' && firma[3] == 'G') {
+            return "png";
+        }
+        if (leidos >= 6 && firma[0] == 'G' && firma[1] == 'I' && firma[2] == 'F' && firma[3] == '8') {
+            return "gif";
+        }
+        if (leidos == 12 && firma[0] == 'R' && firma[1] == 'I' && firma[2] == 'F' && firma[3] == 'F'
+                && firma[8] == 'W' && firma[9] == 'E' && firma[10] == 'B' && firma[11] == 'P') {
+            return "webp";
+        }
+        return null;
+    }
+
+    /**
+     * Nombre de la miniatura de una foto ("{sha256}_min.jpg").
+     */
+    public static String nombreMiniatura(String nombre) {
+        int punto = nombre.lastIndexOf('.');
+        return (punto > 0 ? nombre.substring(0, punto) : nombre) + SUFIJO_MINIATURA;
+    }
+
+    private void programarMiniatura(String nombre) {
+        String miniatura = nombreMiniatura(nombre);
+        if (almacenamiento.existe(miniatura)) {
+            return;
+        }
+        miniaturas.execute(() -> {
+            try {
+                generarMiniatura(nombre, miniatura);
+            } catch (Exception e) {
+                logger.warn("⚠️ No se pudo generar la miniatura de {}: {}", nombre, e.getMessage());
+            }
+        });
+    }
+
+    void generarMiniatura(String nombre, String miniatura) throws IOException {
+        BufferedImage original;
+        try (InputStream entrada = almacenamiento.abrir(nombre)) {
+            original = entrada != null ? leerReducida(entrada, nombre) : null;
+        }
+        if (original == null) {
+            return;
+        }
+
+        double escala = Math.min(1.0, (double) LADO_MINIATURA / Math.max(original.getWidth(), original.getHeight()));
+        int ancho = Math.max(1, (int) Math.round(original.getWidth() * escala));
+        int alto = Math.max(1, (int) Math.round(original.getHeight() * escala));
+
+        BufferedImage reducida = new BufferedImage(ancho, alto, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = reducida.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setColor(Color.WHITE);  // fondo para PNG/GIF con transparencia
+            g.fillRect(0, 0, ancho, alto);
+            g.drawImage(original, 0, 0, ancho, alto, null);
+        } finally {
+            g.dispose();
+        }
+
+        ByteArrayOutputStream salida = new ByteArrayOutputStream();
+        ImageIO.write(reducida, "jpg", salida);
+        almacenamiento.guardarDerivado(miniatura, salida.toByteArray());
+        logger.debug("📷 Miniatura generada: {} ({}x{})", miniatura, ancho, alto);
+    }
+
+    /**
+     * Decodifica la imagen submuestreada a unas 2 veces el lado de la miniatura, después
+     * de comprobar sus dimensiones en la cabecera.
+     *
+     * @return La imagen, o null si el formato no tiene lector (p. ej. WebP) o es demasiado grande
+     */
+    private static BufferedImage leerReducida(InputStream entrada, String nombre) throws IOException {
+        try (ImageInputStream imagen = ImageIO.createImageInputStream(entrada)) {
+            Iterator<ImageReader> lectores = imagen != null ? ImageIO.getImageReaders(imagen) : null;
+            if (lectores == null || !lectores.hasNext()) {
+                // Formato sin lector en ImageIO: se sirve la original
+                logger.debug("Sin miniatura para {}: formato no soportado", nombre);
+                return null;
+            }
+
+            ImageReader lector = lectores.next();
+            try {
+                lector.setInput(imagen, true, true);
+                int ancho = lector.getWidth(0);
+                int alto = lector.getHeight(0);
+                if ((long) ancho * alto > MAXIMO_PIXELES) {
+                    logger.warn("⚠️ Sin miniatura para {}: {}x{} supera {} píxeles", nombre, ancho, alto, MAXIMO_PIXELES);
+                    return null;
+                }
+
+                int paso = Math.max(1, Math.max(ancho, alto) / (LADO_MINIATURA * 2));
+                ImageReadParam parametros = lector.getDefaultReadParam();
+                parametros.setSourceSubsampling(paso, paso, 0, 0);
+                return lector.read(0, parametros);
+            } finally {
+                lector.dispose();
+            }
+        }
+    }
+
+    /**
+     * Espera a que terminen las miniaturas programadas (pruebas y repliegue).
+     */
+    boolean esperarMiniaturas(long segundos) throws InterruptedException {
+        miniaturas.shutdown();
+        return miniaturas.awaitTermination(segundos, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Detiene el ejecutor de miniaturas. Lo llama ProcesadorFotosListener al replegar.
+     */
+    public static synchronized void detener() {
+        if (instancia != null) {
+            instancia.miniaturas.shutdownNow();
+            instancia = null;
+        }
+    }
+
+    /**
+     * Ejecutor de miniaturas: hilos y cola acotados; si se llena, la miniatura se omite
+     * (nunca se genera en el hilo de la petición).
+     */
+    private static ExecutorService crearEjecutor() {
+        AtomicInteger contador = new AtomicInteger();
+        ThreadPoolExecutor ejecutor = new ThreadPoolExecutor(
+            HILOS_MINIATURAS, HILOS_MINIATURAS, 60, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(MINIATURAS_EN_ESPERA),
+            r -> {
+                Thread hilo = new Thread(r, "fotos-miniatura-" + contador.incrementAndGet());
+                hilo.setDaemon(true);
+                return hilo;
+            },
+            (tarea, ejecutorLleno) -> logger.warn("⚠️ Cola de miniaturas llena, se omite una miniatura")
+        );
+        ejecutor.allowCoreThreadTimeOut(true);
+        return ejecutor;
+    }
+
+    /**
+     * Lee los caracteres ASCII de un texto como bytes, desde una posición, sin copiarlo.
+     */
+    private static final class LectorTexto extends InputStream {
+
+        private final String texto;
+        private int posicion;
+
+        private LectorTexto(String texto, int inicio) {
+            this.texto = texto;
+            this.posicion = inicio;
+        }
+
+        @Override
+        public int read() {
+            return posicion < texto.length() ? texto.charAt(posicion++) & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] destino, int desde, int cantidad) {
+            if (cantidad == 0) {
+                return 0;
+            }
+            if (posicion >= texto.length()) {
+                return -1;
+            }
+            int leidos = Math.min(cantidad, texto.length() - posicion);
+            for (int i = 0; i < leidos; i++) {
+                destino[desde + i] = (byte) texto.charAt(posicion++);
+            }
+            return leidos;
+        }
+    }
+}
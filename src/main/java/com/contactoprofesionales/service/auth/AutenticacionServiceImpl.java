@@ -10,6 +10,7 @@ import com.contactoprofesionales.util.DatabaseConnection;
 import com.contactoprofesionales.exception.AuthenticationException;
 import com.contactoprofesionales.exception.UserNotFoundException; // ✅ NUEVO: Excepción para usuario no encontrado (añadido: 2025-11-15)
 import com.contactoprofesionales.exception.DatabaseException;
+import com.contactoprofesionales.service.profesional.FacetasBusquedaService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -253,6 +254,10 @@ public class AutenticacionServiceImpl implements AutenticacionService {
 
             // Todo exitoso, hacer commit
             conn.commit();
+
+            if (profesionalId != null) {
+                FacetasBusquedaService.getInstancia().invalidar();
+            }
             logger.info("Registro completo exitoso para: {} (UserID: {}, UsuarioPersonaID: {})",
                     request.getEmail(), userId, usuarioPersonaId);
 
@@ -0,0 +1,28 @@
+package com.contactoprofesionales.service.notificacion;
+
+import com.contactoprofesionales.model.NotificacionOutbox;
+
+/**
+ * Medio por el que se entrega una notificación del outbox (log, archivo, email, push...).
+ *
+ * El despachador llama a {@link #entregar} desde sus hilos; si lanza una excepción la
+ * notificación se reintenta más tarde. Una misma notificación puede llegar más de una
+ * vez (por ejemplo, si el proceso cae después de entregarla y antes de marcarla como
+ * enviada): el canal debe usar {@link NotificacionOutbox#getClaveIdempotencia()} para
+ * descartar duplicados cuando el medio lo permita.
+ */
+public interface CanalNotificacion {
+
+    /**
+     * Nombre del canal, guardado en notificaciones_outbox.canal.
+     */
+    String getNombre();
+
+    /**
+     * Entrega la notificación.
+     *
+     * @param notificacion Notificación con el payload (JSON de la solicitud)
+     * @throws Exception si la entrega falla y debe reintentarse
+     */
+    void entregar(NotificacionOutbox notificacion) throws Exception;
+}
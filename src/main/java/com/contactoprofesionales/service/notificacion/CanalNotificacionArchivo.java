@@ -0,0 +1,69 @@
+package com.contactoprofesionales.service.notificacion;
+
+import com.contactoprofesionales.model.NotificacionOutbox;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Canal que escribe cada notificación como un archivo JSON en un directorio.
+ *
+ * Sustituye al envío de emails en desarrollo y pruebas: el archivo se llama como la
+ * clave de idempotencia, así una notificación entregada dos veces deja un solo archivo.
+ * Se escribe en un temporal y se renombra, para que quien lea el directorio nunca vea
+ * un archivo a medias.
+ */
+public class CanalNotificacionArchivo implements CanalNotificacion {
+
+    private static final Logger logger = LoggerFactory.getLogger(CanalNotificacionArchivo.class);
+
+    public static final String NOMBRE = "archivo";
+
+    private final Path directorio;
+
+    public CanalNotificacionArchivo(Path directorio) {
+        this.directorio = directorio;
+    }
+
+    @Override
+    public String getNombre() {
+        return NOMBRE;
+    }
+
+    @Override
+    public void entregar(NotificacionOutbox notificacion) throws IOException {
+        Files.createDirectories(directorio);
+
+        Path destino = directorio.resolve(nombreArchivo(notificacion.getClaveIdempotencia()));
+        if (Files.exists(destino)) {
+            logger.debug("Notificación {} ya entregada, se omite", notificacion.getClaveIdempotencia());
+            return;
+        }
+
+        String contenido = String.format("{\"clave\":\"%s\",\"tipo\":\"%s\",\"destinatarioId\":%s,\"solicitud\":%s}%n",
+                notificacion.getClaveIdempotencia(), notificacion.getTipo(),
+                notificacion.getDestinatarioId(), notificacion.getPayload());
+
+        Path temporal = Files.createTempFile(directorio, ".notificacion", ".tmp");
+        try {
+            Files.write(temporal, contenido.getBytes(StandardCharsets.UTF_8));
+            Files.move(temporal, destino, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporal);
+        }
+
+        logger.info("📧 Notificación {} escrita en {}", notificacion.getClaveIdempotencia(), destino);
+    }
+
+    /**
+     * Nombre de archivo seguro a partir de la clave (tipo:solicitud:canal).
+     */
+    static String nombreArchivo(String clave) {
+        return clave.replaceAll("[^A-Za-z0-9_.-]", "_") + ".json";
+    }
+}
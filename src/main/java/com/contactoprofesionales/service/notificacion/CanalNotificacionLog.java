@@ -0,0 +1,54 @@
+package com.contactoprofesionales.service.notificacion;
+
+import com.contactoprofesionales.model.NotificacionOutbox;
+import com.contactoprofesionales.model.SolicitudServicio;
+import com.contactoprofesionales.util.GsonUtil;
+
+/**
+ * Canal que registra la notificación en el log mediante {@link NotificacionServiceImpl}
+ * (la implementación v1.0). Es el canal por defecto.
+ */
+public class CanalNotificacionLog implements CanalNotificacion {
+
+    public static final String NOMBRE = "log";
+
+    private final NotificacionService notificacionService;
+
+    public CanalNotificacionLog() {
+        this(new NotificacionServiceImpl());
+    }
+
+    public CanalNotificacionLog(NotificacionService notificacionService) {
+        this.notificacionService = notificacionService;
+    }
+
+    @Override
+    public String getNombre() {
+        return NOMBRE;
+    }
+
+    @Override
+    public void entregar(NotificacionOutbox notificacion) throws Exception {
+        SolicitudServicio solicitud = GsonUtil.createGson().fromJson(notificacion.getPayload(), SolicitudServicio.class);
+
+        TipoNotificacion tipo = TipoNotificacion.desdeCodigo(notificacion.getTipo());
+        if (tipo == null) {
+            throw new IllegalArgumentException("Tipo de notificación desconocido: " + notificacion.getTipo());
+        }
+
+        switch (tipo) {
+            case NUEVA_SOLICITUD:
+                notificacionService.notificarNuevaSolicitud(solicitud);
+                break;
+            case CANCELACION:
+                notificacionService.notificarCancelacionSolicitud(solicitud);
+                break;
+            case ACEPTACION:
+                notificacionService.notificarAceptacionSolicitud(solicitud);
+                break;
+            case RECHAZO:
+                notificacionService.notificarRechazoSolicitud(solicitud);
+                break;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.contactoprofesionales.service.notificacion;
+
+import com.contactoprofesionales.dao.notificacion.NotificacionOutboxDAO;
+import com.contactoprofesionales.dao.notificacion.NotificacionOutboxDAOImpl;
+import com.contactoprofesionales.exception.DatabaseException;
+import com.contactoprofesionales.model.NotificacionOutbox;
+import com.contactoprofesionales.model.SolicitudServicio;
+import com.contactoprofesionales.util.GsonUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+
+/**
+ * Registra notificaciones en el outbox dentro de la transacción del cambio de la solicitud.
+ *
+ * Si la transacción hace rollback, la notificación tampoco queda registrada; si hace
+ * commit, el despachador la entregará aunque el proceso caiga justo después.
+ *
+ * Uso:
+ * <pre>
+ * conn.setAutoCommit(false);
+ * solicitudDAO.cancelar(conn, id, clienteId);
+ * colaNotificaciones.registrar(conn, TipoNotificacion.CANCELACION, solicitud);
+ * conn.commit();
+ * colaNotificaciones.avisarDespachador();
+ * </pre>
+ */
+public class ColaNotificaciones {
+
+    private static final Logger logger = LoggerFactory.getLogger(ColaNotificaciones.class);
+
+    private final NotificacionOutboxDAO outboxDAO;
+    private final DespachadorNotificaciones despachador;
+
+    public ColaNotificaciones() {
+        this(new NotificacionOutboxDAOImpl(), DespachadorNotificaciones.getInstancia());
+    }
+
+    public ColaNotificaciones(NotificacionOutboxDAO outboxDAO, DespachadorNotificaciones despachador) {
+        this.outboxDAO = outboxDAO;
+        this.despachador = despachador;
+    }
+
+    /**
+     * Registra la notificación del evento (una fila por canal) usando la conexión del llamador.
+     *
+     * @param conn Conexión con la transacción abierta del cambio de la solicitud
+     * @param tipo Evento ocurrido
+     * @param solicitud Solicitud afectada (se guarda su estado actual como payload)
+     * @throws DatabaseException si falla la inserción; el llamador debe hacer rollback
+     */
+    public void registrar(Connection conn, TipoNotificacion tipo, SolicitudServicio solicitud)
+            throws DatabaseException {
+
+        String payload = GsonUtil.createGson().toJson(solicitud);
+        Integer destinatario = tipo.destinatario(solicitud);
+
+        for (String canal : despachador.getNombresCanales()) {
+            NotificacionOutbox notificacion = new NotificacionOutbox(
+                    tipo.getCodigo(), canal, solicitud.getId(), destinatario, payload);
+            outboxDAO.registrar(conn, notificacion);
+        }
+
+        logger.debug("📧 Notificación '{}' de la solicitud {} registrada en el outbox",
+                    tipo.getCodigo(), solicitud.getId());
+    }
+
+    /**
+     * Avisa al despachador que hay notificaciones nuevas. Llamar después del commit.
+     */
+    public void avisarDespachador() {
+        despachador.despertar();
+    }
+}
@@ -0,0 +1,266 @@
+package com.contactoprofesionales.service.notificacion;
+
+import com.contactoprofesionales.dao.notificacion.NotificacionOutboxDAO;
+import com.contactoprofesionales.dao.notificacion.NotificacionOutboxDAOImpl;
+import com.contactoprofesionales.exception.DatabaseException;
+import com.contactoprofesionales.model.NotificacionOutbox;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Entrega en segundo plano las notificaciones del outbox (tabla notificaciones_outbox).
+ *
+ * Un hilo revisa el outbox cada pocos segundos (o al recibir {@link #despertar()} después de
+ * un commit), reserva un lote de pendientes y lo reparte entre un pool de hilos de entrega.
+ * Cada notificación se marca como enviada al entregarse; si el canal falla se reprograma
+ * con espera exponencial (5 s, 10 s, 20 s... hasta 30 min, con variación aleatoria) y
+ * después de {@link #MAXIMO_INTENTOS} intentos queda como 'fallida'.
+ *
+ * Configuración (propiedades del sistema):
+ * - contactoprofesionales.notificaciones.canales: canales separados por coma (log, archivo); por defecto "log"
+ * - contactoprofesionales.notificaciones.directorio: directorio del canal archivo
+ * - contactoprofesionales.notificaciones.hilos: hilos de entrega (4 por defecto)
+ */
+public class DespachadorNotificaciones {
+
+    private static final Logger logger = LoggerFactory.getLogger(DespachadorNotificaciones.class);
+
+    public static final String PROPIEDAD_CANALES = "contactoprofesionales.notificaciones.canales";
+    public static final String PROPIEDAD_DIRECTORIO = "contactoprofesionales.notificaciones.directorio";
+    public static final String PROPIEDAD_HILOS = "contactoprofesionales.notificaciones.hilos";
+
+    static final int MAXIMO_INTENTOS = 8;
+    static final Duration ESPERA_INICIAL = Duration.ofSeconds(5);
+    static final Duration ESPERA_MAXIMA = Duration.ofMinutes(30);
+
+    private static final int TAMANO_LOTE = 50;
+    private static final int SEGUNDOS_RESERVA = 120;
+    private static final long SEGUNDOS_ENTRE_REVISIONES = 2;
+
+    private static final DespachadorNotificaciones INSTANCIA = crearDesdePropiedades();
+
+    private final NotificacionOutboxDAO outboxDAO;
+    private final Map<String, CanalNotificacion> canales;
+    private final int hilos;
+
+    private ScheduledExecutorService revisor;
+    private ExecutorService entregas;
+
+    /**
+     * Obtiene el despachador compartido por la aplicación.
+     */
+    public static DespachadorNotificaciones getInstancia() {
+        return INSTANCIA;
+    }
+
+    DespachadorNotificaciones(NotificacionOutboxDAO outboxDAO, List<CanalNotificacion> canales, int hilos) {
+        this.outboxDAO = outboxDAO;
+        Map<String, CanalNotificacion> porNombre = new LinkedHashMap<>();
+        for (CanalNotificacion canal : canales) {
+            porNombre.put(canal.getNombre(), canal);
+        }
+        this.canales = Collections.unmodifiableMap(porNombre);
+        this.hilos = hilos;
+    }
+
+    private static DespachadorNotificaciones crearDesdePropiedades() {
+        List<CanalNotificacion> canales = new ArrayList<>();
+        for (String nombre : System.getProperty(PROPIEDAD_CANALES, CanalNotificacionLog.NOMBRE).split(",")) {
+            switch (nombre.trim()) {
+                case CanalNotificacionLog.NOMBRE:
+                    canales.add(new CanalNotificacionLog());
+                    break;
+                case CanalNotificacionArchivo.NOMBRE:
+                    String directorio = System.getProperty(PROPIEDAD_DIRECTORIO,
+                            Paths.get(System.getProperty("java.io.tmpdir"), "contactoprofesionales-notificaciones").toString());
+                    canales.add(new CanalNotificacionArchivo(Paths.get(directorio)));
+                    break;
+                case "":
+                    break;
+                default:
+                    logger.warn("⚠️ Canal de notificación desconocido '{}', se ignora", nombre);
+            }
+        }
+        return new DespachadorNotificaciones(new NotificacionOutboxDAOImpl(), canales,
+                                             Integer.getInteger(PROPIEDAD_HILOS, 4));
+    }
+
+    /**
+     * Nombres de los canales configurados; se registra una fila del outbox por cada uno.
+     */
+    public List<String> getNombresCanales() {
+        return new ArrayList<>(canales.keySet());
+    }
+
+    /**
+     * Inicia la revisión periódica del outbox. Lo llama NotificacionesListener al desplegar.
+     */
+    public synchronized void iniciar() {
+        if (revisor != null) {
+            return;
+        }
+
+        revisor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread hilo = new Thread(r, "notificaciones-revisor");
+            hilo.setDaemon(true);
+            return hilo;
+        });
+        AtomicInteger numero = new AtomicInteger();
+        entregas = Executors.newFixedThreadPool(hilos, r -> {
+            Thread hilo = new Thread(r, "notificaciones-entrega-" + numero.incrementAndGet());
+            hilo.setDaemon(true);
+            return hilo;
+        });
+
+        revisor.scheduleWithFixedDelay(this::revisar, 0, SEGUNDOS_ENTRE_REVISIONES, TimeUnit.SECONDS);
+        logger.info("✓ Despachador de notificaciones iniciado (canales: {}, hilos: {})", canales.keySet(), hilos);
+    }
+
+    /**
+     * Detiene el despachador. Las notificaciones reservadas y no entregadas vuelven a estar
+     * pendientes cuando vence su reserva.
+     */
+    public synchronized void detener() {
+        if (revisor == null) {
+            return;
+        }
+        revisor.shutdownNow();
+        entregas.shutdown();
+        try {
+            if (!entregas.awaitTermination(5, TimeUnit.SECONDS)) {
+                entregas.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            entregas.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        revisor = null;
+        entregas = null;
+        logger.info("Despachador de notificaciones detenido");
+    }
+
+    /**
+     * Pide una revisión inmediata del outbox (después de registrar notificaciones).
+     * Si el despachador no está iniciado, las notificaciones esperan a que inicie.
+     */
+    public synchronized void despertar() {
+        if (revisor != null) {
+            revisor.execute(this::revisar);
+        }
+    }
+
+    private void revisar() {
+        try {
+            despacharPendientes(entregas);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            // No propagar: una excepción cancelaría las revisiones siguientes
+            logger.error("Error al despachar notificaciones: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Reserva y entrega lotes hasta vaciar el outbox (o hasta que un lote venga incompleto).
+     *
+     * @param ejecutor Donde se ejecutan las entregas de cada lote
+     * @return Notificaciones procesadas (entregadas o no)
+     */
+    int despacharPendientes(ExecutorService ejecutor) throws DatabaseException, InterruptedException {
+        int procesadas = 0;
+        while (true) {
+            List<NotificacionOutbox> lote = outboxDAO.reservarPendientes(TAMANO_LOTE, SEGUNDOS_RESERVA);
+            if (lote.isEmpty()) {
+                return procesadas;
+            }
+
+            List<Callable<Void>> tareas = new ArrayList<>(lote.size());
+            for (NotificacionOutbox notificacion : lote) {
+                tareas.add(() -> {
+                    entregar(notificacion);
+                    return null;
+                });
+            }
+            ejecutor.invokeAll(tareas);
+            procesadas += lote.size();
+
+            if (lote.size() < TAMANO_LOTE) {
+                return procesadas;
+            }
+        }
+    }
+
+    /**
+     * Entrega una notificación reservada y registra el resultado.
+     */
+    void entregar(NotificacionOutbox notificacion) {
+        CanalNotificacion canal = canales.get(notificacion.getCanal());
+
+        try {
+            if (canal == null) {
+                logger.error("❌ Notificación {} sin canal configurado '{}'",
+                            notificacion.getClaveIdempotencia(), notificacion.getCanal());
+                outboxDAO.marcarFallida(notificacion.getId(), "Canal no configurado: " + notificacion.getCanal());
+                return;
+            }
+
+            try {
+                canal.entregar(notificacion);
+            } catch (Exception e) {
+                registrarFallo(notificacion, e);
+                return;
+            }
+            outboxDAO.marcarEnviada(notificacion.getId());
+            logger.debug("✅ Notificación {} entregada", notificacion.getClaveIdempotencia());
+
+        } catch (DatabaseException e) {
+            // La reserva vence y la notificación se vuelve a intentar
+            logger.error("Error al actualizar la notificación {}: {}", notificacion.getClaveIdempotencia(), e.getMessage());
+        }
+    }
+
+    private void registrarFallo(NotificacionOutbox notificacion, Exception error) throws DatabaseException {
+        String mensaje = error.getClass().getSimpleName() + ": " + error.getMessage();
+
+        if (notificacion.getIntentos() >= MAXIMO_INTENTOS) {
+            logger.error("❌ Notificación {} descartada después de {} intentos: {}",
+                        notificacion.getClaveIdempotencia(), notificacion.getIntentos(), mensaje);
+            outboxDAO.marcarFallida(notificacion.getId(), mensaje);
+            return;
+        }
+
+        Duration espera = espera(notificacion.getIntentos());
+        logger.warn("⚠️ Falló la entrega de {} (intento {}), se reintenta en {} s: {}",
+                   notificacion.getClaveIdempotencia(), notificacion.getIntentos(), espera.getSeconds(), mensaje);
+        outboxDAO.reprogramar(notificacion.getId(), LocalDateTime.now().plus(espera), mensaje);
+    }
+
+    /**
+     * Espera antes del siguiente intento: se duplica en cada intento hasta ESPERA_MAXIMA,
+     * más hasta un 20% aleatorio para que los reintentos de un mismo corte no coincidan.
+     *
+     * @param intentos Intentos ya realizados (1 después del primero)
+     */
+    static Duration espera(int intentos) {
+        int exponente = Math.min(Math.max(intentos - 1, 0), 20);
+        long millis = Math.min(ESPERA_INICIAL.toMillis() << exponente, ESPERA_MAXIMA.toMillis());
+        long variacion = ThreadLocalRandom.current().nextLong(millis / 5 + 1);
+        return Duration.ofMillis(millis + variacion);
+    }
+}
@@ -0,0 +1,50 @@
+package com.contactoprofesionales.service.notificacion;
+
+import com.contactoprofesionales.model.SolicitudServicio;
+
+/**
+ * Eventos de solicitudes que generan una notificación y a quién se dirigen.
+ */
+public enum TipoNotificacion {
+
+    NUEVA_SOLICITUD("nueva_solicitud", true),
+    CANCELACION("cancelacion", true),
+    ACEPTACION("aceptacion", false),
+    RECHAZO("rechazo", false);
+
+    private final String codigo;
+    private final boolean paraProfesional;
+
+    TipoNotificacion(String codigo, boolean paraProfesional) {
+        this.codigo = codigo;
+        this.paraProfesional = paraProfesional;
+    }
+
+    /**
+     * Código guardado en notificaciones_outbox.tipo.
+     */
+    public String getCodigo() {
+        return codigo;
+    }
+
+    /**
+     * Destinatario de la notificación: el profesional o el cliente de la solicitud.
+     */
+    public Integer destinatario(SolicitudServicio solicitud) {
+        return paraProfesional ? solicitud.getProfesionalId() : solicitud.getClienteId();
+    }
+
+    /**
+     * Busca el tipo por su código.
+     *
+     * @return El tipo, o null si el código no existe
+     */
+    public static TipoNotificacion desdeCodigo(String codigo) {
+        for (TipoNotificacion tipo : values()) {
+            if (tipo.codigo.equals(codigo)) {
+                return tipo;
+            }
+        }
+        return null;
+    }
+}
@@ -2,14 +2,23 @@ package com.contactoprofesionales.service.profesional;
 
 import com.contactoprofesionales.dao.profesional.ProfesionalDAO;
 import com.contactoprofesionales.dto.BusquedaCriteriosDTO;
+import com.contactoprofesionales.dto.FacetaDTO;
 import com.contactoprofesionales.dto.ProfesionalBusquedaDTO;
+import com.contactoprofesionales.dto.ResultadoBusquedaDTO;
+import com.contactoprofesionales.dto.ResultadoPaginadoDTO;
 import com.contactoprofesionales.exception.DatabaseException;
+import com.contactoprofesionales.exception.IndiceNoDisponibleException;
 import com.contactoprofesionales.model.Profesional;
+import com.contactoprofesionales.util.CursorPaginacion;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -21,124 +30,344 @@ public class BusquedaProfesionalesService {
     private static final Logger logger = LoggerFactory.getLogger(BusquedaProfesionalesService.class);
     private static final int MAX_DESCRIPCION_CORTA = 150;
     private static final int MAX_HABILIDADES_DESTACADAS = 5;
+    private static final double RADIO_CERCANIA_POR_DEFECTO_KM = 15.0;
+    private static final double RADIO_CERCANIA_MAXIMO_KM = 100.0;
+    private static final long ESPERA_INDICES_MS = 5000;
     
     private final ProfesionalDAO profesionalDAO;
+    private final IndiceBusquedaProfesionales indiceBusqueda;
+    private final IndiceProximidadProfesionales indiceProximidad;
+    private final FacetasBusquedaService facetasService;
     
     /**
      * Constructor con inyección de dependencias.
+     * Usa los índices en memoria (texto y cercanía) y la caché de facetas compartidos por la aplicación.
      */
     public BusquedaProfesionalesService(ProfesionalDAO profesionalDAO) {
+        this(profesionalDAO, IndiceBusquedaProfesionales.getInstancia(),
+             IndiceProximidadProfesionales.getInstancia(), FacetasBusquedaService.getInstancia());
+    }
+    
+    /**
+     * Constructor con inyección de dependencias (DAO, índices de búsqueda y caché de facetas).
+     */
+    public BusquedaProfesionalesService(ProfesionalDAO profesionalDAO,
+                                        IndiceBusquedaProfesionales indiceBusqueda,
+                                        IndiceProximidadProfesionales indiceProximidad,
+                                        FacetasBusquedaService facetasService) {
         this.profesionalDAO = profesionalDAO;
+        this.indiceBusqueda = indiceBusqueda;
+        this.indiceProximidad = indiceProximidad;
+        this.facetasService = facetasService;
     }
     
     /**
      * Busca profesionales según los criterios especificados.
-     * ACTUALIZADO: Soporte para categoriaId y especialidadTexto
+     * ACTUALIZADO: Filtros (categoriaId, especialidad/especialidadTexto, tarifa máxima,
+     * disponibilidad) y paginación se resuelven en SQL; solo se mapea la página solicitada.
+     * La página y el total se obtienen de una única ejecución en el DAO.
+     * Las búsquedas por texto se resuelven con el índice en memoria cuando está listo,
+     * y las búsquedas sin categoría ni texto con las tarjetas de búsqueda precalculadas.
+     * Con distritoCercaniaId se buscan los profesionales que atienden ese distrito,
+     * ordenados por distancia (índice de cercanía en memoria).
+     * Si se piden (incluirFacetas), con la primera página se devuelven también las facetas
+     * de los resultados.
+     * Con paginación por cursor no se calcula el total y se devuelve el cursor de la
+     * página siguiente mientras la página actual esté completa.
      *
      * @param criterios Criterios de búsqueda
-     * @return Lista de profesionales que cumplen los criterios
+     * @return Página de profesionales con total y número de páginas
      * @throws DatabaseException Si ocurre un error en la base de datos
+     * @throws IndiceNoDisponibleException Si la búsqueda por cercanía llega antes de que
+     *         los índices terminen su primera construcción
      */
-    public List<ProfesionalBusquedaDTO> buscarProfesionales(BusquedaCriteriosDTO criterios)
-            throws DatabaseException {
+    public ResultadoBusquedaDTO buscar(BusquedaCriteriosDTO criterios)
+            throws DatabaseException, IndiceNoDisponibleException {
 
         logger.info("Iniciando búsqueda de profesionales con criterios: {}", criterios);
 
         // Validar criterios
         validarCriterios(criterios);
 
-        List<Profesional> profesionales;
-
         try {
-            // Determinar el método de búsqueda según los criterios
-            if (!criterios.tieneAlgunFiltro()) {
-                // Sin filtros: listar todos
-                logger.debug("Búsqueda sin filtros - listando todos los profesionales");
-                profesionales = profesionalDAO.listarTodos();
+            List<Integer> idsIndice;
+            ResultadoPaginadoDTO<ProfesionalBusquedaDTO> pagina;
 
+            if (criterios.isBusquedaCercania()) {
+                List<IndiceProximidadProfesionales.Resultado> cercanos = buscarCercanos(criterios);
+                idsIndice = cercanos.stream()
+                        .map(IndiceProximidadProfesionales.Resultado::getProfesionalId)
+                        .collect(Collectors.toList());
+                pagina = obtenerPaginaCercania(cercanos, criterios);
             } else {
-                // Búsqueda con filtros (nuevo método actualizado)
-                logger.debug("Búsqueda con filtros: categoriaId={}, especialidad={}, especialidadTexto={}",
-                           criterios.getCategoriaId(), criterios.getEspecialidad(), criterios.getEspecialidadTexto());
-                profesionales = profesionalDAO.buscarConFiltros(
-                    criterios.getEspecialidad(),
-                    null, // distrito ya no se usa
-                    null  // calificacionMin ya no se usa
-                );
+                idsIndice = buscarIdsEnIndice(criterios);
+                pagina = idsIndice != null
+                        ? obtenerPaginaDeIndice(idsIndice, criterios)
+                        : buscarEnBaseDatos(criterios);
             }
 
-            // Aplicar filtros adicionales en memoria (que no están en el DAO)
-            profesionales = aplicarFiltrosAdicionales(profesionales, criterios);
+            if (pagina.getElementos().isEmpty() && criterios.getOffset() > 0) {
+                logger.warn("Página {} fuera de rango. Total resultados: {}",
+                           criterios.getPagina(), pagina.getTotal());
+            }
 
-            // Convertir a DTOs optimizados para búsqueda
-            List<ProfesionalBusquedaDTO> resultados = convertirADTOsBusqueda(profesionales);
+            List<ProfesionalBusquedaDTO> profesionales = pagina.getElementos();
 
-            // Aplicar paginación
-            resultados = aplicarPaginacion(resultados, criterios);
+            ResultadoBusquedaDTO resultado = new ResultadoBusquedaDTO(
+                profesionales,
+                pagina.getTotal(),
+                criterios.getPagina(),
+                criterios.getElementosPorPagina()
+            );
 
-            logger.info("Búsqueda completada. Encontrados {} profesionales", resultados.size());
+            if (criterios.isPaginacionCursor()) {
+                resultado.setSiguienteCursor(siguienteCursor(profesionales, criterios));
+            }
+
+            // Facetas: solo con la primera página (no cambian al paginar)
+            boolean primeraPagina = criterios.isPaginacionCursor()
+                                    ? criterios.getCursor() == null
+                                    : criterios.getPagina() == 1;
+            if (criterios.isIncluirFacetas() && primeraPagina) {
+                resultado.setFacetas(profesionalDAO.contarFacetas(criterios, idsIndice));
+            }
+
+            logger.info("Búsqueda completada. Devolviendo {} de {} profesionales",
+                       profesionales.size(), resultado.getTotal());
 
-            return resultados;
+            return resultado;
 
         } catch (DatabaseException e) {
             logger.error("Error al buscar profesionales: {}", e.getMessage(), e);
             throw e;
         }
     }
-    
+
     /**
-     * Obtiene el total de profesionales que coinciden con los criterios (sin paginación).
-     * ACTUALIZADO: Ya no usa distrito ni calificacionMinima
+     * Cursor de la página siguiente: la posición del último elemento entregado.
+     * Una página incompleta es la última, así que no lleva cursor.
      */
-    public int contarResultados(BusquedaCriteriosDTO criterios) throws DatabaseException {
-        logger.debug("Contando resultados para criterios: {}", criterios);
+    private String siguienteCursor(List<ProfesionalBusquedaDTO> profesionales, BusquedaCriteriosDTO criterios) {
+        if (profesionales.size() < criterios.getElementosPorPagina()) {
+            return null;
+        }
+        ProfesionalBusquedaDTO ultimo = profesionales.get(profesionales.size() - 1);
+        return CursorPaginacion.despuesDe(ultimo.getCalificacionPromedio(),
+                                          ultimo.getTotalResenas(),
+                                          ultimo.getId()).codificar();
+    }
 
-        List<Profesional> profesionales;
+    /**
+     * Resuelve una búsqueda por texto con el índice invertido en memoria.
+     *
+     * @return IDs de todos los resultados (después del cursor, si lo hay) ordenados por
+     *         ranking, o null si la búsqueda
+     *         debe hacerse en SQL (sin texto, índice no construido o texto sin términos indexables)
+     */
+    private List<Integer> buscarIdsEnIndice(BusquedaCriteriosDTO criterios) {
 
-        if (!criterios.tieneAlgunFiltro()) {
-            profesionales = profesionalDAO.listarTodos();
-        } else {
-            profesionales = profesionalDAO.buscarConFiltros(
-                criterios.getEspecialidad(),
-                null, // distrito ya no se usa
-                null  // calificacionMinima ya no se usa
-            );
+        String texto = criterios.getEspecialidad() != null
+                       ? criterios.getEspecialidad()
+                       : criterios.getEspecialidadTexto();
+
+        if (texto == null || indiceBusqueda == null || !indiceBusqueda.isListo()) {
+            return null;
+        }
+
+        List<Integer> ids = indiceBusqueda.buscar(
+            texto,
+            criterios.getCategoriaId(),
+            criterios.getTarifaMaxima(),
+            Boolean.TRUE.equals(criterios.getDisponible()),
+            criterios.getCursor()
+        );
+
+        if (ids != null) {
+            logger.debug("Búsqueda '{}' resuelta con índice en memoria: {} coincidencias", texto, ids.size());
+        }
+        return ids;
+    }
+
+    /**
+     * Resuelve una búsqueda por cercanía con el índice espacial en memoria.
+     * Si además hay texto, solo se conservan los profesionales que coinciden en el índice de texto.
+     *
+     * @throws IndiceNoDisponibleException si los índices aún no terminan su primera construcción
+     */
+    private List<IndiceProximidadProfesionales.Resultado> buscarCercanos(BusquedaCriteriosDTO criterios)
+            throws IndiceNoDisponibleException {
+
+        // Los índices se construyen una sola vez al iniciar (IndiceBusquedaListener): si la
+        // búsqueda llega antes, espera esa construcción en lugar de repetirla en cada petición
+        esperarIndice(indiceProximidad.isListo(), indiceProximidad::esperarListo);
+
+        double radioKm = criterios.getRadioKm() != null ? criterios.getRadioKm() : RADIO_CERCANIA_POR_DEFECTO_KM;
+
+        List<IndiceProximidadProfesionales.Resultado> cercanos = indiceProximidad.buscar(
+            criterios.getDistritoCercaniaId(),
+            radioKm,
+            criterios.getCategoriaId(),
+            criterios.getTarifaMaxima(),
+            Boolean.TRUE.equals(criterios.getDisponible())
+        );
+
+        boolean tieneTexto = criterios.getEspecialidad() != null || criterios.getEspecialidadTexto() != null;
+        if (tieneTexto) {
+            esperarIndice(indiceBusqueda.isListo(), indiceBusqueda::esperarListo);
+            List<Integer> idsTexto = buscarIdsEnIndice(criterios);
+            if (idsTexto != null) {
+                Set<Integer> coincidencias = new HashSet<>(idsTexto);
+                cercanos.removeIf(r -> !coincidencias.contains(r.getProfesionalId()));
+            }
+        }
+
+        logger.debug("Búsqueda por cercanía al distrito {} ({} km): {} profesionales",
+                    criterios.getDistritoCercaniaId(), radioKm, cercanos.size());
+        return cercanos;
+    }
+
+    @FunctionalInterface
+    private interface EsperaIndice {
+        boolean esperar(long milisegundos) throws InterruptedException;
+    }
+
+    private static void esperarIndice(boolean listo, EsperaIndice espera) throws IndiceNoDisponibleException {
+        if (listo) {
+            return;
+        }
+        try {
+            if (espera.esperar(ESPERA_INDICES_MS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        throw new IndiceNoDisponibleException("La búsqueda por cercanía se está preparando, intenta en unos segundos");
+    }
+
+    /**
+     * Página de una búsqueda por cercanía: tarjetas de la página con su distancia.
+     */
+    private ResultadoPaginadoDTO<ProfesionalBusquedaDTO> obtenerPaginaCercania(
+            List<IndiceProximidadProfesionales.Resultado> cercanos, BusquedaCriteriosDTO criterios)
+            throws DatabaseException {
+
+        int inicio = Math.min(criterios.getOffset(), cercanos.size());
+        int fin = Math.min(inicio + criterios.getElementosPorPagina(), cercanos.size());
+
+        Map<Integer, Double> distancias = new HashMap<>();
+        List<Integer> ids = new ArrayList<>(fin - inicio);
+        for (IndiceProximidadProfesionales.Resultado resultado : cercanos.subList(inicio, fin)) {
+            ids.add(resultado.getProfesionalId());
+            if (resultado.getDistanciaKm() != null) {
+                // Distancia entre centroides de distrito: un decimal es suficiente
+                distancias.put(resultado.getProfesionalId(), Math.round(resultado.getDistanciaKm() * 10) / 10.0);
+            }
+        }
+
+        List<ProfesionalBusquedaDTO> tarjetas = profesionalDAO.buscarTarjetasPorIds(ids);
+        for (ProfesionalBusquedaDTO tarjeta : tarjetas) {
+            tarjeta.setDistanciaKm(distancias.get(tarjeta.getId()));
+        }
+
+        return new ResultadoPaginadoDTO<>(tarjetas, cercanos.size());
+    }
+
+    /**
+     * Página de una búsqueda resuelta por el índice: solo las tarjetas de la página
+     * se leen de la BD.
+     */
+    private ResultadoPaginadoDTO<ProfesionalBusquedaDTO> obtenerPaginaDeIndice(List<Integer> ids,
+                                                                              BusquedaCriteriosDTO criterios)
+            throws DatabaseException {
+
+        int inicio = Math.min(criterios.getOffset(), ids.size());
+        int fin = Math.min(inicio + criterios.getElementosPorPagina(), ids.size());
+
+        List<ProfesionalBusquedaDTO> tarjetas = profesionalDAO.buscarTarjetasPorIds(ids.subList(inicio, fin));
+        // Con cursor, ids solo contiene lo que queda después del cursor: no es el total
+        int total = criterios.isPaginacionCursor() ? ResultadoPaginadoDTO.TOTAL_NO_CALCULADO : ids.size();
+        return new ResultadoPaginadoDTO<>(tarjetas, total);
+    }
+
+    /**
+     * Resuelve la búsqueda en la BD.
+     * - Sin filtro de categoría ni texto: lee las tarjetas de búsqueda precalculadas
+     * - Con filtro de categoría o texto: consulta con JOIN a especialidades, que muestra
+     *   solo la especialidad que coincide, y conversión a DTO
+     */
+    private ResultadoPaginadoDTO<ProfesionalBusquedaDTO> buscarEnBaseDatos(BusquedaCriteriosDTO criterios)
+            throws DatabaseException {
+
+        boolean filtraEspecialidades = criterios.getCategoriaId() != null
+                                       || criterios.getEspecialidad() != null
+                                       || criterios.getEspecialidadTexto() != null;
+
+        if (!filtraEspecialidades) {
+            return profesionalDAO.buscarTarjetasPaginado(criterios);
         }
 
-        profesionales = aplicarFiltrosAdicionales(profesionales, criterios);
+        ResultadoPaginadoDTO<Profesional> pagina = profesionalDAO.buscarPaginado(criterios);
+        return new ResultadoPaginadoDTO<>(convertirADTOsBusqueda(pagina.getElementos()), pagina.getTotal());
+    }
 
-        return profesionales.size();
+    /**
+     * Busca profesionales según los criterios especificados.
+     *
+     * @param criterios Criterios de búsqueda
+     * @return Lista de profesionales de la página solicitada
+     * @throws DatabaseException Si ocurre un error en la base de datos
+     * @throws IndiceNoDisponibleException Si los índices aún no terminan su primera construcción
+     */
+    public List<ProfesionalBusquedaDTO> buscarProfesionales(BusquedaCriteriosDTO criterios)
+            throws DatabaseException, IndiceNoDisponibleException {
+        return buscar(criterios).getProfesionales();
+    }
+    
+    /**
+     * Obtiene el total de profesionales que coinciden con los criterios (sin paginación).
+     * ACTUALIZADO: COUNT en SQL con los mismos filtros que la búsqueda paginada
+     */
+    public int contarResultados(BusquedaCriteriosDTO criterios) throws DatabaseException {
+        logger.debug("Contando resultados para criterios: {}", criterios);
+        return profesionalDAO.contarConFiltros(criterios);
     }
     
     /**
      * Obtiene las especialidades disponibles para autocompletar.
+     * ACTUALIZADO: Desde la caché de facetas (antes recorría listarTodos() en cada llamada)
      */
     public List<String> obtenerEspecialidadesDisponibles() throws DatabaseException {
         logger.debug("Obteniendo especialidades disponibles");
-        
-        List<Profesional> todosProfesionales = profesionalDAO.listarTodos();
-        
-        return todosProfesionales.stream()
-                .map(Profesional::getEspecialidad)
-                .filter(e -> e != null && !e.isEmpty())
-                .distinct()
-                .sorted()
-                .collect(Collectors.toList());
+        return valores(facetasService.obtenerEspecialidades());
     }
     
     /**
      * Obtiene los distritos disponibles.
+     * ACTUALIZADO: Desde la caché de facetas (antes recorría listarTodos() en cada llamada)
      */
     public List<String> obtenerDistritosDisponibles() throws DatabaseException {
         logger.debug("Obteniendo distritos disponibles");
-        
-        List<Profesional> todosProfesionales = profesionalDAO.listarTodos();
-        
-        return todosProfesionales.stream()
-                .map(Profesional::getDistrito)
-                .filter(d -> d != null && !d.isEmpty())
-                .distinct()
-                .sorted()
+        return valores(facetasService.obtenerDistritos());
+    }
+    
+    /**
+     * Obtiene la faceta de especialidades con la cantidad de profesionales de cada una.
+     */
+    public List<FacetaDTO> obtenerFacetasEspecialidades() throws DatabaseException {
+        return facetasService.obtenerEspecialidades();
+    }
+    
+    /**
+     * Obtiene la faceta de distritos con la cantidad de profesionales de cada uno.
+     */
+    public List<FacetaDTO> obtenerFacetasDistritos() throws DatabaseException {
+        return facetasService.obtenerDistritos();
+    }
+    
+    private List<String> valores(List<FacetaDTO> facetas) {
+        return facetas.stream()
+                .map(FacetaDTO::getValor)
                 .collect(Collectors.toList());
     }
     
@@ -166,6 +395,19 @@ public class BusquedaProfesionalesService {
             throw new IllegalArgumentException("La tarifa máxima no puede ser negativa");
         }
 
+        // Validar búsqueda por cercanía
+        if (criterios.isBusquedaCercania()) {
+            if (criterios.getRadioKm() != null
+                    && (criterios.getRadioKm() <= 0 || criterios.getRadioKm() > RADIO_CERCANIA_MAXIMO_KM)) {
+                throw new IllegalArgumentException(
+                    "El radio debe ser mayor a 0 y como máximo " + RADIO_CERCANIA_MAXIMO_KM + " km");
+            }
+            if (criterios.isPaginacionCursor()) {
+                throw new IllegalArgumentException(
+                    "La paginación por cursor no está disponible en la búsqueda por cercanía");
+            }
+        }
+
         // Validar paginación
         if (criterios.getPagina() < 1) {
             throw new IllegalArgumentException("El número de página debe ser mayor a 0");
@@ -178,32 +420,6 @@ public class BusquedaProfesionalesService {
         logger.debug("Criterios validados correctamente");
     }
     
-    /**
-     * Aplica filtros adicionales que no están implementados en el DAO.
-     */
-    private List<Profesional> aplicarFiltrosAdicionales(List<Profesional> profesionales, 
-                                                        BusquedaCriteriosDTO criterios) {
-        
-        // Filtrar por tarifa máxima
-        if (criterios.getTarifaMaxima() != null) {
-            logger.debug("Aplicando filtro de tarifa máxima: {}", criterios.getTarifaMaxima());
-            profesionales = profesionales.stream()
-                    .filter(p -> p.getTarifaHora() != null && 
-                                p.getTarifaHora() <= criterios.getTarifaMaxima())
-                    .collect(Collectors.toList());
-        }
-        
-        // Filtrar por disponibilidad
-        if (criterios.getDisponible() != null && criterios.getDisponible()) {
-            logger.debug("Aplicando filtro de disponibilidad");
-            profesionales = profesionales.stream()
-                    .filter(Profesional::isDisponible)
-                    .collect(Collectors.toList());
-        }
-        
-        return profesionales;
-    }
-    
     /**
      * Convierte una lista de Profesionales a DTOs optimizados para búsqueda.
      */
@@ -264,27 +480,6 @@ public class BusquedaProfesionalesService {
         return dto;
     }
     
-    /**
-     * Aplica la paginación a los resultados.
-     */
-    private List<ProfesionalBusquedaDTO> aplicarPaginacion(List<ProfesionalBusquedaDTO> resultados, 
-                                                           BusquedaCriteriosDTO criterios) {
-        
-        int inicio = criterios.getOffset();
-        int fin = Math.min(inicio + criterios.getElementosPorPagina(), resultados.size());
-        
-        if (inicio >= resultados.size()) {
-            logger.warn("Página {} fuera de rango. Total resultados: {}", 
-                       criterios.getPagina(), resultados.size());
-            return new ArrayList<>();
-        }
-        
-        logger.debug("Aplicando paginación - Página: {}, Elementos por página: {}, Rango: [{}, {})", 
-                    criterios.getPagina(), criterios.getElementosPorPagina(), inicio, fin);
-        
-        return resultados.subList(inicio, fin);
-    }
-    
     /**
      * Calcula el número total de páginas para los criterios dados.
      */
@@ -0,0 +1,217 @@
+package com.contactoprofesionales.service.profesional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+
+/**
+ * Caché en memoria de los perfiles públicos de profesionales, ya serializados a JSON.
+ *
+ * - Cada entrada guarda el objeto de respuesta y sus bytes JSON, con una ETag fuerte
+ * - La clave es vista + ID del profesional; cada profesional tiene un contador de versión
+ *   que las escrituras del perfil incrementan con invalidar()
+ * - Una entrada es válida mientras su versión sea la actual y no haya pasado el TTL;
+ *   el TTL cubre los cambios que no pasan por los servlets de perfil (reseñas, puntuación)
+ *
+ * Con una entrada válida, un GET con If-None-Match se responde 304 sin consultar la BD
+ * ni serializar con Gson. La ETag incluye la versión y un CRC32 del JSON, así que tras
+ * una recarga por TTL con el mismo contenido sigue coincidiendo.
+ */
+public class CachePerfilProfesional {
+
+    private static final Logger logger = LoggerFactory.getLogger(CachePerfilProfesional.class);
+
+    /** Vista GET /api/profesional/perfil (PerfilProfesionalCompletoDTO). */
+    public static final String VISTA_PERFIL_COMPLETO = "perfil";
+
+    /** Vista GET /api/profesionales/{id}. */
+    public static final String VISTA_PROFESIONAL = "profesional";
+
+    private static final long TTL_POR_DEFECTO_MS = TimeUnit.MINUTES.toMillis(5);
+    private static final int MAX_ENTRADAS_POR_DEFECTO = 2000;
+
+    private static final CachePerfilProfesional INSTANCIA =
+            new CachePerfilProfesional(TTL_POR_DEFECTO_MS, MAX_ENTRADAS_POR_DEFECTO);
+
+    /**
+     * Carga el objeto de respuesta desde la BD.
+     */
+    @FunctionalInterface
+    public interface Cargador {
+        /**
+         * @return Objeto de respuesta, o null si el profesional no existe (no se guarda)
+         */
+        Object cargar() throws Exception;
+    }
+
+    /**
+     * Serializa el objeto de respuesta a JSON.
+     */
+    @FunctionalInterface
+    public interface Serializador {
+        String serializar(Object valor);
+    }
+
+    private final long ttlMillis;
+    private final Map<String, Entrada> entradas;
+    private final ConcurrentHashMap<Integer, AtomicLong> versiones = new ConcurrentHashMap<>();
+
+    /** Distingue las ETags entre reinicios (las versiones vuelven a empezar en 0). */
+    private final String epoca = Long.toString(System.currentTimeMillis(), 36);
+
+    /**
+     * Instancia compartida por la aplicación.
+     */
+    public static CachePerfilProfesional getInstancia() {
+        return INSTANCIA;
+    }
+
+    /**
+     * @param ttlMillis Tiempo de vida de cada entrada en milisegundos
+     * @param maxEntradas Máximo de entradas; se descarta la menos usada recientemente
+     */
+    public CachePerfilProfesional(long ttlMillis, int maxEntradas) {
+        this.ttlMillis = ttlMillis;
+        this.entradas = Collections.synchronizedMap(new LinkedHashMap<String, Entrada>(64, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entrada> mayor) {
+                return size() > maxEntradas;
+            }
+        });
+    }
+
+    private Entrada obtenerVigente(String vista, Integer profesionalId) {
+        Entrada entrada = entradas.get(clave(vista, profesionalId));
+        return esValida(entrada, profesionalId) ? entrada : null;
+    }
+
+    /**
+     * Devuelve la entrada en caché o la carga, serializa y guarda.
+     * Con una entrada válida no se llama al cargador ni al serializador.
+     *
+     * @return Entrada válida, o null si el cargador no encontró el profesional
+     * @throws Exception si falla la carga
+     */
+    public Entrada obtener(String vista, Integer profesionalId,
+                           Cargador cargador, Serializador serializador) throws Exception {
+        Entrada entrada = obtenerVigente(vista, profesionalId);
+        if (entrada != null) {
+            return entrada;
+        }
+
+        // Leer la versión antes de cargar: una invalidación durante la carga
+        // deja la entrada ya desactualizada y la siguiente lectura recarga
+        long versionCarga = version(profesionalId).get();
+
+        Object valor = cargador.cargar();
+        if (valor == null) {
+            return null;
+        }
+
+        byte[] json = serializador.serializar(valor).getBytes(StandardCharsets.UTF_8);
+        entrada = new Entrada(valor, json, etag(vista, profesionalId, versionCarga, json),
+                              versionCarga, System.currentTimeMillis());
+        entradas.put(clave(vista, profesionalId), entrada);
+
+        logger.debug("Perfil {} del profesional {} cacheado (versión {}, {} bytes)",
+                    vista, profesionalId, versionCarga, json.length);
+        return entrada;
+    }
+
+    /**
+     * Marca como desactualizadas todas las vistas del profesional.
+     * Lo llaman los servlets que escriben secciones del perfil.
+     */
+    public void invalidar(Integer profesionalId) {
+        if (profesionalId == null) {
+            return;
+        }
+
+        long nuevaVersion = version(profesionalId).incrementAndGet();
+        entradas.remove(clave(VISTA_PERFIL_COMPLETO, profesionalId));
+        entradas.remove(clave(VISTA_PROFESIONAL, profesionalId));
+        logger.debug("Perfil del profesional {} invalidado (versión {})", profesionalId, nuevaVersion);
+    }
+
+    /**
+     * Indica si el encabezado If-None-Match del cliente coincide con la ETag.
+     * Acepta listas separadas por comas y "*".
+     */
+    public static boolean coincideEtag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || etag == null) {
+            return false;
+        }
+        for (String candidata : ifNoneMatch.split(",")) {
+            String valor = candidata.trim();
+            if (valor.equals("*") || valor.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean esValida(Entrada entrada, Integer profesionalId) {
+        return entrada != null
+               && entrada.version == version(profesionalId).get()
+               && System.currentTimeMillis() - entrada.cargadaEn < ttlMillis;
+    }
+
+    private AtomicLong version(Integer profesionalId) {
+        return versiones.computeIfAbsent(profesionalId, id -> new AtomicLong());
+    }
+
+    private String etag(String vista, Integer profesionalId, long version, byte[] json) {
+        CRC32 crc = new CRC32();
+        crc.update(json);
+        return "\"" + vista + "-" + profesionalId + "-" + epoca + "." + version + "-"
+               + Long.toHexString(crc.getValue()) + "\"";
+    }
+
+    private static String clave(String vista, Integer profesionalId) {
+        return vista + ":" + profesionalId;
+    }
+
+    /**
+     * Perfil cacheado (inmutable): objeto de respuesta, JSON serializado y su ETag.
+     */
+    public static final class Entrada {
+        private final Object valor;
+        private final byte[] json;
+        private final String etag;
+        private final long version;
+        private final long cargadaEn;
+
+        private Entrada(Object valor, byte[] json, String etag, long version, long cargadaEn) {
+            this.valor = valor;
+            this.json = json;
+            this.etag = etag;
+            this.version = version;
+            this.cargadaEn = cargadaEn;
+        }
+
+        public Object getValor() {
+            return valor;
+        }
+
+        /**
+         * Bytes UTF-8 del JSON; no modificar.
+         */
+        public byte[] getJson() {
+            return json;
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+    }
+}
@@ -25,6 +25,8 @@ public class EspecialidadServiceImpl implements EspecialidadService {
     private static final Logger logger = LoggerFactory.getLogger(EspecialidadServiceImpl.class);
     private final EspecialidadProfesionalDAO especialidadDAO;
     private final CategoriaServicioDAO categoriaDAO;
+    private final IndiceBusquedaProfesionales indiceBusqueda;
+    private final FacetasBusquedaService facetasBusqueda;
 
     // Límite máximo de especialidades por profesional
     private static final int MAX_ESPECIALIDADES = 3;
@@ -32,6 +34,8 @@ public class EspecialidadServiceImpl implements EspecialidadService {
     public EspecialidadServiceImpl() {
         this.especialidadDAO = new EspecialidadProfesionalDAOImpl();
         this.categoriaDAO = new CategoriaServicioDAOImpl();
+        this.indiceBusqueda = IndiceBusquedaProfesionales.getInstancia();
+        this.facetasBusqueda = FacetasBusquedaService.getInstancia();
     }
 
     @Override
@@ -97,6 +101,8 @@ public class EspecialidadServiceImpl implements EspecialidadService {
 
             // Registrar especialidad
             especialidad = especialidadDAO.registrar(especialidad);
+            indiceBusqueda.actualizarProfesional(profesionalId);
+            facetasBusqueda.invalidar();
 
             // Cargar información de categoría
             especialidad.setCategoriaNombre(categoria.getNombre());
@@ -159,6 +165,8 @@ public class EspecialidadServiceImpl implements EspecialidadService {
 
             // Actualizar en BD
             especialidad = especialidadDAO.actualizar(especialidad);
+            indiceBusqueda.actualizarProfesional(especialidad.getProfesionalId());
+            facetasBusqueda.invalidar();
 
             // Cargar información de categoría si está disponible
             if (especialidad.getCategoriaId() != null) {
@@ -231,10 +239,15 @@ public class EspecialidadServiceImpl implements EspecialidadService {
         }
 
         try {
+            // Obtener el profesional antes de eliminar para actualizar el índice de búsqueda
+            Optional<EspecialidadProfesional> especialidadOpt = especialidadDAO.buscarPorId(id);
+
             boolean resultado = especialidadDAO.eliminar(id);
 
             if (resultado) {
                 logger.info("Especialidad eliminada exitosamente con ID: {}", id);
+                especialidadOpt.ifPresent(esp -> indiceBusqueda.actualizarProfesional(esp.getProfesionalId()));
+                facetasBusqueda.invalidar();
             } else {
                 logger.warn("No se pudo eliminar la especialidad con ID: {}", id);
             }
@@ -0,0 +1,134 @@
+package com.contactoprofesionales.service.profesional;
+
+import com.contactoprofesionales.dao.profesional.ProfesionalDAO;
+import com.contactoprofesionales.dao.profesional.ProfesionalDAOImpl;
+import com.contactoprofesionales.dto.FacetaDTO;
+import com.contactoprofesionales.exception.DatabaseException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Facetas de búsqueda (especialidades y distritos con su cantidad de profesionales)
+ * servidas desde una caché en memoria.
+ *
+ * - Las facetas se cargan juntas y se guardan en una instantánea inmutable
+ * - La instantánea caduca por TTL o cuando cambia la versión (invalidar())
+ * - Las lecturas no bloquean; solo un hilo recarga cuando la caché no es válida
+ *
+ * Se invalida desde las escrituras que cambian los conteos: especialidades y servicios
+ * del profesional, alta/edición/baja de profesionales (ProfesionalService y registro)
+ * y cambio de distrito del usuario. El TTL solo cubre escrituras hechas fuera de la
+ * aplicación.
+ */
+public class FacetasBusquedaService {
+
+    private static final Logger logger = LoggerFactory.getLogger(FacetasBusquedaService.class);
+    private static final long TTL_POR_DEFECTO_MS = TimeUnit.MINUTES.toMillis(5);
+
+    private static final FacetasBusquedaService INSTANCIA =
+            new FacetasBusquedaService(new ProfesionalDAOImpl(), TTL_POR_DEFECTO_MS);
+
+    private final ProfesionalDAO profesionalDAO;
+    private final long ttlMillis;
+    private final AtomicLong version = new AtomicLong();
+
+    private volatile Instantanea instantanea;
+
+    /**
+     * Instancia compartida por la aplicación.
+     */
+    public static FacetasBusquedaService getInstancia() {
+        return INSTANCIA;
+    }
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param profesionalDAO DAO para cargar las facetas
+     * @param ttlMillis Tiempo de vida de la caché en milisegundos
+     */
+    public FacetasBusquedaService(ProfesionalDAO profesionalDAO, long ttlMillis) {
+        this.profesionalDAO = profesionalDAO;
+        this.ttlMillis = ttlMillis;
+    }
+
+    /**
+     * Faceta de especialidades (servicio profesional y cantidad), ordenada alfabéticamente.
+     */
+    public List<FacetaDTO> obtenerEspecialidades() throws DatabaseException {
+        return obtenerInstantanea().especialidades;
+    }
+
+    /**
+     * Faceta de distritos (ID de distrito y cantidad), ordenada por ID.
+     */
+    public List<FacetaDTO> obtenerDistritos() throws DatabaseException {
+        return obtenerInstantanea().distritos;
+    }
+
+    /**
+     * Marca la caché como desactualizada; la siguiente lectura recarga las facetas.
+     */
+    public void invalidar() {
+        long nuevaVersion = version.incrementAndGet();
+        logger.debug("Facetas de búsqueda invalidadas (versión {})", nuevaVersion);
+    }
+
+    private Instantanea obtenerInstantanea() throws DatabaseException {
+        Instantanea actual = instantanea;
+        if (esValida(actual)) {
+            return actual;
+        }
+
+        synchronized (this) {
+            actual = instantanea;
+            if (esValida(actual)) {
+                return actual;
+            }
+
+            // Leer la versión antes de consultar: una invalidación durante la carga
+            // deja la instantánea ya desactualizada y fuerza otra recarga
+            long versionCarga = version.get();
+            long inicio = System.currentTimeMillis();
+
+            List<FacetaDTO> especialidades = profesionalDAO.contarPorEspecialidad();
+            List<FacetaDTO> distritos = profesionalDAO.contarPorDistrito();
+
+            actual = new Instantanea(versionCarga, inicio, especialidades, distritos);
+            instantanea = actual;
+
+            logger.info("✓ Facetas de búsqueda cargadas: {} especialidades, {} distritos en {} ms",
+                       especialidades.size(), distritos.size(), System.currentTimeMillis() - inicio);
+            return actual;
+        }
+    }
+
+    private boolean esValida(Instantanea actual) {
+        return actual != null
+               && actual.version == version.get()
+               && System.currentTimeMillis() - actual.cargadaEn < ttlMillis;
+    }
+
+    /**
+     * Facetas cargadas en un mismo momento (inmutable).
+     */
+    private static final class Instantanea {
+        private final long version;
+        private final long cargadaEn;
+        private final List<FacetaDTO> especialidades;
+        private final List<FacetaDTO> distritos;
+
+        private Instantanea(long version, long cargadaEn,
+                            List<FacetaDTO> especialidades, List<FacetaDTO> distritos) {
+            this.version = version;
+            this.cargadaEn = cargadaEn;
+            this.especialidades = Collections.unmodifiableList(especialidades);
+            this.distritos = Collections.unmodifiableList(distritos);
+        }
+    }
+}
@@ -0,0 +1,470 @@
+package com.contactoprofesionales.service.profesional;
+
+import com.contactoprofesionales.dao.profesional.ProfesionalDAO;
+import com.contactoprofesionales.dao.profesional.ProfesionalDAOImpl;
+import com.contactoprofesionales.dto.ProfesionalIndiceDTO;
+import com.contactoprofesionales.exception.DatabaseException;
+import com.contactoprofesionales.util.CursorPaginacion;
+import com.contactoprofesionales.util.TextoBusqueda;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Índice invertido en memoria para la búsqueda de profesionales por texto.
+ *
+ * Tokeniza los servicios (especialidades_profesional.servicio_profesional), nombres de
+ * categoría, habilidades y biografía de cada profesional, y guarda por cada término la
+ * lista ordenada de IDs de profesionales que lo contienen (int[] sin boxing).
+ *
+ * - Búsqueda por prefijo, sin distinguir mayúsculas ni acentos ("electr" → "Electricista")
+ * - Varios términos se combinan con AND
+ *   (reglas de {@link TextoBusqueda}, las mismas que aplica la búsqueda SQL)
+ * - Filtros de categoría, tarifa máxima y disponibilidad sobre los documentos
+ * - Ranking por calificacion_promedio DESC, total_resenas DESC (igual que la búsqueda SQL)
+ *
+ * Se construye al iniciar la aplicación (IndiceBusquedaListener) y se actualiza por
+ * profesional cuando los servicios confirman cambios en sus especialidades. Los cambios
+ * que llegan mientras se construye se vuelven a leer antes de reemplazar el índice, para
+ * que una reconstrucción no los pierda.
+ */
+public class IndiceBusquedaProfesionales {
+
+    private static final Logger logger = LoggerFactory.getLogger(IndiceBusquedaProfesionales.class);
+
+    // Vueltas máximas para releer los cambios que llegan durante la construcción
+    private static final int MAXIMO_VUELTAS_CAMBIOS = 5;
+
+    // Orden del ranking: calificación DESC, reseñas DESC, id DESC (mismo orden que SQL y el cursor)
+    private static final Comparator<Documento> ORDEN_RANKING = Comparator
+            .comparingDouble((Documento d) -> d.calificacion).reversed()
+            .thenComparing(Comparator.comparingInt((Documento d) -> d.totalResenas).reversed())
+            .thenComparing(Comparator.comparingInt((Documento d) -> d.id).reversed());
+
+    private static final IndiceBusquedaProfesionales INSTANCIA =
+            new IndiceBusquedaProfesionales(new ProfesionalDAOImpl());
+
+    private final ProfesionalDAO profesionalDAO;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private NavigableMap<String, ListaIds> postings = new TreeMap<>();
+    private Map<Integer, Documento> documentos = new HashMap<>();
+    private volatile boolean listo = false;
+    private final CountDownLatch primeraCarga = new CountDownLatch(1);
+
+    // Construcción en curso: una a la vez; los IDs actualizados mientras tanto se anotan
+    // en cambiosDuranteCarga (null = no hay construcción en curso)
+    private final Object construccion = new Object();
+    private final Object cambios = new Object();
+    private Set<Integer> cambiosDuranteCarga;
+
+    /**
+     * Obtiene la instancia compartida del índice.
+     */
+    public static IndiceBusquedaProfesionales getInstancia() {
+        return INSTANCIA;
+    }
+
+    /**
+     * Constructor con inyección de dependencias.
+     */
+    public IndiceBusquedaProfesionales(ProfesionalDAO profesionalDAO) {
+        this.profesionalDAO = profesionalDAO;
+    }
+
+    /**
+     * Indica si el índice ya fue construido y puede responder búsquedas.
+     */
+    public boolean isListo() {
+        return listo;
+    }
+
+    /**
+     * Espera a que termine la primera construcción (la de IndiceBusquedaListener), sin
+     * construir el índice en el hilo que llama.
+     *
+     * @return true si el índice está listo
+     */
+    public boolean esperarListo(long milisegundos) throws InterruptedException {
+        return primeraCarga.await(milisegundos, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Número de profesionales indexados.
+     */
+    public int getTotalDocumentos() {
+        lock.readLock().lock();
+        try {
+            return documentos.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Reconstruye el índice completo desde la base de datos.
+     * Las nuevas estructuras se arman fuera del bloqueo y se reemplazan al final,
+     * por lo que las búsquedas en curso no se detienen durante la carga.
+     *
+     * Un profesional actualizado durante la carga pudo leerse antes del cambio: esos IDs
+     * se vuelven a leer y se aplican a las nuevas estructuras antes de reemplazarlas, y
+     * los que llegan justo durante el reemplazo se aplican al índice ya reemplazado.
+     */
+    public void construir() throws DatabaseException {
+        synchronized (construccion) {
+            long inicio = System.currentTimeMillis();
+
+            synchronized (cambios) {
+                cambiosDuranteCarga = new HashSet<>();
+            }
+
+            try {
+                List<ProfesionalIndiceDTO> datos = profesionalDAO.listarParaIndice();
+
+                NavigableMap<String, ListaIds> nuevosPostings = new TreeMap<>();
+                Map<Integer, Documento> nuevosDocumentos = new HashMap<>(datos.size() * 2);
+
+                for (ProfesionalIndiceDTO dato : datos) {
+                    agregarDocumento(nuevosPostings, nuevosDocumentos, crearDocumento(dato));
+                }
+
+                int releidos = 0;
+                for (int vuelta = 0; vuelta < MAXIMO_VUELTAS_CAMBIOS; vuelta++) {
+                    Set<Integer> pendientes = tomarCambiosDuranteCarga(true);
+                    if (pendientes.isEmpty()) {
+                        break;
+                    }
+                    for (Integer profesionalId : pendientes) {
+                        quitarDocumento(nuevosPostings, nuevosDocumentos, profesionalId);
+                        ProfesionalIndiceDTO dato = profesionalDAO.obtenerParaIndice(profesionalId);
+                        if (dato != null) {
+                            agregarDocumento(nuevosPostings, nuevosDocumentos, crearDocumento(dato));
+                        }
+                    }
+                    releidos += pendientes.size();
+                }
+
+                lock.writeLock().lock();
+                try {
+                    this.postings = nuevosPostings;
+                    this.documentos = nuevosDocumentos;
+                    this.listo = true;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                primeraCarga.countDown();
+
+                // Cambios llegados entre la última relectura y el reemplazo
+                for (Integer profesionalId : tomarCambiosDuranteCarga(false)) {
+                    actualizarProfesional(profesionalId);
+                }
+
+                logger.info("✓ Índice de búsqueda construido: {} profesionales, {} términos, " +
+                           "{} releídos por cambios durante la carga, en {} ms",
+                           nuevosDocumentos.size(), nuevosPostings.size(), releidos,
+                           System.currentTimeMillis() - inicio);
+            } finally {
+                tomarCambiosDuranteCarga(false);
+            }
+        }
+    }
+
+    /**
+     * Devuelve los IDs anotados durante la construcción y vacía la lista.
+     *
+     * @param seguirAnotando false al terminar la construcción (deja de anotar)
+     */
+    private Set<Integer> tomarCambiosDuranteCarga(boolean seguirAnotando) {
+        synchronized (cambios) {
+            Set<Integer> pendientes = cambiosDuranteCarga != null ? cambiosDuranteCarga : new HashSet<>();
+            cambiosDuranteCarga = seguirAnotando ? new HashSet<>() : null;
+            return pendientes;
+        }
+    }
+
+    /**
+     * Vuelve a leer un profesional desde la base de datos y actualiza su entrada.
+     * Si el profesional ya no está activo, se elimina del índice.
+     * Se llama después de confirmar la transacción; si hay una construcción en curso,
+     * el ID se anota para aplicarlo también al índice nuevo.
+     * Los errores solo se registran: la siguiente reconstrucción corrige el índice.
+     */
+    public void actualizarProfesional(Integer profesionalId) {
+        if (profesionalId == null) {
+            return;
+        }
+
+        synchronized (cambios) {
+            if (cambiosDuranteCarga != null) {
+                cambiosDuranteCarga.add(profesionalId);
+            }
+        }
+
+        if (!listo) {
+            return;
+        }
+
+        try {
+            ProfesionalIndiceDTO dato = profesionalDAO.obtenerParaIndice(profesionalId);
+            if (dato == null) {
+                eliminar(profesionalId);
+            } else {
+                indexar(dato);
+            }
+        } catch (DatabaseException e) {
+            logger.error("Error al actualizar profesional {} en el índice de búsqueda: {}",
+                        profesionalId, e.getMessage());
+        }
+    }
+
+    /**
+     * Agrega o reemplaza un profesional en el índice.
+     */
+    public void indexar(ProfesionalIndiceDTO dato) {
+        Documento documento = crearDocumento(dato);
+
+        lock.writeLock().lock();
+        try {
+            quitarDocumento(postings, documentos, documento.id);
+            agregarDocumento(postings, documentos, documento);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Elimina un profesional del índice.
+     */
+    public void eliminar(int profesionalId) {
+        lock.writeLock().lock();
+        try {
+            quitarDocumento(postings, documentos, profesionalId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Busca profesionales cuyo texto contenga todos los términos (por prefijo).
+     *
+     * @param texto Texto libre de búsqueda
+     * @param categoriaId Categoría requerida (opcional)
+     * @param tarifaMaxima Tarifa por hora máxima (opcional)
+     * @param soloDisponibles Si solo se incluyen profesionales disponibles
+     * @return IDs de profesionales ordenados por ranking, o null si el texto no
+     *         contiene términos indexables (el llamador debe usar la búsqueda SQL)
+     */
+    public List<Integer> buscar(String texto, Integer categoriaId, Double tarifaMaxima,
+                                boolean soloDisponibles) {
+        return buscar(texto, categoriaId, tarifaMaxima, soloDisponibles, null);
+    }
+
+    /**
+     * Igual que {@link #buscar(String, Integer, Double, boolean)}, pero solo devuelve
+     * los profesionales ubicados después del cursor en el orden del ranking.
+     *
+     * @param despuesDe Cursor de la página anterior (null = desde el inicio)
+     */
+    public List<Integer> buscar(String texto, Integer categoriaId, Double tarifaMaxima,
+                                boolean soloDisponibles, CursorPaginacion despuesDe) {
+
+        List<String> terminos = tokenizar(texto);
+        if (terminos.isEmpty()) {
+            return null;
+        }
+
+        List<Documento> candidatos = new ArrayList<>();
+
+        lock.readLock().lock();
+        try {
+            BitSet coincidencias = null;
+
+            for (String termino : terminos) {
+                BitSet porTermino = new BitSet();
+                for (ListaIds lista : postings.subMap(termino, true, termino + Character.MAX_VALUE, false).values()) {
+                    lista.agregarA(porTermino);
+                }
+
+                if (coincidencias == null) {
+                    coincidencias = porTermino;
+                } else {
+                    coincidencias.and(porTermino);
+                }
+
+                if (coincidencias.isEmpty()) {
+                    return new ArrayList<>();
+                }
+            }
+
+            for (int id = coincidencias.nextSetBit(0); id >= 0; id = coincidencias.nextSetBit(id + 1)) {
+                Documento documento = documentos.get(id);
+                if (documento != null && documento.cumple(categoriaId, tarifaMaxima, soloDisponibles)
+                        && (despuesDe == null
+                            || despuesDe.precedeA(documento.calificacion, documento.totalResenas, documento.id))) {
+                    candidatos.add(documento);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        candidatos.sort(ORDEN_RANKING);
+
+        List<Integer> ids = new ArrayList<>(candidatos.size());
+        for (Documento documento : candidatos) {
+            ids.add(documento.id);
+        }
+
+        logger.debug("Índice: '{}' → {} profesionales", texto, ids.size());
+        return ids;
+    }
+
+    /**
+     * Normaliza y separa un texto en términos (ver {@link TextoBusqueda#tokenizar}).
+     */
+    public static List<String> tokenizar(String texto) {
+        return TextoBusqueda.tokenizar(texto);
+    }
+
+    // ========================================================================
+    // ESTRUCTURAS INTERNAS (acceso protegido por el lock)
+    // ========================================================================
+
+    private Documento crearDocumento(ProfesionalIndiceDTO dato) {
+        Set<String> terminos = new LinkedHashSet<>();
+        for (String texto : dato.getTextos()) {
+            terminos.addAll(tokenizar(texto));
+        }
+
+        int[] categorias = dato.getCategoriaIds().stream().mapToInt(Integer::intValue).toArray();
+        Arrays.sort(categorias);
+
+        return new Documento(
+            dato.getId(),
+            dato.getCalificacionPromedio() != null ? dato.getCalificacionPromedio() : 0.0,
+            dato.getTotalResenas() != null ? dato.getTotalResenas() : 0,
+            dato.getTarifaHora(),
+            dato.isDisponible(),
+            categorias,
+            terminos.toArray(new String[0])
+        );
+    }
+
+    private static void agregarDocumento(NavigableMap<String, ListaIds> postings,
+                                         Map<Integer, Documento> documentos,
+                                         Documento documento) {
+        documentos.put(documento.id, documento);
+        for (String termino : documento.terminos) {
+            postings.computeIfAbsent(termino, t -> new ListaIds()).agregar(documento.id);
+        }
+    }
+
+    private static void quitarDocumento(NavigableMap<String, ListaIds> postings,
+                                        Map<Integer, Documento> documentos,
+                                        int profesionalId) {
+        Documento anterior = documentos.remove(profesionalId);
+        if (anterior == null) {
+            return;
+        }
+
+        for (String termino : anterior.terminos) {
+            ListaIds lista = postings.get(termino);
+            if (lista != null) {
+                lista.quitar(profesionalId);
+                if (lista.estaVacia()) {
+                    postings.remove(termino);
+                }
+            }
+        }
+    }
+
+    /**
+     * Datos de un profesional indexado (campos de filtro y ranking + sus términos).
+     */
+    private static final class Documento {
+        final int id;
+        final double calificacion;
+        final int totalResenas;
+        final Double tarifaHora;
+        final boolean disponible;
+        final int[] categorias;
+        final String[] terminos;
+
+        Documento(int id, double calificacion, int totalResenas, Double tarifaHora,
+                  boolean disponible, int[] categorias, String[] terminos) {
+            this.id = id;
+            this.calificacion = calificacion;
+            this.totalResenas = totalResenas;
+            this.tarifaHora = tarifaHora;
+            this.disponible = disponible;
+            this.categorias = categorias;
+            this.terminos = terminos;
+        }
+
+        boolean cumple(Integer categoriaId, Double tarifaMaxima, boolean soloDisponibles) {
+            if (soloDisponibles && !disponible) {
+                return false;
+            }
+            if (tarifaMaxima != null && (tarifaHora == null || tarifaHora > tarifaMaxima)) {
+                return false;
+            }
+            return categoriaId == null || Arrays.binarySearch(categorias, categoriaId) >= 0;
+        }
+    }
+
+    /**
+     * Lista de IDs ordenada ascendentemente sobre un int[] que crece por bloques.
+     */
+    private static final class ListaIds {
+        private int[] ids = new int[4];
+        private int tamanio = 0;
+
+        void agregar(int id) {
+            int posicion = Arrays.binarySearch(ids, 0, tamanio, id);
+            if (posicion >= 0) {
+                return;
+            }
+            posicion = -posicion - 1;
+            if (tamanio == ids.length) {
+                ids = Arrays.copyOf(ids, tamanio * 2);
+            }
+            System.arraycopy(ids, posicion, ids, posicion + 1, tamanio - posicion);
+            ids[posicion] = id;
+            tamanio++;
+        }
+
+        void quitar(int id) {
+            int posicion = Arrays.binarySearch(ids, 0, tamanio, id);
+            if (posicion < 0) {
+                return;
+            }
+            System.arraycopy(ids, posicion + 1, ids, posicion, tamanio - posicion - 1);
+            tamanio--;
+        }
+
+        boolean estaVacia() {
+            return tamanio == 0;
+        }
+
+        void agregarA(BitSet destino) {
+            for (int i = 0; i < tamanio; i++) {
+                destino.set(ids[i]);
+            }
+        }
+    }
+}
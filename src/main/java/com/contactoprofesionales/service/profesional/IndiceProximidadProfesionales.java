@@ -0,0 +1,431 @@
+package com.contactoprofesionales.service.profesional;
+
+import com.contactoprofesionales.dao.profesional.ProfesionalDAO;
+import com.contactoprofesionales.dao.profesional.ProfesionalDAOImpl;
+import com.contactoprofesionales.dao.ubicacion.UbicacionDAO;
+import com.contactoprofesionales.dao.ubicacion.UbicacionDAOImpl;
+import com.contactoprofesionales.dto.DistritoCentroideDTO;
+import com.contactoprofesionales.dto.ProfesionalUbicacionDTO;
+import com.contactoprofesionales.exception.DatabaseException;
+import com.contactoprofesionales.model.UbicacionServicio;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Índice espacial en memoria para la búsqueda de profesionales por cercanía.
+ *
+ * Cada profesional se ubica en el centroide del distrito de su usuario y se guarda en
+ * una grilla de celdas de TAMANO_CELDA_GRADOS (≈11 km). Una búsqueda recorre solo las
+ * celdas que tocan el radio alrededor del distrito del cliente y mide la distancia real
+ * (haversine) a los candidatos.
+ *
+ * Un profesional aparece en los resultados si:
+ * - su distrito está dentro del radio (o es el mismo distrito del cliente), o
+ * - su área de servicio cubre el distrito del cliente (todo el país, o una ubicación
+ *   de tipo departamento/provincia/distrito que lo contiene)
+ *
+ * Los resultados se ordenan por distancia y luego por calificación, reseñas e id
+ * (igual que la búsqueda general). Sin centroides cargados solo se resuelve la cobertura
+ * por área de servicio y por distrito propio; la distancia queda en null.
+ *
+ * El índice es una instantánea inmutable que se reemplaza completa al reconstruirse
+ * (IndiceBusquedaListener), así que las búsquedas no se bloquean.
+ */
+public class IndiceProximidadProfesionales {
+
+    private static final Logger logger = LoggerFactory.getLogger(IndiceProximidadProfesionales.class);
+
+    private static final double TAMANO_CELDA_GRADOS = 0.1;
+    private static final double RADIO_TIERRA_KM = 6371.0;
+    private static final double KM_POR_GRADO_LATITUD = 111.32;
+
+    private static final IndiceProximidadProfesionales INSTANCIA =
+            new IndiceProximidadProfesionales(new ProfesionalDAOImpl(), new UbicacionDAOImpl());
+
+    private final ProfesionalDAO profesionalDAO;
+    private final UbicacionDAO ubicacionDAO;
+
+    private volatile Instantanea instantanea;
+    private final CountDownLatch primeraCarga = new CountDownLatch(1);
+
+    /**
+     * Obtiene la instancia compartida del índice.
+     */
+    public static IndiceProximidadProfesionales getInstancia() {
+        return INSTANCIA;
+    }
+
+    /**
+     * Constructor con inyección de dependencias.
+     */
+    public IndiceProximidadProfesionales(ProfesionalDAO profesionalDAO, UbicacionDAO ubicacionDAO) {
+        this.profesionalDAO = profesionalDAO;
+        this.ubicacionDAO = ubicacionDAO;
+    }
+
+    /**
+     * Indica si el índice ya fue construido y puede responder búsquedas.
+     */
+    public boolean isListo() {
+        return instantanea != null;
+    }
+
+    /**
+     * Espera a que termine la primera construcción (la de IndiceBusquedaListener), sin
+     * construir el índice en el hilo que llama.
+     *
+     * @return true si el índice está listo
+     */
+    public boolean esperarListo(long milisegundos) throws InterruptedException {
+        return primeraCarga.await(milisegundos, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Reconstruye el índice desde la base de datos (centroides y áreas de servicio).
+     */
+    public void construir() throws DatabaseException {
+        long inicio = System.currentTimeMillis();
+
+        List<DistritoCentroideDTO> centroides = ubicacionDAO.listarCentroidesDistritos();
+        List<ProfesionalUbicacionDTO> profesionales = profesionalDAO.listarUbicacionesServicio();
+
+        cargar(centroides, profesionales);
+
+        long conCentroide = centroides.stream().filter(c -> c.getLatitud() != null && c.getLongitud() != null).count();
+        if (conCentroide == 0) {
+            logger.warn("⚠️ Ningún distrito tiene centroide (migración V013): la búsqueda por cercanía "
+                      + "solo usa el distrito propio y las áreas de servicio");
+        }
+
+        logger.info("✓ Índice de cercanía construido: {} profesionales, {} distritos en {} ms",
+                   profesionales.size(), centroides.size(), System.currentTimeMillis() - inicio);
+    }
+
+    /**
+     * Reemplaza el contenido del índice con los datos indicados.
+     */
+    public void cargar(List<DistritoCentroideDTO> centroides, List<ProfesionalUbicacionDTO> profesionales) {
+        Map<Integer, Zona> zonas = new HashMap<>(centroides.size() * 2);
+        for (DistritoCentroideDTO centroide : centroides) {
+            zonas.put(centroide.getId(), new Zona(centroide));
+        }
+
+        Documento[] documentos = new Documento[profesionales.size()];
+        Map<Long, List<Integer>> celdas = new HashMap<>();
+        Map<String, List<Integer>> porCobertura = new HashMap<>();
+        Map<Integer, List<Integer>> porDistrito = new HashMap<>();
+        List<Integer> todoPais = new ArrayList<>();
+
+        for (int i = 0; i < documentos.length; i++) {
+            ProfesionalUbicacionDTO dato = profesionales.get(i);
+            Zona zona = dato.getDistritoId() != null ? zonas.get(dato.getDistritoId()) : null;
+            documentos[i] = new Documento(dato, zona);
+
+            if (dato.getDistritoId() != null) {
+                porDistrito.computeIfAbsent(dato.getDistritoId(), k -> new ArrayList<>()).add(i);
+            }
+            if (zona != null && zona.tieneCentroide()) {
+                celdas.computeIfAbsent(celda(zona.latitud, zona.longitud), k -> new ArrayList<>()).add(i);
+            }
+
+            if (dato.isTodoPais()) {
+                todoPais.add(i);
+            } else {
+                for (UbicacionServicio ubicacion : dato.getUbicaciones()) {
+                    String clave = claveCobertura(ubicacion);
+                    if (clave != null) {
+                        porCobertura.computeIfAbsent(clave, k -> new ArrayList<>()).add(i);
+                    }
+                }
+            }
+        }
+
+        this.instantanea = new Instantanea(zonas, documentos, aArreglos(celdas),
+                                           aArreglos(porCobertura), aArreglos(porDistrito),
+                                           aArreglo(todoPais));
+        primeraCarga.countDown();
+    }
+
+    /**
+     * Busca los profesionales que atienden el distrito del cliente.
+     *
+     * @param distritoId Distrito del cliente
+     * @param radioKm Radio alrededor del distrito del cliente
+     * @param categoriaId Categoría requerida (opcional)
+     * @param tarifaMaxima Tarifa por hora máxima (opcional)
+     * @param soloDisponibles Si solo se incluyen profesionales disponibles
+     * @return Resultados ordenados por distancia, o null si el índice aún no está listo
+     * @throws IllegalArgumentException si el distrito no existe o no está activo
+     */
+    public List<Resultado> buscar(int distritoId, double radioKm, Integer categoriaId,
+                                  Double tarifaMaxima, boolean soloDisponibles) {
+
+        Instantanea actual = instantanea;
+        if (actual == null) {
+            return null;
+        }
+
+        Zona origen = actual.zonas.get(distritoId);
+        if (origen == null) {
+            throw new IllegalArgumentException("Distrito no encontrado: " + distritoId);
+        }
+
+        BitSet candidatos = new BitSet(actual.documentos.length);
+
+        // 1. Profesionales del mismo distrito y de las celdas que tocan el radio
+        agregar(candidatos, actual.porDistrito.get(distritoId));
+
+        if (origen.tieneCentroide()) {
+            double deltaLatitud = radioKm / KM_POR_GRADO_LATITUD;
+            double deltaLongitud = radioKm / (KM_POR_GRADO_LATITUD
+                                   * Math.max(Math.cos(Math.toRadians(origen.latitud)), 0.01));
+
+            long filaMin = (long) Math.floor((origen.latitud - deltaLatitud) / TAMANO_CELDA_GRADOS);
+            long filaMax = (long) Math.floor((origen.latitud + deltaLatitud) / TAMANO_CELDA_GRADOS);
+            long columnaMin = (long) Math.floor((origen.longitud - deltaLongitud) / TAMANO_CELDA_GRADOS);
+            long columnaMax = (long) Math.floor((origen.longitud + deltaLongitud) / TAMANO_CELDA_GRADOS);
+
+            for (long fila = filaMin; fila <= filaMax; fila++) {
+                for (long columna = columnaMin; columna <= columnaMax; columna++) {
+                    int[] enCelda = actual.celdas.get(claveCelda(fila, columna));
+                    if (enCelda == null) {
+                        continue;
+                    }
+                    for (int indice : enCelda) {
+                        Documento documento = actual.documentos[indice];
+                        if (distanciaKm(origen, documento.zona) <= radioKm) {
+                            candidatos.set(indice);
+                        }
+                    }
+                }
+            }
+        }
+
+        // 2. Profesionales cuya área de servicio cubre el distrito del cliente
+        agregar(candidatos, actual.todoPais);
+        agregar(candidatos, actual.porCobertura.get(origen.claveDepartamento));
+        agregar(candidatos, actual.porCobertura.get(origen.claveProvincia));
+        agregar(candidatos, actual.porCobertura.get(origen.claveDistrito));
+
+        List<Resultado> resultados = new ArrayList<>(candidatos.cardinality());
+        for (int i = candidatos.nextSetBit(0); i >= 0; i = candidatos.nextSetBit(i + 1)) {
+            Documento documento = actual.documentos[i];
+            if (documento.cumple(categoriaId, tarifaMaxima, soloDisponibles)) {
+                resultados.add(new Resultado(documento, distancia(origen, distritoId, documento)));
+            }
+        }
+
+        resultados.sort(ORDEN_RESULTADOS);
+        return resultados;
+    }
+
+    // ========================================================================
+    // UTILIDADES
+    // ========================================================================
+
+    /**
+     * Distancia del cliente al profesional: 0 en el mismo distrito, haversine entre
+     * centroides, o null si falta alguno de los centroides.
+     */
+    private static Double distancia(Zona origen, int distritoId, Documento documento) {
+        if (documento.distritoId != null && documento.distritoId == distritoId) {
+            return 0.0;
+        }
+        if (origen.tieneCentroide() && documento.zona != null && documento.zona.tieneCentroide()) {
+            return distanciaKm(origen, documento.zona);
+        }
+        return null;
+    }
+
+    /**
+     * Distancia haversine en kilómetros entre dos centroides.
+     */
+    static double distanciaKm(Zona a, Zona b) {
+        double deltaLatitud = Math.toRadians(b.latitud - a.latitud);
+        double deltaLongitud = Math.toRadians(b.longitud - a.longitud);
+        double h = Math.sin(deltaLatitud / 2) * Math.sin(deltaLatitud / 2)
+                   + Math.cos(Math.toRadians(a.latitud)) * Math.cos(Math.toRadians(b.latitud))
+                   * Math.sin(deltaLongitud / 2) * Math.sin(deltaLongitud / 2);
+        return 2 * RADIO_TIERRA_KM * Math.asin(Math.min(1.0, Math.sqrt(h)));
+    }
+
+    private static long celda(double latitud, double longitud) {
+        return claveCelda((long) Math.floor(latitud / TAMANO_CELDA_GRADOS),
+                          (long) Math.floor(longitud / TAMANO_CELDA_GRADOS));
+    }
+
+    private static long claveCelda(long fila, long columna) {
+        return (fila << 32) | (columna & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Clave de cobertura de una ubicación de servicio, con nombres normalizados
+     * (ubicaciones_servicio guarda nombres, no IDs).
+     */
+    private static String claveCobertura(UbicacionServicio ubicacion) {
+        String tipo = ubicacion.getTipoUbicacion();
+        if ("departamento".equalsIgnoreCase(tipo)) {
+            return clave(ubicacion.getDepartamento());
+        }
+        if ("provincia".equalsIgnoreCase(tipo)) {
+            return clave(ubicacion.getDepartamento(), ubicacion.getProvincia());
+        }
+        if ("distrito".equalsIgnoreCase(tipo)) {
+            return clave(ubicacion.getDepartamento(), ubicacion.getProvincia(), ubicacion.getDistrito());
+        }
+        return null;
+    }
+
+    private static String clave(String... nombres) {
+        StringBuilder clave = new StringBuilder();
+        for (String nombre : nombres) {
+            if (nombre == null || nombre.trim().isEmpty()) {
+                return null;
+            }
+            clave.append(String.join(" ", IndiceBusquedaProfesionales.tokenizar(nombre))).append('|');
+        }
+        return clave.toString();
+    }
+
+    private static void agregar(BitSet candidatos, int[] indices) {
+        if (indices != null) {
+            for (int indice : indices) {
+                candidatos.set(indice);
+            }
+        }
+    }
+
+    private static <K> Map<K, int[]> aArreglos(Map<K, List<Integer>> listas) {
+        Map<K, int[]> arreglos = new HashMap<>(listas.size() * 2);
+        listas.forEach((clave, lista) -> arreglos.put(clave, aArreglo(lista)));
+        return arreglos;
+    }
+
+    private static int[] aArreglo(List<Integer> lista) {
+        return lista.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    // Orden: distancia ASC (desconocida al final), calificación DESC, reseñas DESC, id DESC
+    private static final Comparator<Resultado> ORDEN_RESULTADOS = Comparator
+            .comparing(Resultado::getDistanciaKm, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(Comparator.comparingDouble((Resultado r) -> r.documento.calificacion).reversed())
+            .thenComparing(Comparator.comparingInt((Resultado r) -> r.documento.totalResenas).reversed())
+            .thenComparing(Comparator.comparingInt(Resultado::getProfesionalId).reversed());
+
+    // ========================================================================
+    // ESTRUCTURAS INTERNAS
+    // ========================================================================
+
+    /**
+     * Profesional encontrado y su distancia al distrito del cliente.
+     */
+    public static final class Resultado {
+        private final Documento documento;
+        private final Double distanciaKm;
+
+        private Resultado(Documento documento, Double distanciaKm) {
+            this.documento = documento;
+            this.distanciaKm = distanciaKm;
+        }
+
+        public int getProfesionalId() {
+            return documento.id;
+        }
+
+        /**
+         * Distancia en km entre centroides de distrito, o null si no se conoce.
+         */
+        public Double getDistanciaKm() {
+            return distanciaKm;
+        }
+    }
+
+    /**
+     * Distrito con su centroide y las claves de cobertura que lo contienen.
+     */
+    static final class Zona {
+        final double latitud;
+        final double longitud;
+        final String claveDepartamento;
+        final String claveProvincia;
+        final String claveDistrito;
+
+        Zona(DistritoCentroideDTO centroide) {
+            this.latitud = centroide.tieneCentroide() ? centroide.getLatitud() : Double.NaN;
+            this.longitud = centroide.tieneCentroide() ? centroide.getLongitud() : Double.NaN;
+            this.claveDepartamento = clave(centroide.getDepartamento());
+            this.claveProvincia = clave(centroide.getDepartamento(), centroide.getProvincia());
+            this.claveDistrito = clave(centroide.getDepartamento(), centroide.getProvincia(),
+                                       centroide.getDistrito());
+        }
+
+        boolean tieneCentroide() {
+            return !Double.isNaN(latitud) && !Double.isNaN(longitud);
+        }
+    }
+
+    private static final class Documento {
+        final int id;
+        final Integer distritoId;
+        final Zona zona; // null si el distrito del profesional no está cargado
+        final double calificacion;
+        final int totalResenas;
+        final Double tarifaHora;
+        final boolean disponible;
+        final List<Integer> categorias;
+
+        Documento(ProfesionalUbicacionDTO dato, Zona zona) {
+            this.id = dato.getId();
+            this.distritoId = dato.getDistritoId();
+            this.zona = zona;
+            this.calificacion = dato.getCalificacionPromedio() != null ? dato.getCalificacionPromedio() : 0.0;
+            this.totalResenas = dato.getTotalResenas() != null ? dato.getTotalResenas() : 0;
+            this.tarifaHora = dato.getTarifaHora();
+            this.disponible = dato.isDisponible();
+            this.categorias = List.copyOf(dato.getCategoriaIds());
+        }
+
+        boolean cumple(Integer categoriaId, Double tarifaMaxima, boolean soloDisponibles) {
+            if (soloDisponibles && !disponible) {
+                return false;
+            }
+            if (tarifaMaxima != null && (tarifaHora == null || tarifaHora > tarifaMaxima)) {
+                return false;
+            }
+            return categoriaId == null || categorias.contains(categoriaId);
+        }
+    }
+
+    /**
+     * Contenido del índice en un momento dado (no se modifica después de construirse).
+     */
+    private static final class Instantanea {
+        private final Map<Integer, Zona> zonas;
+        private final Documento[] documentos;
+        private final Map<Long, int[]> celdas;
+        private final Map<String, int[]> porCobertura;
+        private final Map<Integer, int[]> porDistrito;
+        private final int[] todoPais;
+
+        private Instantanea(Map<Integer, Zona> zonas, Documento[] documentos, Map<Long, int[]> celdas,
+                            Map<String, int[]> porCobertura, Map<Integer, int[]> porDistrito,
+                            int[] todoPais) {
+            this.zonas = Collections.unmodifiableMap(zonas);
+            this.documentos = documentos;
+            this.celdas = celdas;
+            this.porCobertura = porCobertura;
+            this.porDistrito = porDistrito;
+            this.todoPais = todoPais;
+        }
+    }
+}
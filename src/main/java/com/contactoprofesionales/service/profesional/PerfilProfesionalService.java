@@ -0,0 +1,300 @@
+package com.contactoprofesionales.service.profesional;
+
+import com.contactoprofesionales.dao.antecedentes.AntecedentesProfesionalDAO;
+import com.contactoprofesionales.dao.antecedentes.AntecedentesProfesionalDAOImpl;
+import com.contactoprofesionales.dao.certificaciones.CertificacionesProfesionalDAO;
+import com.contactoprofesionales.dao.certificaciones.CertificacionesProfesionalDAOImpl;
+import com.contactoprofesionales.dao.portafolio.ProyectosPortafolioDAO;
+import com.contactoprofesionales.dao.portafolio.ProyectosPortafolioDAOImpl;
+import com.contactoprofesionales.dao.redes.RedesSocialesProfesionalDAO;
+import com.contactoprofesionales.dao.redes.RedesSocialesProfesionalDAOImpl;
+import com.contactoprofesionales.dto.PerfilProfesionalCompletoDTO;
+import com.contactoprofesionales.model.AntecedenteProfesional;
+import com.contactoprofesionales.util.DatabaseConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Construye el perfil completo de un profesional (PerfilProfesionalCompletoDTO).
+ *
+ * Primero se leen los datos básicos + puntuación de la plataforma (una sola consulta) en
+ * el hilo de la petición; si el profesional no existe, no se lanza ninguna otra carga.
+ * Las demás secciones son independientes entre sí, así que se cargan en paralelo:
+ * - Carga 1: proyectos (con imágenes) y redes sociales
+ * - Carga 2: certificaciones y antecedentes (los verificados se cuentan en memoria)
+ *
+ * Cada petición usa como máximo CARGAS_PARALELAS_POR_PERFIL conexiones del pool a la
+ * vez, y el tiempo total queda cerca de los datos básicos más la carga más lenta en lugar
+ * de la suma de todas.
+ * Las cargas corren en un ejecutor acotado compartido; si está saturado, la carga se
+ * ejecuta en el hilo de la petición (secuencial, como antes) en lugar de rechazarse.
+ *
+ * Igual que antes, un error en una sección secundaria se registra y la sección queda vacía.
+ */
+public class PerfilProfesionalService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PerfilProfesionalService.class);
+
+    private static final int CARGAS_PARALELAS_POR_PERFIL = 2;
+    private static final int HILOS_CARGA = 8;
+    private static final int CARGAS_EN_ESPERA = 64;
+    private static final long TIEMPO_MAXIMO_CARGA_SEGUNDOS = 10;
+
+    private static final Executor EJECUTOR_COMPARTIDO = crearEjecutor();
+
+    private static final String SQL_DATOS_BASICOS = "SELECT " +
+            "p.id, p.usuario_id, p.descripcion, p.experiencia, p.habilidades, " +
+            "p.foto_perfil, p.foto_portada, p.tarifa_hora, " +
+            "p.calificacion_promedio, p.total_resenas, " +
+            "p.verificado, p.disponible, p.fecha_registro, p.ultima_actualizacion, " +
+            "p.anios_experiencia, p.documento_identidad, p.verificacion_identidad, " +
+            "p.certificado_antecedentes, " +
+            "p.biografia_profesional, p.idiomas, p.licencias_profesionales, " +
+            "p.seguro_responsabilidad, p.metodos_pago, p.politica_cancelacion, " +
+            "u.nombre_completo, u.telefono, " +
+            // Puntuación en la misma consulta (antes era una consulta aparte)
+            "calcular_puntuacion_profesional(p.id) AS puntuacion_plataforma " +
+            "FROM profesionales p " +
+            "INNER JOIN usuarios u ON p.usuario_id = u.id " +
+            "WHERE p.id = ? AND p.activo = TRUE";
+
+    private final CertificacionesProfesionalDAO certificacionesDAO;
+    private final ProyectosPortafolioDAO proyectosDAO;
+    private final AntecedentesProfesionalDAO antecedentesDAO;
+    private final RedesSocialesProfesionalDAO redesDAO;
+    private final Executor ejecutor;
+
+    public PerfilProfesionalService() {
+        this(new CertificacionesProfesionalDAOImpl(), new ProyectosPortafolioDAOImpl(),
+             new AntecedentesProfesionalDAOImpl(), new RedesSocialesProfesionalDAOImpl(),
+             EJECUTOR_COMPARTIDO);
+    }
+
+    /**
+     * Constructor con inyección de dependencias (DAOs de cada sección y ejecutor de las cargas).
+     */
+    public PerfilProfesionalService(CertificacionesProfesionalDAO certificacionesDAO,
+                                    ProyectosPortafolioDAO proyectosDAO,
+                                    AntecedentesProfesionalDAO antecedentesDAO,
+                                    RedesSocialesProfesionalDAO redesDAO,
+                                    Executor ejecutor) {
+        this.certificacionesDAO = certificacionesDAO;
+        this.proyectosDAO = proyectosDAO;
+        this.antecedentesDAO = antecedentesDAO;
+        this.redesDAO = redesDAO;
+        this.ejecutor = ejecutor;
+    }
+
+    /**
+     * Obtiene el perfil completo del profesional.
+     *
+     * @param profesionalId ID del profesional
+     * @return Perfil con todas sus secciones
+     * @throws Exception si el profesional no existe o fallan los datos básicos
+     */
+    public PerfilProfesionalCompletoDTO obtenerPerfilCompleto(Integer profesionalId) throws Exception {
+        logger.debug("Construyendo perfil completo para profesional {}", profesionalId);
+
+        PerfilProfesionalCompletoDTO perfil = new PerfilProfesionalCompletoDTO();
+
+        // Lanza "Profesional no encontrado" antes de ocupar hilos y conexiones con las secciones
+        cargarDatosBasicos(perfil, profesionalId);
+
+        // Cada carga escribe campos distintos del perfil; join() publica los cambios a este hilo
+        CompletableFuture<?>[] cargas = new CompletableFuture<?>[CARGAS_PARALELAS_POR_PERFIL];
+        cargas[0] = CompletableFuture.runAsync(() -> {
+            cargarProyectos(perfil, profesionalId);
+            cargarRedesSociales(perfil, profesionalId);
+        }, ejecutor);
+        cargas[1] = CompletableFuture.runAsync(() -> {
+            cargarCertificaciones(perfil, profesionalId);
+            cargarAntecedentes(perfil, profesionalId);
+        }, ejecutor);
+
+        try {
+            CompletableFuture.allOf(cargas).get(TIEMPO_MAXIMO_CARGA_SEGUNDOS, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            throw new Exception("Tiempo de espera agotado al cargar el perfil", e);
+        } catch (ExecutionException e) {
+            throw new Exception("Error al cargar el perfil", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new Exception("Carga del perfil interrumpida", e);
+        }
+
+        logger.info("✓ Perfil completo construido exitosamente para profesional {}", profesionalId);
+        return perfil;
+    }
+
+    // ========================================================================
+    // SECCIONES
+    // ========================================================================
+
+    private void cargarDatosBasicos(PerfilProfesionalCompletoDTO perfil, Integer profesionalId) throws Exception {
+        try (Connection conn = DatabaseConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(SQL_DATOS_BASICOS)) {
+
+            stmt.setInt(1, profesionalId);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (!rs.next()) {
+                    throw new Exception("Profesional no encontrado");
+                }
+
+                perfil.setId(rs.getInt("id"));
+                perfil.setUsuarioId(rs.getInt("usuario_id"));
+
+                // ✅ Datos personales (de tabla usuarios)
+                perfil.setNombreCompleto(rs.getString("nombre_completo"));
+                perfil.setTelefono(rs.getString("telefono"));
+                perfil.setDocumentoIdentidad(rs.getString("documento_identidad"));
+
+                // ✅ Información profesional
+                perfil.setBiografiaProfesional(rs.getString("biografia_profesional"));
+                perfil.setDescripcion(rs.getString("descripcion"));
+                perfil.setExperiencia(rs.getString("experiencia"));
+                perfil.setAniosExperiencia(rs.getInt("anios_experiencia"));
+
+                // ✅ Habilidades (convertir de texto separado por comas a lista)
+                String habilidadesStr = rs.getString("habilidades");
+                if (habilidadesStr != null && !habilidadesStr.trim().isEmpty()) {
+                    perfil.setHabilidades(Arrays.asList(habilidadesStr.split(",")));
+                }
+
+                // ✅ Información adicional (arrays de PostgreSQL)
+                Array idiomasArray = rs.getArray("idiomas");
+                if (idiomasArray != null) {
+                    perfil.setIdiomas((String[]) idiomasArray.getArray());
+                }
+
+                Array metodosPagoArray = rs.getArray("metodos_pago");
+                if (metodosPagoArray != null) {
+                    perfil.setMetodosPago((String[]) metodosPagoArray.getArray());
+                }
+
+                perfil.setLicenciasProfesionales(rs.getString("licencias_profesionales"));
+                perfil.setSeguroResponsabilidad(rs.getBoolean("seguro_responsabilidad"));
+                perfil.setPoliticaCancelacion(rs.getString("politica_cancelacion"));
+
+                // ✅ Fotos
+                perfil.setFotoPerfil(rs.getString("foto_perfil"));
+                perfil.setFotoPortada(rs.getString("foto_portada"));
+
+                // ✅ Tarifas y calificaciones
+                perfil.setTarifaHora(rs.getBigDecimal("tarifa_hora"));
+                perfil.setCalificacionPromedio(rs.getDouble("calificacion_promedio"));
+                perfil.setTotalResenas(rs.getInt("total_resenas"));
+
+                // ✅ Estado
+                perfil.setVerificado(rs.getBoolean("verificado"));
+                perfil.setVerificacionIdentidad(rs.getBoolean("verificacion_identidad"));
+                perfil.setCertificadoAntecedentes(rs.getBoolean("certificado_antecedentes"));
+                perfil.setDisponible(rs.getBoolean("disponible"));
+
+                Timestamp fechaRegistro = rs.getTimestamp("fecha_registro");
+                if (fechaRegistro != null) {
+                    perfil.setFechaRegistro(fechaRegistro.toLocalDateTime());
+                }
+
+                Timestamp ultimaActualizacion = rs.getTimestamp("ultima_actualizacion");
+                if (ultimaActualizacion != null) {
+                    perfil.setUltimaActualizacion(ultimaActualizacion.toLocalDateTime());
+                }
+
+                // ✅ Puntuación de la plataforma (función calcular_puntuacion_profesional)
+                BigDecimal puntuacion = rs.getBigDecimal("puntuacion_plataforma");
+                perfil.setPuntuacionPlataforma(puntuacion != null ? puntuacion : BigDecimal.ZERO);
+            }
+
+        } catch (SQLException e) {
+            logger.error("Error al obtener datos básicos del profesional {}", profesionalId, e);
+            throw new Exception("Error al obtener el perfil del profesional", e);
+        }
+    }
+
+    private void cargarCertificaciones(PerfilProfesionalCompletoDTO perfil, Integer profesionalId) {
+        try {
+            perfil.setCertificaciones(certificacionesDAO.listarPorProfesional(profesionalId));
+            logger.debug("Certificaciones cargadas: {}", perfil.getCertificaciones().size());
+        } catch (Exception e) {
+            logger.warn("Error al cargar certificaciones", e);
+            perfil.setCertificaciones(new ArrayList<>());
+        }
+    }
+
+    private void cargarProyectos(PerfilProfesionalCompletoDTO perfil, Integer profesionalId) {
+        try {
+            perfil.setProyectos(proyectosDAO.listarPorProfesional(profesionalId));
+            logger.debug("Proyectos cargados: {}", perfil.getProyectos().size());
+        } catch (Exception e) {
+            logger.warn("Error al cargar proyectos", e);
+            perfil.setProyectos(new ArrayList<>());
+        }
+    }
+
+    private void cargarAntecedentes(PerfilProfesionalCompletoDTO perfil, Integer profesionalId) {
+        try {
+            List<AntecedenteProfesional> antecedentes = antecedentesDAO.listarPorProfesional(profesionalId);
+            perfil.setAntecedentes(antecedentes);
+            // Misma condición que contarVerificados (activos y verificados), sin otra consulta
+            perfil.setAntecedentesVerificados((int) antecedentes.stream()
+                    .filter(a -> Boolean.TRUE.equals(a.getVerificado()))
+                    .count());
+            logger.debug("Antecedentes cargados: {} ({} verificados)",
+                    antecedentes.size(), perfil.getAntecedentesVerificados());
+        } catch (Exception e) {
+            logger.warn("Error al cargar antecedentes", e);
+            perfil.setAntecedentes(new ArrayList<>());
+            perfil.setAntecedentesVerificados(0);
+        }
+    }
+
+    private void cargarRedesSociales(PerfilProfesionalCompletoDTO perfil, Integer profesionalId) {
+        try {
+            perfil.setRedesSociales(redesDAO.listarPorProfesional(profesionalId));
+            logger.debug("Redes sociales cargadas: {}", perfil.getRedesSociales().size());
+        } catch (Exception e) {
+            logger.warn("Error al cargar redes sociales", e);
+            perfil.setRedesSociales(new ArrayList<>());
+        }
+    }
+
+    /**
+     * Ejecutor compartido de las cargas de perfiles: hilos y cola acotados; si se llena,
+     * la carga se ejecuta en el hilo que la envía (CallerRunsPolicy).
+     */
+    private static Executor crearEjecutor() {
+        AtomicInteger contador = new AtomicInteger();
+        ThreadPoolExecutor ejecutor = new ThreadPoolExecutor(
+            HILOS_CARGA, HILOS_CARGA, 60, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(CARGAS_EN_ESPERA),
+            r -> {
+                Thread hilo = new Thread(r, "perfil-carga-" + contador.incrementAndGet());
+                hilo.setDaemon(true);
+                return hilo;
+            },
+            new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+        ejecutor.allowCoreThreadTimeOut(true);
+        return ejecutor;
+    }
+}
@@ -7,6 +7,7 @@ import com.contactoprofesionales.dao.profesional.ProfesionalDAOImpl;
 import com.contactoprofesionales.exception.DatabaseException;
 import com.contactoprofesionales.exception.ProfesionalException;
 import com.contactoprofesionales.exception.ValidationException;
+import com.contactoprofesionales.util.CursorPaginacion;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -21,15 +22,23 @@ import java.util.stream.Collectors;
 public class ProfesionalService {
     
     private static final Logger logger = LoggerFactory.getLogger(ProfesionalService.class);
+    private static final int LIMITE_MAXIMO_PAGINA = 100;
     private final ProfesionalDAO profesionalDAO;
+    private final FacetasBusquedaService facetasBusqueda;
     
     public ProfesionalService() {
-        this.profesionalDAO = new ProfesionalDAOImpl();
+        this(new ProfesionalDAOImpl(), FacetasBusquedaService.getInstancia());
     }
     
     // Constructor para testing
     public ProfesionalService(ProfesionalDAO profesionalDAO) {
+        this(profesionalDAO, FacetasBusquedaService.getInstancia());
+    }
+    
+    // Constructor para testing
+    public ProfesionalService(ProfesionalDAO profesionalDAO, FacetasBusquedaService facetasBusqueda) {
         this.profesionalDAO = profesionalDAO;
+        this.facetasBusqueda = facetasBusqueda;
     }
     
     /**
@@ -84,6 +93,46 @@ public class ProfesionalService {
         return profesionalDAO.listarTodos();
     }
     
+    /**
+     * Lista una página de profesionales activos a partir de un cursor de posición.
+     *
+     * @param cursor Token recibido del cliente (null o vacío = primera página)
+     * @param limite Cantidad máxima de profesionales (1 a LIMITE_MAXIMO_PAGINA)
+     * @throws ValidationException Si el cursor o el límite no son válidos
+     */
+    public List<Profesional> listarProfesionales(String cursor, int limite)
+            throws DatabaseException, ValidationException {
+        
+        if (limite < 1 || limite > LIMITE_MAXIMO_PAGINA) {
+            throw new ValidationException("El límite debe estar entre 1 y " + LIMITE_MAXIMO_PAGINA);
+        }
+        
+        CursorPaginacion despuesDe = null;
+        if (cursor != null && !cursor.trim().isEmpty()) {
+            try {
+                despuesDe = CursorPaginacion.decodificar(cursor);
+            } catch (IllegalArgumentException e) {
+                throw new ValidationException("Cursor de paginación inválido");
+            }
+        }
+        
+        logger.debug("Listando profesionales después de {} (límite {})", despuesDe, limite);
+        return profesionalDAO.listarPorCursor(despuesDe, limite);
+    }
+    
+    /**
+     * Cursor para pedir la página siguiente a la recibida, o null si era la última.
+     */
+    public String siguienteCursor(List<Profesional> pagina, int limite) {
+        if (pagina.size() < limite) {
+            return null;
+        }
+        Profesional ultimo = pagina.get(pagina.size() - 1);
+        return CursorPaginacion.despuesDe(ultimo.getCalificacionPromedio(),
+                                          ultimo.getTotalResenas(),
+                                          ultimo.getId()).codificar();
+    }
+    
     /**
      * Busca profesionales por especialidad.
      */
@@ -141,6 +190,7 @@ public class ProfesionalService {
         
         // Crear profesional
         Profesional nuevoProfesional = profesionalDAO.crear(profesional);
+        facetasBusqueda.invalidar();
         
         logger.info("✓ Perfil de profesional creado con ID: {}", nuevoProfesional.getId());
         
@@ -168,6 +218,7 @@ public class ProfesionalService {
         boolean actualizado = profesionalDAO.actualizar(profesional);
         
         if (actualizado) {
+            facetasBusqueda.invalidar();
             logger.info("✓ Profesional actualizado: {}", profesional.getId());
         }
         
@@ -191,6 +242,7 @@ public class ProfesionalService {
         boolean eliminado = profesionalDAO.eliminar(id);
         
         if (eliminado) {
+            facetasBusqueda.invalidar();
             logger.info("✓ Profesional eliminado: {}", id);
         }
         
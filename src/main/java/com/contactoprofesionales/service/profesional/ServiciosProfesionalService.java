@@ -0,0 +1,89 @@
+package com.contactoprofesionales.service.profesional;
+
+import com.contactoprofesionales.dao.ServiciosProfesionalDAO;
+import com.contactoprofesionales.dao.ServiciosProfesionalDAOImpl;
+import com.contactoprofesionales.dto.ServiciosProfesionalCompleto;
+import com.contactoprofesionales.model.AreaServicio;
+import com.contactoprofesionales.model.DisponibilidadHoraria;
+import com.contactoprofesionales.model.EspecialidadProfesional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+/**
+ * Servicio para gestionar los servicios de un profesional (especialidades, área de
+ * servicio y disponibilidad).
+ *
+ * El DAO confirma cada cambio en su transacción; después, este servicio refleja el
+ * cambio en las estructuras en memoria que dependen de esos datos: el índice de
+ * búsqueda por texto, la caché de facetas y la caché de perfiles.
+ */
+public class ServiciosProfesionalService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ServiciosProfesionalService.class);
+
+    private final ServiciosProfesionalDAO serviciosDAO;
+    private final IndiceBusquedaProfesionales indiceBusqueda;
+    private final FacetasBusquedaService facetasBusqueda;
+    private final CachePerfilProfesional cachePerfil;
+
+    public ServiciosProfesionalService() {
+        this(new ServiciosProfesionalDAOImpl(), IndiceBusquedaProfesionales.getInstancia(),
+             FacetasBusquedaService.getInstancia(), CachePerfilProfesional.getInstancia());
+    }
+
+    // Constructor para testing
+    public ServiciosProfesionalService(ServiciosProfesionalDAO serviciosDAO,
+                                       IndiceBusquedaProfesionales indiceBusqueda,
+                                       FacetasBusquedaService facetasBusqueda,
+                                       CachePerfilProfesional cachePerfil) {
+        this.serviciosDAO = serviciosDAO;
+        this.indiceBusqueda = indiceBusqueda;
+        this.facetasBusqueda = facetasBusqueda;
+        this.cachePerfil = cachePerfil;
+    }
+
+    public ServiciosProfesionalCompleto obtenerServicios(Integer profesionalId) throws Exception {
+        return serviciosDAO.obtenerServiciosProfesional(profesionalId);
+    }
+
+    public boolean tieneServiciosConfigurados(Integer profesionalId) throws Exception {
+        return serviciosDAO.tieneServiciosConfigurados(profesionalId);
+    }
+
+    public boolean guardarServicios(Integer profesionalId, List<EspecialidadProfesional> especialidades,
+                                    AreaServicio areaServicio, DisponibilidadHoraria disponibilidad)
+            throws Exception {
+        boolean guardado = serviciosDAO.guardarServiciosProfesional(
+            profesionalId, especialidades, areaServicio, disponibilidad);
+        reflejarCambios(profesionalId);
+        return guardado;
+    }
+
+    public boolean actualizarServicios(Integer profesionalId, List<EspecialidadProfesional> especialidades,
+                                       AreaServicio areaServicio, DisponibilidadHoraria disponibilidad)
+            throws Exception {
+        boolean actualizado = serviciosDAO.actualizarServiciosProfesional(
+            profesionalId, especialidades, areaServicio, disponibilidad);
+        reflejarCambios(profesionalId);
+        return actualizado;
+    }
+
+    public boolean eliminarServicios(Integer profesionalId) throws Exception {
+        boolean eliminado = serviciosDAO.eliminarServiciosProfesional(profesionalId);
+        reflejarCambios(profesionalId);
+        return eliminado;
+    }
+
+    /**
+     * Se llama con la transacción ya confirmada (el índice vuelve a leer al profesional
+     * de la base de datos).
+     */
+    private void reflejarCambios(Integer profesionalId) {
+        indiceBusqueda.actualizarProfesional(profesionalId);
+        facetasBusqueda.invalidar();
+        cachePerfil.invalidar(profesionalId);
+        logger.debug("Cambios de servicios del profesional {} reflejados en índice y cachés", profesionalId);
+    }
+}
@@ -0,0 +1,156 @@
+package com.contactoprofesionales.service.solicitud;
+
+import com.contactoprofesionales.dao.solicitud.SolicitudContadoresDAO;
+import com.contactoprofesionales.dao.solicitud.SolicitudContadoresDAOImpl;
+import com.contactoprofesionales.exception.DatabaseException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caché en memoria de los contadores de solicitudes por profesional y estado.
+ *
+ * Los contadores de un profesional se cargan de 'solicitud_contadores' la primera vez
+ * que se leen (una consulta por clave primaria) y luego se actualizan en memoria con
+ * cada cambio confirmado ({@link #registrarCambio}), con un LongAdder por estado para
+ * que los cambios simultáneos no compitan por el mismo contador. Así el badge de
+ * pendientes y las estadísticas del dashboard se leen sin ir a la base de datos.
+ *
+ * Los contadores se vuelven a cargar pasados {@code contactoprofesionales.contadores.vigencia.segundos}
+ * (60 por defecto). Eso acota el desfase si otra instancia de la aplicación cambia
+ * solicitudes, o si un cambio se confirma justo mientras se cargaban. Los contadores
+ * vencidos se descartan al cargar otros (como máximo una revisión por vigencia), así
+ * que la caché solo guarda a los profesionales consultados recientemente.
+ */
+public final class ContadoresSolicitudes {
+
+    private static final Logger logger = LoggerFactory.getLogger(ContadoresSolicitudes.class);
+
+    static final String PROPIEDAD_VIGENCIA = "contactoprofesionales.contadores.vigencia.segundos";
+
+    private static final ContadoresSolicitudes INSTANCIA = new ContadoresSolicitudes(
+            new SolicitudContadoresDAOImpl(), Long.getLong(PROPIEDAD_VIGENCIA, 60));
+
+    private final SolicitudContadoresDAO contadoresDAO;
+    private final long vigenciaNanos;
+    private final ConcurrentHashMap<Integer, Contadores> porProfesional = new ConcurrentHashMap<>();
+    private final AtomicLong ultimaLimpiezaNanos = new AtomicLong(System.nanoTime());
+
+    /**
+     * Obtiene la caché compartida por la aplicación.
+     */
+    public static ContadoresSolicitudes getInstancia() {
+        return INSTANCIA;
+    }
+
+    ContadoresSolicitudes(SolicitudContadoresDAO contadoresDAO, long vigenciaSegundos) {
+        this.contadoresDAO = contadoresDAO;
+        this.vigenciaNanos = TimeUnit.SECONDS.toNanos(vigenciaSegundos);
+    }
+
+    /**
+     * Cantidad de solicitudes del profesional en el estado indicado.
+     */
+    public long contar(Integer profesionalId, String estado) throws DatabaseException {
+        LongAdder contador = obtener(profesionalId).porEstado.get(estado);
+        return contador != null ? Math.max(contador.sum(), 0) : 0;
+    }
+
+    /**
+     * Cantidad de solicitudes del profesional por estado (solo estados con solicitudes).
+     */
+    public Map<String, Long> contarPorEstado(Integer profesionalId) throws DatabaseException {
+        Map<String, Long> resultado = new HashMap<>();
+        for (Map.Entry<String, LongAdder> entrada : obtener(profesionalId).porEstado.entrySet()) {
+            long total = entrada.getValue().sum();
+            if (total > 0) {
+                resultado.put(entrada.getKey(), total);
+            }
+        }
+        return resultado;
+    }
+
+    /**
+     * Aplica un cambio ya confirmado en la base de datos. Si los contadores del
+     * profesional no están cargados no hace nada: la próxima lectura ya lo incluye.
+     *
+     * @param estadoAnterior Estado previo, o null si la solicitud es nueva
+     */
+    public void registrarCambio(Integer profesionalId, String estadoAnterior, String estadoNuevo) {
+        Contadores contadores = porProfesional.get(profesionalId);
+        if (contadores == null || estadoNuevo.equals(estadoAnterior)) {
+            return;
+        }
+        if (estadoAnterior != null) {
+            contadores.adder(estadoAnterior).decrement();
+        }
+        contadores.adder(estadoNuevo).increment();
+    }
+
+    /**
+     * Descarta los contadores del profesional; la próxima lectura los vuelve a cargar.
+     */
+    public void invalidar(Integer profesionalId) {
+        porProfesional.remove(profesionalId);
+    }
+
+    private Contadores obtener(Integer profesionalId) throws DatabaseException {
+        Contadores actuales = porProfesional.get(profesionalId);
+        if (actuales != null && System.nanoTime() - actuales.cargadoNanos < vigenciaNanos) {
+            return actuales;
+        }
+
+        descartarVencidos();
+
+        // La consulta va fuera del mapa: no se bloquea a otros profesionales mientras tanto
+        Contadores cargados = new Contadores(contadoresDAO.obtenerPorProfesional(profesionalId));
+        porProfesional.put(profesionalId, cargados);
+        logger.debug("📊 Contadores del profesional {} cargados: {}", profesionalId, cargados.porEstado);
+        return cargados;
+    }
+
+    /**
+     * Quita los contadores vencidos. Recorre el mapa como máximo una vez por vigencia
+     * (un solo hilo), así que el costo se reparte entre muchas cargas.
+     */
+    private void descartarVencidos() {
+        long ahora = System.nanoTime();
+        long ultima = ultimaLimpiezaNanos.get();
+        if (ahora - ultima < vigenciaNanos || !ultimaLimpiezaNanos.compareAndSet(ultima, ahora)) {
+            return;
+        }
+        porProfesional.values().removeIf(contadores -> ahora - contadores.cargadoNanos >= vigenciaNanos);
+    }
+
+    /**
+     * Cantidad de profesionales con contadores en memoria (para pruebas).
+     */
+    int totalCargados() {
+        return porProfesional.size();
+    }
+
+    /**
+     * Contadores de un profesional y momento en que se cargaron.
+     */
+    private static final class Contadores {
+
+        private final ConcurrentHashMap<String, LongAdder> porEstado = new ConcurrentHashMap<>();
+        private final long cargadoNanos = System.nanoTime();
+
+        private Contadores(Map<String, Long> totales) {
+            for (Map.Entry<String, Long> total : totales.entrySet()) {
+                adder(total.getKey()).add(total.getValue());
+            }
+        }
+
+        private LongAdder adder(String estado) {
+            return porEstado.computeIfAbsent(estado, e -> new LongAdder());
+        }
+    }
+}
@@ -0,0 +1,331 @@
+package com.contactoprofesionales.service.solicitud;
+
+import com.contactoprofesionales.util.GsonUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Registro en memoria de suscripciones a eventos de solicitudes (Server-Sent Events).
+ *
+ * Cada conexión abierta en /api/solicitudes/eventos es una {@link Suscripcion} del
+ * destinatario ("profesional:{id}" o "cliente:{id}"). Una suscripción inactiva solo
+ * ocupa su entrada en el mapa y el AsyncContext del servlet, sin hilo asignado, por lo
+ * que se pueden mantener decenas de miles.
+ *
+ * - Las escrituras no bloquean: cada suscripción tiene una cola acotada
+ *   ({@value #MAXIMO_PENDIENTES} eventos) y solo escribe mientras la salida está lista
+ *   (ServletOutputStream.isReady); el resto lo escribe el contenedor al avisar con
+ *   onWritePossible ({@link #escribirPendientes}). Un cliente lento no detiene a los demás.
+ * - Una conexión con la cola llena, o que lleva más de {@value #SEGUNDOS_MAXIMOS_BLOQUEADA} s
+ *   sin poder escribir, se cierra; el navegador se reconecta solo.
+ * - Cada {@value #SEGUNDOS_ENTRE_LATIDOS} s se envía un comentario a todas las conexiones
+ *   para que los proxies no las cierren y para descartar las que ya se cortaron.
+ */
+public final class EventosSolicitudes {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventosSolicitudes.class);
+
+    static final long SEGUNDOS_ENTRE_LATIDOS = 25;
+    static final long SEGUNDOS_MAXIMOS_BLOQUEADA = 60;
+    static final int MAXIMO_PENDIENTES = 64;
+
+    private static final EventosSolicitudes INSTANCIA = new EventosSolicitudes();
+
+    private final ConcurrentHashMap<String, Set<Suscripcion>> suscripciones = new ConcurrentHashMap<>();
+    private final AtomicInteger total = new AtomicInteger();
+
+    private ScheduledExecutorService latidos;
+
+    /**
+     * Obtiene el registro compartido por la aplicación.
+     */
+    public static EventosSolicitudes getInstancia() {
+        return INSTANCIA;
+    }
+
+    EventosSolicitudes() {
+    }
+
+    /**
+     * Destino de los eventos de un profesional.
+     */
+    public static String destinoProfesional(Integer profesionalId) {
+        return "profesional:" + profesionalId;
+    }
+
+    /**
+     * Destino de los eventos de un cliente.
+     */
+    public static String destinoCliente(Integer clienteId) {
+        return "cliente:" + clienteId;
+    }
+
+    /**
+     * Salida no bloqueante de una conexión (el stream de la respuesta HTTP con un WriteListener).
+     */
+    public interface Salida {
+
+        /**
+         * Indica si se puede escribir sin bloquear (ServletOutputStream.isReady). Si
+         * devuelve false, el contenedor avisará cuando se pueda y se debe llamar a
+         * {@link EventosSolicitudes#escribirPendientes}.
+         */
+        boolean listaParaEscribir();
+
+        /**
+         * Escribe el texto; solo se llama después de {@link #listaParaEscribir()} = true.
+         */
+        void escribir(String texto) throws IOException;
+
+        /**
+         * Cierra la conexión (completa el AsyncContext).
+         */
+        void cerrar();
+    }
+
+    /**
+     * Registra una conexión para el destino.
+     */
+    public Suscripcion suscribir(String destino, Salida salida) {
+        Suscripcion suscripcion = crearSuscripcion(destino, salida);
+        suscribir(suscripcion);
+        return suscripcion;
+    }
+
+    /**
+     * Crea una suscripción sin registrarla, para poder asociarla al WriteListener y
+     * escribir el estado inicial antes de que lleguen eventos publicados.
+     */
+    public Suscripcion crearSuscripcion(String destino, Salida salida) {
+        return new Suscripcion(destino, salida);
+    }
+
+    /**
+     * Registra una suscripción creada con {@link #crearSuscripcion}.
+     */
+    public void suscribir(Suscripcion suscripcion) {
+        iniciarHilos();
+
+        String destino = suscripcion.destino;
+        // compute (y no computeIfAbsent + add): atómico frente a cancelar(), que quita el conjunto vacío
+        suscripciones.compute(destino, (d, conjunto) -> {
+            Set<Suscripcion> actual = conjunto != null ? conjunto : ConcurrentHashMap.newKeySet();
+            actual.add(suscripcion);
+            return actual;
+        });
+        total.incrementAndGet();
+
+        logger.debug("🔔 Suscripción a eventos de {} ({} conexiones abiertas)", destino, total.get());
+    }
+
+    /**
+     * Quita una conexión del registro (al completarse, expirar o fallar).
+     */
+    public void cancelar(Suscripcion suscripcion) {
+        suscripciones.computeIfPresent(suscripcion.destino, (destino, conjunto) -> {
+            if (conjunto.remove(suscripcion)) {
+                total.decrementAndGet();
+            }
+            return conjunto.isEmpty() ? null : conjunto;
+        });
+    }
+
+    /**
+     * Indica si el destino tiene alguna conexión abierta (para no calcular eventos que nadie recibe).
+     */
+    public boolean tieneSuscriptores(String destino) {
+        return suscripciones.containsKey(destino);
+    }
+
+    /**
+     * Conexiones abiertas en total.
+     */
+    public int getTotalSuscripciones() {
+        return total.get();
+    }
+
+    /**
+     * Publica un evento a todas las conexiones del destino.
+     *
+     * @param destino "profesional:{id}" o "cliente:{id}"
+     * @param evento Nombre del evento (campo event: de SSE)
+     * @param datos Se serializa a JSON con el Gson compartido
+     */
+    public void publicar(String destino, String evento, Object datos) {
+        Set<Suscripcion> conjunto = suscripciones.get(destino);
+        if (conjunto == null || conjunto.isEmpty()) {
+            return;
+        }
+
+        String texto = formatear(evento, GsonUtil.createGson().toJson(datos));
+        for (Suscripcion suscripcion : conjunto) {
+            enviar(suscripcion, texto);
+        }
+    }
+
+    /**
+     * Envía un evento a una sola conexión (evento inicial al suscribirse).
+     */
+    public void enviar(Suscripcion suscripcion, String evento, Object datos) {
+        enviar(suscripcion, formatear(evento, GsonUtil.createGson().toJson(datos)));
+    }
+
+    /**
+     * Envía el campo retry: (espera antes de reconectar) a una conexión.
+     */
+    public void enviarReintento(Suscripcion suscripcion, int milisegundos) {
+        enviar(suscripcion, "retry: " + milisegundos + "\n\n");
+    }
+
+    /**
+     * Escribe lo pendiente de una conexión. Lo llama el WriteListener (onWritePossible).
+     */
+    public void escribirPendientes(Suscripcion suscripcion) {
+        try {
+            suscripcion.escribirPendientes();
+        } catch (IOException | RuntimeException e) {
+            descartar(suscripcion, e.getMessage());
+        }
+    }
+
+    /**
+     * Formato de un evento SSE: "event: nombre\ndata: json\n\n". El JSON del Gson
+     * compartido no lleva saltos de línea (salvo con la propiedad de JSON legible).
+     */
+    static String formatear(String evento, String json) {
+        return "event: " + evento + "\ndata: " + json.replace("\n", "\ndata: ") + "\n\n";
+    }
+
+    private void enviar(Suscripcion suscripcion, String texto) {
+        try {
+            if (!suscripcion.encolar(texto)) {
+                descartar(suscripcion, "demasiados eventos sin enviar");
+            }
+        } catch (IOException | RuntimeException e) {
+            // El cliente cerró la conexión
+            descartar(suscripcion, e.getMessage());
+        }
+    }
+
+    private void descartar(Suscripcion suscripcion, String motivo) {
+        logger.debug("Conexión de eventos de {} cerrada: {}", suscripcion.destino, motivo);
+        cancelar(suscripcion);
+        suscripcion.salida.cerrar();
+    }
+
+    /**
+     * Envía un comentario SSE a todas las conexiones y cierra las que llevan demasiado
+     * tiempo sin poder escribir.
+     */
+    void enviarLatidos() {
+        enviarLatidos(TimeUnit.SECONDS.toNanos(SEGUNDOS_MAXIMOS_BLOQUEADA));
+    }
+
+    void enviarLatidos(long nanosMaximosBloqueada) {
+        long ahora = System.nanoTime();
+        for (Set<Suscripcion> conjunto : suscripciones.values()) {
+            for (Suscripcion suscripcion : conjunto) {
+                if (suscripcion.bloqueadaMasDe(nanosMaximosBloqueada, ahora)) {
+                    descartar(suscripcion, "cliente lento");
+                } else {
+                    enviar(suscripcion, ":\n\n");
+                }
+            }
+        }
+    }
+
+    private synchronized void iniciarHilos() {
+        if (latidos != null) {
+            return;
+        }
+        latidos = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread hilo = new Thread(r, "eventos-solicitudes-latido");
+            hilo.setDaemon(true);
+            return hilo;
+        });
+        latidos.scheduleWithFixedDelay(() -> {
+            try {
+                enviarLatidos();
+            } catch (Exception e) {
+                logger.error("Error al enviar latidos de eventos: {}", e.getMessage());
+            }
+        }, SEGUNDOS_ENTRE_LATIDOS, SEGUNDOS_ENTRE_LATIDOS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Cierra todas las conexiones y detiene los hilos. Lo llama EventosSolicitudesListener al replegar.
+     */
+    public synchronized void detener() {
+        if (latidos == null) {
+            return;
+        }
+        latidos.shutdownNow();
+        for (Map.Entry<String, Set<Suscripcion>> entrada : suscripciones.entrySet()) {
+            for (Suscripcion suscripcion : entrada.getValue()) {
+                suscripcion.salida.cerrar();
+            }
+        }
+        suscripciones.clear();
+        total.set(0);
+        latidos = null;
+    }
+
+    /**
+     * Una conexión abierta con su cola de eventos pendientes. Las escrituras se
+     * serializan: un evento y un latido simultáneos no se mezclan en el stream.
+     */
+    public static final class Suscripcion {
+
+        private final String destino;
+        private final Salida salida;
+        private final ArrayDeque<String> pendientes = new ArrayDeque<>();
+        /** System.nanoTime() desde que hay pendientes sin poder escribir (0 = al día). */
+        private long bloqueadaDesde;
+
+        private Suscripcion(String destino, Salida salida) {
+            this.destino = destino;
+            this.salida = salida;
+        }
+
+        /**
+         * @return false si la cola está llena (el cliente no lee)
+         */
+        private synchronized boolean encolar(String texto) throws IOException {
+            if (pendientes.size() >= MAXIMO_PENDIENTES) {
+                return false;
+            }
+            pendientes.add(texto);
+            escribirPendientes();
+            return true;
+        }
+
+        private synchronized void escribirPendientes() throws IOException {
+            while (!pendientes.isEmpty() && salida.listaParaEscribir()) {
+                salida.escribir(pendientes.poll());
+            }
+            if (pendientes.isEmpty()) {
+                bloqueadaDesde = 0;
+            } else if (bloqueadaDesde == 0) {
+                bloqueadaDesde = System.nanoTime();
+            }
+        }
+
+        private synchronized boolean bloqueadaMasDe(long nanos, long ahora) {
+            return bloqueadaDesde != 0 && ahora - bloqueadaDesde >= nanos;
+        }
+
+        public String getDestino() {
+            return destino;
+        }
+    }
+}
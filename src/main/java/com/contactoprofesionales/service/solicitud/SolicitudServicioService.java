@@ -3,20 +3,31 @@ package com.contactoprofesionales.service.solicitud;
 import com.contactoprofesionales.model.SolicitudServicio;
 import com.contactoprofesionales.dto.SolicitudServicioRequest;
 import com.contactoprofesionales.dto.SolicitudDetalleDTO;
+import com.contactoprofesionales.dto.FiltroSolicitudesDTO;
+import com.contactoprofesionales.dto.SolicitudResumenDTO;
 import com.contactoprofesionales.dao.solicitud.SolicitudServicioDAO;
 import com.contactoprofesionales.dao.solicitud.SolicitudServicioDAOImpl;
-import com.contactoprofesionales.service.notificacion.NotificacionService;
-import com.contactoprofesionales.service.notificacion.NotificacionServiceImpl;
+import com.contactoprofesionales.service.almacenamiento.ProcesadorFotos;
+import com.contactoprofesionales.service.notificacion.ColaNotificaciones;
+import com.contactoprofesionales.service.notificacion.TipoNotificacion;
 import com.contactoprofesionales.exception.DatabaseException;
 import com.contactoprofesionales.exception.ValidationException;
+import com.contactoprofesionales.util.CursorSolicitudes;
+import com.contactoprofesionales.util.DatabaseConnection;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Servicio para gestionar solicitudes de servicio.
@@ -24,28 +35,53 @@ import java.util.List;
  *
  * Actualizado: 2025-12-03
  * - Integrado servicio de notificaciones
+ *
+ * Las notificaciones se registran en el outbox (notificaciones_outbox) en la misma
+ * transacción que el cambio de la solicitud y las entrega DespachadorNotificaciones
+ * en segundo plano: la respuesta no espera la entrega y un fallo no la pierde.
+ * Después del commit, los cambios se publican a las conexiones abiertas en
+ * /api/solicitudes/eventos (EventosSolicitudes) junto con el conteo de pendientes.
+ * Los conteos por estado salen de ContadoresSolicitudes (en memoria), que se actualiza
+ * después de cada commit.
  */
 public class SolicitudServicioService {
 
     private static final Logger logger = LoggerFactory.getLogger(SolicitudServicioService.class);
+    private static final int LIMITE_MAXIMO_PAGINA = 100;
     private final SolicitudServicioDAO solicitudDAO;
-    private final NotificacionService notificacionService;
+    private final ColaNotificaciones colaNotificaciones;
+    private final EventosSolicitudes eventos;
+    private final ContadoresSolicitudes contadores;
 
     public SolicitudServicioService() {
-        this.solicitudDAO = new SolicitudServicioDAOImpl();
-        this.notificacionService = new NotificacionServiceImpl();
+        this(new SolicitudServicioDAOImpl(), new ColaNotificaciones());
     }
 
     // Constructor para testing
     public SolicitudServicioService(SolicitudServicioDAO solicitudDAO) {
-        this.solicitudDAO = solicitudDAO;
-        this.notificacionService = new NotificacionServiceImpl();
+        this(solicitudDAO, new ColaNotificaciones());
     }
 
     // Constructor para testing con notificaciones
-    public SolicitudServicioService(SolicitudServicioDAO solicitudDAO, NotificacionService notificacionService) {
+    public SolicitudServicioService(SolicitudServicioDAO solicitudDAO, ColaNotificaciones colaNotificaciones) {
+        this(solicitudDAO, colaNotificaciones, EventosSolicitudes.getInstancia(), ContadoresSolicitudes.getInstancia());
+    }
+
+    // Constructor para testing con notificaciones, eventos en tiempo real y contadores
+    public SolicitudServicioService(SolicitudServicioDAO solicitudDAO, ColaNotificaciones colaNotificaciones,
+                                    EventosSolicitudes eventos, ContadoresSolicitudes contadores) {
         this.solicitudDAO = solicitudDAO;
-        this.notificacionService = notificacionService;
+        this.colaNotificaciones = colaNotificaciones;
+        this.eventos = eventos;
+        this.contadores = contadores;
+    }
+
+    /**
+     * Operación que se ejecuta dentro de una transacción con la conexión recibida.
+     */
+    @FunctionalInterface
+    private interface OperacionTransaccional<T> {
+        T ejecutar(Connection conn) throws DatabaseException;
     }
     
     /**
@@ -106,24 +142,23 @@ public class SolicitudServicioService {
                    request.getProvinciaId(),
                    request.getDistritoId());
 
-        // Procesar fotos (en un caso real, guardar en almacenamiento y obtener URLs)
+        // Guardar fotos (por contenido, ver ProcesadorFotos) y conservar solo sus URLs
         if (request.getFotosBase64() != null && !request.getFotosBase64().isEmpty()) {
             List<String> fotosUrls = procesarFotos(request.getFotosBase64(), clienteId);
             solicitud.setFotosUrls(fotosUrls);
         }
 
-        // Guardar en base de datos
-        SolicitudServicio solicitudCreada = solicitudDAO.crear(solicitud);
+        // Guardar en base de datos junto con la notificación al profesional
+        SolicitudServicio solicitudCreada = enTransaccion(conn -> {
+            SolicitudServicio creada = solicitudDAO.crear(conn, solicitud);
+            colaNotificaciones.registrar(conn, TipoNotificacion.NUEVA_SOLICITUD, creada);
+            return creada;
+        });
 
         logger.info("✓ Solicitud creada con ID: {}", solicitudCreada.getId());
-
-        // Enviar notificación al profesional
-        try {
-            notificacionService.notificarNuevaSolicitud(solicitudCreada);
-        } catch (Exception e) {
-            logger.error("Error al enviar notificación de nueva solicitud: {}", e.getMessage());
-            // No lanzar excepción, la notificación es secundaria al proceso principal
-        }
+        contadores.registrarCambio(solicitudCreada.getProfesionalId(), null, solicitudCreada.getEstado());
+        colaNotificaciones.avisarDespachador();
+        publicarEvento("nueva_solicitud", solicitudCreada);
 
         return solicitudCreada;
     }
@@ -201,77 +236,157 @@ public class SolicitudServicioService {
         return solicitudDAO.listarPorProfesional(profesionalId);
     }
 
+    /**
+     * Cantidad de solicitudes del profesional por estado, para las estadísticas del dashboard.
+     * Los estados sin solicitudes se devuelven en 0.
+     */
+    public Map<String, Long> contarSolicitudesPorEstado(Integer profesionalId) throws DatabaseException {
+        Map<String, Long> conteos = contadores.contarPorEstado(profesionalId);
+        Map<String, Long> resultado = new LinkedHashMap<>();
+        for (String estado : SolicitudServicio.ESTADOS) {
+            resultado.put(estado, conteos.getOrDefault(estado, 0L));
+        }
+        return resultado;
+    }
+
+    /**
+     * Lista una página de solicitudes del usuario a partir de un cursor de posición.
+     *
+     * @param usuarioId ID del cliente o del profesional
+     * @param comoProfesional true para las solicitudes recibidas por el profesional
+     * @param filtro Filtros opcionales y límite (1 a LIMITE_MAXIMO_PAGINA)
+     * @param cursor Token recibido del cliente (null o vacío = primera página)
+     * @throws ValidationException Si el cursor, el límite o algún filtro no son válidos
+     */
+    public List<SolicitudResumenDTO> listarSolicitudesPaginadas(Integer usuarioId, boolean comoProfesional,
+                                                                FiltroSolicitudesDTO filtro, String cursor)
+            throws DatabaseException, ValidationException {
+
+        if (filtro.getLimite() < 1 || filtro.getLimite() > LIMITE_MAXIMO_PAGINA) {
+            throw new ValidationException("El límite debe estar entre 1 y " + LIMITE_MAXIMO_PAGINA);
+        }
+
+        for (String estado : filtro.getEstados()) {
+            if (!SolicitudServicio.esEstadoValido(estado)) {
+                throw new ValidationException("Estado inválido: " + estado);
+            }
+        }
+
+        if (filtro.getUrgencia() != null
+                && !"normal".equals(filtro.getUrgencia()) && !"urgent".equals(filtro.getUrgencia())) {
+            throw new ValidationException("Urgencia inválida. Debe ser 'normal' o 'urgent'");
+        }
+
+        if (filtro.getDesde() != null && filtro.getHasta() != null && filtro.getDesde().isAfter(filtro.getHasta())) {
+            throw new ValidationException("La fecha 'desde' no puede ser posterior a 'hasta'");
+        }
+
+        if (cursor != null && !cursor.trim().isEmpty()) {
+            try {
+                filtro.setCursor(CursorSolicitudes.decodificar(cursor));
+            } catch (IllegalArgumentException e) {
+                throw new ValidationException("Cursor de paginación inválido");
+            }
+        }
+
+        logger.debug("Listando solicitudes de {} {} con {}",
+                     comoProfesional ? "profesional" : "cliente", usuarioId, filtro);
+        return comoProfesional
+                ? solicitudDAO.listarPaginaPorProfesional(usuarioId, filtro)
+                : solicitudDAO.listarPaginaPorCliente(usuarioId, filtro);
+    }
+
+    /**
+     * Cursor para pedir la página siguiente a la recibida, o null si era la última.
+     */
+    public String siguienteCursor(List<SolicitudResumenDTO> pagina, int limite) {
+        if (pagina.size() < limite) {
+            return null;
+        }
+        SolicitudResumenDTO ultima = pagina.get(pagina.size() - 1);
+        return CursorSolicitudes.despuesDe(ultima.getFechaSolicitud(), ultima.getId()).codificar();
+    }
+
     /**
      * Cuenta el número de solicitudes pendientes para un profesional.
      * Utilizado para mostrar badge de alertas en el dashboard.
      *
      * ACTUALIZADO 2025-12-03: Agregado para sistema de alertas del profesional
      *
+     * Lee ContadoresSolicitudes: solo consulta la BD la primera vez o al vencer la vigencia.
+     *
      * @param profesionalId ID del profesional
      * @return Número de solicitudes con estado 'pendiente'
      * @throws DatabaseException Si ocurre un error al consultar la BD
      */
     public int contarSolicitudesPendientes(Integer profesionalId) throws DatabaseException {
         logger.debug("📊 Contando solicitudes pendientes para profesional {}", profesionalId);
-        int count = solicitudDAO.contarPendientesPorProfesional(profesionalId);
+        int count = (int) contadores.contar(profesionalId, "pendiente");
         logger.info("📊 Profesional {} tiene {} solicitudes pendientes", profesionalId, count);
         return count;
     }
     
     /**
      * Cancela una solicitud.
+     *
+     * La validación de dueño y estado va en el mismo UPDATE (compare-and-set): la
+     * solicitud solo se lee si la cancelación no se aplicó, para explicar por qué.
      */
     public boolean cancelarSolicitud(Integer solicitudId, Integer clienteId) 
             throws DatabaseException, ValidationException {
         
-        // Verificar que la solicitud existe y pertenece al cliente
-        SolicitudServicio solicitud = solicitudDAO.buscarPorId(solicitudId);
-        
-        if (solicitud == null) {
-            throw new ValidationException("Solicitud no encontrada");
-        }
-        
-        if (!solicitud.getClienteId().equals(clienteId)) {
-            throw new ValidationException("No tienes permiso para cancelar esta solicitud");
-        }
-        
-        if (!solicitud.puedeSerCancelada()) {
+        // Cancelar y notificar al profesional en la misma transacción
+        SolicitudServicio cancelada = enTransaccion(conn -> {
+            SolicitudServicio fila = solicitudDAO.cancelar(conn, solicitudId, clienteId);
+            if (fila != null) {
+                colaNotificaciones.registrar(conn, TipoNotificacion.CANCELACION, fila);
+            }
+            return fila;
+        });
+
+        if (cancelada == null) {
+            SolicitudServicio solicitud = solicitudDAO.buscarPorId(solicitudId);
+
+            if (solicitud == null) {
+                throw new ValidationException("Solicitud no encontrada");
+            }
+
+            if (!solicitud.getClienteId().equals(clienteId)) {
+                throw new ValidationException("No tienes permiso para cancelar esta solicitud");
+            }
+
             throw new ValidationException(
                 "Solo se pueden cancelar solicitudes en estado 'Pendiente' o 'Aceptada'"
             );
         }
-        
-        boolean cancelada = solicitudDAO.cancelar(solicitudId, clienteId);
 
-        if (cancelada) {
-            logger.info("✓ Solicitud cancelada: {}", solicitudId);
-            // Notificar al profesional
-            try {
-                notificacionService.notificarCancelacionSolicitud(solicitud);
-            } catch (Exception e) {
-                logger.error("Error al enviar notificación de cancelación: {}", e.getMessage());
-                // No lanzar excepción, la notificación es secundaria al proceso principal
-            }
-        }
+        logger.info("✓ Solicitud cancelada: {}", solicitudId);
+        contadores.registrarCambio(cancelada.getProfesionalId(), cancelada.getEstadoAnterior(), cancelada.getEstado());
+        colaNotificaciones.avisarDespachador();
+        publicarEvento("cancelacion", cancelada);
 
-        return cancelada;
+        return true;
     }
 
     /**
      * Actualiza el estado de una solicitud (solo para profesionales).
      * Valida que la transición de estado sea permitida según las reglas de negocio.
      *
-     * REGLAS DE TRANSICIÓN:
+     * REGLAS DE TRANSICIÓN (SolicitudServicio.TRANSICIONES):
      * - PENDIENTE → ACEPTADA o RECHAZADA
      * - ACEPTADA → COMPLETADA o CANCELADA
      * - Estados finales (RECHAZADA, COMPLETADA, CANCELADA) no permiten cambios
      *
+     * El cambio es un único UPDATE condicional sobre los estados previos permitidos: si
+     * dos peticiones aceptan y rechazan a la vez, solo una encuentra la fila en 'pendiente'
+     * y la otra recibe el error de transición. La solicitud solo se lee en ese caso.
+     *
      * ACTUALIZADO 2025-12-03: Agregado para dashboard del profesional
      *
      * @param solicitudId ID de la solicitud a actualizar
      * @param profesionalId ID del profesional (debe ser el dueño de la solicitud)
      * @param nuevoEstado Nuevo estado a aplicar
-     * @return true si se actualizó correctamente, false en caso contrario
+     * @return true si se actualizó correctamente
      * @throws DatabaseException Si ocurre error en BD
      * @throws ValidationException Si la transición no es válida o el usuario no tiene permiso
      */
@@ -280,7 +395,47 @@ public class SolicitudServicioService {
 
         logger.info("🔄 Actualizando estado de solicitud {} a '{}'", solicitudId, nuevoEstado);
 
-        // ✅ PASO 1: Obtener solicitud actual
+        // ✅ PASO 1: Normalizar estado y obtener los estados desde los que se puede llegar a él
+        String nuevoEstadoNormalizado = nuevoEstado.toLowerCase();
+        List<String> estadosPrevios = SolicitudServicio.estadosPrevios(nuevoEstadoNormalizado);
+        TipoNotificacion tipoNotificacion = tipoNotificacion(nuevoEstadoNormalizado);
+
+        // ✅ PASO 2: Cambiar el estado (si el actual lo permite) y registrar la notificación en la misma transacción
+        SolicitudServicio actualizada = estadosPrevios.isEmpty() ? null : enTransaccion(conn -> {
+            SolicitudServicio fila = solicitudDAO.transicionarEstado(
+                    conn, solicitudId, profesionalId, nuevoEstadoNormalizado, estadosPrevios);
+            if (fila != null && tipoNotificacion != null) {
+                colaNotificaciones.registrar(conn, tipoNotificacion, fila);
+            }
+            return fila;
+        });
+
+        if (actualizada == null) {
+            explicarTransicionRechazada(solicitudId, profesionalId, nuevoEstado);
+        }
+
+        logger.info("✅ Estado actualizado correctamente en BD: {} → {}",
+                   actualizada.getEstadoAnterior(), nuevoEstadoNormalizado);
+        contadores.registrarCambio(profesionalId, actualizada.getEstadoAnterior(), nuevoEstadoNormalizado);
+
+        // ✅ PASO 3: Las notificaciones se entregan en segundo plano
+        if (tipoNotificacion != null) {
+            logger.debug("📧 Notificación '{}' registrada en el outbox", tipoNotificacion.getCodigo());
+            colaNotificaciones.avisarDespachador();
+        }
+
+        publicarEvento("estado", actualizada);
+
+        return true;
+    }
+
+    /**
+     * Lee la solicitud para explicar por qué no se aplicó el cambio de estado.
+     * Siempre lanza ValidationException.
+     */
+    private void explicarTransicionRechazada(Integer solicitudId, Integer profesionalId, String nuevoEstado)
+            throws DatabaseException, ValidationException {
+
         SolicitudServicio solicitud = solicitudDAO.buscarPorId(solicitudId);
 
         if (solicitud == null) {
@@ -288,75 +443,108 @@ public class SolicitudServicioService {
             throw new ValidationException("Solicitud no encontrada");
         }
 
-        logger.debug("📄 Solicitud encontrada: estado actual = '{}'", solicitud.getEstado());
-
-        // ✅ PASO 2: Validar que el profesional es el dueño de la solicitud
         if (!solicitud.getProfesionalId().equals(profesionalId)) {
             logger.warn("⚠️ Profesional {} no tiene permiso sobre solicitud {} (pertenece a profesional {})",
                        profesionalId, solicitudId, solicitud.getProfesionalId());
             throw new ValidationException("No tienes permiso para modificar esta solicitud");
         }
 
-        logger.debug("✅ Profesional {} validado como dueño de la solicitud", profesionalId);
+        logger.warn("⚠️ Transición de estado no permitida: {} → {}", solicitud.getEstado(), nuevoEstado);
+        throw new ValidationException(
+            String.format("No se puede cambiar de '%s' a '%s'. Estados permitidos: %s",
+                         solicitud.getEstado(), nuevoEstado,
+                         String.join(", ", solicitud.getEstadosDisponibles()))
+        );
+    }
 
-        // ✅ PASO 3: Normalizar estado a lowercase para validación
-        String nuevoEstadoNormalizado = nuevoEstado.toLowerCase();
+    /**
+     * Publica el cambio a las conexiones abiertas del profesional y del cliente y, si el
+     * profesional está conectado, su nuevo conteo de pendientes (evento "pendientes").
+     * Se llama después del commit; un fallo aquí no afecta a la operación.
+     */
+    private void publicarEvento(String evento, SolicitudServicio solicitud) {
+        Map<String, Object> datos = new HashMap<>();
+        datos.put("solicitudId", solicitud.getId());
+        datos.put("estado", solicitud.getEstado());
+        datos.put("profesionalId", solicitud.getProfesionalId());
+        datos.put("clienteId", solicitud.getClienteId());
+
+        String destinoProfesional = EventosSolicitudes.destinoProfesional(solicitud.getProfesionalId());
+        eventos.publicar(destinoProfesional, evento, datos);
+        eventos.publicar(EventosSolicitudes.destinoCliente(solicitud.getClienteId()), evento, datos);
+
+        if (eventos.tieneSuscriptores(destinoProfesional)) {
+            try {
+                int pendientes = (int) contadores.contar(solicitud.getProfesionalId(), "pendiente");
+                Map<String, Object> conteo = new HashMap<>();
+                conteo.put("count", pendientes);
+                conteo.put("profesionalId", solicitud.getProfesionalId());
+                eventos.publicar(destinoProfesional, "pendientes", conteo);
+            } catch (DatabaseException e) {
+                logger.warn("⚠️ No se pudo publicar el conteo de pendientes: {}", e.getMessage());
+            }
+        }
+    }
 
-        // ✅ PASO 4: Validar transición de estado usando método del modelo
-        if (!solicitud.puedeTransicionarA(nuevoEstadoNormalizado)) {
-            logger.warn("⚠️ Transición de estado no permitida: {} → {}",
-                       solicitud.getEstado(), nuevoEstado);
-            List<String> estadosPermitidos = solicitud.getEstadosDisponibles();
-            throw new ValidationException(
-                String.format("No se puede cambiar de '%s' a '%s'. Estados permitidos: %s",
-                             solicitud.getEstado(), nuevoEstado,
-                             String.join(", ", estadosPermitidos))
-            );
+    /**
+     * Notificación que corresponde a un cambio de estado hecho por el profesional.
+     *
+     * @return El tipo de notificación, o null si el estado no notifica
+     *         ('completada' aún no tiene notificación; 'cancelada' la registra cancelarSolicitud())
+     */
+    private TipoNotificacion tipoNotificacion(String nuevoEstado) {
+        switch (nuevoEstado) {
+            case "aceptada":
+                return TipoNotificacion.ACEPTACION;
+            case "rechazada":
+                return TipoNotificacion.RECHAZO;
+            default:
+                return null;
         }
+    }
+
+    /**
+     * Ejecuta la operación en una transacción: commit si termina bien, rollback si lanza.
+     */
+    private <T> T enTransaccion(OperacionTransaccional<T> operacion) throws DatabaseException {
+        Connection conn = null;
+        try {
+            conn = DatabaseConnection.getConnection();
+            conn.setAutoCommit(false);
 
-        logger.info("✅ Transición de estado validada: {} → {}", solicitud.getEstado(), nuevoEstado);
+            T resultado = operacion.ejecutar(conn);
 
-        // ✅ PASO 5: Actualizar estado en BD
-        boolean actualizado = solicitudDAO.actualizarEstado(solicitudId, nuevoEstadoNormalizado);
+            conn.commit();
+            return resultado;
 
-        if (!actualizado) {
-            logger.error("❌ No se pudo actualizar el estado en BD");
-            throw new DatabaseException("Error al actualizar el estado de la solicitud");
-        }
+        } catch (SQLException e) {
+            rollback(conn);
+            throw new DatabaseException("Error en la transacción de la solicitud: " + e.getMessage(), e);
 
-        logger.info("✅ Estado actualizado correctamente en BD: {} → {}", solicitud.getEstado(), nuevoEstado);
+        } catch (DatabaseException | RuntimeException e) {
+            rollback(conn);
+            throw e;
 
-        // ✅ PASO 6: Enviar notificaciones según el nuevo estado
-        try {
-            switch (nuevoEstadoNormalizado) {
-                case "aceptada":
-                    logger.debug("📧 Enviando notificación de aceptación");
-                    notificacionService.notificarAceptacionSolicitud(solicitud);
-                    break;
-
-                case "rechazada":
-                    logger.debug("📧 Enviando notificación de rechazo");
-                    notificacionService.notificarRechazoSolicitud(solicitud);
-                    break;
-
-                case "completada":
-                    logger.debug("📧 Notificación de completado (pendiente de implementar)");
-                    // TODO v2.0: notificacionService.notificarCompletadoSolicitud(solicitud);
-                    break;
-
-                case "cancelada":
-                    logger.debug("📧 Notificación de cancelación ya manejada en cancelarSolicitud()");
-                    break;
-
-                default:
-                    logger.debug("ℹ️ Estado '{}' no requiere notificación especial", nuevoEstadoNormalizado);
+        } finally {
+            if (conn != null) {
+                try {
+                    conn.close();
+                } catch (SQLException e) {
+                    logger.error("Error al cerrar la conexión", e);
+                }
             }
-        } catch (Exception e) {
-            logger.error("❌ Error al enviar notificación: {}", e.getMessage());
-            // No lanzar excepción, la notificación es secundaria al proceso principal
         }
+    }
 
-        return true;
+    private void rollback(Connection conn) {
+        if (conn != null) {
+            try {
+                conn.rollback();
+                logger.info("Rollback ejecutado correctamente");
+            } catch (SQLException rollbackEx) {
+                logger.error("Error al hacer rollback", rollbackEx);
+            }
+        }
     }
 
     /**
@@ -473,23 +661,19 @@ public class SolicitudServicioService {
     
    
     /**
-     * Procesa fotos en base64 y retorna URLs.
-     * En un caso real, guardaría en S3/Azure Blob/filesystem y retornaría URLs reales.
+     * Guarda las fotos en base64 y retorna sus URLs.
+     * Una foto repetida (mismo contenido) reutiliza el archivo ya guardado; si la
+     * solicitud no llega a crearse, las fotos quedan guardadas sin referencias.
      */
-    private List<String> procesarFotos(List<String> fotosBase64, Integer clienteId) {
-        List<String> urls = new ArrayList<>();
-        
-        for (int i = 0; i < fotosBase64.size(); i++) {
-            // Simulación: en producción, guardar en almacenamiento y obtener URL
-            String url = String.format("/uploads/solicitudes/%d/foto_%d_%d.jpg", 
-                                      clienteId, 
-                                      System.currentTimeMillis(), 
-                                      i);
-            urls.add(url);
-            
-            logger.debug("Foto procesada: {}", url);
+    private List<String> procesarFotos(List<String> fotosBase64, Integer clienteId)
+            throws ValidationException, DatabaseException {
+        try {
+            List<String> urls = ProcesadorFotos.getInstancia().procesar(fotosBase64);
+            logger.debug("📷 {} foto(s) guardadas para cliente {}", urls.size(), clienteId);
+            return urls;
+        } catch (IOException e) {
+            logger.error("❌ Error al guardar fotos de cliente {}", clienteId, e);
+            throw new DatabaseException("ERROR_GUARDAR_FOTOS", "No se pudieron guardar las fotos", e);
         }
-        
-        return urls;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,350 @@
+package com.contactoprofesionales.util;
+
+import com.contactoprofesionales.dto.PerfilProfesionalCompletoDTO;
+import com.contactoprofesionales.dto.ProfesionalBusquedaDTO;
+import com.contactoprofesionales.dto.ProfesionalDTO;
+import com.contactoprofesionales.dto.SolicitudDetalleDTO;
+import com.contactoprofesionales.model.AntecedenteProfesional;
+import com.contactoprofesionales.model.CertificacionProfesional;
+import com.contactoprofesionales.model.EspecialidadProfesional;
+import com.contactoprofesionales.model.ProyectoPortafolio;
+import com.contactoprofesionales.model.RedSocialProfesional;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * TypeAdapters escritos a mano para los DTOs que más se serializan
+ * (resultados de búsqueda, perfiles y solicitudes).
+ *
+ * La escritura usa los getters directamente: sin reflexión por campo, los nulos se
+ * omiten con un simple if (igual que Gson sin serializeNulls) y LocalDateTime se escribe
+ * con un formateador cacheado. El JSON resultante es el mismo que el del adaptador
+ * reflexivo (mismos nombres de campo y formatos); AdaptadoresJsonDTOTest lo verifica.
+ *
+ * La lectura (fromJson) se delega al adaptador reflexivo de Gson, así que estos
+ * DTOs se siguen deserializando igual que antes.
+ *
+ * IMPORTANTE: al agregar un campo a uno de estos DTOs, agregarlo también aquí.
+ */
+public class AdaptadoresJsonDTO implements TypeAdapterFactory {
+
+    private static final DateTimeFormatter FORMATO_FECHA_HORA = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
+    private static final TypeToken<List<String>> LISTA_TEXTO = new TypeToken<List<String>>() {};
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+        Class<? super T> clase = type.getRawType();
+        if (clase != ProfesionalBusquedaDTO.class && clase != ProfesionalDTO.class
+                && clase != SolicitudDetalleDTO.class && clase != PerfilProfesionalCompletoDTO.class) {
+            return null;
+        }
+
+        TypeAdapter<T> reflexivo = gson.getDelegateAdapter(this, type);
+
+        if (clase == ProfesionalBusquedaDTO.class) {
+            return (TypeAdapter<T>) new ProfesionalBusquedaAdapter(
+                    gson, (TypeAdapter<ProfesionalBusquedaDTO>) reflexivo);
+        }
+        if (clase == ProfesionalDTO.class) {
+            return (TypeAdapter<T>) new ProfesionalAdapter(
+                    gson, (TypeAdapter<ProfesionalDTO>) reflexivo);
+        }
+        if (clase == SolicitudDetalleDTO.class) {
+            return (TypeAdapter<T>) new SolicitudDetalleAdapter(
+                    gson, (TypeAdapter<SolicitudDetalleDTO>) reflexivo);
+        }
+        return (TypeAdapter<T>) new PerfilProfesionalCompletoAdapter(
+                gson, (TypeAdapter<PerfilProfesionalCompletoDTO>) reflexivo);
+    }
+
+    // ========================================================================
+    // Base: escritura de campos sin reflexión
+    // ========================================================================
+
+    private abstract static class AdaptadorDTO<T> extends TypeAdapter<T> {
+
+        private final TypeAdapter<T> reflexivo;
+
+        AdaptadorDTO(TypeAdapter<T> reflexivo) {
+            this.reflexivo = reflexivo;
+        }
+
+        @Override
+        public final void write(JsonWriter out, T valor) throws IOException {
+            if (valor == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            escribirCampos(out, valor);
+            out.endObject();
+        }
+
+        @Override
+        public final T read(JsonReader in) throws IOException {
+            return reflexivo.read(in);
+        }
+
+        abstract void escribirCampos(JsonWriter out, T valor) throws IOException;
+
+        static void campo(JsonWriter out, String nombre, String valor) throws IOException {
+            if (valor != null) {
+                out.name(nombre).value(valor);
+            } else if (out.getSerializeNulls()) {
+                out.name(nombre).nullValue();
+            }
+        }
+
+        static void campo(JsonWriter out, String nombre, Integer valor) throws IOException {
+            if (valor != null) {
+                out.name(nombre).value(valor.longValue());
+            } else if (out.getSerializeNulls()) {
+                out.name(nombre).nullValue();
+            }
+        }
+
+        static void campo(JsonWriter out, String nombre, Double valor) throws IOException {
+            if (valor != null) {
+                out.name(nombre).value(valor.doubleValue());
+            } else if (out.getSerializeNulls()) {
+                out.name(nombre).nullValue();
+            }
+        }
+
+        static void campo(JsonWriter out, String nombre, BigDecimal valor) throws IOException {
+            if (valor != null) {
+                out.name(nombre).value(valor);
+            } else if (out.getSerializeNulls()) {
+                out.name(nombre).nullValue();
+            }
+        }
+
+        static void campo(JsonWriter out, String nombre, Boolean valor) throws IOException {
+            if (valor != null) {
+                out.name(nombre).value(valor.booleanValue());
+            } else if (out.getSerializeNulls()) {
+                out.name(nombre).nullValue();
+            }
+        }
+
+        static void campo(JsonWriter out, String nombre, boolean valor) throws IOException {
+            out.name(nombre).value(valor);
+        }
+
+        static void campo(JsonWriter out, String nombre, LocalDateTime valor) throws IOException {
+            if (valor != null) {
+                out.name(nombre).value(FORMATO_FECHA_HORA.format(valor));
+            } else if (out.getSerializeNulls()) {
+                out.name(nombre).nullValue();
+            }
+        }
+
+        static <V> void campo(JsonWriter out, String nombre, V valor, TypeAdapter<V> adaptador)
+                throws IOException {
+            if (valor != null) {
+                out.name(nombre);
+                adaptador.write(out, valor);
+            } else if (out.getSerializeNulls()) {
+                out.name(nombre).nullValue();
+            }
+        }
+    }
+
+    // ========================================================================
+    // ProfesionalBusquedaDTO (tarjetas de búsqueda)
+    // ========================================================================
+
+    private static final class ProfesionalBusquedaAdapter extends AdaptadorDTO<ProfesionalBusquedaDTO> {
+
+        private final TypeAdapter<List<String>> listaTexto;
+
+        ProfesionalBusquedaAdapter(Gson gson, TypeAdapter<ProfesionalBusquedaDTO> reflexivo) {
+            super(reflexivo);
+            this.listaTexto = gson.getAdapter(LISTA_TEXTO);
+        }
+
+        @Override
+        void escribirCampos(JsonWriter out, ProfesionalBusquedaDTO p) throws IOException {
+            campo(out, "id", p.getId());
+            campo(out, "nombreCompleto", p.getNombreCompleto());
+            campo(out, "especialidadId", p.getEspecialidadId());
+            campo(out, "especialidad", p.getEspecialidad());
+            campo(out, "descripcionCorta", p.getDescripcionCorta());
+            campo(out, "experiencia", p.getExperiencia());
+            campo(out, "habilidadesDestacadas", p.getHabilidadesDestacadas(), listaTexto);
+            campo(out, "fotoPerfil", p.getFotoPerfil());
+            campo(out, "tarifaHora", p.getTarifaHora());
+            campo(out, "calificacionPromedio", p.getCalificacionPromedio());
+            campo(out, "totalResenas", p.getTotalResenas());
+            campo(out, "distrito", p.getDistrito());
+            campo(out, "radioServicio", p.getRadioServicio());
+            campo(out, "distanciaKm", p.getDistanciaKm());
+            campo(out, "disponible", p.getDisponible());
+            campo(out, "verificado", p.getVerificado());
+            campo(out, "telefono", p.getTelefono());
+        }
+    }
+
+    // ========================================================================
+    // ProfesionalDTO
+    // ========================================================================
+
+    private static final class ProfesionalAdapter extends AdaptadorDTO<ProfesionalDTO> {
+
+        private final TypeAdapter<List<String>> listaTexto;
+
+        ProfesionalAdapter(Gson gson, TypeAdapter<ProfesionalDTO> reflexivo) {
+            super(reflexivo);
+            this.listaTexto = gson.getAdapter(LISTA_TEXTO);
+        }
+
+        @Override
+        void escribirCampos(JsonWriter out, ProfesionalDTO p) throws IOException {
+            campo(out, "id", p.getId());
+            campo(out, "nombreCompleto", p.getNombreCompleto());
+            campo(out, "email", p.getEmail());
+            campo(out, "telefono", p.getTelefono());
+            campo(out, "especialidad", p.getEspecialidad());
+            campo(out, "descripcion", p.getDescripcion());
+            campo(out, "experiencia", p.getExperiencia());
+            campo(out, "habilidades", p.getHabilidades(), listaTexto);
+            campo(out, "certificaciones", p.getCertificaciones(), listaTexto);
+            campo(out, "fotoPerfil", p.getFotoPerfil());
+            campo(out, "fotoPortada", p.getFotoPortada());
+            campo(out, "portafolio", p.getPortafolio(), listaTexto);
+            campo(out, "tarifaHora", p.getTarifaHora());
+            campo(out, "calificacionPromedio", p.getCalificacionPromedio());
+            campo(out, "totalResenas", p.getTotalResenas());
+            campo(out, "ubicacion", p.getUbicacion());
+            campo(out, "distrito", p.getDistrito());
+            campo(out, "radioServicio", p.getRadioServicio());
+            campo(out, "disponibilidad", p.getDisponibilidad());
+            campo(out, "verificado", p.isVerificado());
+            campo(out, "disponible", p.isDisponible());
+            campo(out, "fechaRegistro", p.getFechaRegistro());
+        }
+    }
+
+    // ========================================================================
+    // SolicitudDetalleDTO
+    // ========================================================================
+
+    private static final class SolicitudDetalleAdapter extends AdaptadorDTO<SolicitudDetalleDTO> {
+
+        private final TypeAdapter<List<String>> listaTexto;
+
+        SolicitudDetalleAdapter(Gson gson, TypeAdapter<SolicitudDetalleDTO> reflexivo) {
+            super(reflexivo);
+            this.listaTexto = gson.getAdapter(LISTA_TEXTO);
+        }
+
+        @Override
+        void escribirCampos(JsonWriter out, SolicitudDetalleDTO s) throws IOException {
+            campo(out, "id", s.getId());
+            campo(out, "clienteId", s.getClienteId());
+            campo(out, "profesionalId", s.getProfesionalId());
+            campo(out, "descripcion", s.getDescripcion());
+            campo(out, "presupuestoEstimado", s.getPresupuestoEstimado());
+            campo(out, "direccion", s.getDireccion());
+            campo(out, "codigoPostal", s.getCodigoPostal());
+            campo(out, "referencia", s.getReferencia());
+            campo(out, "fechaServicio", s.getFechaServicio());
+            campo(out, "urgencia", s.getUrgencia());
+            campo(out, "notasAdicionales", s.getNotasAdicionales());
+            campo(out, "estado", s.getEstado());
+            campo(out, "fechaSolicitud", s.getFechaSolicitud());
+            campo(out, "fechaRespuesta", s.getFechaRespuesta());
+            campo(out, "fechaActualizacion", s.getFechaActualizacion());
+            campo(out, "activo", s.isActivo());
+            campo(out, "clienteNombreCompleto", s.getClienteNombreCompleto());
+            campo(out, "clienteEmail", s.getClienteEmail());
+            campo(out, "clienteTelefono", s.getClienteTelefono());
+            campo(out, "departamentoNombre", s.getDepartamentoNombre());
+            campo(out, "provinciaNombre", s.getProvinciaNombre());
+            campo(out, "distritoNombre", s.getDistritoNombre());
+            campo(out, "tipoPrestacion", s.getTipoPrestacion());
+            campo(out, "especialidadId", s.getEspecialidadId());
+            campo(out, "fotosUrls", s.getFotosUrls(), listaTexto);
+        }
+    }
+
+    // ========================================================================
+    // PerfilProfesionalCompletoDTO
+    // ========================================================================
+
+    /**
+     * Los datos básicos se escriben a mano; las secciones (certificaciones, proyectos...)
+     * usan los adaptadores que Gson tenga para cada modelo, obtenidos una sola vez.
+     */
+    private static final class PerfilProfesionalCompletoAdapter extends AdaptadorDTO<PerfilProfesionalCompletoDTO> {
+
+        private final TypeAdapter<List<String>> listaTexto;
+        private final TypeAdapter<String[]> arregloTexto;
+        private final TypeAdapter<List<CertificacionProfesional>> certificaciones;
+        private final TypeAdapter<List<ProyectoPortafolio>> proyectos;
+        private final TypeAdapter<List<AntecedenteProfesional>> antecedentes;
+        private final TypeAdapter<List<RedSocialProfesional>> redesSociales;
+        private final TypeAdapter<List<EspecialidadProfesional>> especialidades;
+
+        PerfilProfesionalCompletoAdapter(Gson gson, TypeAdapter<PerfilProfesionalCompletoDTO> reflexivo) {
+            super(reflexivo);
+            this.listaTexto = gson.getAdapter(LISTA_TEXTO);
+            this.arregloTexto = gson.getAdapter(String[].class);
+            this.certificaciones = gson.getAdapter(new TypeToken<List<CertificacionProfesional>>() {});
+            this.proyectos = gson.getAdapter(new TypeToken<List<ProyectoPortafolio>>() {});
+            this.antecedentes = gson.getAdapter(new TypeToken<List<AntecedenteProfesional>>() {});
+            this.redesSociales = gson.getAdapter(new TypeToken<List<RedSocialProfesional>>() {});
+            this.especialidades = gson.getAdapter(new TypeToken<List<EspecialidadProfesional>>() {});
+        }
+
+        @Override
+        void escribirCampos(JsonWriter out, PerfilProfesionalCompletoDTO p) throws IOException {
+            campo(out, "id", p.getId());
+            campo(out, "usuarioId", p.getUsuarioId());
+            campo(out, "nombreCompleto", p.getNombreCompleto());
+            campo(out, "email", p.getEmail());
+            campo(out, "telefono", p.getTelefono());
+            campo(out, "documentoIdentidad", p.getDocumentoIdentidad());
+            campo(out, "biografiaProfesional", p.getBiografiaProfesional());
+            campo(out, "descripcion", p.getDescripcion());
+            campo(out, "experiencia", p.getExperiencia());
+            campo(out, "aniosExperiencia", p.getAniosExperiencia());
+            campo(out, "habilidades", p.getHabilidades(), listaTexto);
+            campo(out, "idiomas", p.getIdiomas(), arregloTexto);
+            campo(out, "licenciasProfesionales", p.getLicenciasProfesionales());
+            campo(out, "seguroResponsabilidad", p.getSeguroResponsabilidad());
+            campo(out, "metodosPago", p.getMetodosPago(), arregloTexto);
+            campo(out, "politicaCancelacion", p.getPoliticaCancelacion());
+            campo(out, "fotoPerfil", p.getFotoPerfil());
+            campo(out, "fotoPortada", p.getFotoPortada());
+            campo(out, "tarifaHora", p.getTarifaHora());
+            campo(out, "calificacionPromedio", p.getCalificacionPromedio());
+            campo(out, "totalResenas", p.getTotalResenas());
+            campo(out, "puntuacionPlataforma", p.getPuntuacionPlataforma());
+            campo(out, "verificado", p.getVerificado());
+            campo(out, "verificacionIdentidad", p.getVerificacionIdentidad());
+            campo(out, "certificadoAntecedentes", p.getCertificadoAntecedentes());
+            campo(out, "disponible", p.getDisponible());
+            campo(out, "fechaRegistro", p.getFechaRegistro());
+            campo(out, "ultimaActualizacion", p.getUltimaActualizacion());
+            campo(out, "certificaciones", p.getCertificaciones(), certificaciones);
+            campo(out, "proyectos", p.getProyectos(), proyectos);
+            campo(out, "antecedentes", p.getAntecedentes(), antecedentes);
+            campo(out, "antecedentesVerificados", p.getAntecedentesVerificados());
+            campo(out, "redesSociales", p.getRedesSociales(), redesSociales);
+            campo(out, "especialidades", p.getEspecialidades(), especialidades);
+        }
+    }
+}
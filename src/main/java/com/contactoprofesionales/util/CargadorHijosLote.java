@@ -0,0 +1,105 @@
+package com.contactoprofesionales.util;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Carga en lote las filas hijas de un conjunto de padres (imágenes de proyectos,
+ * documentos de certificaciones, etc.) para evitar el patrón N+1.
+ *
+ * En lugar de una consulta por padre, se ejecuta una sola consulta con
+ * "WHERE columna_padre = ANY(?)" y las filas se agrupan en memoria por el ID del padre,
+ * conservando el orden que define el ORDER BY de la consulta.
+ *
+ * Uso típico en un DAO:
+ * <pre>
+ *   Map&lt;Integer, List&lt;Hijo&gt;&gt; hijos = CargadorHijosLote.cargar(conn, SQL, "padre_id", ids, this::mapear);
+ *   CargadorHijosLote.asignar(padres, Padre::getId, hijos, Padre::setHijos);
+ * </pre>
+ */
+public final class CargadorHijosLote {
+
+    /**
+     * Mapea la fila actual del ResultSet a un objeto.
+     */
+    @FunctionalInterface
+    public interface MapeadorFila<T> {
+        T mapear(ResultSet rs) throws SQLException;
+    }
+
+    private CargadorHijosLote() {
+    }
+
+    /**
+     * Ejecuta la consulta de hijos para todos los IDs de padre en un solo viaje a la BD.
+     *
+     * @param conn conexión a usar (no se cierra)
+     * @param sql consulta con un único parámetro "= ANY(?)" para los IDs de padre
+     * @param columnaPadre columna del ResultSet con el ID del padre
+     * @param idsPadres IDs de padre (se ignoran nulos y duplicados)
+     * @param mapeador mapeo de cada fila hija
+     * @return mapa ID de padre → hijos en el orden de la consulta; sin entradas para padres sin hijos
+     * @throws SQLException si hay error en la consulta
+     */
+    public static <T> Map<Integer, List<T>> cargar(Connection conn, String sql, String columnaPadre,
+                                                    Collection<Integer> idsPadres,
+                                                    MapeadorFila<T> mapeador) throws SQLException {
+        Set<Integer> ids = new LinkedHashSet<>();
+        for (Integer id : idsPadres) {
+            if (id != null) {
+                ids.add(id);
+            }
+        }
+        if (ids.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Map<Integer, List<T>> hijos = new LinkedHashMap<>();
+        Array arregloIds = conn.createArrayOf("integer", ids.toArray(new Integer[0]));
+
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setArray(1, arregloIds);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    int idPadre = rs.getInt(columnaPadre);
+                    hijos.computeIfAbsent(idPadre, k -> new ArrayList<>()).add(mapeador.mapear(rs));
+                }
+            }
+        } finally {
+            arregloIds.free();
+        }
+
+        return hijos;
+    }
+
+    /**
+     * Asigna a cada padre su lista de hijos; los padres sin hijos reciben una lista vacía.
+     *
+     * @param padres padres a completar
+     * @param idPadre extractor del ID del padre
+     * @param hijos resultado de {@link #cargar}
+     * @param asignador setter de la colección de hijos en el padre
+     */
+    public static <P, T> void asignar(List<P> padres, Function<P, Integer> idPadre,
+                                      Map<Integer, List<T>> hijos,
+                                      BiConsumer<P, List<T>> asignador) {
+        for (P padre : padres) {
+            List<T> lista = hijos.get(idPadre.apply(padre));
+            asignador.accept(padre, lista != null ? lista : new ArrayList<>());
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.contactoprofesionales.util;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Cursor opaco para paginación por posición (keyset) de listados de profesionales.
+ *
+ * Guarda la clave de orden del último elemento entregado (calificación, reseñas, id)
+ * en el mismo orden que las consultas: calificacion_promedio DESC, total_resenas DESC,
+ * id DESC. La página siguiente empieza justo después de esa clave, así que su costo no
+ * depende de la profundidad y los resultados no se desplazan si cambian calificaciones.
+ *
+ * El token es Base64 URL-safe de "v1:calificacion:resenas:id".
+ */
+public final class CursorPaginacion {
+
+    private static final String VERSION = "v1";
+
+    private final BigDecimal calificacion;
+    private final int totalResenas;
+    private final int id;
+
+    private CursorPaginacion(BigDecimal calificacion, int totalResenas, int id) {
+        this.calificacion = calificacion;
+        this.totalResenas = totalResenas;
+        this.id = id;
+    }
+
+    /**
+     * Crea el cursor que apunta justo después del elemento con esta clave de orden.
+     */
+    public static CursorPaginacion despuesDe(Double calificacion, Integer totalResenas, Integer id) {
+        if (id == null) {
+            throw new IllegalArgumentException("El cursor requiere el ID del último elemento");
+        }
+        return new CursorPaginacion(
+            BigDecimal.valueOf(calificacion != null ? calificacion : 0.0),
+            totalResenas != null ? totalResenas : 0,
+            id
+        );
+    }
+
+    /**
+     * Decodifica un token recibido del cliente.
+     *
+     * @throws IllegalArgumentException si el token no es válido
+     */
+    public static CursorPaginacion decodificar(String token) {
+        if (token == null || token.trim().isEmpty()) {
+            throw new IllegalArgumentException("Cursor vacío");
+        }
+
+        try {
+            String texto = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+            String[] partes = texto.split(":");
+
+            if (partes.length != 4 || !VERSION.equals(partes[0])) {
+                throw new IllegalArgumentException("Cursor con formato no reconocido");
+            }
+
+            return new CursorPaginacion(
+                new BigDecimal(partes[1]),
+                Integer.parseInt(partes[2]),
+                Integer.parseInt(partes[3])
+            );
+
+        } catch (IllegalArgumentException e) {
+            // NumberFormatException y errores de Base64 también son IllegalArgumentException
+            throw new IllegalArgumentException("Cursor de paginación inválido", e);
+        }
+    }
+
+    /**
+     * Codifica el cursor como token opaco para el cliente.
+     */
+    public String codificar() {
+        String texto = VERSION + ":" + calificacion.toPlainString() + ":" + totalResenas + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(texto.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Indica si un elemento con esta clave de orden va después del cursor
+     * (es decir, pertenece a las páginas siguientes).
+     */
+    public boolean precedeA(double calificacionElemento, int totalResenasElemento, int idElemento) {
+        int comparacion = BigDecimal.valueOf(calificacionElemento).compareTo(calificacion);
+        if (comparacion != 0) {
+            return comparacion < 0;
+        }
+        if (totalResenasElemento != totalResenas) {
+            return totalResenasElemento < totalResenas;
+        }
+        return idElemento < id;
+    }
+
+    public BigDecimal getCalificacion() {
+        return calificacion;
+    }
+
+    public int getTotalResenas() {
+        return totalResenas;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    @Override
+    public String toString() {
+        return "CursorPaginacion{" +
+                "calificacion=" + calificacion +
+                ", totalResenas=" + totalResenas +
+                ", id=" + id +
+                '}';
+    }
+}
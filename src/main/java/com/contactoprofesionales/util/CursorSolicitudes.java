@@ -0,0 +1,95 @@
+package com.contactoprofesionales.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+/**
+ * Cursor opaco para paginación por posición (keyset) de listados de solicitudes.
+ *
+ * Guarda la clave de orden de la última solicitud entregada (fecha_solicitud, id) en el
+ * mismo orden que las consultas: fecha_solicitud DESC, id DESC. Igual que
+ * {@link CursorPaginacion}, la página siguiente empieza justo después de esa clave y las
+ * solicitudes nuevas no desplazan las páginas ya entregadas.
+ *
+ * El token es Base64 URL-safe de "v1:segundos:nanos:id" (fecha sin zona, tomada como UTC
+ * solo para codificarla).
+ */
+public final class CursorSolicitudes {
+
+    private static final String VERSION = "v1";
+
+    private final LocalDateTime fechaSolicitud;
+    private final int id;
+
+    private CursorSolicitudes(LocalDateTime fechaSolicitud, int id) {
+        this.fechaSolicitud = fechaSolicitud;
+        this.id = id;
+    }
+
+    /**
+     * Crea el cursor que apunta justo después de la solicitud con esta clave de orden.
+     */
+    public static CursorSolicitudes despuesDe(LocalDateTime fechaSolicitud, Integer id) {
+        if (fechaSolicitud == null || id == null) {
+            throw new IllegalArgumentException("El cursor requiere la fecha y el ID de la última solicitud");
+        }
+        return new CursorSolicitudes(fechaSolicitud, id);
+    }
+
+    /**
+     * Decodifica un token recibido del cliente.
+     *
+     * @throws IllegalArgumentException si el token no es válido
+     */
+    public static CursorSolicitudes decodificar(String token) {
+        if (token == null || token.trim().isEmpty()) {
+            throw new IllegalArgumentException("Cursor vacío");
+        }
+
+        try {
+            String texto = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+            String[] partes = texto.split(":");
+
+            if (partes.length != 4 || !VERSION.equals(partes[0])) {
+                throw new IllegalArgumentException("Cursor con formato no reconocido");
+            }
+
+            LocalDateTime fecha = LocalDateTime.ofEpochSecond(
+                Long.parseLong(partes[1]), Integer.parseInt(partes[2]), ZoneOffset.UTC);
+            return new CursorSolicitudes(fecha, Integer.parseInt(partes[3]));
+
+        } catch (IllegalArgumentException | DateTimeException e) {
+            // NumberFormatException y errores de Base64 también son IllegalArgumentException
+            throw new IllegalArgumentException("Cursor de paginación inválido", e);
+        }
+    }
+
+    /**
+     * Codifica el cursor como token opaco para el cliente.
+     */
+    public String codificar() {
+        String texto = VERSION + ":" + fechaSolicitud.toEpochSecond(ZoneOffset.UTC)
+                + ":" + fechaSolicitud.getNano() + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(texto.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime getFechaSolicitud() {
+        return fechaSolicitud;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    @Override
+    public String toString() {
+        return "CursorSolicitudes{" +
+                "fechaSolicitud=" + fechaSolicitud +
+                ", id=" + id +
+                '}';
+    }
+}
@@ -1,5 +1,8 @@
 package com.contactoprofesionales.util;
 
+import com.contactoprofesionales.metricas.ConexionInstrumentada;
+import com.contactoprofesionales.metricas.MetricasConsultas;
+import com.contactoprofesionales.metricas.MetricasPoolConexiones;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
 import org.slf4j.Logger;
@@ -21,6 +24,11 @@ public class DatabaseConnection {
     
     private static final Logger logger = LoggerFactory.getLogger(DatabaseConnection.class);
     private static HikariDataSource dataSource;
+
+    /** Propiedad del sistema para desactivar la medición por consulta (true por defecto). */
+    public static final String PROPIEDAD_INSTRUMENTAR = "contactoprofesionales.jdbc.instrumentar";
+    private static final boolean INSTRUMENTAR =
+        Boolean.parseBoolean(System.getProperty(PROPIEDAD_INSTRUMENTAR, "true"));
     
     static {
         try {
@@ -57,6 +65,9 @@ public class DatabaseConnection {
         config.addDataSourceProperty("cachePrepStmts", "true");
         config.addDataSourceProperty("prepStmtCacheSize", "250");
         config.addDataSourceProperty("prepStmtCacheSqlLimit", "2048");
+
+        // Métricas del pool (espera por conexión, uso, timeouts) para /metrics
+        config.setMetricsTrackerFactory(MetricasPoolConexiones.getInstancia());
         
         dataSource = new HikariDataSource(config);
         logger.info("✓ Pool de conexiones HikariCP inicializado correctamente");
@@ -90,6 +101,8 @@ public class DatabaseConnection {
     
     /**
      * Obtiene una conexión del pool.
+     * La conexión se envuelve con ConexionInstrumentada para medir cada consulta por método DAO
+     * (ver /metrics/consultas), salvo que contactoprofesionales.jdbc.instrumentar=false.
      * 
      * @return Connection objeto de conexión a la base de datos
      * @throws SQLException si ocurre un error al obtener la conexión
@@ -98,7 +111,10 @@ public class DatabaseConnection {
         if (dataSource == null) {
             throw new SQLException("El pool de conexiones no está inicializado");
         }
-        return dataSource.getConnection();
+        Connection conexion = dataSource.getConnection();
+        return INSTRUMENTAR
+            ? ConexionInstrumentada.envolver(conexion, MetricasConsultas.getInstancia())
+            : conexion;
     }
     
     /**
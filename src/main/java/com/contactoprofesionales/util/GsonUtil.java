@@ -13,29 +13,62 @@ import com.google.gson.JsonParseException;
 import java.lang.reflect.Type;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 
 /**
  * Utilidad para crear instancias de Gson configuradas
  * con soporte para LocalDateTime y otras necesidades del proyecto.
+ *
+ * Gson es inmutable y thread-safe, así que toda la aplicación comparte una sola
+ * instancia con los adaptadores registrados una vez. La salida es compacta; el
+ * formato legible (pretty printing) solo se activa en modo depuración con
+ * -Dcontactoprofesionales.json.pretty=true.
+ *
+ * Los DTOs más serializados usan TypeAdapters escritos a mano (AdaptadoresJsonDTO)
+ * en lugar del adaptador reflexivo.
  */
 public class GsonUtil {
 
-    // ✅ Formateadores para LocalDateTime y LocalDate
+    /** Propiedad del sistema que activa el JSON con sangría (solo depuración). */
+    public static final String PROPIEDAD_JSON_LEGIBLE = "contactoprofesionales.json.pretty";
+
+    // ✅ Formateadores para LocalDateTime, LocalDate y LocalTime
     private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE;
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ISO_LOCAL_TIME;
+
+    private static final Gson GSON = construir(Boolean.getBoolean(PROPIEDAD_JSON_LEGIBLE), true);
 
     /**
-     * Obtiene una instancia de Gson configurada para el proyecto.
-     * Incluye adaptadores para LocalDateTime y LocalDate.
+     * Obtiene la instancia de Gson compartida por el proyecto.
+     * Incluye adaptadores para LocalDateTime, LocalDate y LocalTime.
      */
     public static Gson createGson() {
-        return new GsonBuilder()
+        return GSON;
+    }
+
+    /**
+     * Gson con la misma configuración pero sin los adaptadores de {@link AdaptadoresJsonDTO}
+     * (todo por reflexión). Solo para pruebas y benchmarks de serialización.
+     */
+    public static Gson createGsonReflexivo() {
+        return construir(false, false);
+    }
+
+    private static Gson construir(boolean legible, boolean adaptadoresDTO) {
+        GsonBuilder builder = new GsonBuilder()
                 .registerTypeAdapter(LocalDateTime.class, new LocalDateTimeAdapter())  // ✅ Para LocalDateTime
                 .registerTypeAdapter(LocalDate.class, new LocalDateAdapter())          // ✅ Para LocalDate
-                .setDateFormat("yyyy-MM-dd'T'HH:mm:ss")
-                .setPrettyPrinting() // Opcional: para JSON más legible
-                .create();
+                .registerTypeAdapter(LocalTime.class, new LocalTimeAdapter())          // ✅ Para LocalTime
+                .setDateFormat("yyyy-MM-dd'T'HH:mm:ss");
+        if (adaptadoresDTO) {
+            builder.registerTypeAdapterFactory(new AdaptadoresJsonDTO());  // ✅ DTOs de búsqueda, perfil y solicitudes
+        }
+        if (legible) {
+            builder.setPrettyPrinting();
+        }
+        return builder.create();
     }
     
     /**
@@ -79,4 +112,25 @@ public class GsonUtil {
             return LocalDate.parse(json.getAsString(), DATE_FORMATTER);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Adaptador para serializar/deserializar LocalTime.
+     * Formato: "08:30:00"
+     */
+    private static class LocalTimeAdapter
+            implements JsonSerializer<LocalTime>, JsonDeserializer<LocalTime> {
+
+        @Override
+        public JsonElement serialize(LocalTime time, Type type,
+                                     JsonSerializationContext context) {
+            return new JsonPrimitive(TIME_FORMATTER.format(time));
+        }
+
+        @Override
+        public LocalTime deserialize(JsonElement json, Type type,
+                                     JsonDeserializationContext context)
+                throws JsonParseException {
+            return LocalTime.parse(json.getAsString(), TIME_FORMATTER);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.contactoprofesionales.util;
+
+import com.google.gson.Gson;
+import com.google.gson.stream.JsonWriter;
+
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Escribe respuestas JSON directamente en el stream de la respuesta HTTP.
+ *
+ * A diferencia de response.getWriter().write(gson.toJson(...)), no arma el JSON
+ * completo como String antes de enviarlo: Gson serializa con un JsonWriter sobre el
+ * Writer de la respuesta, así que los listados grandes no duplican su tamaño en memoria.
+ *
+ * Usa la instancia compartida de {@link GsonUtil} (adaptadores registrados una sola vez).
+ */
+public final class JsonResponseWriter {
+
+    private static final Gson GSON = GsonUtil.createGson();
+
+    private JsonResponseWriter() {
+    }
+
+    /**
+     * Escribe el cuerpo como JSON con el estado HTTP indicado.
+     * Configura Content-Type application/json y UTF-8 si aún no se enviaron.
+     *
+     * @param response Respuesta HTTP
+     * @param status Código de estado
+     * @param cuerpo Objeto a serializar (JsonResponse, Map, DTO, JsonElement...)
+     * @throws IOException si falla la escritura
+     */
+    public static void escribir(HttpServletResponse response, int status, Object cuerpo) throws IOException {
+        response.setStatus(status);
+        escribir(response, cuerpo);
+    }
+
+    /**
+     * Escribe el cuerpo como JSON sin cambiar el estado HTTP.
+     *
+     * @param response Respuesta HTTP
+     * @param cuerpo Objeto a serializar
+     * @throws IOException si falla la escritura
+     */
+    public static void escribir(HttpServletResponse response, Object cuerpo) throws IOException {
+        if (!response.isCommitted()) {
+            response.setContentType("application/json");
+            response.setCharacterEncoding("UTF-8");
+        }
+
+        Writer salida = response.getWriter();
+        // No se cierra: el contenedor cierra el Writer de la respuesta
+        JsonWriter jsonWriter = GSON.newJsonWriter(salida);
+        if (cuerpo == null) {
+            jsonWriter.nullValue();
+        } else {
+            GSON.toJson(cuerpo, cuerpo.getClass(), jsonWriter);
+        }
+        jsonWriter.flush();
+    }
+}
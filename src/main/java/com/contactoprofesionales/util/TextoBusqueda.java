@@ -0,0 +1,64 @@
+package com.contactoprofesionales.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Reglas de coincidencia de la búsqueda de profesionales por texto, compartidas por el
+ * índice en memoria (IndiceBusquedaProfesionales) y la consulta SQL que lo reemplaza
+ * mientras no está listo (ProfesionalDAOImpl):
+ *
+ * - El texto se separa en términos: minúsculas, sin acentos, sin palabras vacías y sin repetidos
+ * - Un término coincide con el inicio de una palabra ("electr" → "Electricista")
+ * - Todos los términos deben coincidir (AND)
+ */
+public final class TextoBusqueda {
+
+    private static final int LONGITUD_MINIMA_TERMINO = 2;
+    private static final Pattern DIACRITICOS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARADORES = Pattern.compile("[^a-z0-9]+");
+    private static final Set<String> PALABRAS_VACIAS = Set.of(
+        "de", "del", "la", "las", "el", "los", "lo", "en", "con", "para", "por",
+        "un", "una", "al", "y", "o", "a", "e", "u"
+    );
+
+    private TextoBusqueda() {
+    }
+
+    /**
+     * Normaliza y separa un texto en términos: minúsculas, sin acentos, sin
+     * palabras vacías y sin repetidos. Los términos solo contienen [a-z0-9].
+     */
+    public static List<String> tokenizar(String texto) {
+        Set<String> terminos = new LinkedHashSet<>();
+
+        if (texto == null || texto.isEmpty()) {
+            return new ArrayList<>(terminos);
+        }
+
+        String normalizado = Normalizer.normalize(texto, Normalizer.Form.NFD);
+        normalizado = DIACRITICOS.matcher(normalizado).replaceAll("").toLowerCase(Locale.ROOT);
+
+        for (String termino : SEPARADORES.split(normalizado)) {
+            if (termino.length() >= LONGITUD_MINIMA_TERMINO && !PALABRAS_VACIAS.contains(termino)) {
+                terminos.add(termino);
+            }
+        }
+
+        return new ArrayList<>(terminos);
+    }
+
+    /**
+     * Expresión regular de PostgreSQL que busca el término al inicio de una palabra del
+     * texto ya normalizado (minúsculas y sin acentos), con los mismos separadores que
+     * {@link #tokenizar}. El término no necesita escaparse: solo contiene [a-z0-9].
+     */
+    public static String patronInicioPalabra(String termino) {
+        return "(^|[^a-z0-9])" + termino;
+    }
+}
@@ -0,0 +1,29 @@
+-- ============================================================================
+-- Migración V009: Índices para Búsqueda Paginada de Profesionales
+-- ============================================================================
+-- Descripción: La búsqueda de profesionales (ProfesionalDAOImpl.buscarPaginado)
+--              filtra y pagina en SQL con LIMIT/OFFSET. Estos índices permiten
+--              recorrer los profesionales activos en el orden de la búsqueda y
+--              resolver los filtros por categoría sin leer toda la tabla.
+--
+-- Cambios:
+-- 1. Índice parcial de orden (calificación, reseñas, id) para profesionales activos
+-- 2. Índice de especialidades activas por categoría y profesional
+-- ============================================================================
+
+-- 1. Orden de resultados: calificacion_promedio DESC, total_resenas DESC, id ASC
+CREATE INDEX IF NOT EXISTS idx_profesionales_busqueda_orden
+ON profesionales(calificacion_promedio DESC, total_resenas DESC, id)
+WHERE activo = TRUE;
+
+-- 2. Filtro por categoría (ep.categoria_id = ? AND ep.activo = true)
+CREATE INDEX IF NOT EXISTS idx_especialidades_profesional_categoria_activas
+ON especialidades_profesional(categoria_id, profesional_id)
+WHERE activo = TRUE;
+
+COMMENT ON INDEX idx_profesionales_busqueda_orden IS
+'Orden de la búsqueda paginada de profesionales activos (calificación, reseñas, id).';
+
+-- ============================================================================
+-- Fin de la migración V009
+-- ============================================================================
@@ -0,0 +1,65 @@
+-- ============================================================================
+-- Migración V010: Búsqueda de Texto con pg_trgm
+-- ============================================================================
+-- Descripción: La búsqueda por texto de especialidades usaba
+--              "servicio_profesional ILIKE '%texto%'", que no puede usar índices
+--              B-tree y obliga a un recorrido secuencial. Con pg_trgm y un índice
+--              GIN trigram sobre la expresión normalizada (sin acentos, en
+--              minúsculas) ProfesionalDAOImpl resuelve por índice:
+--              - Búsqueda de profesionales (condicionTextoProfesional): una
+--                expresión regular de inicio de palabra por término, la misma
+--                regla que el índice en memoria (TextoBusqueda):
+--                  f_unaccent(lower(servicio_profesional)) ~ '(^|[^a-z0-9])term'
+--              - Listado por especialidad y textos sin términos (una sola letra):
+--                  f_unaccent(lower(servicio_profesional)) LIKE f_unaccent(lower('%texto%'))
+--              word_similarity() ordena los resultados por relevancia.
+--
+--              ProfesionalDAOImpl detecta si pg_trgm y f_unaccent existen; si la
+--              migración no se aplicó, usa las mismas condiciones sobre lower(...)
+--              y ILIKE, sin índice.
+--
+--              Verificación (debe mostrar Bitmap Index Scan sobre el índice):
+--                EXPLAIN SELECT profesional_id FROM especialidades_profesional
+--                WHERE activo = TRUE
+--                AND f_unaccent(lower(servicio_profesional)) ~ '(^|[^a-z0-9])electr';
+--
+-- Cambios:
+-- 1. Extensiones pg_trgm y unaccent
+-- 2. Función IMMUTABLE f_unaccent (requerida para usarla en índices)
+-- 3. Índice GIN trigram sobre especialidades_profesional.servicio_profesional
+-- 4. Índice GIN trigram sobre categorias_servicio.nombre
+-- ============================================================================
+
+-- 1. Extensiones
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE EXTENSION IF NOT EXISTS unaccent;
+
+-- 2. unaccent() es STABLE; se envuelve indicando el diccionario para poder indexarla
+CREATE OR REPLACE FUNCTION f_unaccent(text)
+RETURNS text AS $$
+    SELECT public.unaccent('public.unaccent', $1)
+$$ LANGUAGE sql IMMUTABLE PARALLEL SAFE STRICT;
+
+COMMENT ON FUNCTION f_unaccent(text) IS
+'Versión IMMUTABLE de unaccent() para índices de búsqueda de texto.';
+
+-- 3. Texto de especialidades activas (misma expresión que usa el DAO)
+CREATE INDEX IF NOT EXISTS idx_especialidades_profesional_servicio_trgm
+ON especialidades_profesional
+USING GIN (f_unaccent(lower(servicio_profesional)) gin_trgm_ops)
+WHERE activo = TRUE;
+
+-- 4. Nombre de categoría (la búsqueda también coincide por categoría)
+CREATE INDEX IF NOT EXISTS idx_categorias_servicio_nombre_trgm
+ON categorias_servicio
+USING GIN (f_unaccent(lower(nombre)) gin_trgm_ops);
+
+COMMENT ON INDEX idx_especialidades_profesional_servicio_trgm IS
+'Búsqueda por texto (expresión regular de inicio de palabra y LIKE) de servicios profesionales activos.';
+
+COMMENT ON INDEX idx_categorias_servicio_nombre_trgm IS
+'Búsqueda por texto (expresión regular de inicio de palabra y LIKE) de nombres de categoría.';
+
+-- ============================================================================
+-- Fin de la migración V010
+-- ============================================================================
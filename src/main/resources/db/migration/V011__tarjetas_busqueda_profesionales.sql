@@ -0,0 +1,218 @@
+-- ============================================================================
+-- Migración V011: Tarjetas de Búsqueda de Profesionales (modelo de lectura)
+-- ============================================================================
+-- Descripción: Tabla desnormalizada con exactamente los datos que muestra cada
+--              resultado de búsqueda (ProfesionalBusquedaDTO). El listado y la
+--              búsqueda leen una fila angosta por resultado en lugar de unir
+--              profesionales, usuarios y especialidades_profesional en cada
+--              petición.
+--
+--              La tabla se mantiene con triggers: cualquier cambio en
+--              profesionales, en los datos de usuario que muestra la tarjeta o en
+--              especialidades_profesional vuelve a calcular la tarjeta del
+--              profesional afectado. Así se cubren también las actualizaciones que
+--              no pasan por ProfesionalDAO (perfil, calificación, especialidades).
+--
+-- Cambios:
+-- 1. Tabla profesionales_tarjeta_busqueda
+-- 2. Función refrescar_tarjeta_profesional(profesional_id)
+-- 3. Triggers en profesionales, usuarios y especialidades_profesional
+-- 4. Carga inicial e índices
+-- ============================================================================
+
+-- ============================================================================
+-- PARTE 1: TABLA
+-- ============================================================================
+
+CREATE TABLE IF NOT EXISTS profesionales_tarjeta_busqueda (
+    profesional_id INTEGER PRIMARY KEY,
+    nombre_completo TEXT,
+    telefono TEXT,
+    distrito_id INTEGER,
+    especialidad_id INTEGER,
+    especialidades TEXT NOT NULL DEFAULT 'Sin especialidad',
+    categoria_ids INTEGER[] NOT NULL DEFAULT '{}',
+    descripcion_corta TEXT,
+    experiencia TEXT,
+    habilidades_destacadas TEXT[],
+    foto_perfil TEXT,
+    tarifa_hora NUMERIC,
+    calificacion_promedio NUMERIC NOT NULL DEFAULT 0,
+    total_resenas INTEGER NOT NULL DEFAULT 0,
+    disponible BOOLEAN NOT NULL DEFAULT TRUE,
+    verificado BOOLEAN NOT NULL DEFAULT FALSE,
+    fecha_actualizacion TIMESTAMP DEFAULT NOW(),
+
+    CONSTRAINT fk_tarjeta_busqueda_profesional
+        FOREIGN KEY (profesional_id)
+        REFERENCES profesionales(id)
+        ON DELETE CASCADE
+);
+
+COMMENT ON TABLE profesionales_tarjeta_busqueda IS
+'Modelo de lectura para búsqueda: una fila por profesional activo, mantenida por triggers.';
+
+COMMENT ON COLUMN profesionales_tarjeta_busqueda.descripcion_corta IS
+'Primeros 150 caracteres de biografia_profesional (o descripcion) con "..." si se recorta.';
+
+COMMENT ON COLUMN profesionales_tarjeta_busqueda.habilidades_destacadas IS
+'Primeras 5 habilidades del profesional.';
+
+-- ============================================================================
+-- PARTE 2: FUNCIÓN DE REFRESCO
+-- ============================================================================
+
+-- Recalcula (o elimina, si el profesional/usuario está inactivo) la tarjeta de un profesional.
+-- Usa INSERT ... ON CONFLICT en lugar de DELETE + INSERT: con READ COMMITTED, dos
+-- refrescos simultáneos del mismo profesional hacían que el segundo INSERT fallara por
+-- clave duplicada (su DELETE no veía la fila recién insertada) y revertía la escritura.
+CREATE OR REPLACE FUNCTION refrescar_tarjeta_profesional(p_profesional_id INTEGER)
+RETURNS VOID AS $$
+BEGIN
+    INSERT INTO profesionales_tarjeta_busqueda (
+        profesional_id, nombre_completo, telefono, distrito_id,
+        especialidad_id, especialidades, categoria_ids,
+        descripcion_corta, experiencia, habilidades_destacadas, foto_perfil,
+        tarifa_hora, calificacion_promedio, total_resenas, disponible, verificado,
+        fecha_actualizacion
+    )
+    SELECT p.id, u.nombre_completo, u.telefono, u.distrito_id,
+           esp.especialidad_id,
+           COALESCE(esp.especialidades, 'Sin especialidad'),
+           COALESCE(esp.categoria_ids, '{}'),
+           CASE WHEN LENGTH(d.texto) > 150 THEN LEFT(d.texto, 150) || '...' ELSE d.texto END,
+           p.experiencia,
+           p.habilidades[1:5],
+           p.foto_perfil,
+           p.tarifa_hora,
+           COALESCE(p.calificacion_promedio, 0),
+           COALESCE(p.total_resenas, 0),
+           COALESCE(p.disponible, TRUE),
+           COALESCE(p.verificado, FALSE),
+           NOW()
+    FROM profesionales p
+    INNER JOIN usuarios u ON p.usuario_id = u.id
+    CROSS JOIN LATERAL (
+        SELECT COALESCE(NULLIF(p.biografia_profesional, ''), p.descripcion) AS texto
+    ) d
+    LEFT JOIN LATERAL (
+        SELECT (ARRAY_AGG(ep.id ORDER BY ep.es_principal DESC, ep.orden ASC))[1] AS especialidad_id,
+               STRING_AGG(ep.servicio_profesional, ', ' ORDER BY ep.es_principal DESC, ep.orden ASC) AS especialidades,
+               ARRAY_AGG(DISTINCT ep.categoria_id) FILTER (WHERE ep.categoria_id IS NOT NULL) AS categoria_ids
+        FROM especialidades_profesional ep
+        WHERE ep.profesional_id = p.id AND ep.activo = TRUE
+    ) esp ON TRUE
+    WHERE p.id = p_profesional_id
+    AND p.activo = TRUE
+    AND u.activo = TRUE
+    ON CONFLICT (profesional_id) DO UPDATE SET
+        nombre_completo = EXCLUDED.nombre_completo,
+        telefono = EXCLUDED.telefono,
+        distrito_id = EXCLUDED.distrito_id,
+        especialidad_id = EXCLUDED.especialidad_id,
+        especialidades = EXCLUDED.especialidades,
+        categoria_ids = EXCLUDED.categoria_ids,
+        descripcion_corta = EXCLUDED.descripcion_corta,
+        experiencia = EXCLUDED.experiencia,
+        habilidades_destacadas = EXCLUDED.habilidades_destacadas,
+        foto_perfil = EXCLUDED.foto_perfil,
+        tarifa_hora = EXCLUDED.tarifa_hora,
+        calificacion_promedio = EXCLUDED.calificacion_promedio,
+        total_resenas = EXCLUDED.total_resenas,
+        disponible = EXCLUDED.disponible,
+        verificado = EXCLUDED.verificado,
+        fecha_actualizacion = EXCLUDED.fecha_actualizacion;
+
+    -- Sin fila: el profesional o su usuario está inactivo (o no existe)
+    IF NOT FOUND THEN
+        DELETE FROM profesionales_tarjeta_busqueda WHERE profesional_id = p_profesional_id;
+    END IF;
+END;
+$$ LANGUAGE plpgsql;
+
+COMMENT ON FUNCTION refrescar_tarjeta_profesional IS
+'Recalcula la fila de profesionales_tarjeta_busqueda de un profesional.';
+
+-- ============================================================================
+-- PARTE 3: TRIGGERS
+-- ============================================================================
+
+-- 3.1 Cambios en profesionales: solo las columnas que usa la tarjeta
+--     (perfil, tarifa, disponibilidad, calificación, activo)
+CREATE OR REPLACE FUNCTION trg_tarjeta_desde_profesionales()
+RETURNS TRIGGER AS $$
+BEGIN
+    PERFORM refrescar_tarjeta_profesional(NEW.id);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trigger_tarjeta_profesionales ON profesionales;
+
+CREATE TRIGGER trigger_tarjeta_profesionales
+AFTER INSERT OR UPDATE OF usuario_id, biografia_profesional, descripcion, experiencia,
+    habilidades, foto_perfil, tarifa_hora, calificacion_promedio, total_resenas,
+    disponible, verificado, activo
+ON profesionales
+FOR EACH ROW
+EXECUTE FUNCTION trg_tarjeta_desde_profesionales();
+
+-- 3.2 Cambios en usuarios: solo los campos que muestra la tarjeta
+CREATE OR REPLACE FUNCTION trg_tarjeta_desde_usuarios()
+RETURNS TRIGGER AS $$
+BEGIN
+    PERFORM refrescar_tarjeta_profesional(p.id)
+    FROM profesionales p
+    WHERE p.usuario_id = NEW.id;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trigger_tarjeta_usuarios ON usuarios;
+
+CREATE TRIGGER trigger_tarjeta_usuarios
+AFTER UPDATE ON usuarios
+FOR EACH ROW
+WHEN (OLD.nombre_completo IS DISTINCT FROM NEW.nombre_completo
+      OR OLD.telefono IS DISTINCT FROM NEW.telefono
+      OR OLD.distrito_id IS DISTINCT FROM NEW.distrito_id
+      OR OLD.activo IS DISTINCT FROM NEW.activo)
+EXECUTE FUNCTION trg_tarjeta_desde_usuarios();
+
+-- 3.3 Cambios en especialidades (alta, edición, baja lógica o física)
+CREATE OR REPLACE FUNCTION trg_tarjeta_desde_especialidades()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        PERFORM refrescar_tarjeta_profesional(OLD.profesional_id);
+    ELSE
+        PERFORM refrescar_tarjeta_profesional(NEW.profesional_id);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trigger_tarjeta_especialidades ON especialidades_profesional;
+
+CREATE TRIGGER trigger_tarjeta_especialidades
+AFTER INSERT OR UPDATE OR DELETE ON especialidades_profesional
+FOR EACH ROW
+EXECUTE FUNCTION trg_tarjeta_desde_especialidades();
+
+-- ============================================================================
+-- PARTE 4: CARGA INICIAL E ÍNDICES
+-- ============================================================================
+
+SELECT refrescar_tarjeta_profesional(id) FROM profesionales;
+
+-- Orden de resultados: calificacion_promedio DESC, total_resenas DESC, id ASC
+CREATE INDEX IF NOT EXISTS idx_tarjeta_busqueda_orden
+ON profesionales_tarjeta_busqueda(calificacion_promedio DESC, total_resenas DESC, profesional_id);
+
+-- categoria_ids se lee para los facetas y el índice en memoria, no se filtra con @>,
+-- así que no lleva índice GIN
+DROP INDEX IF EXISTS idx_tarjeta_busqueda_categorias;
+
+-- ============================================================================
+-- Fin de la migración V011
+-- ============================================================================
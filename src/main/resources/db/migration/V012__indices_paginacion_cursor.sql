@@ -0,0 +1,36 @@
+-- ============================================================================
+-- Migración V012: Índices para Paginación por Cursor de Profesionales
+-- ============================================================================
+-- Descripción: La búsqueda y el listado de profesionales aceptan un cursor
+--              (calificación, reseñas, id del último resultado) y piden la página
+--              siguiente con una comparación de filas:
+--                (calificacion_promedio, total_resenas, id) < (?, ?, ?)
+--              Para que PostgreSQL empiece a leer el índice justo en esa posición,
+--              todas sus columnas deben ir en la misma dirección. El desempate por
+--              id pasa a ser descendente (antes ascendente) en las consultas y en
+--              estos índices.
+--
+-- Cambios:
+-- 1. Índice de orden de profesionales activos con id DESC (reemplaza V009)
+-- 2. Índice de orden de tarjetas de búsqueda con profesional_id DESC (reemplaza V011)
+-- ============================================================================
+
+-- 1. Profesionales activos: calificacion_promedio DESC, total_resenas DESC, id DESC
+DROP INDEX IF EXISTS idx_profesionales_busqueda_orden;
+
+CREATE INDEX IF NOT EXISTS idx_profesionales_busqueda_orden
+ON profesionales(calificacion_promedio DESC, total_resenas DESC, id DESC)
+WHERE activo = TRUE;
+
+COMMENT ON INDEX idx_profesionales_busqueda_orden IS
+'Orden y posición de cursor de la búsqueda de profesionales activos (calificación, reseñas, id).';
+
+-- 2. Tarjetas de búsqueda: mismo orden
+DROP INDEX IF EXISTS idx_tarjeta_busqueda_orden;
+
+CREATE INDEX IF NOT EXISTS idx_tarjeta_busqueda_orden
+ON profesionales_tarjeta_busqueda(calificacion_promedio DESC, total_resenas DESC, profesional_id DESC);
+
+-- ============================================================================
+-- Fin de la migración V012
+-- ============================================================================
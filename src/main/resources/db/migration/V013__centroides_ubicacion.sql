@@ -0,0 +1,150 @@
+-- ============================================================================
+-- Migración V013: Centroides de Departamentos, Provincias y Distritos
+-- ============================================================================
+-- Descripción: La búsqueda por cercanía (IndiceProximidadProfesionales) ubica a
+--              cada profesional en el centroide del distrito de su usuario y
+--              mide la distancia al distrito del cliente. No se usa PostGIS:
+--              basta con latitud/longitud por distrito y un índice espacial en
+--              memoria.
+--
+--              Se incluyen los centroides de los distritos de Lima Metropolitana y
+--              Callao (PARTE 2), donde hoy están los profesionales, por código de
+--              ubigeo (INEI). Son coordenadas aproximadas de la capital de cada
+--              distrito, suficientes para distancias entre distritos en km. Los
+--              distritos de otras regiones se cargan con la misma sentencia:
+--                UPDATE distritos SET latitud = ?, longitud = ? WHERE codigo = ?
+--              Los centroides de provincias y departamentos, si faltan, se
+--              calculan como el promedio de sus distritos (PARTE 3; se puede volver
+--              a ejecutar después de cada carga).
+--
+-- Cambios:
+-- 1. Columnas latitud/longitud en departamentos, provincias y distritos
+-- 2. Centroides de los distritos de Lima Metropolitana y Callao
+-- 3. Centroides de provincias y departamentos derivados de sus distritos
+-- 4. Índice de áreas de servicio activas por profesional
+-- ============================================================================
+
+-- ============================================================================
+-- PARTE 1: COLUMNAS
+-- ============================================================================
+
+ALTER TABLE departamentos
+ADD COLUMN IF NOT EXISTS latitud NUMERIC(9,6),
+ADD COLUMN IF NOT EXISTS longitud NUMERIC(9,6);
+
+ALTER TABLE provincias
+ADD COLUMN IF NOT EXISTS latitud NUMERIC(9,6),
+ADD COLUMN IF NOT EXISTS longitud NUMERIC(9,6);
+
+ALTER TABLE distritos
+ADD COLUMN IF NOT EXISTS latitud NUMERIC(9,6),
+ADD COLUMN IF NOT EXISTS longitud NUMERIC(9,6);
+
+COMMENT ON COLUMN distritos.latitud IS
+'Latitud del centroide del distrito (grados decimales, WGS84).';
+
+COMMENT ON COLUMN distritos.longitud IS
+'Longitud del centroide del distrito (grados decimales, WGS84).';
+
+-- ============================================================================
+-- PARTE 2: CENTROIDES DE DISTRITOS (LIMA METROPOLITANA Y CALLAO)
+-- ============================================================================
+-- No reemplaza centroides ya cargados.
+
+UPDATE distritos d
+SET latitud = v.latitud, longitud = v.longitud
+FROM (VALUES
+    -- Provincia de Lima (1501)
+    ('150101', -12.046400, -77.042800),  -- Lima
+    ('150102', -11.773600, -77.176200),  -- Ancón
+    ('150103', -12.025600, -76.921500),  -- Ate
+    ('150104', -12.149400, -77.021400),  -- Barranco
+    ('150105', -12.059700, -77.050700),  -- Breña
+    ('150106', -11.850800, -77.038600),  -- Carabayllo
+    ('150107', -11.975600, -76.770000),  -- Chaclacayo
+    ('150108', -12.168600, -77.015300),  -- Chorrillos
+    ('150109', -12.071400, -76.783600),  -- Cieneguilla
+    ('150110', -11.933300, -77.050000),  -- Comas
+    ('150111', -12.043900, -76.999200),  -- El Agustino
+    ('150112', -11.990600, -77.049200),  -- Independencia
+    ('150113', -12.077800, -77.048600),  -- Jesús María
+    ('150114', -12.086700, -76.935600),  -- La Molina
+    ('150115', -12.065600, -77.029700),  -- La Victoria
+    ('150116', -12.083900, -77.035300),  -- Lince
+    ('150117', -11.970800, -77.070300),  -- Los Olivos
+    ('150118', -11.936700, -76.696700),  -- Lurigancho
+    ('150119', -12.274400, -76.870600),  -- Lurín
+    ('150120', -12.091400, -77.068600),  -- Magdalena del Mar
+    ('150121', -12.074200, -77.062800),  -- Pueblo Libre
+    ('150122', -12.121100, -77.029700),  -- Miraflores
+    ('150123', -12.230600, -76.859700),  -- Pachacámac
+    ('150124', -12.481900, -76.797200),  -- Pucusana
+    ('150125', -11.866900, -77.076700),  -- Puente Piedra
+    ('150126', -12.335300, -76.823600),  -- Punta Hermosa
+    ('150127', -12.364400, -76.793600),  -- Punta Negra
+    ('150128', -12.030600, -77.030800),  -- Rímac
+    ('150129', -12.388600, -76.780600),  -- San Bartolo
+    ('150130', -12.107800, -76.999400),  -- San Borja
+    ('150131', -12.097200, -77.036900),  -- San Isidro
+    ('150132', -11.976700, -77.005000),  -- San Juan de Lurigancho
+    ('150133', -12.156100, -76.970000),  -- San Juan de Miraflores
+    ('150134', -12.076100, -76.995000),  -- San Luis
+    ('150135', -12.008300, -77.088300),  -- San Martín de Porres
+    ('150136', -12.077200, -77.090800),  -- San Miguel
+    ('150137', -12.043100, -76.971100),  -- Santa Anita
+    ('150138', -12.406900, -76.775800),  -- Santa María del Mar
+    ('150139', -11.806700, -77.166400),  -- Santa Rosa
+    ('150140', -12.143600, -76.991900),  -- Santiago de Surco
+    ('150141', -12.112800, -77.011100),  -- Surquillo
+    ('150142', -12.213100, -76.936700),  -- Villa El Salvador
+    ('150143', -12.161100, -76.941100),  -- Villa María del Triunfo
+    -- Provincia Constitucional del Callao (0701)
+    ('070101', -12.052200, -77.125300),  -- Callao
+    ('070102', -12.062500, -77.110800),  -- Bellavista
+    ('070103', -12.042200, -77.095300),  -- Carmen de la Legua Reynoso
+    ('070104', -12.070000, -77.120600),  -- La Perla
+    ('070105', -12.072500, -77.162500),  -- La Punta
+    ('070106', -11.877200, -77.128900),  -- Ventanilla
+    ('070107', -11.854200, -77.125300)   -- Mi Perú
+) AS v(codigo, latitud, longitud)
+WHERE d.codigo = v.codigo
+AND d.latitud IS NULL;
+
+-- ============================================================================
+-- PARTE 3: CENTROIDES DERIVADOS
+-- ============================================================================
+
+UPDATE provincias p
+SET latitud = c.latitud, longitud = c.longitud
+FROM (
+    SELECT provincia_id, AVG(latitud) AS latitud, AVG(longitud) AS longitud
+    FROM distritos
+    WHERE latitud IS NOT NULL AND longitud IS NOT NULL
+    GROUP BY provincia_id
+) c
+WHERE c.provincia_id = p.id
+AND p.latitud IS NULL;
+
+UPDATE departamentos dp
+SET latitud = c.latitud, longitud = c.longitud
+FROM (
+    SELECT departamento_id, AVG(latitud) AS latitud, AVG(longitud) AS longitud
+    FROM provincias
+    WHERE latitud IS NOT NULL AND longitud IS NOT NULL
+    GROUP BY departamento_id
+) c
+WHERE c.departamento_id = dp.id
+AND dp.latitud IS NULL;
+
+-- ============================================================================
+-- PARTE 4: ÍNDICES
+-- ============================================================================
+
+-- Carga del índice de cercanía: área de servicio activa de cada profesional
+CREATE INDEX IF NOT EXISTS idx_areas_servicio_profesional_activas
+ON areas_servicio(profesional_id)
+WHERE activo = TRUE;
+
+-- ============================================================================
+-- Fin de la migración V013
+-- ============================================================================
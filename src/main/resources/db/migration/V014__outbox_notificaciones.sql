@@ -0,0 +1,66 @@
+-- ============================================================================
+-- Migración V014: Outbox de notificaciones
+-- ============================================================================
+-- Descripción: Las notificaciones de solicitudes (nueva, cancelada, aceptada,
+--              rechazada) se registran en esta tabla en la misma transacción
+--              que el cambio en solicitudes_servicio. Un despachador en segundo
+--              plano (DespachadorNotificaciones) las entrega por cada canal y
+--              reintenta con espera exponencial; así la petición HTTP no espera
+--              la entrega y una caída no pierde notificaciones.
+--
+--              Hay una fila por evento y canal. La clave de idempotencia
+--              (evento:solicitud:canal) evita duplicados si el mismo evento se
+--              registra dos veces, y se entrega al canal para que descarte
+--              reenvíos (por ejemplo, después de una caída entre la entrega y
+--              la marca de enviada).
+--
+-- Cambios:
+-- 1. Tabla notificaciones_outbox
+-- 2. Índice parcial de notificaciones pendientes por próximo intento
+-- ============================================================================
+
+-- ============================================================================
+-- PARTE 1: TABLA
+-- ============================================================================
+
+CREATE TABLE IF NOT EXISTS notificaciones_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    clave_idempotencia VARCHAR(150) NOT NULL,
+    tipo VARCHAR(40) NOT NULL,
+    canal VARCHAR(40) NOT NULL,
+    solicitud_id INTEGER NOT NULL,
+    destinatario_id INTEGER,
+    payload TEXT NOT NULL,
+    estado VARCHAR(20) NOT NULL DEFAULT 'pendiente',
+    intentos INTEGER NOT NULL DEFAULT 0,
+    proximo_intento TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    ultimo_error TEXT,
+    fecha_creacion TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    fecha_envio TIMESTAMP,
+
+    CONSTRAINT uq_notificaciones_outbox_clave UNIQUE (clave_idempotencia),
+    CONSTRAINT chk_notificaciones_outbox_estado
+        CHECK (estado IN ('pendiente', 'enviada', 'fallida'))
+);
+
+COMMENT ON TABLE notificaciones_outbox IS
+'Notificaciones pendientes de entrega, escritas en la transacción del cambio de la solicitud.';
+
+COMMENT ON COLUMN notificaciones_outbox.proximo_intento IS
+'Cuándo puede tomarse la fila. Al reservarla se adelanta (reserva temporal): si el despachador cae, la fila vuelve a estar disponible al vencer.';
+
+COMMENT ON COLUMN notificaciones_outbox.payload IS
+'Datos de la solicitud al momento del evento (JSON).';
+
+-- ============================================================================
+-- PARTE 2: ÍNDICES
+-- ============================================================================
+
+-- Reserva de lotes: WHERE estado = 'pendiente' AND proximo_intento <= now() ORDER BY proximo_intento
+CREATE INDEX IF NOT EXISTS idx_notificaciones_outbox_pendientes
+ON notificaciones_outbox(proximo_intento)
+WHERE estado = 'pendiente';
+
+-- ============================================================================
+-- Fin de la migración V014
+-- ============================================================================
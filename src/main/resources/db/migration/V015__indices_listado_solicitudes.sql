@@ -0,0 +1,63 @@
+-- ============================================================================
+-- Migración V015: Índices para el Listado Paginado de Solicitudes
+-- ============================================================================
+-- Descripción: GET /api/solicitudes?cursor=&limite=N lista las solicitudes activas
+--              de un cliente o profesional en orden fecha_solicitud DESC, id DESC y
+--              pide la página siguiente con una comparación de filas:
+--                (fecha_solicitud, id) < (?, ?)
+--              Hasta ahora no había índice por cliente_id ni por profesional_id: cada
+--              listado leía y ordenaba todas las solicitudes de la tabla del usuario.
+--
+--              Con estos índices PostgreSQL empieza a leer en la posición del cursor y
+--              se detiene al completar la página. El índice con estado sirve al filtro
+--              por un estado (p. ej. solo 'pendiente', que también usa el conteo del
+--              badge); sin filtro de estado se usa el índice por usuario y fecha.
+--              activo va en la condición parcial (WHERE activo = TRUE) en lugar de
+--              en la clave: los listados solo leen solicitudes activas.
+--
+-- Cambios:
+-- 1. Profesional: (profesional_id, estado, fecha_solicitud DESC, id DESC)
+-- 2. Profesional: (profesional_id, fecha_solicitud DESC, id DESC)
+-- 3. Cliente:     (cliente_id, estado, fecha_solicitud DESC, id DESC)
+-- 4. Cliente:     (cliente_id, fecha_solicitud DESC, id DESC)
+-- ============================================================================
+
+-- ============================================================================
+-- PARTE 1: Solicitudes recibidas por el profesional
+-- ============================================================================
+
+CREATE INDEX IF NOT EXISTS idx_solicitudes_profesional_estado_fecha
+ON solicitudes_servicio(profesional_id, estado, fecha_solicitud DESC, id DESC)
+WHERE activo = TRUE;
+
+COMMENT ON INDEX idx_solicitudes_profesional_estado_fecha IS
+'Listado por cursor de solicitudes activas del profesional filtradas por estado, y conteo de pendientes.';
+
+CREATE INDEX IF NOT EXISTS idx_solicitudes_profesional_fecha
+ON solicitudes_servicio(profesional_id, fecha_solicitud DESC, id DESC)
+WHERE activo = TRUE;
+
+COMMENT ON INDEX idx_solicitudes_profesional_fecha IS
+'Listado por cursor de solicitudes activas del profesional (fecha_solicitud, id).';
+
+-- ============================================================================
+-- PARTE 2: Solicitudes enviadas por el cliente
+-- ============================================================================
+
+CREATE INDEX IF NOT EXISTS idx_solicitudes_cliente_estado_fecha
+ON solicitudes_servicio(cliente_id, estado, fecha_solicitud DESC, id DESC)
+WHERE activo = TRUE;
+
+COMMENT ON INDEX idx_solicitudes_cliente_estado_fecha IS
+'Listado por cursor de solicitudes activas del cliente filtradas por estado.';
+
+CREATE INDEX IF NOT EXISTS idx_solicitudes_cliente_fecha
+ON solicitudes_servicio(cliente_id, fecha_solicitud DESC, id DESC)
+WHERE activo = TRUE;
+
+COMMENT ON INDEX idx_solicitudes_cliente_fecha IS
+'Listado por cursor de solicitudes activas del cliente (fecha_solicitud, id).';
+
+-- ============================================================================
+-- Fin de la migración V015
+-- ============================================================================
@@ -0,0 +1,52 @@
+-- ============================================================================
+-- Migración V016: Contadores de Solicitudes por Profesional y Estado
+-- ============================================================================
+-- Descripción: El badge de pendientes y las estadísticas del dashboard hacían un
+--              COUNT(*) sobre solicitudes_servicio en cada consulta. Esta tabla
+--              guarda el total por (profesional, estado) y SolicitudServicioDAOImpl
+--              la actualiza en la misma transacción que crea, cancela o cambia de
+--              estado una solicitud. La aplicación además la mantiene en memoria
+--              (ContadoresSolicitudes).
+--
+--              Se cuentan todas las solicitudes, activas o no: la cancelación es el
+--              único cambio que desactiva una solicitud y también la pasa a
+--              'cancelada', así que el total de 'pendiente' coincide con el COUNT
+--              anterior (estado = 'pendiente' AND activo = true).
+--
+-- Cambios:
+-- 1. Tabla solicitud_contadores
+-- 2. Carga inicial desde solicitudes_servicio
+-- ============================================================================
+
+-- ============================================================================
+-- PARTE 1: Tabla de contadores
+-- ============================================================================
+
+CREATE TABLE IF NOT EXISTS solicitud_contadores (
+    profesional_id      INTEGER NOT NULL,
+    estado              VARCHAR(20) NOT NULL,
+    total               INTEGER NOT NULL DEFAULT 0,
+    fecha_actualizacion TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (profesional_id, estado)
+);
+
+COMMENT ON TABLE solicitud_contadores IS
+'Total de solicitudes por profesional y estado, mantenido por SolicitudServicioDAOImpl en la transacción de cada cambio.';
+
+-- ============================================================================
+-- PARTE 2: Carga inicial
+-- ============================================================================
+-- Si se ejecuta con la aplicación en marcha, los cambios hechos durante la carga
+-- pueden quedar fuera; volver a ejecutar este INSERT recalcula todos los totales.
+
+INSERT INTO solicitud_contadores (profesional_id, estado, total)
+SELECT profesional_id, estado, COUNT(*)
+FROM solicitudes_servicio
+GROUP BY profesional_id, estado
+ON CONFLICT (profesional_id, estado) DO UPDATE
+SET total = EXCLUDED.total,
+    fecha_actualizacion = CURRENT_TIMESTAMP;
+
+-- ============================================================================
+-- Fin de la migración V016
+-- ============================================================================
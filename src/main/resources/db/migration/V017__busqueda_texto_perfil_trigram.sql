@@ -0,0 +1,59 @@
+-- ============================================================================
+-- Migración V017: Búsqueda de Texto en Habilidades y Biografía con pg_trgm
+-- ============================================================================
+-- Descripción: La búsqueda de profesionales por texto (ProfesionalDAOImpl,
+--              mismas reglas que IndiceBusquedaProfesionales) también coincide
+--              por habilidades y biografía. Cada término se resuelve como un
+--              semi-join con una rama UNION por campo, y cada rama filtra con
+--              una expresión regular de inicio de palabra sobre el texto
+--              normalizado:
+--                f_unaccent(lower(biografia_profesional)) ~ '(^|[^a-z0-9])term'
+--              Con los índices GIN trigram de esta migración (y los de V010 para
+--              servicios y categorías) ninguna rama recorre toda la tabla.
+--
+--              array_to_string() es STABLE y no se puede indexar; se envuelve en
+--              f_habilidades_texto (IMMUTABLE), igual que f_unaccent en V010. El
+--              DAO usa las mismas expresiones que los índices y solo activa la
+--              búsqueda con pg_trgm si existe esa función.
+--
+--              Verificación (debe mostrar Bitmap Index Scan sobre los índices):
+--                EXPLAIN SELECT id FROM profesionales
+--                WHERE activo = TRUE
+--                AND f_unaccent(lower(biografia_profesional)) ~ '(^|[^a-z0-9])electr';
+--
+-- Cambios:
+-- 1. Función IMMUTABLE f_habilidades_texto
+-- 2. Índice GIN trigram sobre las habilidades de profesionales activos
+-- 3. Índice GIN trigram sobre la biografía de profesionales activos
+-- ============================================================================
+
+-- 1. Habilidades como un solo texto normalizado (requerida para usarla en índices)
+CREATE OR REPLACE FUNCTION f_habilidades_texto(text[])
+RETURNS text AS $$
+    SELECT f_unaccent(lower(array_to_string($1, ' ')))
+$$ LANGUAGE sql IMMUTABLE PARALLEL SAFE STRICT;
+
+COMMENT ON FUNCTION f_habilidades_texto(text[]) IS
+'Habilidades separadas por espacios, en minúsculas y sin acentos, para índices de búsqueda de texto.';
+
+-- 2. Habilidades (misma expresión que usa el DAO)
+CREATE INDEX IF NOT EXISTS idx_profesionales_habilidades_trgm
+ON profesionales
+USING GIN (f_habilidades_texto(habilidades) gin_trgm_ops)
+WHERE activo = TRUE;
+
+-- 3. Biografía (misma expresión que usa el DAO)
+CREATE INDEX IF NOT EXISTS idx_profesionales_biografia_trgm
+ON profesionales
+USING GIN (f_unaccent(lower(biografia_profesional)) gin_trgm_ops)
+WHERE activo = TRUE;
+
+COMMENT ON INDEX idx_profesionales_habilidades_trgm IS
+'Búsqueda por texto (expresión regular de inicio de palabra) en habilidades de profesionales activos.';
+
+COMMENT ON INDEX idx_profesionales_biografia_trgm IS
+'Búsqueda por texto (expresión regular de inicio de palabra) en la biografía de profesionales activos.';
+
+-- ============================================================================
+-- Fin de la migración V017
+-- ============================================================================
@@ -229,6 +229,11 @@ async function searchProfessionals() {
     params.append('pagina', currentPage);
     params.append('elementosPorPagina', itemsPerPage);
 
+    // Las facetas no cambian al paginar: se piden solo con la primera página
+    if (currentPage === 1) {
+        params.append('facetas', 'true');
+    }
+
     // Save current criteria
     currentCriteria = Object.fromEntries(params);
 
@@ -275,6 +280,7 @@ function displayResults(data) {
         resultsHeader.style.display = 'none';
         emptyState.style.display = 'block';
         document.getElementById('pagination').style.display = 'none';
+        document.getElementById('facetasPanel').style.display = 'none';
         return;
     }
 
@@ -294,6 +300,70 @@ function displayResults(data) {
     // Update pagination
     totalPages = data.totalPaginas;
     renderPagination(data.pagina, data.totalPaginas);
+
+    if (data.facetas) {
+        renderFacetas(data.facetas);
+    }
+}
+
+// Render facets: conteos por categoría, tarifa y disponibilidad; al hacer clic se aplica el filtro
+function renderFacetas(facetas) {
+    const panel = document.getElementById('facetasPanel');
+    panel.innerHTML = '';
+
+    const categoriaSelect = document.getElementById('categoria');
+    const nombreCategoria = id => {
+        const option = categoriaSelect.querySelector(`option[value="${id}"]`);
+        return option ? option.textContent : null;
+    };
+
+    agregarGrupoFacetas(panel, 'Categorías', facetas.categorias, faceta => nombreCategoria(faceta.valor), faceta => {
+        categoriaSelect.value = faceta.valor;
+        categoriaSelect.dispatchEvent(new Event('change'));
+    });
+
+    agregarGrupoFacetas(panel, 'Tarifa (S/)', facetas.rangosTarifa, faceta => faceta.valor, faceta => {
+        // "0-50" -> tarifa máxima 50; "200+" no tiene tope
+        const tope = faceta.valor.includes('-') ? faceta.valor.split('-')[1] : '';
+        document.getElementById('tarifaMax').value = tope;
+    });
+
+    agregarGrupoFacetas(panel, 'Disponibilidad', facetas.disponible,
+        faceta => faceta.valor === 'true' ? 'Disponibles' : 'No disponibles', faceta => {
+            document.getElementById('disponible').value = faceta.valor;
+        });
+
+    panel.style.display = panel.children.length > 0 ? 'block' : 'none';
+}
+
+function agregarGrupoFacetas(panel, titulo, valores, etiqueta, aplicar) {
+    const visibles = (valores || []).filter(faceta => faceta.total > 0 && etiqueta(faceta));
+    if (visibles.length === 0) {
+        return;
+    }
+
+    const grupo = document.createElement('div');
+    grupo.className = 'faceta-grupo';
+
+    const encabezado = document.createElement('span');
+    encabezado.className = 'faceta-titulo';
+    encabezado.textContent = titulo;
+    grupo.appendChild(encabezado);
+
+    visibles.forEach(faceta => {
+        const boton = document.createElement('button');
+        boton.type = 'button';
+        boton.className = 'faceta-valor';
+        boton.textContent = `${etiqueta(faceta)} (${faceta.total})`;
+        boton.onclick = () => {
+            aplicar(faceta);
+            currentPage = 1;
+            searchProfessionals();
+        };
+        grupo.appendChild(boton);
+    });
+
+    panel.appendChild(grupo);
 }
 
 
@@ -525,6 +595,7 @@ function showInitialState() {
     document.getElementById('professionalsGrid').innerHTML = '';
     document.getElementById('resultsHeader').style.display = 'none';
     document.getElementById('pagination').style.display = 'none';
+    document.getElementById('facetasPanel').style.display = 'none';
 }
 
 function hideInitialState() {
@@ -538,6 +609,7 @@ function showEmptyState() {
     document.getElementById('professionalsGrid').innerHTML = '';
     document.getElementById('resultsHeader').style.display = 'none';
     document.getElementById('pagination').style.display = 'none';
+    document.getElementById('facetasPanel').style.display = 'none';
 }
 
 // Alert system
@@ -6,6 +6,11 @@
 let userData = {};
 let currentView = 'inicio';
 
+// Listados "Mis Solicitudes" / "Mis Trabajos": páginas por cursor con "Cargar más"
+const LIMITE_LISTADO = 20;
+let cursorMisSolicitudes = null;
+let cursorMisTrabajos = null;
+
 // ============================================
 // INICIALIZACIÓN
 // ============================================
@@ -24,8 +29,58 @@ document.addEventListener('DOMContentLoaded', async () => {
 
   // Cargar vista inicial
   await navigateTo('inicio');
+
+  // Eventos en tiempo real de solicitudes (badge de pendientes)
+  conectarEventosSolicitudes();
 });
 
+// ============================================
+// EVENTOS EN TIEMPO REAL (Server-Sent Events)
+// ============================================
+/**
+ * Abre /api/solicitudes/eventos para recibir el conteo de pendientes y los cambios
+ * de solicitudes sin consultar periódicamente al servidor.
+ * EventSource se reconecta solo si la conexión se corta.
+ */
+function conectarEventosSolicitudes() {
+  if (!window.EventSource) {
+    return;
+  }
+
+  const tipoRol = userData.tipoRol || userData.tipo || 'CLIENTE';
+  const esProfesional = userData.esProfesional !== undefined ? userData.esProfesional :
+                       (tipoRol === 'PROFESIONAL' || tipoRol === 'AMBOS');
+  if (!esProfesional) {
+    return;
+  }
+
+  const profesionalId = userData.profesionalId || userData.id;
+  const eventos = new EventSource(`./api/solicitudes/eventos?tipo=profesional&usuarioId=${profesionalId}`);
+
+  eventos.addEventListener('pendientes', (evento) => {
+    const datos = JSON.parse(evento.data);
+    actualizarBadgePendientes(datos.count);
+  });
+
+  // Refrescar la vista de trabajos si está abierta
+  ['nueva_solicitud', 'cancelacion', 'estado'].forEach(nombre => {
+    eventos.addEventListener(nombre, () => {
+      if (currentView === 'mis-trabajos') {
+        navigateTo('mis-trabajos');
+      }
+    });
+  });
+}
+
+function actualizarBadgePendientes(count) {
+  const badge = document.getElementById('badgePendientes');
+  if (!badge) {
+    return;
+  }
+  badge.textContent = count;
+  badge.style.display = count > 0 ? 'inline-block' : 'none';
+}
+
 // ============================================
 // CONFIGURACIÓN DE INTERFAZ
 // ============================================
@@ -393,14 +448,15 @@ async function calcularCompletitudProfesional() {
 // ============================================
 async function generarSeccionSolicitudesRecientes() {
   try {
-    const response = await fetch(`./api/solicitudes?tipo=cliente&usuarioId=${userData.id}`);
+    // Solo las 5 más recientes: página por cursor (proyección reducida con resumen)
+    const response = await fetch(`./api/solicitudes?tipo=cliente&usuarioId=${userData.id}&limite=5`);
     const data = await response.json();
 
     if (!data.success || !data.data.solicitudes) {
       return generarSeccionVacia('solicitudes');
     }
 
-    const solicitudes = data.data.solicitudes.slice(0, 5);
+    const solicitudes = data.data.solicitudes;
 
     if (solicitudes.length === 0) {
       return generarSeccionVacia('solicitudes');
@@ -435,6 +491,8 @@ async function generarSeccionSolicitudesRecientes() {
 
 function generarItemSolicitud(solicitud) {
   const estado = solicitud.estado || 'pendiente';
+  // Listado paginado: resumen; listado completo: descripcion
+  const descripcion = solicitud.resumen ?? solicitud.descripcion;
   const estadoClass = `status-${estado}`;
   const estadoTexto = {
     'pendiente': 'Pendiente',
@@ -455,7 +513,7 @@ function generarItemSolicitud(solicitud) {
       <div class="solicitud-header">
         <div>
           <div class="solicitud-title">
-            ${solicitud.descripcion?.substring(0, 60) || 'Sin descripción'}${solicitud.descripcion?.length > 60 ? '...' : ''}
+            ${descripcion?.substring(0, 60) || 'Sin descripción'}${descripcion?.length > 60 ? '...' : ''}
           </div>
           <div class="solicitud-meta">
             📅 ${fecha} • 💰 S/ ${solicitud.presupuestoEstimado?.toFixed(2) || '0.00'}
@@ -476,14 +534,14 @@ async function generarSeccionTrabajosRecientes() {
   try {
     // ✅ ACTUALIZADO 2025-12-04: Usar profesionalId en lugar de usuarioId para búsqueda de trabajos
     const profesionalId = userData.profesionalId || userData.id;
-    const response = await fetch(`./api/solicitudes?tipo=profesional&usuarioId=${profesionalId}`);
+    const response = await fetch(`./api/solicitudes?tipo=profesional&usuarioId=${profesionalId}&limite=5`);
     const data = await response.json();
 
     if (!data.success || !data.data.solicitudes) {
       return generarSeccionVacia('trabajos');
     }
 
-    const trabajos = data.data.solicitudes.slice(0, 5);
+    const trabajos = data.data.solicitudes;
 
     if (trabajos.length === 0) {
       return generarSeccionVacia('trabajos');
@@ -518,6 +576,7 @@ async function generarSeccionTrabajosRecientes() {
 
 function generarItemTrabajo(trabajo) {
   const estado = trabajo.estado || 'pendiente';
+  const descripcion = trabajo.resumen ?? trabajo.descripcion;
   const estadoClass = `status-${estado}`;
   const estadoTexto = {
     'pendiente': 'Pendiente',
@@ -538,7 +597,7 @@ function generarItemTrabajo(trabajo) {
       <div class="solicitud-header">
         <div>
           <div class="solicitud-title">
-            ${trabajo.descripcion?.substring(0, 60) || 'Sin descripción'}${trabajo.descripcion?.length > 60 ? '...' : ''}
+            ${descripcion?.substring(0, 60) || 'Sin descripción'}${descripcion?.length > 60 ? '...' : ''}
           </div>
           <div class="solicitud-meta">
             📅 ${fecha} • 💰 S/ ${trabajo.presupuestoEstimado?.toFixed(2) || '0.00'}
@@ -603,7 +662,7 @@ function generarSeccionVacia(tipo) {
 // ============================================
 async function renderMisSolicitudes(container) {
   try {
-    const response = await fetch(`./api/solicitudes?tipo=cliente&usuarioId=${userData.id}`);
+    const response = await fetch(`./api/solicitudes?tipo=cliente&usuarioId=${userData.id}&limite=${LIMITE_LISTADO}`);
     const data = await response.json();
 
     if (!data.success || !data.data.solicitudes) {
@@ -627,6 +686,7 @@ async function renderMisSolicitudes(container) {
           </button>
         </div>
         <div class="card-body">
+          <div id="listaMisSolicitudes">
     `;
 
     solicitudes.forEach(solicitud => {
@@ -634,11 +694,15 @@ async function renderMisSolicitudes(container) {
     });
 
     html += `
+          </div>
+          ${generarBotonCargarMas('cargarMasSolicitudes()', 'btnMasSolicitudes')}
         </div>
       </div>
     `;
 
     container.innerHTML = html;
+    cursorMisSolicitudes = data.data.siguienteCursor;
+    actualizarBotonCargarMas('btnMasSolicitudes', cursorMisSolicitudes);
   } catch (error) {
     console.error('Error al cargar solicitudes:', error);
     container.innerHTML = `
@@ -656,8 +720,60 @@ async function renderMisSolicitudes(container) {
   }
 }
 
-// ============================================
-// VISTA: MIS TRABAJOS
+/**
+ * Agrega la página siguiente de "Mis Solicitudes" a la lista.
+ */
+async function cargarMasSolicitudes() {
+  const pagina = await cargarPaginaSolicitudes('cliente', userData.id, cursorMisSolicitudes, 'btnMasSolicitudes');
+  if (!pagina) {
+    return;
+  }
+  document.getElementById('listaMisSolicitudes')
+    .insertAdjacentHTML('beforeend', pagina.solicitudes.map(generarItemSolicitud).join(''));
+  cursorMisSolicitudes = pagina.siguienteCursor;
+  actualizarBotonCargarMas('btnMasSolicitudes', cursorMisSolicitudes);
+}
+
+/**
+ * Pide la página siguiente (cursor) de solicitudes como cliente o profesional.
+ * Devuelve null si falla; el botón queda habilitado para reintentar.
+ */
+async function cargarPaginaSolicitudes(tipo, usuarioId, cursor, botonId) {
+  const boton = document.getElementById(botonId);
+  boton.disabled = true;
+  try {
+    const response = await fetch(`./api/solicitudes?tipo=${tipo}&usuarioId=${usuarioId}` +
+      `&limite=${LIMITE_LISTADO}&cursor=${encodeURIComponent(cursor)}`);
+    const data = await response.json();
+    if (!data.success || !data.data.solicitudes) {
+      throw new Error(data.error || 'Respuesta inválida');
+    }
+    return data.data;
+  } catch (error) {
+    console.error('Error al cargar más solicitudes:', error);
+    return null;
+  } finally {
+    boton.disabled = false;
+  }
+}
+
+function generarBotonCargarMas(accion, id) {
+  return `
+    <div class="load-more">
+      <button class="action-button outline" id="${id}" onclick="${accion}" style="display: none;">
+        Cargar más
+      </button>
+    </div>
+  `;
+}
+
+function actualizarBotonCargarMas(id, siguienteCursor) {
+  const boton = document.getElementById(id);
+  if (boton) {
+    boton.style.display = siguienteCursor ? 'inline-block' : 'none';
+  }
+}
+
 // ============================================
 // VISTA: MIS TRABAJOS (PROFESIONAL)
 // ============================================
@@ -675,7 +791,11 @@ async function renderMisTrabajos(container) {
     // ✅ ACTUALIZADO 2025-12-04: Usar profesionalId en lugar de usuarioId para búsqueda de trabajos
     const profesionalId = userData.profesionalId || userData.id;
     console.log('🔍 Buscando trabajos para profesionalId:', profesionalId);
-    const response = await fetch(`./api/solicitudes?tipo=profesional&usuarioId=${profesionalId}`);
+    // Primera página y conteo de pendientes en paralelo (el conteo no depende de la página)
+    const [response, pendientes] = await Promise.all([
+      fetch(`./api/solicitudes?tipo=profesional&usuarioId=${profesionalId}&limite=${LIMITE_LISTADO}`),
+      contarPendientes(profesionalId)
+    ]);
     const data = await response.json();
 
     if (!data.success || !data.data.solicitudes) {
@@ -690,15 +810,12 @@ async function renderMisTrabajos(container) {
       return;
     }
 
-    // Contar pendientes
-    const pendientesCount = solicitudes.filter(s => s.estado === 'pendiente').length;
-
     let html = `
       <div class="card">
         <div class="card-header">
           <div class="card-title">
             💼 Mis Trabajos Recientes
-            ${pendientesCount > 0 ? `<span class="badge badge-alert">${pendientesCount}</span>` : ''}
+            ${pendientes > 0 ? `<span class="badge badge-alert">${pendientes}</span>` : ''}
           </div>
         </div>
         <div class="card-body">
@@ -707,11 +824,14 @@ async function renderMisTrabajos(container) {
     html += renderTablaTrabajos(solicitudes);
 
     html += `
+          ${generarBotonCargarMas('cargarMasTrabajos()', 'btnMasTrabajos')}
         </div>
       </div>
     `;
 
     container.innerHTML = html;
+    cursorMisTrabajos = data.data.siguienteCursor;
+    actualizarBotonCargarMas('btnMasTrabajos', cursorMisTrabajos);
   } catch (error) {
     console.error('Error al cargar trabajos:', error);
     container.innerHTML = `
@@ -729,18 +849,43 @@ async function renderMisTrabajos(container) {
   }
 }
 
+/**
+ * Agrega la página siguiente de "Mis Trabajos" a la tabla.
+ */
+async function cargarMasTrabajos() {
+  const profesionalId = userData.profesionalId || userData.id;
+  const pagina = await cargarPaginaSolicitudes('profesional', profesionalId, cursorMisTrabajos, 'btnMasTrabajos');
+  if (!pagina) {
+    return;
+  }
+  document.getElementById('filasMisTrabajos')
+    .insertAdjacentHTML('beforeend', renderFilasTrabajos(pagina.solicitudes));
+  cursorMisTrabajos = pagina.siguienteCursor;
+  actualizarBotonCargarMas('btnMasTrabajos', cursorMisTrabajos);
+}
+
+/**
+ * Total de solicitudes pendientes del profesional (GET /api/solicitudes/pendientes/count).
+ * El listado está paginado, así que el badge no se puede contar en el navegador.
+ */
+async function contarPendientes(profesionalId) {
+  try {
+    const response = await fetch(`./api/solicitudes/pendientes/count?usuarioId=${profesionalId}`);
+    const data = await response.json();
+    return data.success ? data.data.count : 0;
+  } catch (error) {
+    console.error('Error al contar pendientes:', error);
+    return 0;
+  }
+}
+
 /**
  * Renderiza tabla de trabajos/solicitudes.
- * Ordenados cronológicamente con los más recientes primero.
+ * El servidor las entrega por página, de las más recientes a las más antiguas.
  *
  * ACTUALIZADO 2025-12-03: Agregado soporte para estados y navegación a detalle
  */
 function renderTablaTrabajos(solicitudes) {
-  // Ordenar por fecha de solicitud (más recientes primero)
-  const solicitudesOrdenadas = [...solicitudes].sort((a, b) => {
-    return new Date(b.fechaSolicitud) - new Date(a.fechaSolicitud);
-  });
-
   return `
     <div class="table-responsive">
       <table class="data-table">
@@ -755,8 +900,16 @@ function renderTablaTrabajos(solicitudes) {
             <th>Acciones</th>
           </tr>
         </thead>
-        <tbody>
-          ${solicitudesOrdenadas.map(s => `
+        <tbody id="filasMisTrabajos">
+          ${renderFilasTrabajos(solicitudes)}
+        </tbody>
+      </table>
+    </div>
+  `;
+}
+
+function renderFilasTrabajos(solicitudes) {
+  return solicitudes.map(s => `
             <tr class="${s.estado === 'pendiente' ? 'row-highlight-pending' : ''}">
               <td data-label="Código">
                 <span class="codigo-solicitud">SR-${new Date(s.fechaSolicitud).getFullYear()}-${String(s.id).padStart(6, '0')}</span>
@@ -764,7 +917,7 @@ function renderTablaTrabajos(solicitudes) {
               <td data-label="Cliente">Cliente #${s.clienteId}</td>
               <td data-label="Descripción">
                 <div class="descripcion-cell">
-                  ${truncarTexto(s.descripcion, 60)}
+                  ${truncarTexto(s.resumen ?? s.descripcion, 60)}
                 </div>
               </td>
               <td data-label="Fecha Servicio">${formatearFecha(s.fechaServicio)}</td>
@@ -776,11 +929,7 @@ function renderTablaTrabajos(solicitudes) {
                 </button>
               </td>
             </tr>
-          `).join('')}
-        </tbody>
-      </table>
-    </div>
-  `;
+          `).join('');
 }
 
 /**
@@ -221,7 +221,7 @@ function renderizarImagenes(fotosUrls) {
 
   const imagenesHTML = fotosUrls.map((url, index) => `
     <div class="imagen-item">
-      <img src="${url}"
+      <img src="${urlMiniatura(url)}"
            alt="Imagen adjunta ${index + 1}"
            onclick="verImagenCompleta('${url}')"
            loading="lazy">
@@ -232,6 +232,16 @@ function renderizarImagenes(fotosUrls) {
   console.log(`✅ ${fotosUrls.length} imágenes renderizadas`);
 }
 
+/**
+ * URL de la miniatura de una foto guardada por contenido ({sha256}.{ext} -> {sha256}_min.jpg).
+ * El servidor devuelve la original mientras la miniatura no existe.
+ * @param {string} url - URL de la foto original
+ * @returns {string} URL de la miniatura, o la misma URL si no es una foto por contenido
+ */
+function urlMiniatura(url) {
+  return url.replace(/([0-9a-f]{64})\.(jpg|png|gif|webp)$/, '$1_min.jpg');
+}
+
 /**
  * Abre la imagen en tamaño completo en una nueva pestaña.
  * @param {string} url - URL de la imagen a visualizar
@@ -0,0 +1,158 @@
+package com.contactoprofesionales.dao.portafolio;
+
+import com.contactoprofesionales.model.ImagenProyecto;
+import com.contactoprofesionales.model.ProyectoPortafolio;
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Pruebas unitarias para la carga en lote de imágenes de ProyectosPortafolioDAOImpl,
+ * con un DAO de imágenes falso (sin base de datos).
+ * Incluye casos positivos, negativos y límites.
+ */
+@DisplayName("Pruebas para ProyectosPortafolioDAOImpl (imágenes en lote)")
+public class ProyectosPortafolioDAOImplTest {
+
+    private ImagenesFalsas imagenesDAO;
+    private ProyectosPortafolioDAOImpl proyectosDAO;
+
+    @BeforeEach
+    public void setUp() {
+        imagenesDAO = new ImagenesFalsas();
+        proyectosDAO = new ProyectosPortafolioDAOImpl(imagenesDAO);
+    }
+
+    // ========================================================================
+    // CASOS POSITIVOS
+    // ========================================================================
+
+    @Test
+    @DisplayName("✓ Una sola consulta de imágenes para todos los proyectos, asignadas a su proyecto")
+    public void testCargarImagenesEnLote() {
+        // Arrange
+        List<ProyectoPortafolio> proyectos = List.of(proyecto(10), proyecto(20), proyecto(30));
+        imagenesDAO.resultado = Map.of(
+                10, List.of(imagen(10, "a.jpg"), imagen(10, "b.jpg")),
+                30, List.of(imagen(30, "c.jpg")));
+
+        // Act
+        proyectosDAO.cargarImagenes(proyectos);
+
+        // Assert
+        assertEquals(1, imagenesDAO.llamadas.size());
+        assertEquals(List.of(10, 20, 30), imagenesDAO.llamadas.get(0));
+        assertEquals(List.of("a.jpg", "b.jpg"), urls(proyectos.get(0)));
+        assertEquals(List.of("c.jpg"), urls(proyectos.get(2)));
+    }
+
+    // ========================================================================
+    // CASOS NEGATIVOS
+    // ========================================================================
+
+    @Test
+    @DisplayName("✗ Si falla la carga de imágenes, los proyectos quedan con lista vacía")
+    public void testErrorEnImagenes() {
+        // Arrange
+        List<ProyectoPortafolio> proyectos = List.of(proyecto(10), proyecto(20));
+        imagenesDAO.error = new Exception("Conexión rechazada");
+
+        // Act
+        proyectosDAO.cargarImagenes(proyectos);
+
+        // Assert
+        for (ProyectoPortafolio proyecto : proyectos) {
+            assertNotNull(proyecto.getImagenes());
+            assertTrue(proyecto.getImagenes().isEmpty());
+        }
+    }
+
+    // ========================================================================
+    // CASOS LÍMITE
+    // ========================================================================
+
+    @Test
+    @DisplayName("⚠ Un proyecto sin imágenes recibe una lista vacía y sin proyectos no se consulta")
+    public void testProyectoSinImagenesYListaVacia() {
+        // Arrange
+        List<ProyectoPortafolio> proyectos = List.of(proyecto(10));
+
+        // Act
+        proyectosDAO.cargarImagenes(proyectos);
+        proyectosDAO.cargarImagenes(Collections.emptyList());
+
+        // Assert
+        assertNotNull(proyectos.get(0).getImagenes());
+        assertTrue(proyectos.get(0).getImagenes().isEmpty());
+        assertEquals(1, imagenesDAO.llamadas.size());
+    }
+
+    private static ProyectoPortafolio proyecto(int id) {
+        ProyectoPortafolio proyecto = new ProyectoPortafolio();
+        proyecto.setId(id);
+        return proyecto;
+    }
+
+    private static ImagenProyecto imagen(int proyectoId, String url) {
+        ImagenProyecto imagen = new ImagenProyecto();
+        imagen.setProyectoId(proyectoId);
+        imagen.setUrlImagen(url);
+        return imagen;
+    }
+
+    private static List<String> urls(ProyectoPortafolio proyecto) {
+        List<String> urls = new ArrayList<>();
+        for (ImagenProyecto imagen : proyecto.getImagenes()) {
+            urls.add(imagen.getUrlImagen());
+        }
+        return urls;
+    }
+
+    /**
+     * DAO de imágenes que registra los IDs de cada consulta en lote.
+     */
+    private static class ImagenesFalsas implements ImagenesProyectoDAO {
+        final List<List<Integer>> llamadas = new ArrayList<>();
+        Map<Integer, List<ImagenProyecto>> resultado = Collections.emptyMap();
+        Exception error;
+
+        @Override
+        public Map<Integer, List<ImagenProyecto>> listarPorProyectos(List<Integer> proyectoIds) throws Exception {
+            llamadas.add(new ArrayList<>(proyectoIds));
+            if (error != null) {
+                throw error;
+            }
+            return resultado;
+        }
+
+        @Override
+        public List<ImagenProyecto> listarPorProyecto(Integer proyectoId) {
+            throw new UnsupportedOperationException("Debe usarse la carga en lote");
+        }
+
+        @Override
+        public Optional<ImagenProyecto> buscarPorId(Integer id) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Integer guardar(ImagenProyecto imagen) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean eliminar(Integer id) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int contarPorProyecto(Integer proyectoId) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.contactoprofesionales.dao.profesional;
+
+import com.contactoprofesionales.util.DatabaseConnection;
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * Pruebas de regresión del plan de ejecución (EXPLAIN) de ProfesionalDAOImpl.
+ *
+ * Verifican que el listado de profesionales calcule las especialidades con un solo
+ * agregado unido a la consulta principal, y no con subconsultas correlacionadas
+ * (SubPlan) que se ejecutan una vez por cada profesional, y que la búsqueda por texto
+ * use los índices GIN trigram.
+ *
+ * NOTA: Requieren base de datos; si no hay conexión, las pruebas se omiten.
+ */
+@DisplayName("Pruebas de plan de ejecución para ProfesionalDAOImpl")
+public class ProfesionalDAOImplPlanTest {
+
+    private static Connection conn;
+
+    @BeforeAll
+    public static void conectar() {
+        try {
+            conn = DatabaseConnection.getConnection();
+        } catch (Throwable e) {
+            conn = null;
+        }
+    }
+
+    @AfterAll
+    public static void desconectar() throws Exception {
+        if (conn != null) {
+            conn.close();
+        }
+    }
+
+    @BeforeEach
+    public void verificarConexion() {
+        Assumptions.assumeTrue(conn != null, "Base de datos no disponible");
+    }
+
+    // ========================================================================
+    // CASOS POSITIVOS
+    // ========================================================================
+
+    @Test
+    @DisplayName("✓ listarTodos no ejecuta subconsultas por fila")
+    public void testListarTodosSinSubPlan() throws Exception {
+        // Act
+        String plan = explicar(ProfesionalDAOImpl.SQL_LISTAR_TODOS);
+
+        // Assert
+        assertFalse(plan.contains("SubPlan"), "No debe haber subconsultas correlacionadas:\n" + plan);
+        assertEquals(1, contar(plan, "especialidades_profesional"),
+                    "especialidades_profesional debe leerse una sola vez:\n" + plan);
+    }
+
+    @Test
+    @DisplayName("✓ JOIN LATERAL accede una sola vez a especialidades por profesional")
+    public void testJoinLateralUnSoloAcceso() throws Exception {
+        // Arrange
+        String sql = "SELECT p.id, esp.especialidad_id, esp.especialidades " +
+                    "FROM profesionales p " +
+                    ProfesionalDAOImpl.JOIN_ESPECIALIDADES_LATERAL +
+                    "WHERE p.id = 1";
+
+        // Act
+        String plan = explicar(sql);
+
+        // Assert
+        assertFalse(plan.contains("SubPlan"), "No debe haber subconsultas correlacionadas:\n" + plan);
+        assertEquals(1, contar(plan, "especialidades_profesional"),
+                    "especialidades_profesional debe leerse una sola vez:\n" + plan);
+    }
+
+    @Test
+    @DisplayName("✓ La búsqueda por inicio de palabra en servicios y categorías usa sus índices trigram")
+    public void testBusquedaTextoServiciosUsaIndices() throws Exception {
+        // Arrange
+        String servicios = "SELECT ept.profesional_id FROM especialidades_profesional ept WHERE ept.activo = true " +
+                          "AND f_unaccent(lower(ept.servicio_profesional)) ~ '(^|[^a-z0-9])electr'";
+        String categorias = "SELECT cst.id FROM categorias_servicio cst " +
+                           "WHERE f_unaccent(lower(cst.nombre)) ~ '(^|[^a-z0-9])electr'";
+
+        // Act
+        String planServicios = explicarSinRecorridoSecuencial(servicios);
+        String planCategorias = explicarSinRecorridoSecuencial(categorias);
+
+        // Assert
+        assertTrue(planServicios.contains("idx_especialidades_profesional_servicio_trgm"), planServicios);
+        assertTrue(planCategorias.contains("idx_categorias_servicio_nombre_trgm"), planCategorias);
+    }
+
+    @Test
+    @DisplayName("✓ La búsqueda por inicio de palabra en habilidades y biografía usa sus índices trigram")
+    public void testBusquedaTextoPerfilUsaIndices() throws Exception {
+        // Arrange
+        String habilidades = "SELECT pt.id FROM profesionales pt WHERE pt.activo = true " +
+                            "AND f_habilidades_texto(pt.habilidades) ~ '(^|[^a-z0-9])electr'";
+        String biografia = "SELECT pt.id FROM profesionales pt WHERE pt.activo = true " +
+                          "AND f_unaccent(lower(pt.biografia_profesional)) ~ '(^|[^a-z0-9])electr'";
+
+        // Act
+        String planHabilidades = explicarSinRecorridoSecuencial(habilidades);
+        String planBiografia = explicarSinRecorridoSecuencial(biografia);
+
+        // Assert
+        assertTrue(planHabilidades.contains("idx_profesionales_habilidades_trgm"), planHabilidades);
+        assertTrue(planBiografia.contains("idx_profesionales_biografia_trgm"), planBiografia);
+    }
+
+    /**
+     * Plan con el recorrido secuencial desactivado: con pocas filas de prueba el
+     * planificador lo preferiría aunque el índice sea utilizable.
+     */
+    private String explicarSinRecorridoSecuencial(String sql) throws Exception {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("SET enable_seqscan = off");
+        }
+        try {
+            return explicar(sql);
+        } finally {
+            try (Statement stmt = conn.createStatement()) {
+                stmt.execute("RESET enable_seqscan");
+            }
+        }
+    }
+
+    private String explicar(String sql) throws Exception {
+        StringBuilder plan = new StringBuilder();
+
+        try (PreparedStatement stmt = conn.prepareStatement("EXPLAIN " + sql);
+             ResultSet rs = stmt.executeQuery()) {
+            while (rs.next()) {
+                plan.append(rs.getString(1)).append('\n');
+            }
+        }
+
+        return plan.toString();
+    }
+
+    private int contar(String texto, String buscado) {
+        int total = 0;
+        int desde = 0;
+        while ((desde = texto.indexOf(buscado, desde)) >= 0) {
+            total++;
+            desde += buscado.length();
+        }
+        return total;
+    }
+}
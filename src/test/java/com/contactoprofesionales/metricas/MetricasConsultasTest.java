@@ -0,0 +1,138 @@
+package com.contactoprofesionales.metricas;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pruebas unitarias para MetricasConsultas y el proxy ConexionInstrumentada.
+ * Incluye casos positivos, negativos y límites.
+ */
+@DisplayName("Pruebas para MetricasConsultas")
+public class MetricasConsultasTest {
+
+    private MetricasConsultas metricas;
+
+    @BeforeEach
+    public void setUp() {
+        metricas = new MetricasConsultas(TimeUnit.MILLISECONDS.toNanos(500));
+    }
+
+    // ========================================================================
+    // CASOS POSITIVOS
+    // ========================================================================
+
+    @Test
+    @DisplayName("✓ Normaliza espacios, literales y listas de parámetros")
+    public void testNormalizar() {
+        // Act
+        String forma = MetricasConsultas.normalizar(
+                "SELECT *\n  FROM profesionales  WHERE id IN (?, ?, ?) AND nombre = 'Ana' AND edad > 30");
+
+        // Assert
+        assertEquals("SELECT * FROM profesionales WHERE id IN (?...) AND nombre = ? AND edad > ?", forma);
+    }
+
+    @Test
+    @DisplayName("✓ Agrupa por origen y forma y exporta por DAO")
+    public void testAgrupacionYExportacion() {
+        // Arrange
+        MetricasConsultas.Consulta consulta = metricas.consulta("ProfesionalDAOImpl.listarTodos",
+                                                               "SELECT * FROM profesionales LIMIT 10");
+
+        // Act
+        consulta.registrarEjecucion(TimeUnit.MILLISECONDS.toNanos(2), 1, false);
+        metricas.consulta("ProfesionalDAOImpl.listarTodos", "SELECT  * FROM profesionales LIMIT 20")
+                .registrarEjecucion(TimeUnit.MILLISECONDS.toNanos(3), 1, true);
+        consulta.sumarFilas(10);
+
+        // Assert
+        assertEquals(2, consulta.getEjecuciones());
+        assertEquals(10, consulta.getFilas());
+        String texto = exportar();
+        assertTrue(texto.contains("db_query_duration_seconds_count{dao=\"ProfesionalDAOImpl.listarTodos\"} 2\n"), texto);
+        assertTrue(texto.contains("db_query_rows_total{dao=\"ProfesionalDAOImpl.listarTodos\"} 10\n"), texto);
+        assertTrue(texto.contains("db_query_errors_total{dao=\"ProfesionalDAOImpl.listarTodos\"} 1\n"), texto);
+    }
+
+    @Test
+    @DisplayName("✓ El proxy mide la ejecución y cuenta las filas leídas")
+    public void testConexionInstrumentada() throws SQLException {
+        // Arrange: conexión falsa cuyo ResultSet devuelve 3 filas
+        Connection conexion = ConexionInstrumentada.envolver(conexionFalsa(3), metricas);
+
+        // Act
+        try (PreparedStatement ps = conexion.prepareStatement("SELECT id FROM usuarios WHERE email = ?")) {
+            ps.setString(1, "ana@correo.com");
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    // recorrer
+                }
+            }
+        }
+
+        // Assert
+        StringBuilder informe = new StringBuilder();
+        metricas.escribirInforme(informe);
+        assertTrue(informe.toString().contains("SELECT id FROM usuarios WHERE email = ?"), informe.toString());
+        assertTrue(exportar().contains("db_query_rows_total{dao=\"(desconocido)\"} 3\n"), exportar());
+    }
+
+    // ========================================================================
+    // CASOS NEGATIVOS
+    // ========================================================================
+
+    @Test
+    @DisplayName("✗ Sin mediciones el percentil es 0")
+    public void testPercentilSinMediciones() {
+        assertEquals(0.0, new HistogramaLatencia(MetricasConsultas.LIMITES_SEGUNDOS).percentilSegundos(99));
+    }
+
+    // ========================================================================
+    // CASOS LÍMITE
+    // ========================================================================
+
+    @Test
+    @DisplayName("⚠ Percentiles interpolados dentro de la cubeta")
+    public void testPercentiles() {
+        // Arrange
+        HistogramaLatencia histograma = new HistogramaLatencia(MetricasConsultas.LIMITES_SEGUNDOS);
+
+        // Act: 99 consultas de 0.8 ms y una de 2 s
+        for (int i = 0; i < 99; i++) {
+            histograma.registrar(TimeUnit.MICROSECONDS.toNanos(800));
+        }
+        histograma.registrar(TimeUnit.SECONDS.toNanos(2));
+
+        // Assert
+        double p50 = histograma.percentilSegundos(50);
+        assertTrue(p50 > 0.0005 && p50 <= 0.001, "p50=" + p50);
+        assertTrue(histograma.percentilSegundos(99) <= 0.001);
+        assertTrue(histograma.percentilSegundos(100) > 1.0);
+    }
+
+    private String exportar() {
+        StringBuilder texto = new StringBuilder();
+        metricas.escribir(new EscritorPrometheus(texto));
+        return texto.toString();
+    }
+
+    private static Connection conexionFalsa(int filas) {
+        int[] restantes = {filas};
+        ResultSet rs = (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(),
+                new Class<?>[] {ResultSet.class},
+                (p, m, a) -> m.getName().equals("next") ? restantes[0]-- > 0 : null);
+        PreparedStatement ps = (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                new Class<?>[] {PreparedStatement.class},
+                (p, m, a) -> m.getName().equals("executeQuery") ? rs : null);
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] {Connection.class},
+                (p, m, a) -> m.getName().equals("prepareStatement") ? ps : null);
+    }
+}
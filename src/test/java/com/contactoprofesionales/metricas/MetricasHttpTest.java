@@ -0,0 +1,113 @@
+package com.contactoprofesionales.metricas;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pruebas unitarias para MetricasHttp y su exportación en formato Prometheus.
+ * Incluye casos positivos, negativos y límites.
+ */
+@DisplayName("Pruebas para MetricasHttp")
+public class MetricasHttpTest {
+
+    private MetricasHttp metricas;
+
+    @BeforeEach
+    public void setUp() {
+        metricas = new MetricasHttp();
+    }
+
+    // ========================================================================
+    // CASOS POSITIVOS
+    // ========================================================================
+
+    @Test
+    @DisplayName("✓ Cuenta peticiones por ruta y código de estado")
+    public void testContadoresPorEstado() {
+        // Arrange
+        MetricasHttp.Ruta ruta = metricas.ruta("GET", "/api/solicitudes/*");
+
+        // Act
+        registrar(ruta, 3, 200);
+        registrar(ruta, 80, 200);
+        registrar(ruta, 20, 404);
+
+        // Assert
+        String texto = exportar();
+        assertTrue(texto.contains("http_server_requests_total{method=\"GET\",route=\"/api/solicitudes/*\",status=\"200\"} 2\n"), texto);
+        assertTrue(texto.contains("http_server_requests_total{method=\"GET\",route=\"/api/solicitudes/*\",status=\"404\"} 1\n"), texto);
+        assertSame(ruta, metricas.ruta("GET", "/api/solicitudes/*"));
+    }
+
+    @Test
+    @DisplayName("✓ Histograma acumulado por cubetas con _sum y _count")
+    public void testHistograma() {
+        // Arrange
+        MetricasHttp.Ruta ruta = metricas.ruta("POST", "/api/login");
+
+        // Act: 3 ms, 80 ms y 20 s
+        registrar(ruta, 3, 200);
+        registrar(ruta, 80, 200);
+        registrar(ruta, 20_000, 200);
+
+        // Assert
+        String texto = exportar();
+        String etiquetas = "method=\"POST\",route=\"/api/login\"";
+        assertTrue(texto.contains("http_server_request_duration_seconds_bucket{" + etiquetas + ",le=\"0.005\"} 1\n"), texto);
+        assertTrue(texto.contains("http_server_request_duration_seconds_bucket{" + etiquetas + ",le=\"0.1\"} 2\n"), texto);
+        assertTrue(texto.contains("http_server_request_duration_seconds_bucket{" + etiquetas + ",le=\"10.0\"} 2\n"), texto);
+        assertTrue(texto.contains("http_server_request_duration_seconds_bucket{" + etiquetas + ",le=\"+Inf\"} 3\n"), texto);
+        assertTrue(texto.contains("http_server_request_duration_seconds_count{" + etiquetas + "} 3\n"), texto);
+        assertTrue(texto.contains("http_server_request_duration_seconds_sum{" + etiquetas + "} 20.083\n"), texto);
+    }
+
+    // ========================================================================
+    // CASOS NEGATIVOS
+    // ========================================================================
+
+    @Test
+    @DisplayName("✗ Métodos desconocidos se agrupan y las etiquetas se escapan")
+    public void testMetodoDesconocidoYEscape() {
+        // Act
+        registrar(metricas.ruta("PROPFIND", "/a\"b"), 1, 405);
+
+        // Assert
+        assertTrue(exportar().contains("http_server_requests_total{method=\"OTRO\",route=\"/a\\\"b\",status=\"405\"} 1\n"));
+    }
+
+    // ========================================================================
+    // CASOS LÍMITE
+    // ========================================================================
+
+    @Test
+    @DisplayName("⚠ Peticiones en curso suben al iniciar y bajan al finalizar")
+    public void testEnCurso() {
+        // Arrange
+        MetricasHttp.Ruta ruta = metricas.ruta("GET", "/api/buscar-profesionales");
+
+        // Act
+        ruta.iniciar();
+        ruta.iniciar();
+        long durante = ruta.getEnCurso();
+        ruta.finalizar(1_000, 200);
+
+        // Assert
+        assertEquals(2, durante);
+        assertEquals(1, ruta.getEnCurso());
+        assertEquals(1, ruta.getTotalPeticiones());
+        assertTrue(exportar().contains("http_server_requests_in_flight{method=\"GET\",route=\"/api/buscar-profesionales\"} 1\n"));
+    }
+
+    private void registrar(MetricasHttp.Ruta ruta, long millis, int status) {
+        ruta.iniciar();
+        ruta.finalizar(TimeUnit.MILLISECONDS.toNanos(millis), status);
+    }
+
+    private String exportar() {
+        StringBuilder texto = new StringBuilder();
+        metricas.escribir(new EscritorPrometheus(texto));
+        return texto.toString();
+    }
+}
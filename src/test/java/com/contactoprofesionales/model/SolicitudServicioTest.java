@@ -0,0 +1,75 @@
+package com.contactoprofesionales.model;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+/**
+ * Pruebas unitarias para las transiciones de estado de SolicitudServicio.
+ * Incluye casos positivos, negativos y límites.
+ */
+@DisplayName("Pruebas para SolicitudServicio")
+public class SolicitudServicioTest {
+
+    private SolicitudServicio solicitud;
+
+    @BeforeEach
+    public void setUp() {
+        solicitud = new SolicitudServicio();
+    }
+
+    // ========================================================================
+    // CASOS POSITIVOS
+    // ========================================================================
+
+    @Test
+    @DisplayName("✓ Estados previos de cada estado destino")
+    public void testEstadosPrevios() {
+        assertEquals(List.of("pendiente"), SolicitudServicio.estadosPrevios("aceptada"));
+        assertEquals(List.of("pendiente"), SolicitudServicio.estadosPrevios("rechazada"));
+        assertEquals(List.of("aceptada"), SolicitudServicio.estadosPrevios("completada"));
+        assertEquals(List.of("aceptada"), SolicitudServicio.estadosPrevios("cancelada"));
+    }
+
+    @Test
+    @DisplayName("✓ Una solicitud pendiente puede aceptarse o rechazarse")
+    public void testTransicionesDesdePendiente() {
+        // Arrange
+        solicitud.setEstado("pendiente");
+
+        // Act & Assert
+        assertTrue(solicitud.puedeTransicionarA("aceptada"));
+        assertTrue(solicitud.puedeTransicionarA("rechazada"));
+        assertFalse(solicitud.puedeTransicionarA("completada"));
+        assertEquals(List.of("ACEPTADA", "RECHAZADA"), solicitud.getEstadosDisponibles());
+    }
+
+    // ========================================================================
+    // CASOS NEGATIVOS
+    // ========================================================================
+
+    @Test
+    @DisplayName("✗ Un estado final no permite cambios")
+    public void testEstadoFinal() {
+        // Arrange
+        solicitud.setEstado("completada");
+
+        // Act & Assert
+        assertFalse(solicitud.puedeTransicionarA("cancelada"));
+        assertTrue(solicitud.getEstadosDisponibles().isEmpty());
+        assertFalse(solicitud.puedeSerCancelada());
+    }
+
+    // ========================================================================
+    // CASOS LÍMITE
+    // ========================================================================
+
+    @Test
+    @DisplayName("⚠ Un estado desconocido o inicial no tiene estados previos")
+    public void testEstadosPreviosSinTransicion() {
+        assertTrue(SolicitudServicio.estadosPrevios("pendiente").isEmpty());
+        assertTrue(SolicitudServicio.estadosPrevios("archivada").isEmpty());
+        assertTrue(SolicitudServicio.estadosPrevios(null).isEmpty());
+    }
+}
@@ -0,0 +1,139 @@
+package com.contactoprofesionales.service.almacenamiento;
+
+import com.contactoprofesionales.exception.ValidationException;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Pruebas unitarias para ProcesadorFotos con AlmacenamientoFotosLocal en un directorio temporal.
+ * Incluye casos positivos, negativos y límites.
+ */
+@DisplayName("Pruebas para ProcesadorFotos")
+public class ProcesadorFotosTest {
+
+    @TempDir
+    Path directorio;
+
+    private AlmacenamientoFotosLocal almacenamiento;
+    private ProcesadorFotos procesador;
+
+    @BeforeEach
+    public void setUp() {
+        almacenamiento = new AlmacenamientoFotosLocal(directorio, "uploads/solicitudes/");
+        procesador = new ProcesadorFotos(almacenamiento, 64 * 1024);
+    }
+
+    // ========================================================================
+    // CASOS POSITIVOS
+    // ========================================================================
+
+    @Test
+    @DisplayName("✓ La misma foto se guarda una vez y genera su miniatura")
+    public void testGuardarSinDuplicados() throws Exception {
+        // Arrange
+        String foto = "data:image/png;base64," + Base64.getEncoder().encodeToString(imagenPng(800, 400));
+
+        // Act
+        List<String> urls = procesador.procesar(List.of(foto, foto));
+        assertTrue(procesador.esperarMiniaturas(10));
+
+        // Assert
+        assertEquals(2, urls.size());
+        assertEquals(urls.get(0), urls.get(1));
+        assertTrue(urls.get(0).matches("uploads/solicitudes/[0-9a-f]{64}\\.png"));
+
+        String nombre = urls.get(0).substring("uploads/solicitudes/".length());
+        String miniatura = ProcesadorFotos.nombreMiniatura(nombre);
+        assertEquals(2, contarArchivos(), "Una original y una miniatura");
+        try (InputStream entrada = almacenamiento.abrir(miniatura)) {
+            BufferedImage reducida = ImageIO.read(entrada);
+            assertEquals(ProcesadorFotos.LADO_MINIATURA, reducida.getWidth());
+            assertEquals(ProcesadorFotos.LADO_MINIATURA / 2, reducida.getHeight());
+        }
+    }
+
+    // ========================================================================
+    // CASOS NEGATIVOS
+    // ========================================================================
+
+    @Test
+    @DisplayName("✗ Rechaza contenido que no es imagen o base64 inválido")
+    public void testRechazarContenidoInvalido() throws Exception {
+        // Arrange
+        String texto = "data:image/jpeg;base64," + Base64.getEncoder().encodeToString("hola".getBytes());
+
+        // Act & Assert
+        assertThrows(ValidationException.class, () -> procesador.procesar(List.of(texto)));
+        assertThrows(ValidationException.class, () -> procesador.procesar(List.of("data:image/png;base64,@@@@")));
+        assertEquals(0, contarArchivos());
+    }
+
+    // ========================================================================
+    // CASOS LÍMITE
+    // ========================================================================
+
+    @Test
+    @DisplayName("⚠ Una foto mayor al máximo no deja archivos")
+    public void testRechazarFotoGrande() throws Exception {
+        // Arrange: firma PNG seguida de bytes hasta superar el máximo
+        byte[] grande = new byte[64 * 1024 + 1];
+        System.arraycopy(new byte[] {(byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A}, 0, grande, 0, 8);
+        String foto = Base64.getEncoder().encodeToString(grande);
+
+        // Act
+        ValidationException error = assertThrows(ValidationException.class,
+                () -> procesador.procesar(List.of(foto)));
+
+        // Assert
+        assertTrue(error.getMessage().contains("no debe superar"));
+        assertEquals(0, contarArchivos());
+    }
+
+    @Test
+    @DisplayName("⚠ Una imagen que declara demasiados píxeles no genera miniatura")
+    public void testBombaDeDescompresion() throws Exception {
+        // Arrange: solo firma y cabecera IHDR de un PNG de 30000x30000
+        ByteBuffer cabecera = ByteBuffer.allocate(33);
+        cabecera.put(new byte[] {(byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A});
+        cabecera.putInt(13).put("IHDR".getBytes(StandardCharsets.US_ASCII))
+                .putInt(30000).putInt(30000).put(new byte[] {8, 6, 0, 0, 0});
+        CRC32 crc = new CRC32();
+        crc.update(cabecera.array(), 12, 17);
+        cabecera.putInt((int) crc.getValue());
+        String nombre = almacenamiento.guardar(new ByteArrayInputStream(cabecera.array()), "png", 1024);
+
+        // Act
+        procesador.generarMiniatura(nombre, ProcesadorFotos.nombreMiniatura(nombre));
+
+        // Assert
+        assertFalse(almacenamiento.existe(ProcesadorFotos.nombreMiniatura(nombre)));
+    }
+
+    private static byte[] imagenPng(int ancho, int alto) throws Exception {
+        BufferedImage imagen = new BufferedImage(ancho, alto, BufferedImage.TYPE_INT_ARGB);
+        ByteArrayOutputStream salida = new ByteArrayOutputStream();
+        ImageIO.write(imagen, "png", salida);
+        return salida.toByteArray();
+    }
+
+    private long contarArchivos() throws Exception {
+        try (Stream<Path> archivos = Files.walk(directorio)) {
+            return archivos.filter(Files::isRegularFile).count();
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.contactoprofesionales.service.notificacion;
+
+import com.contactoprofesionales.dao.notificacion.NotificacionOutboxDAO;
+import com.contactoprofesionales.model.NotificacionOutbox;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+/**
+ * Pruebas unitarias para DespachadorNotificaciones y CanalNotificacionArchivo.
+ * Usa un outbox en memoria en lugar de la tabla notificaciones_outbox.
+ * Incluye casos positivos, negativos y límites.
+ */
+@DisplayName("Pruebas para DespachadorNotificaciones")
+public class DespachadorNotificacionesTest {
+
+    private OutboxEnMemoria outbox;
+    private ExecutorService ejecutor;
+
+    @BeforeEach
+    public void setUp() {
+        outbox = new OutboxEnMemoria();
+        ejecutor = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ejecutor.shutdownNow();
+    }
+
+    // ========================================================================
+    // CASOS POSITIVOS
+    // ========================================================================
+
+    @Test
+    @DisplayName("✓ Entrega las pendientes y las marca como enviadas")
+    public void testEntregaPendientes() throws Exception {
+        // Arrange
+        List<String> entregadas = new ArrayList<>();
+        DespachadorNotificaciones despachador = despachador(canal("log", n -> {
+            synchronized (entregadas) {
+                entregadas.add(n.getClaveIdempotencia());
+            }
+        }));
+        outbox.agregar(new NotificacionOutbox("nueva_solicitud", "log", 10, 7, "{}"));
+        outbox.agregar(new NotificacionOutbox("aceptacion", "log", 11, 3, "{}"));
+
+        // Act
+        int procesadas = despachador.despacharPendientes(ejecutor);
+
+        // Assert
+        assertEquals(2, procesadas);
+        assertEquals(2, entregadas.size());
+        assertTrue(outbox.todas().stream().allMatch(n -> NotificacionOutbox.ESTADO_ENVIADA.equals(n.getEstado())));
+        assertEquals(0, despachador.despacharPendientes(ejecutor), "No se vuelven a entregar");
+    }
+
+    @Test
+    @DisplayName("✓ El canal archivo escribe un solo archivo por clave de idempotencia")
+    public void testCanalArchivoIdempotente(@TempDir Path directorio) throws Exception {
+        // Arrange
+        CanalNotificacionArchivo canal = new CanalNotificacionArchivo(directorio);
+        NotificacionOutbox notificacion = new NotificacionOutbox("rechazo", "archivo", 42, 5, "{\"id\":42}");
+
+        // Act
+        canal.entregar(notificacion);
+        canal.entregar(notificacion);
+
+        // Assert
+        List<Path> archivos;
+        try (var listado = Files.list(directorio)) {
+            archivos = listado.collect(Collectors.toList());
+        }
+        assertEquals(1, archivos.size());
+        assertEquals("rechazo_42_archivo.json", archivos.get(0).getFileName().toString());
+        assertTrue(Files.readString(archivos.get(0)).contains("\"solicitud\":{\"id\":42}"));
+    }
+
+    // ========================================================================
+    // CASOS NEGATIVOS
+    // ========================================================================
+
+    @Test
+    @DisplayName("✗ Un fallo reprograma la notificación con espera")
+    public void testFalloReprograma() throws Exception {
+        // Arrange
+        DespachadorNotificaciones despachador = despachador(canal("log", n -> {
+            throw new IllegalStateException("SMTP no disponible");
+        }));
+        NotificacionOutbox notificacion = outbox.agregar(new NotificacionOutbox("cancelacion", "log", 9, 2, "{}"));
+
+        // Act
+        despachador.despacharPendientes(ejecutor);
+
+        // Assert
+        assertEquals(NotificacionOutbox.ESTADO_PENDIENTE, notificacion.getEstado());
+        assertEquals(1, notificacion.getIntentos());
+        assertTrue(notificacion.getProximoIntento().isAfter(LocalDateTime.now().plusSeconds(4)));
+        assertTrue(notificacion.getUltimoError().contains("SMTP no disponible"));
+    }
+
+    @Test
+    @DisplayName("✗ Sin canal configurado la notificación queda fallida")
+    public void testCanalDesconocido() throws Exception {
+        // Arrange
+        DespachadorNotificaciones despachador = despachador(canal("log", n -> { }));
+        NotificacionOutbox notificacion = outbox.agregar(new NotificacionOutbox("rechazo", "sms", 9, 2, "{}"));
+
+        // Act
+        despachador.despacharPendientes(ejecutor);
+
+        // Assert
+        assertEquals(NotificacionOutbox.ESTADO_FALLIDA, notificacion.getEstado());
+    }
+
+    // ========================================================================
+    // CASOS LÍMITE
+    // ========================================================================
+
+    @Test
+    @DisplayName("⚠ Después del último intento la notificación queda fallida")
+    public void testMaximoIntentos() throws Exception {
+        // Arrange
+        DespachadorNotificaciones despachador = despachador(canal("log", n -> {
+            throw new IllegalStateException("caído");
+        }));
+        NotificacionOutbox notificacion = outbox.agregar(new NotificacionOutbox("aceptacion", "log", 9, 2, "{}"));
+        notificacion.setIntentos(DespachadorNotificaciones.MAXIMO_INTENTOS - 1);
+
+        // Act
+        despachador.despacharPendientes(ejecutor);
+
+        // Assert
+        assertEquals(DespachadorNotificaciones.MAXIMO_INTENTOS, notificacion.getIntentos());
+        assertEquals(NotificacionOutbox.ESTADO_FALLIDA, notificacion.getEstado());
+    }
+
+    @Test
+    @DisplayName("⚠ La espera se duplica por intento y no supera el máximo (+20%)")
+    public void testEsperaExponencial() {
+        Duration primera = DespachadorNotificaciones.espera(1);
+        Duration tercera = DespachadorNotificaciones.espera(3);
+        Duration muchas = DespachadorNotificaciones.espera(100);
+
+        assertTrue(primera.toMillis() >= 5_000 && primera.toMillis() <= 6_000, "primera=" + primera);
+        assertTrue(tercera.toMillis() >= 20_000 && tercera.toMillis() <= 24_000, "tercera=" + tercera);
+        assertTrue(muchas.compareTo(Duration.ofMinutes(36)) <= 0, "muchas=" + muchas);
+        assertTrue(muchas.compareTo(Duration.ofMinutes(30)) >= 0, "muchas=" + muchas);
+    }
+
+    private DespachadorNotificaciones despachador(CanalNotificacion... canales) {
+        return new DespachadorNotificaciones(outbox, List.of(canales), 2);
+    }
+
+    private interface Entrega {
+        void entregar(NotificacionOutbox notificacion) throws Exception;
+    }
+
+    private static CanalNotificacion canal(String nombre, Entrega entrega) {
+        return new CanalNotificacion() {
+            @Override
+            public String getNombre() {
+                return nombre;
+            }
+
+            @Override
+            public void entregar(NotificacionOutbox notificacion) throws Exception {
+                entrega.entregar(notificacion);
+            }
+        };
+    }
+
+    /**
+     * Outbox en memoria con la misma semántica de reserva que NotificacionOutboxDAOImpl.
+     */
+    private static class OutboxEnMemoria implements NotificacionOutboxDAO {
+
+        private final Map<Long, NotificacionOutbox> filas = new ConcurrentHashMap<>();
+        private long siguienteId = 1;
+
+        synchronized NotificacionOutbox agregar(NotificacionOutbox notificacion) {
+            notificacion.setId(siguienteId++);
+            notificacion.setProximoIntento(LocalDateTime.now().minusSeconds(1));
+            filas.put(notificacion.getId(), notificacion);
+            return notificacion;
+        }
+
+        List<NotificacionOutbox> todas() {
+            return new ArrayList<>(filas.values());
+        }
+
+        @Override
+        public boolean registrar(Connection conn, NotificacionOutbox notificacion) {
+            agregar(notificacion);
+            return true;
+        }
+
+        @Override
+        public synchronized List<NotificacionOutbox> reservarPendientes(int limite, int segundosReserva) {
+            LocalDateTime ahora = LocalDateTime.now();
+            List<NotificacionOutbox> lote = new ArrayList<>();
+            for (NotificacionOutbox n : filas.values()) {
+                if (lote.size() < limite && NotificacionOutbox.ESTADO_PENDIENTE.equals(n.getEstado())
+                        && !n.getProximoIntento().isAfter(ahora)) {
+                    n.setIntentos(n.getIntentos() + 1);
+                    n.setProximoIntento(ahora.plusSeconds(segundosReserva));
+                    lote.add(n);
+                }
+            }
+            return lote;
+        }
+
+        @Override
+        public void marcarEnviada(Long id) {
+            filas.get(id).setEstado(NotificacionOutbox.ESTADO_ENVIADA);
+        }
+
+        @Override
+        public void reprogramar(Long id, LocalDateTime proximoIntento, String error) {
+            filas.get(id).setProximoIntento(proximoIntento);
+            filas.get(id).setUltimoError(error);
+        }
+
+        @Override
+        public void marcarFallida(Long id, String error) {
+            filas.get(id).setEstado(NotificacionOutbox.ESTADO_FALLIDA);
+            filas.get(id).setUltimoError(error);
+        }
+
+        @Override
+        public int contarPendientes() {
+            return (int) filas.values().stream()
+                    .filter(n -> NotificacionOutbox.ESTADO_PENDIENTE.equals(n.getEstado()))
+                    .count();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.contactoprofesionales.service.profesional;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pruebas unitarias para la caché de perfiles CachePerfilProfesional.
+ * Incluye casos positivos, negativos y límites.
+ */
+@DisplayName("Pruebas para CachePerfilProfesional")
+public class CachePerfilProfesionalTest {
+
+    private static final String VISTA = CachePerfilProfesional.VISTA_PERFIL_COMPLETO;
+
+    private CachePerfilProfesional cache;
+    private AtomicInteger cargas;
+
+    @BeforeEach
+    public void setUp() {
+        cache = new CachePerfilProfesional(60_000, 10);
+        cargas = new AtomicInteger();
+    }
+
+    // ========================================================================
+    // CASOS POSITIVOS
+    // ========================================================================
+
+    @Test
+    @DisplayName("✓ Segunda lectura no vuelve a cargar ni serializar")
+    public void testLecturaDesdeCache() throws Exception {
+        // Act
+        CachePerfilProfesional.Entrada primera = obtener(1, "perfil");
+        CachePerfilProfesional.Entrada segunda = obtener(1, "perfil");
+
+        // Assert
+        assertEquals(1, cargas.get());
+        assertSame(primera, segunda);
+        assertEquals("\"perfil\"", new String(segunda.getJson(), "UTF-8"));
+        assertTrue(CachePerfilProfesional.coincideEtag(primera.getEtag(), segunda.getEtag()));
+    }
+
+    @Test
+    @DisplayName("✓ Invalidar cambia la ETag y fuerza la recarga")
+    public void testInvalidar() throws Exception {
+        // Arrange
+        String etagAnterior = obtener(1, "perfil").getEtag();
+        obtener(2, "otro");
+
+        // Act
+        cache.invalidar(1);
+        CachePerfilProfesional.Entrada recargada = obtener(1, "perfil");
+        obtener(2, "otro");
+
+        // Assert
+        assertEquals(3, cargas.get(), "Solo el profesional invalidado se recarga");
+        assertNotEquals(etagAnterior, recargada.getEtag());
+        assertFalse(CachePerfilProfesional.coincideEtag(etagAnterior, recargada.getEtag()));
+    }
+
+    // ========================================================================
+    // CASOS NEGATIVOS
+    // ========================================================================
+
+    @Test
+    @DisplayName("✗ Profesional inexistente no se guarda en caché")
+    public void testProfesionalInexistente() throws Exception {
+        // Act
+        assertNull(obtener(9, null));
+        assertNull(obtener(9, null));
+
+        // Assert
+        assertEquals(2, cargas.get());
+    }
+
+    // ========================================================================
+    // CASOS LÍMITE
+    // ========================================================================
+
+    @Test
+    @DisplayName("⚠ If-None-Match con lista, comodín o ausente")
+    public void testCoincideEtag() {
+        // Act & Assert
+        assertTrue(CachePerfilProfesional.coincideEtag("\"a\", \"b\"", "\"b\""));
+        assertTrue(CachePerfilProfesional.coincideEtag("*", "\"b\""));
+        assertFalse(CachePerfilProfesional.coincideEtag(null, "\"b\""));
+        assertFalse(CachePerfilProfesional.coincideEtag("W/\"b\"", "\"b\""), "Una ETag débil no es fuerte");
+    }
+
+    private CachePerfilProfesional.Entrada obtener(int profesionalId, String valor) throws Exception {
+        return cache.obtener(VISTA, profesionalId, () -> {
+            cargas.incrementAndGet();
+            return valor;
+        }, v -> "\"" + v + "\"");
+    }
+}
@@ -0,0 +1,137 @@
+package com.contactoprofesionales.service.profesional;
+
+import com.contactoprofesionales.dao.profesional.ProfesionalDAOImpl;
+import com.contactoprofesionales.dto.FacetaDTO;
+import com.contactoprofesionales.exception.DatabaseException;
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Pruebas unitarias para la caché de facetas FacetasBusquedaService.
+ * Incluye casos positivos, negativos y límites.
+ *
+ * NOTA: No requieren base de datos; el DAO se reemplaza por uno que cuenta las cargas.
+ */
+@DisplayName("Pruebas para FacetasBusquedaService")
+public class FacetasBusquedaServiceTest {
+
+    private DAOFacetasFalso dao;
+
+    @BeforeEach
+    public void setUp() {
+        dao = new DAOFacetasFalso();
+    }
+
+    // ========================================================================
+    // CASOS POSITIVOS
+    // ========================================================================
+
+    @Test
+    @DisplayName("✓ Lecturas repetidas se sirven desde la caché")
+    public void testLecturasDesdeCache() throws DatabaseException {
+        // Arrange
+        FacetasBusquedaService service = new FacetasBusquedaService(dao, 60_000);
+
+        // Act
+        List<FacetaDTO> especialidades = service.obtenerEspecialidades();
+        service.obtenerEspecialidades();
+        List<FacetaDTO> distritos = service.obtenerDistritos();
+
+        // Assert
+        assertEquals(1, dao.cargas, "Debe consultar la BD una sola vez");
+        assertEquals("Electricista", especialidades.get(0).getValor());
+        assertEquals(3, especialidades.get(0).getTotal());
+        assertEquals("15", distritos.get(0).getValor());
+    }
+
+    @Test
+    @DisplayName("✓ Invalidar fuerza la recarga en la siguiente lectura")
+    public void testInvalidarRecarga() throws DatabaseException {
+        // Arrange
+        FacetasBusquedaService service = new FacetasBusquedaService(dao, 60_000);
+        service.obtenerEspecialidades();
+
+        // Act
+        service.invalidar();
+        service.obtenerEspecialidades();
+
+        // Assert
+        assertEquals(2, dao.cargas);
+    }
+
+    // ========================================================================
+    // CASOS NEGATIVOS
+    // ========================================================================
+
+    @Test
+    @DisplayName("✗ Error de BD se propaga y no deja caché inválida")
+    public void testErrorDeBaseDatos() throws DatabaseException {
+        // Arrange
+        FacetasBusquedaService service = new FacetasBusquedaService(dao, 60_000);
+        dao.fallar = true;
+
+        // Act & Assert
+        assertThrows(DatabaseException.class, service::obtenerEspecialidades);
+
+        dao.fallar = false;
+        assertEquals(1, service.obtenerEspecialidades().size());
+    }
+
+    @Test
+    @DisplayName("✗ Las facetas devueltas no se pueden modificar")
+    public void testFacetasInmutables() throws DatabaseException {
+        // Arrange
+        FacetasBusquedaService service = new FacetasBusquedaService(dao, 60_000);
+
+        // Act & Assert
+        assertThrows(UnsupportedOperationException.class,
+                    () -> service.obtenerDistritos().add(new FacetaDTO("99", 1)));
+    }
+
+    // ========================================================================
+    // CASOS LÍMITE
+    // ========================================================================
+
+    @Test
+    @DisplayName("⚠ TTL vencido recarga las facetas")
+    public void testTtlVencido() throws DatabaseException {
+        // Arrange
+        FacetasBusquedaService service = new FacetasBusquedaService(dao, 0);
+
+        // Act
+        service.obtenerEspecialidades();
+        service.obtenerEspecialidades();
+
+        // Assert
+        assertEquals(2, dao.cargas);
+    }
+
+    /**
+     * DAO que devuelve facetas fijas sin acceder a la BD.
+     */
+    private static class DAOFacetasFalso extends ProfesionalDAOImpl {
+        private int cargas;
+        private boolean fallar;
+
+        @Override
+        public List<FacetaDTO> contarPorEspecialidad() throws DatabaseException {
+            if (fallar) {
+                throw new DatabaseException("Error simulado");
+            }
+            cargas++;
+            List<FacetaDTO> facetas = new ArrayList<>();
+            facetas.add(new FacetaDTO("Electricista", 3));
+            return facetas;
+        }
+
+        @Override
+        public List<FacetaDTO> contarPorDistrito() {
+            List<FacetaDTO> facetas = new ArrayList<>();
+            facetas.add(new FacetaDTO("15", 2));
+            return facetas;
+        }
+    }
+}
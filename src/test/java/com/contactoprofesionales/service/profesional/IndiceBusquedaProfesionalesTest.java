@@ -0,0 +1,211 @@
+package com.contactoprofesionales.service.profesional;
+
+import com.contactoprofesionales.dao.profesional.ProfesionalDAOImpl;
+import com.contactoprofesionales.dto.ProfesionalIndiceDTO;
+import com.contactoprofesionales.util.CursorPaginacion;
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Pruebas unitarias para el índice invertido IndiceBusquedaProfesionales.
+ * Incluye casos positivos, negativos y límites.
+ *
+ * NOTA: No requieren base de datos; los documentos se indexan directamente.
+ */
+@DisplayName("Pruebas para IndiceBusquedaProfesionales")
+public class IndiceBusquedaProfesionalesTest {
+
+    private IndiceBusquedaProfesionales indice;
+
+    @BeforeEach
+    public void setUp() {
+        indice = new IndiceBusquedaProfesionales(null);
+
+        indice.indexar(crearDocumento(1, 4.5, 10, 50.0, true, 3,
+                "Electricista domiciliario", "Electricidad", "Instalación de tableros"));
+        indice.indexar(crearDocumento(2, 4.8, 30, 80.0, false, 3,
+                "Electricista industrial", "Electricidad"));
+        indice.indexar(crearDocumento(3, 4.8, 12, 40.0, true, 7,
+                "Gasfitero", "Gasfitería", "Reparación de tuberías y termas eléctricas"));
+    }
+
+    // ========================================================================
+    // CASOS POSITIVOS
+    // ========================================================================
+
+    @Test
+    @DisplayName("✓ Búsqueda por prefijo ordenada por calificación y reseñas")
+    public void testBusquedaPorPrefijoOrdenada() {
+        // Act
+        List<Integer> ids = indice.buscar("electr", null, null, false);
+
+        // Assert
+        assertEquals(Arrays.asList(2, 3, 1), ids, "Debe ordenar por calificación DESC y reseñas DESC");
+    }
+
+    @Test
+    @DisplayName("✓ Búsqueda sin distinguir acentos ni mayúsculas")
+    public void testBusquedaSinAcentos() {
+        // Act
+        List<Integer> ids = indice.buscar("GASFITERIA", null, null, false);
+
+        // Assert
+        assertEquals(List.of(3), ids);
+    }
+
+    @Test
+    @DisplayName("✓ Varios términos se combinan con AND")
+    public void testBusquedaVariosTerminos() {
+        // Act
+        List<Integer> ids = indice.buscar("electricista industrial", null, null, false);
+
+        // Assert
+        assertEquals(List.of(2), ids);
+    }
+
+    @Test
+    @DisplayName("✓ Con cursor solo se devuelven los resultados posteriores")
+    public void testBusquedaDespuesDeCursor() {
+        // Arrange: el cliente ya recibió al profesional 2 (4.8, 30 reseñas)
+        CursorPaginacion cursor = CursorPaginacion.despuesDe(4.8, 30, 2);
+
+        // Act
+        List<Integer> ids = indice.buscar("electr", null, null, false, cursor);
+
+        // Assert
+        assertEquals(Arrays.asList(3, 1), ids);
+    }
+
+    @Test
+    @DisplayName("✓ Filtros de categoría, tarifa y disponibilidad")
+    public void testBusquedaConFiltros() {
+        // Act & Assert
+        assertEquals(List.of(3), indice.buscar("electr", 7, null, false));
+        assertEquals(Arrays.asList(3, 1), indice.buscar("electr", null, 60.0, false));
+        assertEquals(Arrays.asList(3, 1), indice.buscar("electr", null, null, true));
+    }
+
+    @Test
+    @DisplayName("✓ Reindexar un profesional reemplaza sus términos")
+    public void testReindexarProfesional() {
+        // Act
+        indice.indexar(crearDocumento(1, 4.5, 10, 50.0, true, 9, "Carpintero"));
+
+        // Assert
+        assertEquals(Arrays.asList(2, 3), indice.buscar("electr", null, null, false));
+        assertEquals(List.of(1), indice.buscar("carpin", null, null, false));
+        assertEquals(3, indice.getTotalDocumentos());
+    }
+
+    // ========================================================================
+    // CASOS NEGATIVOS
+    // ========================================================================
+
+    @Test
+    @DisplayName("✗ Término sin coincidencias devuelve lista vacía")
+    public void testBusquedaSinCoincidencias() {
+        // Act
+        List<Integer> ids = indice.buscar("electricista pintor", null, null, false);
+
+        // Assert
+        assertNotNull(ids);
+        assertTrue(ids.isEmpty());
+    }
+
+    @Test
+    @DisplayName("✗ Profesional eliminado no aparece en resultados")
+    public void testEliminarProfesional() {
+        // Act
+        indice.eliminar(2);
+
+        // Assert
+        assertEquals(Arrays.asList(3, 1), indice.buscar("electr", null, null, false));
+        assertEquals(2, indice.getTotalDocumentos());
+    }
+
+    // ========================================================================
+    // CASOS LÍMITE
+    // ========================================================================
+
+    @Test
+    @DisplayName("⚠ Texto sin términos indexables devuelve null")
+    public void testTextoSinTerminos() {
+        // Act & Assert
+        assertNull(indice.buscar("de la", null, null, false));
+        assertNull(indice.buscar("", null, null, false));
+    }
+
+    @Test
+    @DisplayName("⚠ Tokenizar normaliza, elimina palabras vacías y repetidos")
+    public void testTokenizar() {
+        // Act
+        List<String> terminos = IndiceBusquedaProfesionales.tokenizar("Reparación de Cañerías, reparación");
+
+        // Assert
+        assertEquals(Arrays.asList("reparacion", "canerias"), terminos);
+    }
+
+    @Test
+    @DisplayName("⚠ Un cambio confirmado durante la construcción no se pierde")
+    public void testCambioDuranteConstruccion() throws Exception {
+        // Arrange: el profesional 5 cambia de servicio después de que la carga completa lo leyó
+        DAOIndiceFalso dao = new DAOIndiceFalso();
+        IndiceBusquedaProfesionales reconstruido = new IndiceBusquedaProfesionales(dao);
+        dao.indice = reconstruido;
+        dao.leidoEnCarga = crearDocumento(5, 4.0, 3, 30.0, true, 3, "Electricista");
+        dao.actual = crearDocumento(5, 4.0, 3, 30.0, true, 9, "Carpintero");
+
+        // Act
+        reconstruido.construir();
+
+        // Assert
+        assertTrue(reconstruido.isListo());
+        assertTrue(reconstruido.buscar("electr", null, null, false).isEmpty());
+        assertEquals(List.of(5), reconstruido.buscar("carpin", null, null, false));
+    }
+
+    @Test
+    @DisplayName("⚠ Índice nuevo no está listo hasta construirse")
+    public void testIndiceNoListo() {
+        // Assert
+        assertFalse(indice.isListo());
+    }
+
+    /**
+     * DAO que simula una escritura confirmada mientras se lee la carga completa.
+     */
+    private static class DAOIndiceFalso extends ProfesionalDAOImpl {
+        IndiceBusquedaProfesionales indice;
+        ProfesionalIndiceDTO leidoEnCarga;
+        ProfesionalIndiceDTO actual;
+
+        @Override
+        public List<ProfesionalIndiceDTO> listarParaIndice() {
+            indice.actualizarProfesional(actual.getId());
+            return List.of(leidoEnCarga);
+        }
+
+        @Override
+        public ProfesionalIndiceDTO obtenerParaIndice(Integer profesionalId) {
+            return actual;
+        }
+    }
+
+    private ProfesionalIndiceDTO crearDocumento(int id, double calificacion, int resenas, Double tarifa,
+                                                boolean disponible, int categoriaId, String... textos) {
+        ProfesionalIndiceDTO dto = new ProfesionalIndiceDTO();
+        dto.setId(id);
+        dto.setCalificacionPromedio(calificacion);
+        dto.setTotalResenas(resenas);
+        dto.setTarifaHora(tarifa);
+        dto.setDisponible(disponible);
+        dto.getCategoriaIds().add(categoriaId);
+        for (String texto : textos) {
+            dto.agregarTexto(texto);
+        }
+        return dto;
+    }
+}
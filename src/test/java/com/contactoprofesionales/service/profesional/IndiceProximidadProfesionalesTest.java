@@ -0,0 +1,164 @@
+package com.contactoprofesionales.service.profesional;
+
+import com.contactoprofesionales.dto.DistritoCentroideDTO;
+import com.contactoprofesionales.dto.ProfesionalUbicacionDTO;
+import com.contactoprofesionales.model.UbicacionServicio;
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Pruebas unitarias para el índice de cercanía IndiceProximidadProfesionales.
+ * Incluye casos positivos, negativos y límites.
+ *
+ * NOTA: No requieren base de datos; el índice se carga con datos en memoria.
+ */
+@DisplayName("Pruebas para IndiceProximidadProfesionales")
+public class IndiceProximidadProfesionalesTest {
+
+    private static final int MIRAFLORES = 1;
+    private static final int SAN_ISIDRO = 2;
+    private static final int CHORRILLOS = 3;
+    private static final int AREQUIPA = 4;
+    private static final int SIN_CENTROIDE = 5;
+
+    private IndiceProximidadProfesionales indice;
+    private List<DistritoCentroideDTO> centroides;
+
+    @BeforeEach
+    public void setUp() {
+        indice = new IndiceProximidadProfesionales(null, null);
+
+        centroides = new ArrayList<>();
+        centroides.add(new DistritoCentroideDTO(MIRAFLORES, "Miraflores", "Lima", "Lima", -12.1211, -77.0297));
+        centroides.add(new DistritoCentroideDTO(SAN_ISIDRO, "San Isidro", "Lima", "Lima", -12.0977, -77.0365));
+        centroides.add(new DistritoCentroideDTO(CHORRILLOS, "Chorrillos", "Lima", "Lima", -12.1692, -77.0244));
+        centroides.add(new DistritoCentroideDTO(AREQUIPA, "Arequipa", "Arequipa", "Arequipa", -16.3989, -71.5350));
+        centroides.add(new DistritoCentroideDTO(SIN_CENTROIDE, "Ancón", "Lima", "Lima", null, null));
+    }
+
+    // ========================================================================
+    // CASOS POSITIVOS
+    // ========================================================================
+
+    @Test
+    @DisplayName("✓ Ordena por distancia al distrito del cliente")
+    public void testOrdenPorDistancia() {
+        // Arrange
+        indice.cargar(centroides, Arrays.asList(
+            crearProfesional(10, CHORRILLOS, 5.0),
+            crearProfesional(11, SAN_ISIDRO, 3.0),
+            crearProfesional(12, MIRAFLORES, 4.0),
+            crearProfesional(13, AREQUIPA, 5.0)
+        ));
+
+        // Act
+        List<IndiceProximidadProfesionales.Resultado> resultados =
+                indice.buscar(MIRAFLORES, 10, null, null, false);
+
+        // Assert
+        assertEquals(Arrays.asList(12, 11, 10), ids(resultados), "Arequipa queda fuera del radio");
+        assertEquals(0.0, resultados.get(0).getDistanciaKm());
+        assertTrue(resultados.get(1).getDistanciaKm() > 2 && resultados.get(1).getDistanciaKm() < 4,
+                  "Miraflores - San Isidro ≈ 2.7 km");
+    }
+
+    @Test
+    @DisplayName("✓ Área de servicio cubre distritos fuera del radio")
+    public void testCoberturaPorAreaServicio() {
+        // Arrange
+        ProfesionalUbicacionDTO porDepartamento = crearProfesional(20, AREQUIPA, 4.0);
+        porDepartamento.getUbicaciones().add(new UbicacionServicio(null, "departamento", "LIMA", null, null, 1));
+
+        ProfesionalUbicacionDTO porDistrito = crearProfesional(21, AREQUIPA, 4.0);
+        porDistrito.getUbicaciones().add(new UbicacionServicio(null, "distrito", "Lima", "Lima", "Chorrillos", 1));
+
+        ProfesionalUbicacionDTO todoPais = crearProfesional(22, AREQUIPA, 4.0);
+        todoPais.setTodoPais(true);
+
+        indice.cargar(centroides, Arrays.asList(porDepartamento, porDistrito, todoPais));
+
+        // Act & Assert
+        assertEquals(Arrays.asList(22, 21, 20), ids(indice.buscar(CHORRILLOS, 5, null, null, false)));
+        assertEquals(Arrays.asList(22, 20), ids(indice.buscar(MIRAFLORES, 5, null, null, false)));
+    }
+
+    @Test
+    @DisplayName("✓ Filtros de categoría, tarifa y disponibilidad")
+    public void testFiltros() {
+        // Arrange
+        ProfesionalUbicacionDTO caro = crearProfesional(30, MIRAFLORES, 4.0);
+        caro.setTarifaHora(200.0);
+        ProfesionalUbicacionDTO noDisponible = crearProfesional(31, MIRAFLORES, 4.0);
+        noDisponible.setDisponible(false);
+        ProfesionalUbicacionDTO otraCategoria = crearProfesional(32, MIRAFLORES, 4.0);
+        otraCategoria.getCategoriaIds().clear();
+        otraCategoria.getCategoriaIds().add(9);
+
+        indice.cargar(centroides, Arrays.asList(caro, noDisponible, otraCategoria));
+
+        // Act & Assert
+        assertEquals(Arrays.asList(31, 30), ids(indice.buscar(MIRAFLORES, 5, 3, null, false)));
+        assertEquals(Arrays.asList(32, 31), ids(indice.buscar(MIRAFLORES, 5, null, 100.0, false)));
+        assertEquals(Arrays.asList(32, 30), ids(indice.buscar(MIRAFLORES, 5, null, null, true)));
+    }
+
+    // ========================================================================
+    // CASOS NEGATIVOS
+    // ========================================================================
+
+    @Test
+    @DisplayName("✗ Distrito inexistente es rechazado e índice vacío no responde")
+    public void testDistritoInexistente() {
+        // Act & Assert
+        assertNull(indice.buscar(MIRAFLORES, 5, null, null, false), "Índice no construido");
+
+        indice.cargar(centroides, new ArrayList<>());
+        assertThrows(IllegalArgumentException.class, () -> indice.buscar(999, 5, null, null, false));
+    }
+
+    // ========================================================================
+    // CASOS LÍMITE
+    // ========================================================================
+
+    @Test
+    @DisplayName("⚠ Distrito sin centroide solo encuentra su propio distrito")
+    public void testDistritoSinCentroide() {
+        // Arrange
+        indice.cargar(centroides, Arrays.asList(
+            crearProfesional(40, SIN_CENTROIDE, 4.0),
+            crearProfesional(41, MIRAFLORES, 4.0)
+        ));
+
+        // Act
+        List<IndiceProximidadProfesionales.Resultado> resultados =
+                indice.buscar(SIN_CENTROIDE, 50, null, null, false);
+
+        // Assert
+        assertEquals(List.of(40), ids(resultados));
+        assertEquals(0.0, resultados.get(0).getDistanciaKm());
+        assertTrue(ids(indice.buscar(MIRAFLORES, 50, null, null, false)).contains(41));
+    }
+
+    private ProfesionalUbicacionDTO crearProfesional(int id, int distritoId, double calificacion) {
+        ProfesionalUbicacionDTO dto = new ProfesionalUbicacionDTO();
+        dto.setId(id);
+        dto.setDistritoId(distritoId);
+        dto.setCalificacionPromedio(calificacion);
+        dto.setTotalResenas(10);
+        dto.setTarifaHora(50.0);
+        dto.setDisponible(true);
+        dto.getCategoriaIds().add(3);
+        return dto;
+    }
+
+    private List<Integer> ids(List<IndiceProximidadProfesionales.Resultado> resultados) {
+        return resultados.stream()
+                .map(IndiceProximidadProfesionales.Resultado::getProfesionalId)
+                .collect(Collectors.toList());
+    }
+}
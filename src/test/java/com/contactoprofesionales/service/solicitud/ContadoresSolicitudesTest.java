@@ -0,0 +1,143 @@
+package com.contactoprofesionales.service.solicitud;
+
+import com.contactoprofesionales.dao.solicitud.SolicitudContadoresDAO;
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.Connection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pruebas unitarias para ContadoresSolicitudes.
+ * Usa contadores en memoria en lugar de la tabla solicitud_contadores.
+ * Incluye casos positivos, negativos y límites.
+ */
+@DisplayName("Pruebas para ContadoresSolicitudes")
+public class ContadoresSolicitudesTest {
+
+    private ContadoresEnMemoria tabla;
+
+    @BeforeEach
+    public void setUp() {
+        tabla = new ContadoresEnMemoria();
+    }
+
+    // ========================================================================
+    // CASOS POSITIVOS
+    // ========================================================================
+
+    @Test
+    @DisplayName("✓ Carga una vez y aplica los cambios en memoria")
+    public void testCargaYCambios() throws Exception {
+        // Arrange
+        tabla.totales.put("7:pendiente", 3L);
+        ContadoresSolicitudes contadores = new ContadoresSolicitudes(tabla, 60);
+
+        // Act
+        long inicial = contadores.contar(7, "pendiente");
+        contadores.registrarCambio(7, null, "pendiente");
+        contadores.registrarCambio(7, "pendiente", "aceptada");
+        contadores.registrarCambio(7, "pendiente", "rechazada");
+
+        // Assert
+        assertEquals(3, inicial);
+        assertEquals(2, contadores.contar(7, "pendiente"));
+        assertEquals(Map.of("pendiente", 2L, "aceptada", 1L, "rechazada", 1L), contadores.contarPorEstado(7));
+        assertEquals(1, tabla.lecturas.get(), "Solo la primera lectura consulta la tabla");
+    }
+
+    // ========================================================================
+    // CASOS NEGATIVOS
+    // ========================================================================
+
+    @Test
+    @DisplayName("✗ Un cambio de un profesional no cargado no se aplica dos veces")
+    public void testCambioSinCargar() throws Exception {
+        // Arrange
+        ContadoresSolicitudes contadores = new ContadoresSolicitudes(tabla, 60);
+
+        // Act: el cambio ya está en la tabla cuando se confirma
+        tabla.totales.put("9:pendiente", 1L);
+        contadores.registrarCambio(9, null, "pendiente");
+
+        // Assert
+        assertEquals(1, contadores.contar(9, "pendiente"));
+    }
+
+    // ========================================================================
+    // CASOS LÍMITE
+    // ========================================================================
+
+    @Test
+    @DisplayName("⚠ Al vencer la vigencia o invalidar se vuelve a cargar de la tabla")
+    public void testRecarga() throws Exception {
+        // Arrange
+        tabla.totales.put("5:aceptada", 2L);
+        ContadoresSolicitudes sinVigencia = new ContadoresSolicitudes(tabla, 0);
+        ContadoresSolicitudes conVigencia = new ContadoresSolicitudes(tabla, 60);
+        conVigencia.contar(5, "aceptada");
+
+        // Act: otra instancia cambió la tabla
+        tabla.totales.put("5:aceptada", 4L);
+        long recargado = sinVigencia.contar(5, "aceptada");
+        long antesDeInvalidar = conVigencia.contar(5, "aceptada");
+        conVigencia.invalidar(5);
+
+        // Assert
+        assertEquals(4, recargado);
+        assertEquals(2, antesDeInvalidar);
+        assertEquals(4, conVigencia.contar(5, "aceptada"));
+        assertEquals(0, conVigencia.contar(5, "completada"));
+    }
+
+    @Test
+    @DisplayName("⚠ Los contadores vencidos se descartan al cargar otros profesionales")
+    public void testDescartaVencidos() throws Exception {
+        // Arrange
+        ContadoresSolicitudes sinVigencia = new ContadoresSolicitudes(tabla, 0);
+        ContadoresSolicitudes conVigencia = new ContadoresSolicitudes(tabla, 60);
+
+        // Act
+        for (int profesionalId = 1; profesionalId <= 50; profesionalId++) {
+            sinVigencia.contar(profesionalId, "pendiente");
+            conVigencia.contar(profesionalId, "pendiente");
+        }
+
+        // Assert
+        assertEquals(1, sinVigencia.totalCargados(), "Solo queda el último profesional cargado");
+        assertEquals(50, conVigencia.totalCargados(), "Ninguno venció todavía");
+    }
+
+    /**
+     * Tabla solicitud_contadores en memoria (clave "profesional:estado").
+     */
+    private static class ContadoresEnMemoria implements SolicitudContadoresDAO {
+
+        private final Map<String, Long> totales = new ConcurrentHashMap<>();
+        private final AtomicInteger lecturas = new AtomicInteger();
+
+        @Override
+        public void mover(Connection conn, Integer profesionalId, String estadoAnterior, String estadoNuevo) {
+            if (estadoAnterior != null) {
+                totales.merge(profesionalId + ":" + estadoAnterior, -1L, Long::sum);
+            }
+            totales.merge(profesionalId + ":" + estadoNuevo, 1L, Long::sum);
+        }
+
+        @Override
+        public Map<String, Long> obtenerPorProfesional(Integer profesionalId) {
+            lecturas.incrementAndGet();
+            Map<String, Long> resultado = new HashMap<>();
+            String prefijo = profesionalId + ":";
+            totales.forEach((clave, total) -> {
+                if (clave.startsWith(prefijo)) {
+                    resultado.put(clave.substring(prefijo.length()), total);
+                }
+            });
+            return resultado;
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.contactoprofesionales.service.solicitud;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pruebas unitarias para EventosSolicitudes (registro de suscripciones SSE).
+ * Incluye casos positivos, negativos y límites.
+ */
+@DisplayName("Pruebas para EventosSolicitudes")
+public class EventosSolicitudesTest {
+
+    private EventosSolicitudes eventos;
+
+    @BeforeEach
+    public void setUp() {
+        eventos = new EventosSolicitudes();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        eventos.detener();
+    }
+
+    // ========================================================================
+    // CASOS POSITIVOS
+    // ========================================================================
+
+    @Test
+    @DisplayName("✓ Publica el evento solo a las conexiones del destino")
+    public void testPublicarAlDestino() throws Exception {
+        // Arrange
+        SalidaEnMemoria profesional = new SalidaEnMemoria();
+        SalidaEnMemoria otro = new SalidaEnMemoria();
+        eventos.suscribir(EventosSolicitudes.destinoProfesional(7), profesional);
+        eventos.suscribir(EventosSolicitudes.destinoProfesional(8), otro);
+
+        // Act
+        eventos.publicar(EventosSolicitudes.destinoProfesional(7), "pendientes", Map.of("count", 3));
+
+        // Assert
+        assertEquals("event: pendientes\ndata: {\"count\":3}\n\n", profesional.siguiente());
+        assertNull(otro.textos.poll(100, TimeUnit.MILLISECONDS));
+        assertEquals(2, eventos.getTotalSuscripciones());
+    }
+
+    // ========================================================================
+    // CASOS NEGATIVOS
+    // ========================================================================
+
+    @Test
+    @DisplayName("✗ Una conexión cortada se descarta al fallar la escritura")
+    public void testConexionCortada() throws Exception {
+        // Arrange
+        SalidaEnMemoria cortada = new SalidaEnMemoria();
+        cortada.fallar = true;
+        String destino = EventosSolicitudes.destinoCliente(4);
+        eventos.suscribir(destino, cortada);
+
+        // Act
+        eventos.enviarLatidos();
+
+        // Assert
+        assertTrue(cortada.cerrada);
+        assertFalse(eventos.tieneSuscriptores(destino));
+        assertEquals(0, eventos.getTotalSuscripciones());
+    }
+
+    @Test
+    @DisplayName("✗ Un cliente que no lee se descarta sin afectar a los demás")
+    public void testClienteLento() throws Exception {
+        // Arrange
+        String destino = EventosSolicitudes.destinoProfesional(3);
+        SalidaEnMemoria lenta = new SalidaEnMemoria();
+        SalidaEnMemoria rapida = new SalidaEnMemoria();
+        lenta.lista = false;
+        eventos.suscribir(destino, lenta);
+        eventos.suscribir(destino, rapida);
+
+        // Act
+        for (int i = 0; i <= EventosSolicitudes.MAXIMO_PENDIENTES; i++) {
+            eventos.publicar(destino, "estado", Map.of("n", i));
+        }
+
+        // Assert
+        assertTrue(lenta.cerrada);
+        assertTrue(lenta.textos.isEmpty());
+        assertFalse(rapida.cerrada);
+        assertEquals(EventosSolicitudes.MAXIMO_PENDIENTES + 1, rapida.textos.size());
+        assertEquals(1, eventos.getTotalSuscripciones());
+    }
+
+    // ========================================================================
+    // CASOS LÍMITE
+    // ========================================================================
+
+    @Test
+    @DisplayName("⚠ Lo pendiente se escribe en orden al volver a estar lista la salida")
+    public void testEscribirPendientes() throws Exception {
+        // Arrange
+        String destino = EventosSolicitudes.destinoCliente(2);
+        SalidaEnMemoria salida = new SalidaEnMemoria();
+        EventosSolicitudes.Suscripcion suscripcion = eventos.crearSuscripcion(destino, salida);
+        salida.lista = false;
+        eventos.enviarReintento(suscripcion, 5000);
+        eventos.suscribir(suscripcion);
+        eventos.publicar(destino, "estado", Map.of("n", 1));
+
+        // Act: onWritePossible
+        salida.lista = true;
+        eventos.escribirPendientes(suscripcion);
+
+        // Assert
+        assertEquals("retry: 5000\n\n", salida.siguiente());
+        assertEquals("event: estado\ndata: {\"n\":1}\n\n", salida.siguiente());
+    }
+
+    @Test
+    @DisplayName("⚠ Una conexión bloqueada más del máximo se cierra en el latido")
+    public void testConexionBloqueada() {
+        // Arrange
+        String destino = EventosSolicitudes.destinoProfesional(6);
+        SalidaEnMemoria bloqueada = new SalidaEnMemoria();
+        SalidaEnMemoria alDia = new SalidaEnMemoria();
+        eventos.suscribir(destino, bloqueada);
+        eventos.suscribir(destino, alDia);
+        bloqueada.lista = false;
+        eventos.publicar(destino, "estado", Map.of("n", 1));
+
+        // Act
+        eventos.enviarLatidos(0);
+
+        // Assert
+        assertTrue(bloqueada.cerrada);
+        assertFalse(alDia.cerrada);
+        assertEquals(1, eventos.getTotalSuscripciones());
+    }
+
+    @Test
+    @DisplayName("⚠ Al cancelar la última suscripción se quita el destino")
+    public void testCancelarUltima() {
+        // Arrange
+        String destino = EventosSolicitudes.destinoProfesional(1);
+        EventosSolicitudes.Suscripcion primera = eventos.suscribir(destino, new SalidaEnMemoria());
+        EventosSolicitudes.Suscripcion segunda = eventos.suscribir(destino, new SalidaEnMemoria());
+
+        // Act
+        eventos.cancelar(primera);
+        boolean despuesDePrimera = eventos.tieneSuscriptores(destino);
+        eventos.cancelar(segunda);
+        eventos.cancelar(segunda);
+
+        // Assert
+        assertTrue(despuesDePrimera);
+        assertFalse(eventos.tieneSuscriptores(destino));
+        assertEquals(0, eventos.getTotalSuscripciones());
+    }
+
+    @Test
+    @DisplayName("⚠ Un JSON con saltos de línea se envía en varias líneas data:")
+    public void testFormatoMultilinea() {
+        assertEquals("event: x\ndata: {\ndata: }\n\n", EventosSolicitudes.formatear("x", "{\n}"));
+    }
+
+    private static class SalidaEnMemoria implements EventosSolicitudes.Salida {
+
+        private final LinkedBlockingQueue<String> textos = new LinkedBlockingQueue<>();
+        private volatile boolean fallar;
+        private volatile boolean cerrada;
+        private volatile boolean lista = true;
+
+        @Override
+        public boolean listaParaEscribir() {
+            return lista;
+        }
+
+        @Override
+        public void escribir(String texto) throws IOException {
+            if (fallar) {
+                throw new IOException("Broken pipe");
+            }
+            textos.add(texto);
+        }
+
+        @Override
+        public void cerrar() {
+            cerrada = true;
+        }
+
+        String siguiente() throws InterruptedException {
+            return textos.poll(2, TimeUnit.SECONDS);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.contactoprofesionales.service.solicitud;
+
+import com.contactoprofesionales.dao.solicitud.SolicitudContadoresDAO;
+import com.contactoprofesionales.model.SolicitudServicio;
+import com.contactoprofesionales.service.notificacion.ColaNotificaciones;
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.Connection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Pruebas unitarias para los conteos de SolicitudServicioService con contadores y
+ * eventos propios (sin las instancias compartidas ni base de datos).
+ * Incluye casos positivos, negativos y límites.
+ */
+@DisplayName("Pruebas para SolicitudServicioService (conteos)")
+public class SolicitudServicioServiceTest {
+
+    private Map<Integer, Map<String, Long>> tabla;
+    private EventosSolicitudes eventos;
+    private SolicitudServicioService servicio;
+
+    @BeforeEach
+    public void setUp() {
+        tabla = new HashMap<>();
+        SolicitudContadoresDAO contadoresDAO = new SolicitudContadoresDAO() {
+            @Override
+            public void mover(Connection conn, Integer profesionalId, String estadoAnterior, String estadoNuevo) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public Map<String, Long> obtenerPorProfesional(Integer profesionalId) {
+                return tabla.getOrDefault(profesionalId, Map.of());
+            }
+        };
+        eventos = new EventosSolicitudes();
+        // Los conteos no usan el DAO de solicitudes
+        servicio = new SolicitudServicioService(null, new ColaNotificaciones(), eventos,
+                                                new ContadoresSolicitudes(contadoresDAO, 60));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        eventos.detener();
+    }
+
+    // ========================================================================
+    // CASOS POSITIVOS
+    // ========================================================================
+
+    @Test
+    @DisplayName("✓ Lee los pendientes de los contadores recibidos")
+    public void testContarPendientes() throws Exception {
+        // Arrange
+        tabla.put(7, Map.of("pendiente", 4L, "aceptada", 1L));
+
+        // Act & Assert
+        assertEquals(4, servicio.contarSolicitudesPendientes(7));
+    }
+
+    // ========================================================================
+    // CASOS NEGATIVOS
+    // ========================================================================
+
+    @Test
+    @DisplayName("✗ Un profesional sin solicitudes tiene 0 pendientes")
+    public void testSinSolicitudes() throws Exception {
+        // Act & Assert
+        assertEquals(0, servicio.contarSolicitudesPendientes(99));
+    }
+
+    // ========================================================================
+    // CASOS LÍMITE
+    // ========================================================================
+
+    @Test
+    @DisplayName("⚠ Los estados sin solicitudes se devuelven en 0")
+    public void testContarPorEstadoCompleta() throws Exception {
+        // Arrange
+        tabla.put(7, Map.of("completada", 2L));
+
+        // Act
+        Map<String, Long> conteos = servicio.contarSolicitudesPorEstado(7);
+
+        // Assert
+        assertEquals(SolicitudServicio.ESTADOS, conteos.keySet().stream().toList());
+        assertEquals(2L, conteos.get("completada"));
+        assertEquals(0L, conteos.get("pendiente"));
+    }
+}
@@ -0,0 +1,160 @@
+package com.contactoprofesionales.util;
+
+import com.contactoprofesionales.dto.PerfilProfesionalCompletoDTO;
+import com.contactoprofesionales.dto.ProfesionalBusquedaDTO;
+import com.contactoprofesionales.dto.ProfesionalDTO;
+import com.contactoprofesionales.dto.SolicitudDetalleDTO;
+import com.contactoprofesionales.model.CertificacionProfesional;
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Pruebas unitarias para AdaptadoresJsonDTO.
+ * Incluye casos positivos, negativos y límites.
+ *
+ * Los DTOs se llenan por reflexión con un valor por campo, así que si se agrega un
+ * campo al DTO y no al adaptador, la comparación con el adaptador reflexivo falla.
+ */
+@DisplayName("Pruebas para AdaptadoresJsonDTO")
+public class AdaptadoresJsonDTOTest {
+
+    private final Gson gson = GsonUtil.createGson();
+    private final Gson gsonReflexivo = GsonUtil.createGsonReflexivo();
+
+    // ========================================================================
+    // CASOS POSITIVOS
+    // ========================================================================
+
+    @Test
+    @DisplayName("✓ Mismo JSON que el adaptador reflexivo con todos los campos")
+    public void testMismoJsonQueReflexivo() throws Exception {
+        for (Class<?> clase : Arrays.asList(ProfesionalBusquedaDTO.class, ProfesionalDTO.class,
+                                            SolicitudDetalleDTO.class, PerfilProfesionalCompletoDTO.class)) {
+            // Arrange
+            Object dto = llenar(clase.getDeclaredConstructor().newInstance());
+
+            // Act
+            JsonElement manual = JsonParser.parseString(gson.toJson(dto));
+            JsonElement reflexivo = JsonParser.parseString(gsonReflexivo.toJson(dto));
+
+            // Assert
+            assertEquals(reflexivo, manual, "JSON distinto para " + clase.getSimpleName());
+        }
+    }
+
+    @Test
+    @DisplayName("✓ La lectura sigue funcionando (delegada al adaptador reflexivo)")
+    public void testLecturaDelegada() {
+        // Arrange
+        ProfesionalBusquedaDTO original = new ProfesionalBusquedaDTO();
+        original.setId(7);
+        original.setNombreCompleto("Ana Torres");
+        original.setCalificacionPromedio(4.5);
+        original.setHabilidadesDestacadas(Arrays.asList("Gasfitería", "Electricidad"));
+
+        // Act
+        ProfesionalBusquedaDTO leido = gson.fromJson(gson.toJson(original), ProfesionalBusquedaDTO.class);
+
+        // Assert
+        assertEquals(7, leido.getId());
+        assertEquals("Ana Torres", leido.getNombreCompleto());
+        assertEquals(4.5, leido.getCalificacionPromedio());
+        assertEquals(original.getHabilidadesDestacadas(), leido.getHabilidadesDestacadas());
+    }
+
+    // ========================================================================
+    // CASOS NEGATIVOS
+    // ========================================================================
+
+    @Test
+    @DisplayName("✗ Campos nulos se omiten y un DTO nulo se escribe como null")
+    public void testNulos() {
+        // Act & Assert
+        assertEquals("{}", gson.toJson(new ProfesionalBusquedaDTO()));
+        assertEquals("{\"verificado\":false,\"disponible\":false}", gson.toJson(new ProfesionalDTO()));
+        assertEquals("null", gson.toJson(null, SolicitudDetalleDTO.class));
+    }
+
+    // ========================================================================
+    // CASOS LÍMITE
+    // ========================================================================
+
+    @Test
+    @DisplayName("⚠ DTO dentro de JsonResponse y de listas usa el adaptador")
+    public void testDtoAnidado() {
+        // Arrange
+        SolicitudDetalleDTO solicitud = new SolicitudDetalleDTO();
+        solicitud.setId(3);
+        solicitud.setFechaSolicitud(LocalDateTime.of(2025, 11, 16, 21, 9, 43));
+        JsonResponse respuesta = JsonResponse.success("ok", Arrays.asList(solicitud));
+
+        // Act
+        String json = gson.toJson(respuesta);
+
+        // Assert
+        assertTrue(json.contains("{\"id\":3,\"fechaSolicitud\":\"2025-11-16T21:09:43\",\"activo\":false}"), json);
+        assertEquals(JsonParser.parseString(gsonReflexivo.toJson(respuesta)), JsonParser.parseString(json));
+    }
+
+    /**
+     * Asigna un valor de ejemplo distinto a cada campo de instancia según su tipo.
+     */
+    private Object llenar(Object dto) throws IllegalAccessException {
+        int n = 1;
+        for (Field campo : dto.getClass().getDeclaredFields()) {
+            if (Modifier.isStatic(campo.getModifiers())) {
+                continue;
+            }
+            campo.setAccessible(true);
+            Class<?> tipo = campo.getType();
+            n++;
+
+            if (tipo == String.class) {
+                campo.set(dto, campo.getName() + "-\"ñ\"");
+            } else if (tipo == Integer.class) {
+                campo.set(dto, n);
+            } else if (tipo == Double.class) {
+                campo.set(dto, n + 0.25);
+            } else if (tipo == BigDecimal.class) {
+                campo.set(dto, new BigDecimal(n + ".50"));
+            } else if (tipo == Boolean.class || tipo == boolean.class) {
+                campo.set(dto, n % 2 == 0);
+            } else if (tipo == LocalDateTime.class) {
+                campo.set(dto, LocalDateTime.of(2025, 1, n % 28 + 1, 10, 30, 15));
+            } else if (tipo == String[].class) {
+                campo.set(dto, new String[] {"a", "b"});
+            } else if (tipo == List.class) {
+                campo.set(dto, listaDeEjemplo(campo));
+            } else {
+                fail("Tipo sin valor de ejemplo: " + tipo + " en " + campo);
+            }
+        }
+        return dto;
+    }
+
+    private List<Object> listaDeEjemplo(Field campo) {
+        List<Object> lista = new ArrayList<>();
+        Class<?> elemento = (Class<?>) ((ParameterizedType) campo.getGenericType()).getActualTypeArguments()[0];
+        if (elemento == String.class) {
+            lista.add("uno");
+            lista.add("dos");
+        } else if (elemento == CertificacionProfesional.class) {
+            CertificacionProfesional certificacion = new CertificacionProfesional();
+            certificacion.setNombreCertificacion("Electricista");
+            lista.add(certificacion);
+        }
+        return lista;
+    }
+}
@@ -0,0 +1,161 @@
+package com.contactoprofesionales.util;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.reflect.Proxy;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Pruebas unitarias para CargadorHijosLote con una conexión JDBC simulada.
+ * Incluye casos positivos, negativos y límites.
+ */
+@DisplayName("Pruebas para CargadorHijosLote")
+public class CargadorHijosLoteTest {
+
+    private static final String SQL = "SELECT padre_id, valor FROM hijos WHERE padre_id = ANY(?) ORDER BY padre_id, orden";
+
+    /** Padre con su lista de hijos, como ProyectoPortafolio con sus imágenes. */
+    private static class Padre {
+        final Integer id;
+        List<String> hijos;
+
+        Padre(Integer id) {
+            this.id = id;
+        }
+    }
+
+    private List<Object[]> filas;
+    private List<Object> idsConsultados;
+    private int consultas;
+
+    @BeforeEach
+    public void setUp() {
+        filas = new ArrayList<>();
+        idsConsultados = null;
+        consultas = 0;
+    }
+
+    // ========================================================================
+    // CASOS POSITIVOS
+    // ========================================================================
+
+    @Test
+    @DisplayName("✓ Agrupa las filas por padre en una sola consulta y conserva el orden")
+    public void testCargarAgrupaPorPadre() throws Exception {
+        // Arrange
+        filas.add(new Object[] {1, "a1"});
+        filas.add(new Object[] {1, "a2"});
+        filas.add(new Object[] {3, "c1"});
+
+        // Act
+        Map<Integer, List<String>> hijos = CargadorHijosLote.cargar(
+                conexionFalsa(), SQL, "padre_id", List.of(1, 2, 3), rs -> rs.getString("valor"));
+
+        // Assert
+        assertEquals(1, consultas);
+        assertEquals(List.of("a1", "a2"), hijos.get(1));
+        assertEquals(List.of("c1"), hijos.get(3));
+        assertFalse(hijos.containsKey(2), "Sin entrada para padres sin hijos");
+    }
+
+    @Test
+    @DisplayName("✓ Asigna a cada padre sus hijos y una lista vacía a los que no tienen")
+    public void testAsignar() {
+        // Arrange
+        List<Padre> padres = List.of(new Padre(1), new Padre(2));
+        Map<Integer, List<String>> hijos = Map.of(1, List.of("a1", "a2"));
+
+        // Act
+        CargadorHijosLote.asignar(padres, p -> p.id, hijos, (p, lista) -> p.hijos = lista);
+
+        // Assert
+        assertEquals(List.of("a1", "a2"), padres.get(0).hijos);
+        assertNotNull(padres.get(1).hijos);
+        assertTrue(padres.get(1).hijos.isEmpty());
+    }
+
+    // ========================================================================
+    // CASOS NEGATIVOS
+    // ========================================================================
+
+    @Test
+    @DisplayName("✗ Sin IDs de padre no consulta la base de datos")
+    public void testCargarSinIds() throws Exception {
+        // Act
+        Map<Integer, List<String>> hijos = CargadorHijosLote.cargar(
+                conexionFalsa(), SQL, "padre_id", Arrays.asList(null, null), rs -> rs.getString("valor"));
+
+        // Assert
+        assertTrue(hijos.isEmpty());
+        assertEquals(0, consultas);
+    }
+
+    // ========================================================================
+    // CASOS LÍMITE
+    // ========================================================================
+
+    @Test
+    @DisplayName("⚠ Los IDs nulos y repetidos no llegan al arreglo de la consulta")
+    public void testCargarIgnoraNulosYDuplicados() throws Exception {
+        // Act
+        CargadorHijosLote.cargar(conexionFalsa(), SQL, "padre_id",
+                Arrays.asList(5, null, 7, 5), rs -> rs.getString("valor"));
+
+        // Assert
+        assertEquals(List.of(5, 7), idsConsultados);
+    }
+
+    /**
+     * Conexión que registra el arreglo de IDs y devuelve las filas preparadas
+     * (columnas padre_id y valor).
+     */
+    private Connection conexionFalsa() {
+        int[] fila = {-1};
+        ResultSet rs = (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(),
+                new Class<?>[] {ResultSet.class},
+                (p, m, a) -> {
+                    switch (m.getName()) {
+                        case "next":
+                            return ++fila[0] < filas.size();
+                        case "getInt":
+                            return filas.get(fila[0])[0];
+                        case "getString":
+                            return filas.get(fila[0])[1];
+                        default:
+                            return null;
+                    }
+                });
+        PreparedStatement ps = (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                new Class<?>[] {PreparedStatement.class},
+                (p, m, a) -> {
+                    if (m.getName().equals("executeQuery")) {
+                        consultas++;
+                        return rs;
+                    }
+                    return null;
+                });
+        Array arreglo = (Array) Proxy.newProxyInstance(Array.class.getClassLoader(),
+                new Class<?>[] {Array.class}, (p, m, a) -> null);
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] {Connection.class},
+                (p, m, a) -> {
+                    switch (m.getName()) {
+                        case "createArrayOf":
+                            idsConsultados = Arrays.asList((Object[]) a[1]);
+                            return arreglo;
+                        case "prepareStatement":
+                            return ps;
+                        default:
+                            return null;
+                    }
+                });
+    }
+}
@@ -0,0 +1,74 @@
+package com.contactoprofesionales.util;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+
+/**
+ * Pruebas unitarias para CursorPaginacion.
+ * Incluye casos positivos, negativos y límites.
+ */
+@DisplayName("Pruebas para CursorPaginacion")
+public class CursorPaginacionTest {
+
+    // ========================================================================
+    // CASOS POSITIVOS
+    // ========================================================================
+
+    @Test
+    @DisplayName("✓ Codificar y decodificar conserva la clave de orden")
+    public void testCodificarDecodificar() {
+        // Arrange
+        CursorPaginacion cursor = CursorPaginacion.despuesDe(4.75, 12, 301);
+
+        // Act
+        CursorPaginacion decodificado = CursorPaginacion.decodificar(cursor.codificar());
+
+        // Assert
+        assertEquals(0, new BigDecimal("4.75").compareTo(decodificado.getCalificacion()));
+        assertEquals(12, decodificado.getTotalResenas());
+        assertEquals(301, decodificado.getId());
+    }
+
+    @Test
+    @DisplayName("✓ precedeA sigue el orden calificación DESC, reseñas DESC, id DESC")
+    public void testPrecedeA() {
+        // Arrange
+        CursorPaginacion cursor = CursorPaginacion.despuesDe(4.5, 10, 50);
+
+        // Act & Assert
+        assertTrue(cursor.precedeA(4.4, 99, 99), "Menor calificación va después");
+        assertTrue(cursor.precedeA(4.5, 9, 99), "Misma calificación, menos reseñas va después");
+        assertTrue(cursor.precedeA(4.5, 10, 49), "Misma clave, menor id va después");
+        assertFalse(cursor.precedeA(4.5, 10, 50), "El propio elemento no se repite");
+        assertFalse(cursor.precedeA(4.6, 0, 1), "Mayor calificación ya se entregó");
+    }
+
+    // ========================================================================
+    // CASOS NEGATIVOS
+    // ========================================================================
+
+    @Test
+    @DisplayName("✗ Token manipulado o con otra versión es rechazado")
+    public void testTokenInvalido() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> CursorPaginacion.decodificar("no-es-base64!"));
+        assertThrows(IllegalArgumentException.class, () -> CursorPaginacion.decodificar(
+                java.util.Base64.getUrlEncoder().encodeToString("v2:4.5:1:1".getBytes())));
+        assertThrows(IllegalArgumentException.class, () -> CursorPaginacion.decodificar(
+                java.util.Base64.getUrlEncoder().encodeToString("v1:abc:1:1".getBytes())));
+    }
+
+    // ========================================================================
+    // CASOS LÍMITE
+    // ========================================================================
+
+    @Test
+    @DisplayName("⚠ Cursor vacío y sin ID no son válidos")
+    public void testCursorVacio() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> CursorPaginacion.decodificar(""));
+        assertThrows(IllegalArgumentException.class, () -> CursorPaginacion.despuesDe(4.0, 1, null));
+    }
+}
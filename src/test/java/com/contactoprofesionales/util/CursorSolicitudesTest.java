@@ -0,0 +1,61 @@
+package com.contactoprofesionales.util;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Pruebas unitarias para CursorSolicitudes.
+ * Incluye casos positivos, negativos y límites.
+ */
+@DisplayName("Pruebas para CursorSolicitudes")
+public class CursorSolicitudesTest {
+
+    // ========================================================================
+    // CASOS POSITIVOS
+    // ========================================================================
+
+    @Test
+    @DisplayName("✓ Codificar y decodificar conserva fecha (con microsegundos) e id")
+    public void testCodificarDecodificar() {
+        // Arrange
+        LocalDateTime fecha = LocalDateTime.of(2025, 12, 3, 18, 45, 12, 123_456_000);
+        CursorSolicitudes cursor = CursorSolicitudes.despuesDe(fecha, 8812);
+
+        // Act
+        CursorSolicitudes decodificado = CursorSolicitudes.decodificar(cursor.codificar());
+
+        // Assert
+        assertEquals(fecha, decodificado.getFechaSolicitud());
+        assertEquals(8812, decodificado.getId());
+    }
+
+    // ========================================================================
+    // CASOS NEGATIVOS
+    // ========================================================================
+
+    @Test
+    @DisplayName("✗ Token manipulado o con otra versión es rechazado")
+    public void testTokenInvalido() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> CursorSolicitudes.decodificar("no-es-base64!"));
+        assertThrows(IllegalArgumentException.class, () -> CursorSolicitudes.decodificar(
+                Base64.getUrlEncoder().encodeToString("v2:1764787512:0:1".getBytes())));
+        assertThrows(IllegalArgumentException.class, () -> CursorSolicitudes.decodificar(
+                Base64.getUrlEncoder().encodeToString("v1:1764787512:2000000000:1".getBytes())));
+    }
+
+    // ========================================================================
+    // CASOS LÍMITE
+    // ========================================================================
+
+    @Test
+    @DisplayName("⚠ Cursor vacío o sin fecha no son válidos")
+    public void testCursorVacio() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> CursorSolicitudes.decodificar(" "));
+        assertThrows(IllegalArgumentException.class, () -> CursorSolicitudes.despuesDe(null, 1));
+    }
+}